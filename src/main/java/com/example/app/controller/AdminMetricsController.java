@@ -0,0 +1,75 @@
+package com.example.app.controller;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import jakarta.servlet.http.HttpSession;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import com.example.app.domain.AdminAccount;
+import com.example.app.service.QuizAnswerRecorder;
+import com.example.app.service.SeedPackLoader;
+import com.example.app.service.WordQuerySingleFlight;
+import com.example.app.service.WordSearchCache;
+import com.example.app.service.WordSnapshotHolder;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 管理者向けに、アプリ内部の統計（キューの件数・処理時間など）を JSON で返すコントローラ。
+ *
+ * URL:
+ *   - GET /admin/metrics : 統計の一覧
+ */
+@Controller
+@RequiredArgsConstructor
+public class AdminMetricsController {
+
+	/** クイズの回答をまとめて書き込むサービス */
+	private final QuizAnswerRecorder quizAnswerRecorder;
+
+	/** 単語一覧の検索結果のキャッシュ */
+	private final WordSearchCache wordSearchCache;
+
+	/** 同時に来た同じ単語検索をまとめる仕組み */
+	private final WordQuerySingleFlight wordQuerySingleFlight;
+
+	/** 初期データの単語パックを読み込むサービス（起動時の読み込み時間） */
+	private final SeedPackLoader seedPackLoader;
+
+	/** word テーブル全件のスナップショット（スナップショットモード） */
+	private final WordSnapshotHolder wordSnapshotHolder;
+
+
+    /**
+     * 統計の一覧を返す。
+     * URL: /admin/metrics （GET）
+     *
+     * @param session HTTPセッション（管理者ログイン確認用）
+     * @return 統計（JSON）。未ログインの場合は 401
+     */
+	@GetMapping("/admin/metrics")
+	@ResponseBody
+	public ResponseEntity<Map<String, Object>> showMetrics(HttpSession session) {
+
+	    // ★ 管理者ログインチェック（JSON なのでリダイレクトではなく 401）
+		AdminAccount loginAdmin = (AdminAccount) session.getAttribute("loginAdmin");
+		if (loginAdmin == null) {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+		}
+
+		Map<String, Object> metrics = new LinkedHashMap<>();
+		metrics.put("quizAnswers", quizAnswerRecorder.metrics());
+		metrics.put("wordSearchCache", wordSearchCache.stats());
+		metrics.put("wordQuerySingleFlight", wordQuerySingleFlight.stats());
+		metrics.put("seedPacks", seedPackLoader.stats());
+		metrics.put("wordSnapshot", wordSnapshotHolder.stats());
+		return ResponseEntity.ok(metrics);
+	}
+
+}
@@ -5,6 +5,8 @@ import java.util.List;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.Errors;
@@ -13,9 +15,15 @@ import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import com.example.app.domain.AdminAccount;
 import com.example.app.domain.Word;
+import com.example.app.domain.WordPage;
+import com.example.app.domain.WordSlice;
+import com.example.app.service.WordBulkEditService;
+import com.example.app.service.WordPrefixIndex;
 import com.example.app.service.WordService;
 
 
@@ -30,13 +38,20 @@ public class AdminWordController {
 	
 	private final WordService wordService; /** 単語に関する処理を担当するサービス。 */
 	
+	private final WordPrefixIndex wordPrefixIndex; /** 検索ボックスの入力補完（前方一致）用の索引。 */
+	
+	private final WordBulkEditService wordBulkEditService; /** 一括削除・一括置換を担当するサービス。 */
+	
 	
     /**
      * コンストラクタ。
-     * Spring が自動で WordService を注入してくれる。
+     * Spring が自動で WordService / WordPrefixIndex / WordBulkEditService を注入してくれる。
      */
-	public AdminWordController(WordService wordService) {
+	public AdminWordController(WordService wordService, WordPrefixIndex wordPrefixIndex,
+							WordBulkEditService wordBulkEditService) {
 		this.wordService = wordService;
+		this.wordPrefixIndex = wordPrefixIndex;
+		this.wordBulkEditService = wordBulkEditService;
 	}
 	
 	
@@ -78,29 +93,13 @@ public class AdminWordController {
 		// 1ページあたりの表示件数（必要に応じて変更可）
 		int pageSize = 10;
 		
-		// キーワード条件での総件数を取得（keyword が空なら全件数）
-		int totalCount = wordService.countByKeyword(keyword);
-		
-		// 総ページ数を計算（0件のときは 1 ページとして扱う）
-		int totalPages;
-		
-		if(totalCount == 0) {
-			totalPages = 1;
-			page = 1;
-		} else {
-			// 切り上げ割り算:メソッドを使わず、計算で小数点の場合のページ数切り上げ
-            totalPages = (totalCount + pageSize - 1) / pageSize;
-            
-            // page が範囲外なら補正（1〜totalPages の範囲に収める）
-            if (page < 1) {
-                page = 1;
-            } else if (page > totalPages) {
-                page = totalPages;
-            }
-		}
-		
-		// このページに表示するデータを取得
-		List<Word> wordList = wordService.findPageByKeyword(keyword, page, pageSize);
+		// このページに表示するデータと全件数を、1回の問い合わせでまとめて取得
+		// （page が範囲外なら 1〜totalPages の範囲に補正される。0件のときは 1 ページとして扱う）
+		WordPage wordPage = wordService.findWordPage(keyword, page, pageSize);
+		List<Word> wordList = wordPage.getWords();
+		page = wordPage.getCurrentPage();
+		int totalPages = wordPage.getTotalPages();
+		int totalCount = wordPage.getTotalCount();
 		
         // テンプレートに渡す
         model.addAttribute("wordList", wordList);    // 一覧データ
@@ -108,6 +107,9 @@ public class AdminWordController {
         model.addAttribute("totalPages", totalPages);// 総ページ数
         model.addAttribute("totalCount", totalCount);// 全件数
         model.addAttribute("keyword", keyword);     // 検索キーワード（フォーム再表示用）
+        model.addAttribute("fuzzy", wordPage.isFuzzy()); // 綴りが近い単語（あいまい検索）を表示しているか
+        model.addAttribute("nextCursor",            // 無限スクロールで続きを取得するためのカーソル（最終ページ・あいまい検索の結果なら null）
+        		wordService.cursorAfter(keyword, wordPage));
         
 //		List<Word> wordList = wordService.findAll();	// DB から単語の全件を取得（現時点では絞り込みなし）
 		
@@ -115,6 +117,65 @@ public class AdminWordController {
 		
 		return "admin/word-list";	// src/main/resources/templates/admin/word-list.html を表示する
 	}
+	
+	
+	
+    /**
+     * 管理者用の単語一覧の続きを JSON で返す（無限スクロール用）。
+     * URL: /admin/words/scroll （GET）
+     *
+     * 前回の nextCursor を渡すと、その続きを id の昇順で size 件返す（OFFSET を使わないキーセット方式）。
+     *
+     * @param keyword 検索キーワード（任意）
+     * @param cursor  前回の nextCursor（省略時は先頭から）
+     * @param size    取得件数（1〜100）
+     * @return 単語と次のカーソル。未ログインの場合は 401、カーソルが不正な場合は 400
+     */
+	@GetMapping("/admin/words/scroll")
+	@ResponseBody
+	public ResponseEntity<WordSlice> scrollWordList(
+			@RequestParam(name = "keyword", required = false) String keyword,
+			@RequestParam(name = "cursor", required = false) String cursor,
+			@RequestParam(name = "size", defaultValue = "10") int size,
+			HttpSession session) {
+		
+	    AdminAccount loginAdmin = (AdminAccount) session.getAttribute("loginAdmin");
+	    if(loginAdmin == null) {
+	    	return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+	    }
+	    
+	    try {
+	    	return ResponseEntity.ok(wordService.findSlice(keyword, cursor, size));
+	    } catch (IllegalArgumentException e) {
+	    	return ResponseEntity.badRequest().build();
+	    }
+	}
+	
+	
+	
+    /**
+     * 検索ボックスの入力補完の候補を JSON で返す。
+     * URL: /admin/words/suggest （GET）
+     *
+     * english または japanese が q で始まる単語を、メモリ上の索引（WordPrefixIndex）から返す（DB にはアクセスしない）。
+     *
+     * @param q     入力途中の文字列
+     * @param limit 返す件数（1〜20）
+     * @return 候補の単語。未ログインの場合は 401
+     */
+	@GetMapping("/admin/words/suggest")
+	@ResponseBody
+	public ResponseEntity<List<Word>> suggestWords(
+			@RequestParam(name = "q", defaultValue = "") String q,
+			@RequestParam(name = "limit", defaultValue = "8") int limit,
+			HttpSession session) {
+		
+	    AdminAccount loginAdmin = (AdminAccount) session.getAttribute("loginAdmin");
+	    if(loginAdmin == null) {
+	    	return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+	    }
+	    return ResponseEntity.ok(wordPrefixIndex.suggest(q, limit));
+	}
 	
 	
 	
@@ -302,6 +363,109 @@ public class AdminWordController {
 	
 	
 	
+    /**
+     * 一覧で選択した単語をまとめて削除する。
+     * URL: /admin/words/bulk-delete （POST）
+     *
+     * - 選択した id を WordBulkEditService に渡し、DELETE ... WHERE id IN (...) でまとめて消す
+     * - 処理後は、検索キーワードを保ったまま一覧画面にリダイレクト
+     *
+     * @param ids     削除する単語の id（チェックボックスで選択したもの）
+     * @param keyword 一覧で使っていた検索キーワード（任意）
+     */
+	@PostMapping("/admin/words/bulk-delete")
+	public String bulkDelete(@RequestParam(name = "ids", required = false) List<Long> ids,
+							@RequestParam(name = "keyword", required = false) String keyword,
+							HttpSession session,
+							RedirectAttributes redirectAttributes) {
+		
+	    // ★ 管理者ログインチェック
+	    AdminAccount loginAdmin = (AdminAccount) session.getAttribute("loginAdmin");
+	    if (loginAdmin == null) {
+	        return "redirect:/login/admin";
+	    }
+		
+		if (ids != null && !ids.isEmpty()) {
+			wordBulkEditService.deleteWords(ids);
+		}
+		
+		if (keyword != null && !keyword.isBlank()) {
+			redirectAttributes.addAttribute("keyword", keyword);	// リダイレクト先の URL に ?keyword=... として付く
+		}
+		return "redirect:/admin/words";
+	}
+	
+	
+	
+    /**
+     * 一括置換（english / japanese の検索と置換）の画面を表示する。
+     * URL: /admin/words/replace （GET）
+     */
+	@GetMapping("/admin/words/replace")
+	public String showReplaceForm(HttpSession session, Model model) {
+		
+	    // ★ 管理者ログインチェック
+	    AdminAccount loginAdmin = (AdminAccount) session.getAttribute("loginAdmin");
+	    if (loginAdmin == null) {
+	        return "redirect:/login/admin";
+	    }
+	    model.addAttribute("loginAdmin", loginAdmin);
+	    model.addAttribute("field", WordBulkEditService.FIELD_ENGLISH);
+		
+		return "admin/word-replace";
+	}
+	
+	
+	
+    /**
+     * 一括置換を行う（または書き換わる行を確認する）。
+     * URL: /admin/words/replace （POST）
+     *
+     * - action=preview（既定）: DB は書き換えずに、書き換わる行と件数を表示する
+     * - action=apply         : 実際に書き換えて、結果を表示する
+     *
+     * @param field       置換する項目（english / japanese）
+     * @param find        探す文字列
+     * @param replacement 置き換える文字列
+     * @param action      preview または apply
+     */
+	@PostMapping("/admin/words/replace")
+	public String replace(@RequestParam(name = "field", defaultValue = WordBulkEditService.FIELD_ENGLISH) String field,
+						@RequestParam(name = "find", defaultValue = "") String find,
+						@RequestParam(name = "replacement", defaultValue = "") String replacement,
+						@RequestParam(name = "action", defaultValue = "preview") String action,
+						HttpSession session,
+						Model model) {
+		
+	    // ★ 管理者ログインチェック
+	    AdminAccount loginAdmin = (AdminAccount) session.getAttribute("loginAdmin");
+	    if (loginAdmin == null) {
+	        return "redirect:/login/admin";
+	    }
+	    model.addAttribute("loginAdmin", loginAdmin);
+	    
+	    // フォーム再表示用
+	    model.addAttribute("field", field);
+	    model.addAttribute("find", find);
+	    model.addAttribute("replacement", replacement);
+		
+		if (find.isEmpty()) {
+			model.addAttribute("errorMessage", "探す文字列を入力してください。");
+			return "admin/word-replace";
+		}
+		
+		try {
+			model.addAttribute("result", "apply".equals(action)
+					? wordBulkEditService.applyReplace(field, find, replacement)
+					: wordBulkEditService.previewReplace(field, find, replacement));
+		} catch (IllegalArgumentException e) {
+			model.addAttribute("errorMessage", "置換する項目が正しくありません。");
+		}
+		return "admin/word-replace";
+	}
+	
+	
+	
 	
 	
 	
@@ -0,0 +1,87 @@
+package com.example.app.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import jakarta.servlet.http.HttpSession;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.example.app.domain.AdminAccount;
+import com.example.app.service.WordExportService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 管理者向けの単語の書き出し（CSV / NDJSON のダウンロード）を担当するコントローラ。
+ *
+ * URL:
+ *   - GET /admin/words/export?format=csv|ndjson&gzip=true|false
+ *
+ * StreamingResponseBody でレスポンスに直接書くので、全件を文字列や byte[] にまとめることはない。
+ * gzip=true の場合は GZIPOutputStream を挟んで、圧縮しながら書き出す。
+ */
+@Controller
+@RequiredArgsConstructor
+public class AdminWordExportController {
+
+	/** word テーブルを CSV / NDJSON として書き出すサービス */
+	private final WordExportService wordExportService;
+
+
+    /**
+     * 単語を全件ダウンロードする。
+     * URL: /admin/words/export （GET）
+     *
+     * @param format 形式（csv / ndjson）
+     * @param gzip   gzip で圧縮するかどうか
+     * @return 未ログインなら 401、形式が正しくなければ 400、それ以外はファイル
+     */
+	@GetMapping("/admin/words/export")
+	public ResponseEntity<StreamingResponseBody> export(
+			@RequestParam(name = "format", defaultValue = WordExportService.FORMAT_CSV) String format,
+			@RequestParam(name = "gzip", defaultValue = "false") boolean gzip,
+			HttpSession session) {
+
+	    // ★ 管理者ログインチェック
+		AdminAccount loginAdmin = (AdminAccount) session.getAttribute("loginAdmin");
+		if (loginAdmin == null) {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+		}
+
+		MediaType contentType;
+		if (WordExportService.FORMAT_CSV.equals(format)) {
+			contentType = new MediaType("text", "csv", StandardCharsets.UTF_8);
+		} else if (WordExportService.FORMAT_NDJSON.equals(format)) {
+			contentType = MediaType.parseMediaType("application/x-ndjson");
+		} else {
+			return ResponseEntity.badRequest().build();
+		}
+
+		String filename = "words." + format + (gzip ? ".gz" : "");
+		StreamingResponseBody body = out -> {
+			if (gzip) {
+				GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192);
+				wordExportService.export(format, gzipOut);
+				gzipOut.finish();
+			} else {
+				wordExportService.export(format, out);
+			}
+		};
+
+		return ResponseEntity.ok()
+				.contentType(gzip ? MediaType.parseMediaType("application/gzip") : contentType)
+				.header(HttpHeaders.CONTENT_DISPOSITION,
+						ContentDisposition.attachment().filename(filename).build().toString())
+				.body(body);
+	}
+
+}
@@ -0,0 +1,87 @@
+package com.example.app.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import jakarta.servlet.http.HttpSession;
+
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.example.app.domain.AdminAccount;
+import com.example.app.service.WordImportService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 管理者向けの単語の一括登録（CSV / TSV のアップロード）を担当するコントローラ。
+ *
+ * URL:
+ *   - GET  /admin/words/import : アップロード画面
+ *   - POST /admin/words/import : ファイルを取り込んで、結果を同じ画面に表示する
+ */
+@Controller
+@RequiredArgsConstructor
+public class AdminWordImportController {
+
+	/** CSV / TSV から単語をまとめて登録するサービス */
+	private final WordImportService wordImportService;
+
+
+    /**
+     * アップロード画面を表示する。
+     * URL: /admin/words/import （GET）
+     */
+	@GetMapping("/admin/words/import")
+	public String showImportForm(HttpSession session, Model model) {
+
+	    // ★ 管理者ログインチェック
+		AdminAccount loginAdmin = (AdminAccount) session.getAttribute("loginAdmin");
+		if (loginAdmin == null) {
+			return "redirect:/login/admin";
+		}
+		model.addAttribute("loginAdmin", loginAdmin);
+
+		return "admin/word-import";
+	}
+
+
+    /**
+     * アップロードされたファイルを取り込む。
+     * URL: /admin/words/import （POST, multipart/form-data）
+     *
+     * ファイルはストリームのまま WordImportService に渡す（全体を byte[] にしない）。
+     *
+     * @param file アップロードされた CSV / TSV
+     */
+	@PostMapping("/admin/words/import")
+	public String importWords(@RequestParam("file") MultipartFile file,
+							HttpSession session,
+							Model model) {
+
+	    // ★ 管理者ログインチェック
+		AdminAccount loginAdmin = (AdminAccount) session.getAttribute("loginAdmin");
+		if (loginAdmin == null) {
+			return "redirect:/login/admin";
+		}
+		model.addAttribute("loginAdmin", loginAdmin);
+
+		if (file.isEmpty()) {
+			model.addAttribute("errorMessage", "ファイルを選択してください。");
+			return "admin/word-import";
+		}
+
+		try (InputStream in = file.getInputStream()) {
+			model.addAttribute("result", wordImportService.importWords(in, file.getOriginalFilename()));
+		} catch (IOException e) {
+			model.addAttribute("errorMessage", "ファイルを読み込めませんでした: " + e.getMessage());
+		}
+		model.addAttribute("filename", file.getOriginalFilename());
+		return "admin/word-import";
+	}
+
+}
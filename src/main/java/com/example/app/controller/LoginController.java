@@ -10,6 +10,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import com.example.app.domain.AdminAccount;
 import com.example.app.domain.UserAccount;
 import com.example.app.service.AdminAccountService;
+import com.example.app.service.SpacedRepetitionService;
 import com.example.app.service.UserAccountService;
 
 
@@ -32,17 +33,21 @@ public class LoginController {
 	private final UserAccountService userAccountService;
 	// 管理者認証用サービスを受け取るフィールド
 	private final AdminAccountService adminAccountService;
+	// 間隔反復の復習スケジュールを読み込むサービス
+	private final SpacedRepetitionService spacedRepetitionService;
 	
 	
     /**
      * コンストラクタ。
-     * Spring が UserAccountService を自動で注入する。
+     * Spring が UserAccountService などを自動で注入する。
      */
 	public LoginController(UserAccountService userAccountService,
-							AdminAccountService adminAccountService
+							AdminAccountService adminAccountService,
+							SpacedRepetitionService spacedRepetitionService
 							) {
 		this.userAccountService = userAccountService;
 		this.adminAccountService = adminAccountService;
+		this.spacedRepetitionService = spacedRepetitionService;
 	}
 	
 	
@@ -94,6 +99,9 @@ public class LoginController {
         // "loginUser" という属性名で保持しておく（後でログインチェックに使える）
         session.setAttribute("loginUser", user);
         
+        // 間隔反復の復習スケジュールをメモリに読み込んでおく（セッション終了時に捨てる）
+        spacedRepetitionService.preload(user.getId());
+        
         return "redirect:/user/home"; //user/homeへ
 	}
 	
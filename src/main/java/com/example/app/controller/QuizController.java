@@ -1,17 +1,28 @@
 package com.example.app.controller;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import jakarta.servlet.http.HttpSession;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
 
+import com.example.app.domain.QuizAnswer;
+import com.example.app.domain.QuizQuestion;
 import com.example.app.domain.UserAccount;
 import com.example.app.domain.Word;
+import com.example.app.service.QuizAnswerRecorder;
+import com.example.app.service.QuizQuestionPool;
+import com.example.app.service.ShuffledDeck;
+import com.example.app.service.SpacedRepetitionService;
+import com.example.app.service.WeakWordTracker;
 import com.example.app.service.WordService;
 
 
@@ -20,24 +31,49 @@ import com.example.app.service.WordService;
  * ログイン前の4択クイズ画面を担当するコントローラ。
  *
  * URL:
- *   - GET  /quiz         : クイズ1問を表示
+ *   - GET  /quiz         : クイズ1問を表示（2問目以降は、画面側が /quiz/questions から先読みした問題を表示する）
+ *   - GET  /quiz/questions : クイズ N 問をまとめて JSON で返す
  *   - POST /quiz/answer  : 回答を受け取り、結果メッセージ＋次の問題を表示
+ *   - POST /user/quiz/answer : ログイン後クイズの回答を回答履歴として記録する
  */
 
 
 @Controller
 public class QuizController {
 	
-	/** Word に関する処理を行うサービス。コンストラクタインジェクションで受け取る。 */
+	/** ログイン後クイズ用の山札をセッションに保存するときの属性名 */
+	private static final String QUIZ_DECK = "quizDeck";
+	
+	/** 作成済みの4択クイズを取り出すプール。コンストラクタインジェクションで受け取る。 */
+	private final QuizQuestionPool quizQuestionPool;
+	
+	/** Word に関する処理を行うサービス（複数問の生成・山札から引く用）。 */
 	private final WordService wordService;
 	
+	/** 間隔反復モードで次の単語を決めるサービス。 */
+	private final SpacedRepetitionService spacedRepetitionService;
+	
+	/** 回答をキューに入れて、あとでまとめて DB に書き込むサービス。 */
+	private final QuizAnswerRecorder quizAnswerRecorder;
+	
+	/** 苦手単語のランキング */
+	private final WeakWordTracker weakWordTracker;
+	
 	
     /**
      * コンストラクタ。
-     * Spring が自動で WordService のインスタンスを注入する。
+     * Spring が自動で QuizQuestionPool / WordService などのインスタンスを注入する。
      */
-	public QuizController(WordService wordService) {
+	public QuizController(QuizQuestionPool quizQuestionPool,
+						WordService wordService,
+						SpacedRepetitionService spacedRepetitionService,
+						QuizAnswerRecorder quizAnswerRecorder,
+						WeakWordTracker weakWordTracker) {
+		this.quizQuestionPool = quizQuestionPool;
 		this.wordService = wordService;
+		this.spacedRepetitionService = spacedRepetitionService;
+		this.quizAnswerRecorder = quizAnswerRecorder;
+		this.weakWordTracker = weakWordTracker;
 	}
 	
 	
@@ -48,40 +84,24 @@ public class QuizController {
      * クイズ画面の初期表示。
      * URL: /quiz （GET）
      *
-     * - ランダムに1件の単語を取得
-     * - 正解の日本語＋誤答候補3件を混ぜて4択を作成
+     * - 作り置きのクイズ（単語＋シャッフル済みの4択）を1問取り出す
      * - quiz.html テンプレートを表示
+     *
+     * 問題は QuizQuestionPool がバックグラウンドで作っておくので、
+     * このリクエストの処理中には DB へアクセスしない。
      */
 	@GetMapping("/quiz")
 	public String showQuiz(Model model) {
 		
 		
-		// ランダムな1件を「問題」として取得
-		Word questionWord = wordService.getRandomWordForQuiz();
-		
-		
-		// 正解の日本語
-		String correctJapanese = questionWord.getJapanese();
-		
-		
-		// 誤答候補（3件）を取得
-		List<String> wrongList = wordService.getWrongAnswersForQuiz(questionWord.getId(), 3);
-		
-		
-		// 正解＋誤答候補をまとめて4択リストにする
-		List<String> choices = new ArrayList<>();
-		choices.add(correctJapanese);	// 正解
-		choices.addAll(wrongList);		// 誤答候補を追加
-		
-		
-		// 選択肢をシャッフルしてランダムな順番にする
-		Collections.shuffle(choices);
+		// 作り置きのクイズを1問取り出す
+		QuizQuestion question = quizQuestionPool.take();
 		
 		
 		// 画面に渡す
-		model.addAttribute("questionWord",questionWord);		// 問題の単語（英語など）
-		model.addAttribute("choices",choices);					// 選択肢のリスト
-		model.addAttribute("correctJapanese",correctJapanese);	// 正解（hidden で保持する用）
+		model.addAttribute("questionWord",question.getWord());				// 問題の単語（英語など）
+		model.addAttribute("choices",question.getChoices());				// 選択肢のリスト
+		model.addAttribute("correctJapanese",question.getCorrectJapanese());	// 正解（hidden で保持する用）
 		
 		
 		// 初回表示なので結果メッセージはなし（null のまま）
@@ -91,16 +111,39 @@ public class QuizController {
 	
 	
 	
+    /**
+     * 4択クイズを N 問まとめて JSON で返す。
+     * URL: /quiz/questions?count=10 （GET）
+     *
+     * 1問ごとにページを読み込む代わりに、画面側で1ラウンド分をまとめて受け取って進められるようにする。
+     * 問題数に関係なく、DB へのクエリは1回だけ（WordService#createQuizQuestions）。
+     *
+     * @param count 欲しい問題数（最大 WordService.MAX_QUIZ_BATCH_SIZE）
+     * @return クイズのリスト（JSON）
+     */
+	@GetMapping("/quiz/questions")
+	@ResponseBody
+	public List<QuizQuestion> getQuizQuestions(@RequestParam(name = "count", defaultValue = "10") int count) {
+		return wordService.createQuizQuestions(count);
+	}
+	
+	
+	
+	
     /**
      * ログイン後ユーザー専用のクイズ画面。
      * URL: /user/quiz （GET）
      *
      * - セッションから "loginUser" を取得（未ログインなら /login/user へリダイレクト）
-     * - ログイン前クイズと同じロジックで問題を生成
+     * - セッションの山札から次の単語を引き、4択クイズを作る（1周するまで同じ単語は出ない）
+     * - mode=srs の場合は、間隔反復のスケジュールで問題の単語を決める
+     * - mode=weak の場合は、苦手単語ランキングの中から問題の単語を選ぶ（まだ無ければ山札から）
      * - テンプレートは user/quiz.html を使用
      */
     @GetMapping("/user/quiz")
-    public String showUserQuiz(HttpSession session, Model model) {
+    public String showUserQuiz(@RequestParam(name = "mode", required = false) String mode,
+                               HttpSession session,
+                               Model model) {
 
         // ★ ログインチェック（UserHomeController と同じルール）
         UserAccount loginUser = (UserAccount) session.getAttribute("loginUser");
@@ -112,33 +155,82 @@ public class QuizController {
         // ログインユーザー情報は必要に応じて画面で表示できるよう Model にも積んでおく
         model.addAttribute("loginUser", loginUser);
 
-        // ===== ここからクイズの問題生成ロジック（/quiz と同じ処理） =====
-
-        // ランダムな1件を「問題」として取得
-        Word questionWord = wordService.getRandomWordForQuiz();
+        // ===== ここからクイズの問題生成 =====
 
-        // 正解の日本語
-        String correctJapanese = questionWord.getJapanese();
-
-        // 誤答候補（3件）を取得
-        List<String> wrongList = wordService.getWrongAnswersForQuiz(questionWord.getId(), 3);
-
-        // 正解＋誤答候補をまとめて4択リストにする
-        List<String> choices = new ArrayList<>();
-        choices.add(correctJapanese);   // 正解
-        choices.addAll(wrongList);      // 誤答候補を追加
+        // セッションの山札から次の単語を引く（初回は山札を作る）
+        ShuffledDeck deck = (ShuffledDeck) session.getAttribute(QUIZ_DECK);
+        if (deck == null) {
+            deck = new ShuffledDeck();
+        }
+        boolean srsMode = SpacedRepetitionService.MODE.equals(mode);
+        boolean weakMode = WeakWordTracker.MODE.equals(mode);
+        Word questionWord = null;
+        if (srsMode) {
+            questionWord = spacedRepetitionService.nextWord(loginUser.getId(), deck); // 復習の期限が来た単語 → 未学習の単語の順
+        } else if (weakMode) {
+            Long weakWordId = weakWordTracker.pickWeakWordId(loginUser.getId());    // 苦手単語の上位からランダム
+            if (weakWordId != null) {
+                questionWord = wordService.findById(weakWordId);
+            }
+        }
+        if (questionWord == null && !srsMode) {
+            questionWord = wordService.drawFromDeck(deck);
+        }
+        session.setAttribute(QUIZ_DECK, deck); // 引いた位置（cursor）を保存し直す
 
-        // 選択肢をシャッフルしてランダムな順番にする
-        Collections.shuffle(choices);
+        // 引いた単語を問題にして4択を作る
+        QuizQuestion question = wordService.createQuizQuestion(questionWord);
 
         // 画面に渡す
-        model.addAttribute("questionWord", questionWord);        // 問題の単語（英語など）
-        model.addAttribute("choices", choices);                  // 選択肢のリスト
-        model.addAttribute("correctJapanese", correctJapanese);  // 正解（hidden で保持する用）
+        model.addAttribute("questionWord", question.getWord());                // 問題の単語（英語など）
+        model.addAttribute("choices", question.getChoices());                  // 選択肢のリスト
+        model.addAttribute("correctJapanese", question.getCorrectJapanese());  // 正解（hidden で保持する用）
+        model.addAttribute("srsMode", srsMode);                                // 間隔反復モードかどうか
+        model.addAttribute("mode", (srsMode || weakMode) ? mode : "");         // 次の問題に引き継ぐモード
 
         // ログイン後専用クイズ画面を表示
         return "user/quiz";  // src/main/resources/templates/user/quiz.html
     }
 
 	
+    
+    
+    
+    
+    /**
+     * ログイン後クイズの回答を受け取り、回答履歴として記録する。
+     * URL: /user/quiz/answer （POST）
+     *
+     * 画面の正誤表示は JavaScript で行うが、記録する正誤はここで単語の日本語と比べて決める
+     * （画面から送られてきた判定結果は使わない）。
+     * 回答は QuizAnswerRecorder のキューに入れるだけで、DB への書き込みはバックグラウンドでまとめて行う。
+     *
+     * @param session HTTPセッション（ログインユーザー確認用）
+     * @param wordId  出題した単語の id
+     * @param answer  選んだ選択肢（日本語）
+     * @return 204（本文なし）。未ログインの場合は 401
+     */
+    @PostMapping("/user/quiz/answer")
+    @ResponseBody
+    public ResponseEntity<Void> receiveUserQuizAnswer(HttpSession session,
+                                                      @RequestParam("wordId") Long wordId,
+                                                      @RequestParam("answer") String answer) {
+
+        UserAccount loginUser = (UserAccount) session.getAttribute("loginUser");
+        if (loginUser == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        // 出題した単語が見つからない（削除済み・でたらめな id）→ 採点できないので記録しない
+        Word questionWord = wordService.findById(wordId);
+        if (questionWord == null) {
+            return ResponseEntity.noContent().build();
+        }
+
+        boolean correct = answer.equals(questionWord.getJapanese());
+        quizAnswerRecorder.record(new QuizAnswer(null, loginUser.getId(), wordId,
+                QuizAnswer.TYPE_CHOICE, answer, correct, LocalDateTime.now()));
+        return ResponseEntity.noContent().build();
+    }
+
 }
@@ -1,13 +1,22 @@
 package com.example.app.controller;
 
+import java.util.List;
+
 import jakarta.servlet.http.HttpSession;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
 
 import com.example.app.domain.UserAccount;
 import com.example.app.domain.Word;
+import com.example.app.service.ShuffledDeck;
+import com.example.app.service.SpacedRepetitionService;
 import com.example.app.service.WordService;
 
 import lombok.RequiredArgsConstructor;
@@ -17,14 +26,25 @@ import lombok.RequiredArgsConstructor;
 /**
  * ユーザー向けの「英単語カード（単語暗記用）」画面を扱うコントローラ。
  *
+ * URL:
+ *   - GET /user/cards      : 単語カード画面（1枚目を表示）
+ *   - GET /user/cards?mode=srs : 間隔反復モード（復習の期限が来た単語から順に表示）
+ *   - GET /user/cards/next : 山札の続きを K 枚まとめて JSON で返す（画面側で先読みして使う）
+ *   - POST /user/cards/return : 先読みしたが表示しなかったカードを山札に戻す（画面を離れるときに送られる）
  */
 @Controller
 @RequiredArgsConstructor
 public class UserCardController {
 	
+	/** 単語カード用の山札をセッションに保存するときの属性名 */
+	private static final String CARD_DECK = "cardDeck";
+	
 	/** Word に関する処理を行うサービス。コンストラクタインジェクションで受け取る。 */
 	private final WordService wordService;
 	
+	/** 間隔反復モードで次の単語を決めるサービス。 */
+	private final SpacedRepetitionService spacedRepetitionService;
+	
 	
 	
 	
@@ -32,11 +52,13 @@ public class UserCardController {
      * 単語カード画面の初期表示。
      * URL: /user/cards （GET）
      *
-     * - ランダムに1件の単語を取得
+     * - セッションの山札から次の1枚を引く（1周するまで同じ単語は出ない）
+     * - mode=srs の場合は、間隔反復のスケジュールで次の1枚を決める
      * - cards.html テンプレートを表示
      */
 	@GetMapping("/user/cards")
-	public String showCards(HttpSession session,
+	public String showCards(@RequestParam(name = "mode", required = false) String mode,
+							HttpSession session,
 							Model model
 							) {
 		
@@ -50,15 +72,96 @@ public class UserCardController {
 		}
 		
 		
-		// ランダムな1件を「問題」として取得
-		Word cardWord = wordService.getRandomWordForQuiz();
+		// セッションの山札から次の1枚を引く（初回は山札を作る）
+		ShuffledDeck deck = (ShuffledDeck) session.getAttribute(CARD_DECK);
+		if (deck == null) {
+			deck = new ShuffledDeck();
+		}
+		boolean srsMode = SpacedRepetitionService.MODE.equals(mode);
+		Word cardWord = srsMode
+				? spacedRepetitionService.nextWord(loginUser.getId(), deck)	// 復習の期限が来た単語 → 未学習の単語の順
+				: wordService.drawFromDeck(deck);
+		session.setAttribute(CARD_DECK, deck); // 引いた位置（cursor）を保存し直す
 		
 		
 		// 画面に渡す
 		model.addAttribute("cardWord", cardWord);
+		model.addAttribute("srsMode", srsMode);
 		model.addAttribute("loginUser", loginUser);
 		
 		return "user/cards";
 	}
 	
+	
+	
+	
+    /**
+     * 山札の続きを K 枚まとめて JSON で返す。
+     * URL: /user/cards/next?count=10 （GET）
+     *
+     * 画面側（cards.html）はこの結果を少し先まで手元にためておき、
+     * 「次へ」ではページを読み込まずに次のカードを表示する。
+     * そのため DB へのアクセスは1枚ごとではなく、K 枚ごとに1回になる。
+     *
+     * @param session HTTPセッション（ログインユーザー確認・山札の保存用）
+     * @param count   欲しい枚数（最大 WordService.MAX_QUIZ_BATCH_SIZE）
+     * @return 単語のリスト（JSON）。未ログインの場合は 401
+     */
+	@GetMapping("/user/cards/next")
+	@ResponseBody
+	public ResponseEntity<List<Word>> nextCards(HttpSession session,
+												@RequestParam(name = "count", defaultValue = "10") int count
+												) {
+		
+		// 未ログインなら JSON なのでリダイレクトではなく 401 を返す
+		UserAccount loginUser = (UserAccount) session.getAttribute("loginUser");
+		if(loginUser == null) {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+		}
+		
+		
+		// 画面表示と同じ山札から続きを引く
+		ShuffledDeck deck = (ShuffledDeck) session.getAttribute(CARD_DECK);
+		if (deck == null) {
+			deck = new ShuffledDeck();
+		}
+		List<Word> cards = wordService.drawFromDeck(deck, count);
+		session.setAttribute(CARD_DECK, deck); // 引いた位置（cursor）を保存し直す
+		
+		return ResponseEntity.ok(cards);
+	}
+	
+	
+	
+	
+    /**
+     * 先読みしたが表示しなかったカードを山札に戻す。
+     * URL: /user/cards/return （POST。画面を離れるときに navigator.sendBeacon で送られる）
+     *
+     * 戻さないと、/user/cards/next で引いた分だけ山札が進んだままになり、
+     * 表示しなかったカードはこの周では二度と出なくなる。
+     * 最後に引いた並びと一致しない場合は何もしない（WordService#returnToDeck）。
+     *
+     * @param session HTTPセッション（ログインユーザー確認・山札の保存用）
+     * @param ids     表示しなかったカードの id（引いた順）
+     * @return 204。未ログインの場合は 401
+     */
+	@PostMapping("/user/cards/return")
+	@ResponseBody
+	public ResponseEntity<Void> returnCards(HttpSession session,
+											@RequestParam(name = "ids", required = false) List<Long> ids
+											) {
+		
+		UserAccount loginUser = (UserAccount) session.getAttribute("loginUser");
+		if(loginUser == null) {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+		}
+		
+		ShuffledDeck deck = (ShuffledDeck) session.getAttribute(CARD_DECK);
+		if (deck != null && ids != null && wordService.returnToDeck(deck, ids)) {
+			session.setAttribute(CARD_DECK, deck); // 戻した位置（cursor）を保存し直す
+		}
+		return ResponseEntity.noContent().build();
+	}
+	
 }
@@ -1,17 +1,25 @@
 package com.example.app.controller;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Locale;
 
 import jakarta.servlet.http.HttpSession;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
 
+import com.example.app.domain.QuizAnswer;
 import com.example.app.domain.UserAccount;
 import com.example.app.domain.Word;
+import com.example.app.service.QuizAnswerRecorder;
+import com.example.app.service.ShuffledDeck;
 import com.example.app.service.WordService;
 
 import lombok.RequiredArgsConstructor;
@@ -22,6 +30,9 @@ import lombok.RequiredArgsConstructor;
  * URL:
  *   - GET  /user/input-quiz : 問題の初期表示（ランダム1問）
  *   - POST /user/input-quiz : 入力された英単語の判定結果を表示（同じテンプレート）
+ *   - GET  /user/input-quiz/questions : 山札の続きの単語を N 問分まとめて JSON で返す
+ *   - POST /user/input-quiz/answer : 回答を回答履歴として記録する（画面内で次の問題へ進むとき用）
+ *   - POST /user/input-quiz/return : 先読みしたが出題しなかった単語を山札に戻す（画面を離れるときに送られる）
  *
  * テンプレート:
  *   - src/main/resources/templates/user/input-quiz.html
@@ -30,13 +41,19 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class UserInputQuizController {
 
+    /** 入力クイズ用の山札をセッションに保存するときの属性名 */
+    private static final String INPUT_QUIZ_DECK = "inputQuizDeck";
+
     /** 単語取得などの処理を行うサービス。コンストラクタインジェクションで受け取る。 */
     private final WordService wordService;
 
+    /** 回答をキューに入れて、あとでまとめて DB に書き込むサービス。 */
+    private final QuizAnswerRecorder quizAnswerRecorder;
+
     /**
      * クイズ画面の初期表示。
      * - ログインチェック
-     * - ランダムに1件の単語を取得
+     * - セッションの山札から次の単語を引く（1周するまで同じ単語は出ない）
      * - questionWord（日本語出題用）と wordId（判定用）を Model に積む
      *
      * @param session HTTPセッション（ログインユーザー確認用）
@@ -54,8 +71,13 @@ public class UserInputQuizController {
         }
         model.addAttribute("loginUser", loginUser);
 
-        // ランダムに1件の単語を取得（問題として使用）
-        Word questionWord = wordService.getRandomWordForQuiz();
+        // セッションの山札から次の単語を引く（問題として使用。初回は山札を作る）
+        ShuffledDeck deck = (ShuffledDeck) session.getAttribute(INPUT_QUIZ_DECK);
+        if (deck == null) {
+            deck = new ShuffledDeck();
+        }
+        Word questionWord = wordService.drawFromDeck(deck);
+        session.setAttribute(INPUT_QUIZ_DECK, deck); // 引いた位置（cursor）を保存し直す
 
         // 万一、単語が1件も登録されていない場合の簡易ガード
         if (questionWord == null) {
@@ -76,6 +98,72 @@ public class UserInputQuizController {
         return "user/input-quiz";
     }
 
+    /**
+     * 入力クイズの問題を N 問分まとめて JSON で返す。
+     * URL: /user/input-quiz/questions?count=10 （GET）
+     *
+     * 判定は画面側の JavaScript で完結しているので、単語（id / english / japanese）を
+     * まとめて渡せば、1ラウンド分をページ遷移なしで進められる。
+     * 単語は画面表示と同じセッションの山札から引くので、1周するまで同じ単語は出ない。
+     * 問題数に関係なく、DB へのクエリは1回だけ（WordService#drawFromDeck）。
+     *
+     * @param session HTTPセッション（ログインユーザー確認・山札の保存用）
+     * @param count   欲しい問題数（最大 WordService.MAX_QUIZ_BATCH_SIZE）
+     * @return 単語のリスト（JSON）。未ログインの場合は 401
+     */
+    @GetMapping("/user/input-quiz/questions")
+    @ResponseBody
+    public ResponseEntity<List<Word>> getInputQuizQuestions(
+            HttpSession session,
+            @RequestParam(name = "count", defaultValue = "10") int count) {
+
+        // 未ログインなら JSON なのでリダイレクトではなく 401 を返す
+        UserAccount loginUser = (UserAccount) session.getAttribute("loginUser");
+        if (loginUser == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        // 画面表示と同じ山札から続きを引く
+        ShuffledDeck deck = (ShuffledDeck) session.getAttribute(INPUT_QUIZ_DECK);
+        if (deck == null) {
+            deck = new ShuffledDeck();
+        }
+        List<Word> words = wordService.drawFromDeck(deck, count);
+        session.setAttribute(INPUT_QUIZ_DECK, deck); // 引いた位置（cursor）を保存し直す
+
+        return ResponseEntity.ok(words);
+    }
+
+    /**
+     * 先読みしたが出題しなかった問題を山札に戻す。
+     * URL: /user/input-quiz/return （POST。画面を離れるときに navigator.sendBeacon で送られる）
+     *
+     * 戻さないと、/user/input-quiz/questions で引いた分だけ山札が進んだままになり、
+     * 出題しなかった単語はこの周では二度と出なくなる。
+     * 最後に引いた並びと一致しない場合は何もしない（WordService#returnToDeck）。
+     *
+     * @param session HTTPセッション（ログインユーザー確認・山札の保存用）
+     * @param ids     出題しなかった単語の id（引いた順）
+     * @return 204。未ログインの場合は 401
+     */
+    @PostMapping("/user/input-quiz/return")
+    @ResponseBody
+    public ResponseEntity<Void> returnQuestions(
+            HttpSession session,
+            @RequestParam(name = "ids", required = false) List<Long> ids) {
+
+        UserAccount loginUser = (UserAccount) session.getAttribute("loginUser");
+        if (loginUser == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        ShuffledDeck deck = (ShuffledDeck) session.getAttribute(INPUT_QUIZ_DECK);
+        if (deck != null && ids != null && wordService.returnToDeck(deck, ids)) {
+            session.setAttribute(INPUT_QUIZ_DECK, deck); // 戻した位置（cursor）を保存し直す
+        }
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * ユーザーが入力した英単語の答え合わせを行う。
      *
@@ -163,11 +251,13 @@ public class UserInputQuizController {
 //
 //    
     /**
-     * 「次の問題へ」押下時に、回答をJava側で受け取る（保存は今回はしない）。
+     * 「次の問題へ」押下時に、回答をJava側で受け取り、回答履歴として記録する。
      *
      * 仕様：
-     * - 画面上の正誤判定は JavaScript で完結
-     * - 次へ進むタイミングで、回答（wordId + answer）だけを受け取る
+     * - 画面上の正誤表示は JavaScript で行う
+     * - 次へ進むタイミングで、回答（wordId + answer）を受け取る
+     * - 記録する正誤は、ここで正解の英単語と比べて決める（recordAnswer）
+     * - 回答は QuizAnswerRecorder のキューに入れるだけ（DB への書き込みはバックグラウンドでまとめて行う）
      * - 受け取ったら次の問題（GET /user/input-quiz）へリダイレクト
      *
      * @param session HTTPセッション（ログインユーザー確認用）
@@ -189,13 +279,64 @@ public class UserInputQuizController {
     		return "redirect:/login/user";
     	}
     	
-    	// 今回は回答を「受け取るだけ」なので、ここでは何もしない。
-        // （将来：Java側で再判定や保存、他ゲームとの統合をここに追加していく想定）
-        // wordId / answer の値はこの時点で受領できている。
+    	// 回答履歴として記録する（キューに入れるだけなので、このリクエストは DB を待たない）
+    	recordAnswer(loginUser, wordId, answer);
+    	
     	return "redirect:/user/input-quiz";
     }
     
     
+    /**
+     * 回答を受け取り、回答履歴として記録する（ページを読み込まずに次の問題へ進むとき用）。
+     * URL: /user/input-quiz/answer （POST）
+     *
+     * 中身は /user/input-quiz/next と同じだが、リダイレクトせずに 204 を返す。
+     *
+     * @param session HTTPセッション（ログインユーザー確認用）
+     * @param wordId  出題に使用した Word のID
+     * @param answer  ユーザーの入力値（答え合わせ後に固定されたもの）
+     * @return 204（本文なし）。未ログインの場合は 401
+     */
+    @PostMapping("/user/input-quiz/answer")
+    @ResponseBody
+    public ResponseEntity<Void> receiveAnswer(
+    		HttpSession session,
+    		@RequestParam("wordId") Long wordId,
+    		@RequestParam("answer") String answer
+    		) {
+    	
+    	UserAccount loginUser = (UserAccount) session.getAttribute("loginUser");
+    	if (loginUser == null) {
+    		return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+    	}
+    	
+    	recordAnswer(loginUser, wordId, answer);
+    	return ResponseEntity.noContent().build();
+    }
+    
+    
+    /**
+     * 回答を採点して、回答履歴として記録する（QuizAnswerRecorder のキューに入れるだけ）。
+     *
+     * 正誤は画面から受け取らず、正解の英単語と normalizeForCompare で比べて決める。
+     * 出題した単語が見つからない（削除済み・でたらめな id）場合は、採点できないので記録しない。
+     *
+     * @param loginUser 回答したユーザー
+     * @param wordId    出題に使用した Word のID
+     * @param answer    ユーザーの入力値
+     */
+    private void recordAnswer(UserAccount loginUser, Long wordId, String answer) {
+    	Word questionWord = wordService.findById(wordId);
+    	if (questionWord == null) {
+    		return;
+    	}
+    	
+    	boolean correct = normalizeForCompare(answer).equals(normalizeForCompare(questionWord.getEnglish()));
+    	quizAnswerRecorder.record(new QuizAnswer(null, loginUser.getId(), wordId,
+    			QuizAnswer.TYPE_INPUT, answer, correct, LocalDateTime.now()));
+    }
+    
+    
     
     
     
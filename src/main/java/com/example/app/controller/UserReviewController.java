@@ -0,0 +1,59 @@
+package com.example.app.controller;
+
+import jakarta.servlet.http.HttpSession;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import com.example.app.domain.UserAccount;
+import com.example.app.service.SpacedRepetitionService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 間隔反復モードの「復習結果」を受け取るコントローラ。
+ *
+ * URL:
+ *   - POST /user/srs/review : 単語カード・4択クイズの結果を受け取り、次の復習日時を更新する
+ *
+ * 画面（cards.html / user/quiz.html）から JavaScript の fetch で呼ばれる想定。
+ */
+@Controller
+@RequiredArgsConstructor
+public class UserReviewController {
+
+	/** 復習スケジュールを管理するサービス */
+	private final SpacedRepetitionService spacedRepetitionService;
+
+
+    /**
+     * 復習結果を受け取る。
+     * URL: /user/srs/review （POST）
+     *
+     * @param session HTTPセッション（ログインユーザー確認用）
+     * @param wordId  復習した単語の id
+     * @param quality 評価（0〜5。覚えていた・正解なら 4、覚えていなかった・不正解なら 1）
+     * @return 204（本文なし）。未ログインの場合は 401、単語が存在しない場合は 404
+     */
+	@PostMapping("/user/srs/review")
+	@ResponseBody
+	public ResponseEntity<Void> review(HttpSession session,
+										@RequestParam("wordId") Long wordId,
+										@RequestParam("quality") int quality) {
+
+		UserAccount loginUser = (UserAccount) session.getAttribute("loginUser");
+		if (loginUser == null) {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+		}
+
+		if (!spacedRepetitionService.review(loginUser.getId(), wordId, quality)) {
+			return ResponseEntity.notFound().build();
+		}
+		return ResponseEntity.noContent().build();
+	}
+
+}
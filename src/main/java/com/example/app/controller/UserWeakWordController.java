@@ -0,0 +1,86 @@
+package com.example.app.controller;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.servlet.http.HttpSession;
+
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+
+import com.example.app.domain.UserAccount;
+import com.example.app.domain.UserWordStats;
+import com.example.app.domain.Word;
+import com.example.app.service.WeakWordTracker;
+import com.example.app.service.WordService;
+
+/**
+ * ユーザー向けの「苦手単語」画面を扱うコントローラ。
+ *
+ * 不正解の多い単語を、苦手な順に表示する。
+ * ランキングは WeakWordTracker が回答のたびに更新しているので、ここでは上位 K 件を読むだけ
+ * （回答履歴を集計し直すことはしない）。
+ */
+@Controller
+public class UserWeakWordController {
+
+	/** 苦手単語のランキング */
+	private final WeakWordTracker weakWordTracker;
+
+	/** 単語に関する処理を担当するサービス。 */
+	private final WordService wordService;
+
+
+    /**
+     * コンストラクタ。
+     * Spring が自動で WeakWordTracker / WordService を注入してくれる。
+     */
+	public UserWeakWordController(WeakWordTracker weakWordTracker, WordService wordService) {
+		this.weakWordTracker = weakWordTracker;
+		this.wordService = wordService;
+	}
+
+
+    /**
+     * 苦手単語の一覧を表示する。
+     * URL: /user/weak-words （GET）
+     *
+     * 画面には以下の属性を渡す：
+     * - statsList : 苦手な順の回数（最大 K 件）
+     * - words     : 単語ID → 単語（英語・日本語の表示用）
+     */
+	@GetMapping("/user/weak-words")
+	public String showWeakWords(HttpSession session, Model model) {
+
+		// セッションから「ログイン中ユーザー情報」を取得
+		UserAccount loginUser = (UserAccount) session.getAttribute("loginUser");
+
+		// ログインしていない（セッションにユーザー情報がない）場合はログイン画面へ
+		if (loginUser == null) {
+			return "redirect:/login/user";
+		}
+
+		// 苦手な順の上位 K 件（メモリ上のランキングをコピーするだけ）
+		List<UserWordStats> statsList = weakWordTracker.weakWords(loginUser.getId());
+
+		// 表示用に単語をまとめて取得（1回の IN クエリ）
+		List<Long> wordIds = new ArrayList<>(statsList.size());
+		for (UserWordStats stats : statsList) {
+			wordIds.add(stats.getWordId());
+		}
+		Map<Long, Word> words = new HashMap<>();
+		for (Word word : wordService.findByIds(wordIds)) {
+			words.put(word.getId(), word);
+		}
+
+		model.addAttribute("loginUser", loginUser);
+		model.addAttribute("statsList", statsList);
+		model.addAttribute("words", words);
+
+		return "user/weak-words"; // src/main/resources/templates/user/weak-words.html
+	}
+
+}
@@ -4,13 +4,19 @@ import java.util.List;
 
 import jakarta.servlet.http.HttpSession;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
 
 import com.example.app.domain.UserAccount;
 import com.example.app.domain.Word;
+import com.example.app.domain.WordPage;
+import com.example.app.domain.WordSlice;
+import com.example.app.service.WordPrefixIndex;
 import com.example.app.service.WordService;
 
 /**
@@ -28,12 +34,16 @@ public class UserWordController {
 	/** 単語に関する処理を担当するサービス。 */
     private final WordService wordService;
 
+    /** 検索ボックスの入力補完（前方一致）用の索引。 */
+    private final WordPrefixIndex wordPrefixIndex;
+
     /**
      * コンストラクタ。
-     * Spring が自動で WordService を注入してくれる。
+     * Spring が自動で WordService / WordPrefixIndex を注入してくれる。
      */
-    public UserWordController(WordService wordService) {
+    public UserWordController(WordService wordService, WordPrefixIndex wordPrefixIndex) {
         this.wordService = wordService;
+        this.wordPrefixIndex = wordPrefixIndex;
     }
 
     /**
@@ -50,6 +60,7 @@ public class UserWordController {
      * - totalPages  : 総ページ数
      * - totalCount  : 全件数（検索条件込み）
      * - keyword     : 検索キーワード（再表示用）
+     * - nextCursor  : このページの続きを無限スクロールで取得するためのカーソル（最終ページなら null）
      */
     @GetMapping("/user/words")
     public String showUserWordList(
@@ -69,28 +80,13 @@ public class UserWordController {
         // 1ページあたりの表示件数（管理者用と合わせて 10 件／ページ）
         int pageSize = 10;
 
-        // キーワード条件での総件数を取得（keyword が null/空なら全件数）
-        int totalCount = wordService.countByKeyword(keyword);
-
-        // 総ページ数を計算（0件のときは 1 ページとして扱う）
-        int totalPages;
-        if (totalCount == 0) {
-            totalPages = 1;
-            page = 1;
-        } else {
-            // 切り上げ割り算で総ページ数を計算
-            totalPages = (totalCount + pageSize - 1) / pageSize;
-
-            // page が範囲外なら補正（1〜totalPages の範囲に収める）
-            if (page < 1) {
-                page = 1;
-            } else if (page > totalPages) {
-                page = totalPages;
-            }
-        }
-
-        // このページに表示するデータを取得
-        List<Word> wordList = wordService.findPageByKeyword(keyword, page, pageSize);
+        // このページに表示するデータと全件数を、1回の問い合わせでまとめて取得
+        // （page が範囲外なら 1〜totalPages の範囲に補正される。0件のときは 1 ページとして扱う）
+        WordPage wordPage = wordService.findWordPage(keyword, page, pageSize);
+        List<Word> wordList = wordPage.getWords();
+        page = wordPage.getCurrentPage();
+        int totalPages = wordPage.getTotalPages();
+        int totalCount = wordPage.getTotalCount();
 
         // テンプレートに渡す
         model.addAttribute("loginUser", loginUser);
@@ -99,9 +95,73 @@ public class UserWordController {
         model.addAttribute("totalPages", totalPages); // 総ページ数
         model.addAttribute("totalCount", totalCount); // 全件数
         model.addAttribute("keyword", keyword);       // 検索キーワード（フォーム再表示用）
+        model.addAttribute("fuzzy", wordPage.isFuzzy()); // 綴りが近い単語（あいまい検索）を表示しているか
+        model.addAttribute("nextCursor",              // 無限スクロールで続きを取得するためのカーソル（あいまい検索の結果はページ送りのみ）
+                wordService.cursorAfter(keyword, wordPage));
 
         // ユーザー用テンプレートを表示
         return "user/word-list";  // templates/user/word-list.html
     }
 
+
+
+    /**
+     * 単語一覧の続きを JSON で返す（無限スクロール用）。
+     * URL: /user/words/scroll （GET）
+     *
+     * 前回の nextCursor を渡すと、その続きを id の昇順で size 件返す。
+     * OFFSET を使わないので、どれだけ先まで読み進めても1回の取得にかかる時間は変わらない。
+     *
+     * @param keyword 検索キーワード（任意）
+     * @param cursor  前回の nextCursor（省略時は先頭から）
+     * @param size    取得件数（1〜100）
+     * @return 単語と次のカーソル。未ログインの場合は 401、カーソルが不正な場合は 400
+     */
+    @GetMapping("/user/words/scroll")
+    @ResponseBody
+    public ResponseEntity<WordSlice> scrollUserWordList(
+            @RequestParam(name = "keyword", required = false) String keyword,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            HttpSession session) {
+
+        UserAccount loginUser = (UserAccount) session.getAttribute("loginUser");
+        if (loginUser == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        try {
+            return ResponseEntity.ok(wordService.findSlice(keyword, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+
+
+    /**
+     * 検索ボックスの入力補完の候補を JSON で返す。
+     * URL: /user/words/suggest （GET）
+     *
+     * english または japanese が q で始まる単語を返す。
+     * メモリ上の索引（WordPrefixIndex）だけで答えるので、1文字入力するたびに呼んでも DB にはアクセスしない。
+     *
+     * @param q     入力途中の文字列
+     * @param limit 返す件数（1〜20）
+     * @return 候補の単語。未ログインの場合は 401
+     */
+    @GetMapping("/user/words/suggest")
+    @ResponseBody
+    public ResponseEntity<List<Word>> suggestUserWords(
+            @RequestParam(name = "q", defaultValue = "") String q,
+            @RequestParam(name = "limit", defaultValue = "8") int limit,
+            HttpSession session) {
+
+        UserAccount loginUser = (UserAccount) session.getAttribute("loginUser");
+        if (loginUser == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(wordPrefixIndex.suggest(q, limit));
+    }
+
 }
@@ -0,0 +1,44 @@
+package com.example.app.domain;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * クイズの回答1件分（quiz_answer テーブルの1行）。
+ */
+@Data					// getter/setter, toString などを Lombok に生成させる
+@NoArgsConstructor		// 引数なしコンストラクタ（MyBatis 用）
+@AllArgsConstructor		// 全フィールドを引数に取るコンストラクタ
+public class QuizAnswer {
+
+	/** 4択クイズを表す quizType */
+	public static final String TYPE_CHOICE = "choice";
+
+	/** スペリング（入力クイズ）を表す quizType */
+	public static final String TYPE_INPUT = "input";
+
+	/** 主キー（AUTO_INCREMENT） */
+	private Long id;
+
+	/** 回答したユーザーID */
+	private Long userId;
+
+	/** 出題した単語ID */
+	private Long wordId;
+
+	/** クイズの種類（TYPE_CHOICE / TYPE_INPUT） */
+	private String quizType;
+
+	/** ユーザーの回答（4択なら選んだ日本語、スペリングなら入力した英単語） */
+	private String answer;
+
+	/** 正解かどうか（サーバ側で正解と比べて決めたもの。以前に判定結果なしで記録された行は null） */
+	private Boolean correct;
+
+	/** 回答日時 */
+	private LocalDateTime answeredAt;
+
+}
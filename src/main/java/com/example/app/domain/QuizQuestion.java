@@ -0,0 +1,27 @@
+package com.example.app.domain;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 4択クイズ1問分のデータ。
+ * 問題の単語・シャッフル済みの選択肢・正解の日本語をまとめて持つ。
+ */
+@Data					// getter/setter, toString などを Lombok に生成させる
+@NoArgsConstructor		// 引数なしコンストラクタ（JSON 変換などフレームワーク用）
+@AllArgsConstructor		// 全フィールドを引数に取るコンストラクタ
+public class QuizQuestion {
+
+	/** 問題の単語（english を出題に使う） */
+	private Word word;
+
+	/** 正解＋誤答候補をシャッフルした選択肢（日本語） */
+	private List<String> choices;
+
+	/** 正解の日本語（画面の hidden で保持する用） */
+	private String correctJapanese;
+
+}
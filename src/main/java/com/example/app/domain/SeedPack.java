@@ -0,0 +1,32 @@
+package com.example.app.domain;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 読み込み済みの初期データの単語パック（seed_pack テーブルの1行）。
+ * 同じ内容のパックを2回読み込まないように、ファイル名と内容のハッシュを記録する。
+ */
+@Data					// getter/setter, toString などを Lombok に生成させる
+@NoArgsConstructor		// 引数なしコンストラクタ（MyBatis 用）
+@AllArgsConstructor		// 全フィールドを引数に持つコンストラクタ
+public class SeedPack {
+
+	/** パックのファイル名（例: words-basic.csv.gz） */
+	private String name;
+
+	/** ファイルの内容の SHA-256（16進数） */
+	private String contentHash;
+
+	/** 登録した単語の数（既に単語があって読み込まなかった場合は 0） */
+	private long rowCount;
+
+	/** 読み込みにかかった時間（ミリ秒） */
+	private long elapsedMillis;
+
+	/** 読み込んだ日時 */
+	private LocalDateTime loadedAt;
+}
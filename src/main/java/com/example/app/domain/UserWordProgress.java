@@ -0,0 +1,37 @@
+package com.example.app.domain;
+
+import java.time.LocalDateTime;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * ユーザー × 単語ごとの学習状況（user_word_progress テーブルの1行）。
+ * 間隔反復（SM-2）で「次にいつ復習するか」を決めるために使う。
+ */
+@Data					// getter/setter, toString などを Lombok に生成させる
+@NoArgsConstructor		// 引数なしコンストラクタ（MyBatis 用）
+public class UserWordProgress {
+
+	/** ユーザーID */
+	private Long userId;
+
+	/** 単語ID */
+	private Long wordId;
+
+	/** 連続で正解した回数（不正解で 0 に戻る） */
+	private int repetitions;
+
+	/** 前回の復習間隔（日） */
+	private int intervalDays;
+
+	/** 易しさ係数（SM-2 の EF。1.3 以上、初期値 2.5） */
+	private double easeFactor = 2.5;
+
+	/** 次に復習する日時 */
+	private LocalDateTime dueAt;
+
+	/** 最後に復習した日時 */
+	private LocalDateTime reviewedAt;
+
+}
@@ -0,0 +1,45 @@
+package com.example.app.domain;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * ユーザー × 単語ごとの正解・不正解の回数（user_word_stats テーブルの1行）。
+ * 苦手単語のランキングを作るために使う。
+ */
+@Data					// getter/setter, toString などを Lombok に生成させる
+@NoArgsConstructor		// 引数なしコンストラクタ（MyBatis 用）
+@AllArgsConstructor		// 全フィールドを引数に持つコンストラクタ（コピーを作る用）
+public class UserWordStats {
+
+	/** ユーザーID */
+	private Long userId;
+
+	/** 単語ID */
+	private Long wordId;
+
+	/** 正解した回数 */
+	private int correctCount;
+
+	/** 不正解だった回数 */
+	private int wrongCount;
+
+	/** 最後に回答した日時 */
+	private LocalDateTime lastAnsweredAt;
+
+
+    /**
+     * 苦手度（不正解率）を返す。0.0〜1.0 で、大きいほど苦手。
+     *
+     * 回答回数が少ない単語が極端な値にならないよう、
+     * 正解・不正解を1回ずつ足してから割る（ラプラス平滑化）。
+     * 例: 1回だけ答えて不正解 → 2/3、10回答えて全部不正解 → 11/12
+     */
+	public double getWeakness() {
+		return (wrongCount + 1.0) / (correctCount + wrongCount + 2.0);
+	}
+
+}
@@ -0,0 +1,61 @@
+package com.example.app.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 単語の一括登録（CSV / TSV の取り込み）の結果。
+ * 画面に表示する件数・速度と、取り込めなかった行の理由をまとめて持つ。
+ */
+@Data					// getter/setter, toString などを Lombok に生成させる
+@NoArgsConstructor		// 引数なしコンストラクタ（JSON 変換などフレームワーク用）
+public class WordImportResult {
+
+	/** 読み込んだ行数（見出し行・空行は除く） */
+	private long totalRows;
+
+	/** 登録した行数 */
+	private long importedRows;
+
+	/** エラーで登録しなかった行数 */
+	private long errorRows;
+
+	/** かかった時間（ミリ秒） */
+	private long elapsedMillis;
+
+	/** 行のエラー（多すぎる場合は先頭から一定件数だけ） */
+	private List<RowError> errors = new ArrayList<>();
+
+	/** errors に入りきらなかったエラーがあるかどうか */
+	private boolean errorsTruncated;
+
+
+    /**
+     * 1秒あたりに処理した行数。
+     * @return 行数／秒（時間が 0 の場合は読み込んだ行数）
+     */
+	public long getRowsPerSecond() {
+		return elapsedMillis == 0 ? totalRows : totalRows * 1000 / elapsedMillis;
+	}
+
+
+    /**
+     * 取り込めなかった1行分の情報。
+     */
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class RowError {
+
+		/** ファイル上の行番号（1 始まり） */
+		private long lineNumber;
+
+		/** エラーの内容 */
+		private String message;
+	}
+
+}
@@ -0,0 +1,33 @@
+package com.example.app.domain;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 単語一覧の1ページ分のデータ（ページ番号方式）。
+ * 表示する単語と、ページネーションの表示に必要な件数・ページ数をまとめて持つ。
+ */
+@Data					// getter/setter, toString などを Lombok に生成させる
+@NoArgsConstructor		// 引数なしコンストラクタ（JSON 変換などフレームワーク用）
+@AllArgsConstructor		// 全フィールドを引数に取るコンストラクタ
+public class WordPage {
+
+	/** このページに表示する単語 */
+	private List<Word> words;
+
+	/** 検索条件に合う全件数 */
+	private int totalCount;
+
+	/** 現在のページ番号（1 始まり。範囲外を指定された場合は補正後の値） */
+	private int currentPage;
+
+	/** 総ページ数（0件のときは 1） */
+	private int totalPages;
+
+	/** キーワードに部分一致する単語が無く、綴りが近い単語（あいまい検索の結果）を返したかどうか */
+	private boolean fuzzy;
+
+}
@@ -0,0 +1,20 @@
+package com.example.app.domain;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 件数付きのページ取得（WordMapper.findPageWithTotal など）の1行。
+ * 単語と、COUNT(*) OVER() で同じ行に載せた全件数を持つ。
+ */
+@Data					// getter/setter, toString などを Lombok に生成させる
+@NoArgsConstructor		// 引数なしコンストラクタ（MyBatis 用）
+public class WordPageRow {
+
+	/** 単語 */
+	private Word word;
+
+	/** 検索条件に合う全件数（どの行も同じ値） */
+	private int totalCount;
+
+}
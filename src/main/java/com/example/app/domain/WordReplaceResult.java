@@ -0,0 +1,67 @@
+package com.example.app.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 単語の一括置換（english / japanese の検索と置換）の結果。
+ * プレビュー（まだ書き換えていない）と実行後の両方で使う。
+ */
+@Data					// getter/setter, toString などを Lombok に生成させる
+@NoArgsConstructor		// 引数なしコンストラクタ（JSON 変換などフレームワーク用）
+public class WordReplaceResult {
+
+	/** 置換する項目（english / japanese） */
+	private String field;
+
+	/** 探す文字列 */
+	private String find;
+
+	/** 置き換える文字列 */
+	private String replacement;
+
+	/** 実際に書き換えたかどうか（プレビューなら false） */
+	private boolean applied;
+
+	/** 書き換える（書き換えた）行数 */
+	private long changedRows;
+
+	/** 置換すると入力チェックに通らなくなるため、書き換えない行数 */
+	private long skippedRows;
+
+	/** かかった時間（ミリ秒） */
+	private long elapsedMillis;
+
+	/** 書き換える行の変更前・変更後（多すぎる場合は先頭から一定件数だけ） */
+	private List<Change> changes = new ArrayList<>();
+
+	/** changes に入りきらなかった行があるかどうか */
+	private boolean changesTruncated;
+
+
+    /**
+     * 1行分の変更内容。
+     */
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Change {
+
+		/** 単語の id */
+		private Long id;
+
+		/** 変更前の値 */
+		private String before;
+
+		/** 変更後の値 */
+		private String after;
+
+		/** 書き換えない理由（書き換える行は null） */
+		private String skipReason;
+	}
+
+}
@@ -0,0 +1,24 @@
+package com.example.app.domain;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 単語一覧の無限スクロール1回分のデータ（カーソル方式のページ）。
+ * 表示する単語と、続きを取得するためのカーソルをまとめて持つ。
+ */
+@Data					// getter/setter, toString などを Lombok に生成させる
+@NoArgsConstructor		// 引数なしコンストラクタ（JSON 変換などフレームワーク用）
+@AllArgsConstructor		// 全フィールドを引数に取るコンストラクタ
+public class WordSlice {
+
+	/** 表示する単語（一覧と同じ並び。部分一致する単語が id 順で先、変化形で見つかる単語が id 順で後） */
+	private List<Word> words;
+
+	/** 続きを取得するためのカーソル（最後まで表示した場合は null） */
+	private String nextCursor;
+
+}
@@ -0,0 +1,24 @@
+package com.example.app.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+
+import com.example.app.domain.QuizAnswer;
+
+/**
+ * quiz_answer テーブル（クイズの回答履歴）へのアクセスを定義する MyBatis マッパー。
+ * 実際の SQL は XML マッパーファイル（QuizAnswerMapper.xml）側に記述する。
+ */
+@Mapper
+public interface QuizAnswerMapper {
+
+    /**
+     * 回答を1件登録する。
+     * QuizAnswerRecorder が ExecutorType.BATCH のセッションで呼ぶので、
+     * 実際には複数件まとめて JDBC のバッチで送られる。
+     *
+     * @param answer 登録する回答
+     * @return 影響を受けた行数
+     */
+	int insert(QuizAnswer answer);
+
+}
@@ -0,0 +1,36 @@
+package com.example.app.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+
+import com.example.app.domain.SeedPack;
+
+/**
+ * seed_pack テーブル（読み込み済みの初期データの単語パック）にアクセスする MyBatis マッパー。
+ * SQL は resources/mapper/SeedPackMapper.xml に記述する。
+ */
+@Mapper
+public interface SeedPackMapper {
+
+    /**
+     * ファイル名で1件取得する。
+     * @param name パックのファイル名
+     * @return 読み込み済みの記録（まだ読み込んでいなければ null）
+     */
+	SeedPack findByName(String name);
+
+
+    /**
+     * 読み込み済みの記録の件数を返す。
+     * @return 件数
+     */
+	int countAll();
+
+
+    /**
+     * 読み込んだことを記録する。
+     * @param seedPack 記録する内容
+     * @return 影響を受けた行数（通常は 1）
+     */
+	int insert(SeedPack seedPack);
+
+}
@@ -0,0 +1,34 @@
+package com.example.app.mapper;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+
+import com.example.app.domain.UserWordProgress;
+
+/**
+ * user_word_progress テーブル（間隔反復の学習状況）へのアクセスを定義する MyBatis マッパー。
+ * 実際の SQL は XML マッパーファイル（UserWordProgressMapper.xml）側に記述する。
+ */
+@Mapper
+public interface UserWordProgressMapper {
+
+    /**
+     * 指定ユーザーの学習状況を全件取得する。
+     * ログイン後に最初に使うときに1回だけ呼び、以降はメモリ上で管理する。
+     *
+     * @param userId ユーザーID
+     * @return 学習状況のリスト
+     */
+	List<UserWordProgress> findByUserId(Long userId);
+
+
+    /**
+     * 学習状況を1件登録する（すでにあれば更新する）。
+     *
+     * @param progress 登録・更新する学習状況
+     * @return 影響を受けた行数
+     */
+	int upsert(UserWordProgress progress);
+
+}
@@ -0,0 +1,32 @@
+package com.example.app.mapper;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import com.example.app.domain.UserWordStats;
+
+/**
+ * user_word_stats テーブル（単語ごとの正解・不正解の回数）にアクセスする MyBatis マッパー。
+ * SQL は resources/mapper/UserWordStatsMapper.xml に記述する。
+ */
+@Mapper
+public interface UserWordStatsMapper {
+
+    /**
+     * 指定ユーザーの回数を全件取得する。
+     * @param userId ユーザーID
+     * @return そのユーザーが回答したことのある単語の回数
+     */
+	List<UserWordStats> findByUserId(Long userId);
+
+
+    /**
+     * 回数をまとめて登録する。主キー（user_id, word_id）が既にあれば上書きする。
+     * @param statsList 登録する回数（1件以上）
+     * @return 影響を受けた行数
+     */
+	int upsertAll(@Param("statsList") List<UserWordStats> statsList);
+
+}
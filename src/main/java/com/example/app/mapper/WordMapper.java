@@ -1,11 +1,14 @@
 package com.example.app.mapper;
 
 import java.util.List;
+import java.util.Map;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import com.example.app.domain.Word;
+import com.example.app.domain.WordPageRow;
 
 
 /**
@@ -33,6 +36,15 @@ public interface WordMapper {
 	List<Word> findAll();
 	
 	
+    /**
+     * 全件を id の昇順に、1行ずつ読み出すカーソルで返す（書き出し用）。
+     * MySQL のストリーミング取得（fetchSize = Integer.MIN_VALUE）を使うので、件数が多くてもメモリに全件は載らない。
+     * カーソルを読み終わるまでトランザクション（SqlSession）を開いたままにしておくこと。
+     * @return 全件のカーソル
+     */
+	Cursor<Word> streamAll();
+	
+	
     /**
      * 新規レコードを追加する。
      * @param word 追加したいデータ（id は null を想定）
@@ -55,6 +67,51 @@ public interface WordMapper {
      * @return 影響を受けた行数（通常は 1）
      */
 	int deleteById(Long id);
+	
+	
+    /**
+     * 複数の id をまとめて削除する（管理者の一括削除用）。
+     * @param ids 削除したいレコードの主キー（空でないこと。多すぎる場合は呼び出し側で分けて渡す）
+     * @return 影響を受けた行数
+     */
+	int deleteByIds(@Param("ids") List<Long> ids);
+	
+	
+    /**
+     * english または japanese に文字列をそのまま（大文字・小文字も区別して）含む単語を、id の昇順に取得する。
+     * （管理者の一括置換用。lastId を前回の最後の id にして、少しずつ読み進める）
+     *
+     * @param field  "english" または "japanese"
+     * @param text   探す文字列
+     * @param lastId この id より後から探す（最初は 0）
+     * @param limit  取得件数
+     * @return 見つかった単語
+     */
+	List<Word> findContaining(@Param("field") String field,
+							@Param("text") String text,
+							@Param("lastId") long lastId,
+							@Param("limit") int limit);
+	
+	
+    /**
+     * 検索用の正規化カラム（english_norm）がまだ空の単語を、id の昇順に取得する。
+     * @param lastId この id より後から探す（最初は 0）
+     * @param limit  取得件数
+     * @return 正規化カラムが空の単語
+     */
+	List<Word> findWithoutSearchKeys(@Param("lastId") long lastId,
+									@Param("limit") int limit);
+	
+    /**
+     * 検索用の正規化カラムだけを更新する。
+     * @param id           単語の id
+     * @param englishNorm  正規化した english
+     * @param japaneseNorm 正規化した japanese
+     * @return 影響を受けた行数（通常は 1）
+     */
+	int updateSearchKeys(@Param("id") Long id,
+						@Param("englishNorm") String englishNorm,
+						@Param("japaneseNorm") String japaneseNorm);
 		
 
 	
@@ -74,6 +131,25 @@ public interface WordMapper {
 	Word selectRandomWord();
 	
 	
+    /**
+     * クイズ用: 全単語の id だけを昇順で取得する。
+     * WordIdSampler がメモリ上の id 配列を作るときに使う（主キーのインデックスだけで済む）。
+     *
+     * @return すべての id のリスト（昇順）
+     */
+	List<Long> findAllIds();
+	
+	
+    /**
+     * クイズ用: 複数の id をまとめて取得する（WHERE id IN (...)）。
+     * 複数問のクイズを作るときに、問題と誤答候補を1回のクエリで取るために使う。
+     *
+     * @param ids 取得したい id のリスト（空リストは渡さないこと）
+     * @return 該当する Word のリスト（id 昇順。存在しない id は含まれない）
+     */
+	List<Word> findByIds(@Param("ids") List<Long> ids);
+	
+	
     /**
      * クイズ用: 正解とは別の誤答候補（日本語）をランダムに複数取得する。
      * - id で指定されたレコード以外から
@@ -99,6 +175,7 @@ public interface WordMapper {
     /**
      * 検索付きのページネーション用: キーワード条件での件数を取得する。
      * keyword が null または空文字の場合は、全件数を返す。
+     * ※ 検索系のメソッドの keyword は SearchKeyNormalizer.normalize 済みのものを渡す（english_norm / japanese_norm と比べる）。
      */
 	int countByKeyword(@Param("keyword") String keyword);
 	
@@ -115,6 +192,113 @@ public interface WordMapper {
 								);
 	
 	
+    /**
+     * 全文検索（FULLTEXT インデックス・ngram パーサー）での件数を取得する。
+     * @param phrase  MATCH ... AGAINST に渡すフレーズ（"kw" の形。BOOLEAN MODE で使う）
+     * @param keyword 部分一致の確認に使う元のキーワード
+     */
+	int countByFulltext(@Param("phrase") String phrase,
+						@Param("keyword") String keyword);
+	
+    /**
+     * 全文検索（FULLTEXT インデックス・ngram パーサー）で、offset/limit でデータを取得する。
+     * @param phrase  MATCH ... AGAINST に渡すフレーズ（"kw" の形。BOOLEAN MODE で使う）
+     * @param keyword 部分一致の確認に使う元のキーワード
+     * @param offset  先頭から何件スキップするか
+     * @param limit   1ページあたりの件数
+     */
+	List<Word> findPageByFulltext(@Param("phrase") String phrase,
+								@Param("keyword") String keyword,
+								@Param("offset") int offset,
+								@Param("limit") int limit
+								);
+	
+	
+	
+	//	●件数付きのページ取得（1回の問い合わせで件数とページ分の行を返す）
+	
+    /**
+     * キーワード条件＋offset/limit でデータを取得し、各行に全件数（COUNT(*) OVER()）を載せて返す。
+     * countByKeyword と findPageByKeyword を1回にまとめたもの。
+     *
+     * @param keyword 検索キーワード（null/空なら条件なし）
+     * @param offset  先頭から何件スキップするか
+     * @param limit   1ページあたりの件数
+     * @return 単語と全件数の行（範囲外のページなら空）
+     */
+	List<WordPageRow> findPageWithTotal(@Param("keyword") String keyword,
+										@Param("offset") int offset,
+										@Param("limit") int limit);
+	
+    /**
+     * findPageWithTotal の全文検索（FULLTEXT インデックス・ngram パーサー）版。
+     *
+     * @param phrase  MATCH ... AGAINST に渡すフレーズ（"kw" の形）
+     * @param keyword 部分一致の確認に使う元のキーワード
+     * @param offset  先頭から何件スキップするか
+     * @param limit   1ページあたりの件数
+     */
+	List<WordPageRow> findPageByFulltextWithTotal(@Param("phrase") String phrase,
+												@Param("keyword") String keyword,
+												@Param("offset") int offset,
+												@Param("limit") int limit);
+	
+	
+	//	●カーソル方式（キーセット）のページネーション用
+	
+    /**
+     * 指定した id より後の単語を、id の昇順で limit 件取得する（WHERE id > lastId ORDER BY id LIMIT n）。
+     * 主キーの範囲検索なので、何ページ目でも読む行数は limit 件分だけで済む。
+     *
+     * @param lastId  前のページで最後に表示した単語の id（先頭からなら 0）
+     * @param keyword 検索キーワード（null/空なら条件なし。LIKE で部分一致）
+     * @param limit   取得件数
+     */
+	List<Word> findSliceAfter(@Param("lastId") long lastId,
+							@Param("keyword") String keyword,
+							@Param("limit") int limit);
+	
+    /**
+     * findSliceAfter の全文検索（FULLTEXT インデックス・ngram パーサー）版。
+     *
+     * @param phrase  MATCH ... AGAINST に渡すフレーズ（"kw" の形）
+     * @param keyword 部分一致の確認に使う元のキーワード
+     * @param lastId  前のページで最後に表示した単語の id（先頭からなら 0）
+     * @param limit   取得件数
+     */
+	List<Word> findSliceAfterByFulltext(@Param("phrase") String phrase,
+										@Param("keyword") String keyword,
+										@Param("lastId") long lastId,
+										@Param("limit") int limit);
+	
+    /**
+     * word テーブルにある検索用の正規化カラム（english_norm / japanese_norm）の数を取得する（SearchSchemaCheck が起動時に確認する）。
+     * @return 両方あれば 2
+     */
+	int countSearchKeyColumns();
+	
+    /**
+     * FULLTEXT インデックス ft_word_text に含まれる正規化カラム（english_norm / japanese_norm）の数を取得する。
+     * （SearchSchemaCheck が全文検索のときに、索引があるかを確認する）
+     * @return 0〜2（2 なら索引がある）
+     */
+	int countFulltextIndexColumns();
+	
+    /**
+     * 全文検索に関わる MySQL の設定を取得する（SearchSchemaCheck が起動時に確認する）。
+     * @return enableStopword（innodb_ft_enable_stopword）/ serverStopwordTable（innodb_ft_server_stopword_table）
+     *         / ngramTokenSize（ngram_token_size）
+     */
+	Map<String, Object> findFulltextSettings();
+	
+    /**
+     * ストップワード用のテーブル（innodb_ft_server_stopword_table）の行数を取得する。
+     * @param table 「`db`.`table`」の形のテーブル名（SQL にそのまま埋め込むので、呼び出し側で名前を確かめてから渡す）
+     * @return 行数
+     */
+	int countStopwords(@Param("table") String table);
+	
+	
 	
 	
 	
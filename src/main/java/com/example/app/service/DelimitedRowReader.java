@@ -0,0 +1,152 @@
+package com.example.app.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV / TSV を1行ずつ読む小さなリーダー（ファイル全体はメモリに読み込まない）。
+ *
+ * - 区切り文字はコンストラクタで指定する（',' または '\t'）
+ * - "..." で囲んだ項目の中の区切り文字・改行はそのまま値として扱い、"" は " 1文字とみなす（RFC 4180）
+ * - 改行は LF / CRLF のどちらでもよい
+ * - 先頭の BOM（Excel で保存した UTF-8 の CSV に付く）は読み飛ばす
+ */
+public class DelimitedRowReader implements Closeable {
+
+	/** 読み込み元 */
+	private final Reader reader;
+
+	/** 区切り文字 */
+	private final char delimiter;
+
+	/** 1文字先読みした文字（無ければ -2） */
+	private int peeked = -2;
+
+	/** 直前に読んだ行の、最初の行番号（1 始まり。引用符の中の改行で複数行にまたがることがある） */
+	private long rowLineNumber;
+
+	/** 次に読む文字の行番号（1 始まり） */
+	private long lineNumber = 1;
+
+	/** 先頭かどうか（BOM を読み飛ばす判定用） */
+	private boolean first = true;
+
+
+    /**
+     * コンストラクタ。
+     * @param reader    読み込み元（呼び出し側でバッファリングしておく）
+     * @param delimiter 区切り文字
+     */
+	public DelimitedRowReader(Reader reader, char delimiter) {
+		this.reader = reader;
+		this.delimiter = delimiter;
+	}
+
+
+    /**
+     * 次の1行を項目ごとに分けて返す。
+     * @return 項目のリスト（ファイルの終わりなら null）
+     * @throws IOException 読み込みに失敗した場合
+     */
+	public List<String> next() throws IOException {
+		int c = read();
+		if (first) {
+			first = false;
+			if (c == '\uFEFF') {
+				c = read();
+			}
+		}
+		if (c == -1) {
+			return null;
+		}
+
+		rowLineNumber = lineNumber;
+		List<String> fields = new ArrayList<>();
+		StringBuilder field = new StringBuilder();
+		boolean quoted = false;
+		boolean fieldStart = true;
+
+		while (true) {
+			if (quoted) {
+				if (c == -1) {
+					// 閉じ引用符がないまま終わった：そこまでを値とする
+					fields.add(field.toString());
+					return fields;
+				}
+				if (c == '"') {
+					int following = read();
+					if (following == '"') {
+						field.append('"');
+					} else {
+						quoted = false;
+						c = following;
+						continue;
+					}
+				} else {
+					if (c == '\n') {
+						lineNumber++;
+					}
+					field.append((char) c);
+				}
+			} else if (c == -1 || c == '\n' || c == '\r') {
+				if (c == '\r') {
+					int following = read();
+					if (following != '\n') {
+						unread(following);
+					}
+				}
+				if (c != -1) {
+					lineNumber++;
+				}
+				fields.add(field.toString());
+				return fields;
+			} else if (c == delimiter) {
+				fields.add(field.toString());
+				field.setLength(0);
+				fieldStart = true;
+				c = read();
+				continue;
+			} else if (c == '"' && fieldStart) {
+				quoted = true;
+			} else {
+				field.append((char) c);
+			}
+			fieldStart = false;
+			c = read();
+		}
+	}
+
+
+    /**
+     * 直前に next() で読んだ行の行番号（1 始まり）。
+     * @return 行番号
+     */
+	public long rowLineNumber() {
+		return rowLineNumber;
+	}
+
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+
+
+	private int read() throws IOException {
+		if (peeked != -2) {
+			int c = peeked;
+			peeked = -2;
+			return c;
+		}
+		return reader.read();
+	}
+
+
+	private void unread(int c) {
+		peeked = c;
+	}
+
+}
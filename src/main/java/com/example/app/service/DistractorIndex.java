@@ -0,0 +1,360 @@
+package com.example.app.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.app.domain.Word;
+import com.example.app.mapper.WordMapper;
+
+/**
+ * 4択クイズの「紛らわしい誤答候補」を探すための索引。
+ *
+ * ランダムに選んだ誤答はすぐに見分けがついてしまうので、
+ * 英語または日本語の綴りが似ている単語（affect / effect、「受け入れる」/「受け取る」など）を誤答候補にする。
+ *
+ * 仕組み（MinHash + LSH）:
+ *   - english / japanese をそれぞれ文字 2-gram の集合にし、16 個のハッシュ関数で MinHash 署名を作る
+ *   - 署名を 2 個ずつ 8 つのバンドに分け、バンドごとのキーでバケットに登録する
+ *   - 同じバケットに入った単語 ＝ 綴りが似ている可能性が高い単語
+ * 誤答候補を探すときは、問題の単語のバケットを見るだけなのでテーブル全体を読まない。
+ *
+ * - アプリ起動完了時に word テーブル全件から作る（失敗した場合は初回利用時に作り直す）
+ * - 作り直すときは新しい索引を別に作ってから、参照を1回で差し替える（作っている間も、読む側は前の索引を使える）
+ * - WordService の create / update / delete のコミット後に、その単語の分だけ更新する
+ * - 記号だけの english / japanese（正規化すると空になるもの）は、その項目ではバケットに入れない
+ *   （空の署名はすべて同じになり、記号だけの単語どうしが「似ている」とみなされてしまうため）
+ */
+@Service
+public class DistractorIndex {
+
+	private static final Logger log = LoggerFactory.getLogger(DistractorIndex.class);
+
+	/** MinHash のハッシュ関数の数 */
+	private static final int HASH_COUNT = 16;
+
+	/** 1バンドあたりの行数（HASH_COUNT / ROWS_PER_BAND がバンド数） */
+	private static final int ROWS_PER_BAND = 2;
+
+	/** 1回の検索で似ている度合いを比べる候補数の上限（よくある 2-gram のバケットが大きくても時間が一定になるように） */
+	private static final int MAX_CANDIDATES = 200;
+
+	/** english 用のバンドキーの種別 */
+	private static final int FIELD_ENGLISH = 1;
+
+	/** japanese 用のバンドキーの種別 */
+	private static final int FIELD_JAPANESE = 2;
+
+	/** word テーブルにアクセスするためのマッパー */
+	private final WordMapper wordMapper;
+
+	/** 現在の索引（null の間は未作成） */
+	private volatile Buckets index;
+
+
+    /**
+     * コンストラクタ。
+     * Spring が自動で WordMapper を注入してくれる。
+     */
+	public DistractorIndex(WordMapper wordMapper) {
+		this.wordMapper = wordMapper;
+	}
+
+
+    /**
+     * アプリの起動が終わったら索引を作る。
+     * DB に接続できなかった場合は、初回利用時にもう一度作る。
+     */
+	@EventListener(ApplicationReadyEvent.class)
+	public void buildOnStartup() {
+		try {
+			rebuild();
+		} catch (RuntimeException e) {
+			log.warn("誤答候補の索引を作れませんでした: {}", e.getMessage());
+		}
+	}
+
+
+    /**
+     * word テーブル全件から索引を作り直す。
+     */
+	public synchronized void rebuild() {
+		Buckets next = new Buckets();
+		for (Word word : wordMapper.findAll()) {
+			next.put(word);
+		}
+		index = next;
+	}
+
+
+    /**
+     * 問題の単語に似ている単語から、誤答候補の日本語を選ぶ。
+     *
+     * - 正解と同じ日本語、候補どうしで同じ日本語は除外する
+     * - 似ている単語が足りない場合は、見つかった分だけ返す（残りは呼び出し側でランダムに補う）
+     *
+     * @param questionWord 問題の単語
+     * @param count        欲しい件数
+     * @return 誤答候補の日本語（似ている順）
+     */
+	public List<String> findDistractors(Word questionWord, int count) {
+		Buckets current = loadedIndex();
+
+		Entry target = current.entries.get(questionWord.getId());
+		if (target == null) {
+			target = new Entry(questionWord.getId(), questionWord.getEnglish(), questionWord.getJapanese());
+		}
+
+		// 同じバケットに入っている単語を集める（上限まで）
+		Set<Long> candidateIds = new HashSet<>();
+		for (long bandKey : target.bandKeys) {
+			Set<Long> bucket = current.buckets.get(bandKey);
+			if (bucket == null) {
+				continue;
+			}
+			for (Long id : bucket) {
+				if (candidateIds.size() >= MAX_CANDIDATES) {
+					break;
+				}
+				if (!id.equals(target.id)) {
+					candidateIds.add(id);
+				}
+			}
+		}
+
+		// 似ている度合い（MinHash の一致率）が高い順に並べる
+		List<Entry> candidates = new ArrayList<>();
+		for (Long id : candidateIds) {
+			Entry entry = current.entries.get(id);
+			if (entry != null) {
+				candidates.add(entry);
+			}
+		}
+		final Entry base = target;
+		candidates.sort(Comparator.comparingDouble((Entry entry) -> base.similarity(entry)).reversed());
+
+		// 正解・他の候補と同じ日本語を除いて、count 件まで選ぶ
+		String correct = normalize(questionWord.getJapanese());
+		Set<String> used = new HashSet<>();
+		used.add(correct);
+
+		List<String> distractors = new ArrayList<>();
+		for (Entry entry : candidates) {
+			if (distractors.size() >= count) {
+				break;
+			}
+			if (used.add(normalize(entry.japanese))) {
+				distractors.add(entry.japanese);
+			}
+		}
+		return distractors;
+	}
+
+
+    /**
+     * 単語の登録・更新・削除がコミットされたら、その単語の分だけ索引を更新する。
+     * 未作成の場合は何もしない（初回利用時に最新の状態から作るため）。
+     * 一括登録など（BULK）の場合は、全体を作り直す。
+     *
+     * @param event 変更内容
+     */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onWordChanged(WordChangedEvent event) {
+		if (index != null && event.type() == WordChangedEvent.Type.BULK) {
+			rebuild();
+			return;
+		}
+		if (index == null || event.wordId() == null) {
+			return;
+		}
+
+		synchronized (this) {
+			Buckets current = index;
+			current.remove(event.wordId());
+			if (event.type() != WordChangedEvent.Type.DELETED) {
+				Word word = wordMapper.findById(event.wordId());
+				if (word != null) {
+					current.put(word);
+				}
+			}
+		}
+	}
+
+
+	/** 未作成なら作ってから返す。 */
+	private Buckets loadedIndex() {
+		Buckets current = index;
+		if (current == null) {
+			synchronized (this) {
+				if (index == null) {
+					rebuild();
+				}
+				current = index;
+			}
+		}
+		return current;
+	}
+
+
+	/** 比較用に正規化する（小文字化し、空白や「～」などの記号を取り除く）。 */
+	private static String normalize(String src) {
+		if (src == null) {
+			return "";
+		}
+		StringBuilder sb = new StringBuilder(src.length());
+		src.toLowerCase(Locale.ROOT).codePoints()
+				.filter(Character::isLetterOrDigit)
+				.forEach(sb::appendCodePoint);
+		return sb.toString();
+	}
+
+
+	/** 文字列の文字 2-gram から MinHash 署名を作る（1文字だけの場合はその1文字を使う）。 */
+	private static int[] minHash(String normalized) {
+		int[] signature = new int[HASH_COUNT];
+		Arrays.fill(signature, Integer.MAX_VALUE);
+
+		int length = normalized.length();
+		if (length == 0) {
+			return signature;
+		}
+		int gramCount = Math.max(1, length - 1);
+		for (int i = 0; i < gramCount; i++) {
+			String gram = normalized.substring(i, Math.min(i + 2, length));
+			long base = gram.hashCode();
+			for (int h = 0; h < HASH_COUNT; h++) {
+				int value = (int) mix(base + (h + 1) * 0x9E3779B97F4A7C15L);
+				if (value < signature[h]) {
+					signature[h] = value;
+				}
+			}
+		}
+		return signature;
+	}
+
+
+	/** 64bit の値をよく混ぜる（SplitMix64 の仕上げ処理）。 */
+	private static long mix(long h) {
+		h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+		h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+		return h ^ (h >>> 31);
+	}
+
+
+    /**
+     * 索引の中身（単語の情報とバケット）。
+     * 作り直すときは丸ごと新しく作り、1単語ずつの更新はこの中のマップを書き換える。
+     */
+	private static final class Buckets {
+
+		/** id → 索引に登録した単語の情報 */
+		final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+		/** バンドキー → そのバケットに入っている単語の id */
+		final Map<Long, Set<Long>> buckets = new ConcurrentHashMap<>();
+
+		/** 単語を登録する。 */
+		void put(Word word) {
+			Entry entry = new Entry(word.getId(), word.getEnglish(), word.getJapanese());
+			entries.put(entry.id, entry);
+			for (long bandKey : entry.bandKeys) {
+				buckets.computeIfAbsent(bandKey, key -> ConcurrentHashMap.newKeySet()).add(entry.id);
+			}
+		}
+
+		/** 単語を取り除く。 */
+		void remove(Long id) {
+			Entry entry = entries.remove(id);
+			if (entry == null) {
+				return;
+			}
+			for (long bandKey : entry.bandKeys) {
+				Set<Long> bucket = buckets.get(bandKey);
+				if (bucket != null) {
+					bucket.remove(id);
+					if (bucket.isEmpty()) {
+						buckets.remove(bandKey);
+					}
+				}
+			}
+		}
+	}
+
+
+	/** 索引に登録する1単語分の情報。 */
+	private static final class Entry {
+
+		final Long id;
+		final String english;
+		final String japanese;
+		/** MinHash 署名（正規化すると空になる項目は null） */
+		final int[] englishSignature;
+		final int[] japaneseSignature;
+		final long[] bandKeys;
+
+		Entry(Long id, String english, String japanese) {
+			this.id = id;
+			this.english = english;
+			this.japanese = japanese;
+			this.englishSignature = signatureOf(english);
+			this.japaneseSignature = signatureOf(japanese);
+
+			int bands = HASH_COUNT / ROWS_PER_BAND;
+			long[] keys = new long[bands * 2];
+			int n = 0;
+			for (int b = 0; englishSignature != null && b < bands; b++) {
+				keys[n++] = bandKey(FIELD_ENGLISH, b, englishSignature);
+			}
+			for (int b = 0; japaneseSignature != null && b < bands; b++) {
+				keys[n++] = bandKey(FIELD_JAPANESE, b, japaneseSignature);
+			}
+			this.bandKeys = Arrays.copyOf(keys, n);
+		}
+
+		private static int[] signatureOf(String text) {
+			String normalized = normalize(text);
+			return normalized.isEmpty() ? null : minHash(normalized);
+		}
+
+		/** english / japanese のうち、より似ている方の一致率（0.0 〜 1.0）を返す。 */
+		double similarity(Entry other) {
+			return Math.max(agreement(englishSignature, other.englishSignature),
+							agreement(japaneseSignature, other.japaneseSignature));
+		}
+
+		private static double agreement(int[] a, int[] b) {
+			if (a == null || b == null) {
+				return 0.0;
+			}
+			int same = 0;
+			for (int i = 0; i < HASH_COUNT; i++) {
+				if (a[i] == b[i]) {
+					same++;
+				}
+			}
+			return (double) same / HASH_COUNT;
+		}
+
+		private static long bandKey(int field, int band, int[] signature) {
+			long h = ((long) field << 56) ^ ((long) band << 48);
+			for (int r = 0; r < ROWS_PER_BAND; r++) {
+				h = mix(h * 31 + signature[band * ROWS_PER_BAND + r]);
+			}
+			return h;
+		}
+	}
+
+}
@@ -0,0 +1,259 @@
+package com.example.app.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.example.app.domain.QuizAnswer;
+import com.example.app.mapper.QuizAnswerMapper;
+
+/**
+ * クイズの回答を quiz_answer テーブルに「あとでまとめて」書き込むサービス（write-behind）。
+ *
+ * 回答のたびに INSERT すると、1問ごとに DB への往復が1回増えてしまう。
+ * そこで、リクエスト処理中はメモリ上のキューに入れるだけにして（数マイクロ秒）、
+ * バックグラウンドのスレッドが一定件数または一定時間ごとに JDBC のバッチでまとめて INSERT する。
+ *
+ * - キューは上限付き。満杯のときは回答を捨てて件数だけ数える（リクエストを待たせない）
+ * - アプリ終了時は、キューに残っている回答を書き出してから止まる
+ * - キューの件数・書き込み時間などは metrics() で確認できる（/admin/metrics）
+ * - 苦手単語のランキング（WeakWordTracker）も、書き込みスレッドがキューから取り出したときに更新する
+ *   （リクエスト処理中はキューに入れるだけにするため。満杯で捨てた回答はランキングにも入らない）
+ *
+ * 設定（application.properties）:
+ *   - app.answer.queue-capacity    : キューの上限件数
+ *   - app.answer.batch-size        : 1回にまとめて書き込む件数
+ *   - app.answer.flush-interval-ms : 件数がたまらなくても書き込むまでの時間（ミリ秒）
+ */
+@Service
+public class QuizAnswerRecorder {
+
+	private static final Logger log = LoggerFactory.getLogger(QuizAnswerRecorder.class);
+
+	/** answer カラムの最大長 */
+	private static final int MAX_ANSWER_LENGTH = 200;
+
+	/** バッチ実行用のセッションを作るためのファクトリ */
+	private final SqlSessionFactory sqlSessionFactory;
+
+	/** 苦手単語のランキング */
+	private final WeakWordTracker weakWordTracker;
+
+	/** 書き込み待ちの回答 */
+	private final BlockingQueue<QuizAnswer> queue;
+
+	/** 1回にまとめて書き込む件数 */
+	private final int batchSize;
+
+	/** 書き込むまでの最大待ち時間（ミリ秒） */
+	private final long flushIntervalMs;
+
+	/** キューに入れた件数 */
+	private final AtomicLong enqueuedCount = new AtomicLong();
+
+	/** キューが満杯で捨てた件数 */
+	private final AtomicLong droppedCount = new AtomicLong();
+
+	/** DB に書き込んだ件数 */
+	private final AtomicLong writtenCount = new AtomicLong();
+
+	/** 書き込みに失敗した件数 */
+	private final AtomicLong failedCount = new AtomicLong();
+
+	/** 書き込み（フラッシュ）の回数 */
+	private final AtomicLong flushCount = new AtomicLong();
+
+	/** 書き込みにかかった時間の合計（ナノ秒） */
+	private final AtomicLong totalFlushNanos = new AtomicLong();
+
+	/** 直近の書き込みにかかった時間（ナノ秒） */
+	private volatile long lastFlushNanos;
+
+	/** これまででいちばん長かった書き込み時間（ナノ秒） */
+	private volatile long maxFlushNanos;
+
+	/** 書き込みスレッドを動かし続けるかどうか */
+	private volatile boolean running;
+
+	/** 書き込みスレッド */
+	private Thread writer;
+
+
+    /**
+     * コンストラクタ。
+     * 設定値は application.properties から受け取る（未設定ならデフォルト値）。
+     */
+	public QuizAnswerRecorder(SqlSessionFactory sqlSessionFactory,
+							WeakWordTracker weakWordTracker,
+							@Value("${app.answer.queue-capacity:10000}") int queueCapacity,
+							@Value("${app.answer.batch-size:200}") int batchSize,
+							@Value("${app.answer.flush-interval-ms:1000}") long flushIntervalMs) {
+		this.sqlSessionFactory = sqlSessionFactory;
+		this.weakWordTracker = weakWordTracker;
+		this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+		this.batchSize = Math.max(1, batchSize);
+		this.flushIntervalMs = Math.max(10, flushIntervalMs);
+	}
+
+
+    /**
+     * 書き込みスレッドを起動する。
+     */
+	@PostConstruct
+	public void start() {
+		running = true;
+		writer = new Thread(this::runWriter, "quiz-answer-writer");
+		writer.setDaemon(true);
+		writer.start();
+	}
+
+
+    /**
+     * アプリ終了時に、キューに残っている回答を書き出してから書き込みスレッドを止める。
+     */
+	@PreDestroy
+	public void stop() throws InterruptedException {
+		running = false;
+		if (writer != null) {
+			writer.join(TimeUnit.SECONDS.toMillis(30));
+		}
+	}
+
+
+    /**
+     * 回答をキューに入れる（DB にはまだ書き込まない）。
+     *
+     * @param answer 回答
+     * @return キューに入れられたら true、満杯で捨てた場合は false
+     */
+	public boolean record(QuizAnswer answer) {
+		if (answer.getAnswer() != null && answer.getAnswer().length() > MAX_ANSWER_LENGTH) {
+			answer.setAnswer(answer.getAnswer().substring(0, MAX_ANSWER_LENGTH));
+		}
+
+		if (queue.offer(answer)) {
+			enqueuedCount.incrementAndGet();
+			return true;
+		}
+		droppedCount.incrementAndGet();
+		return false;
+	}
+
+
+    /**
+     * キューの件数や書き込み時間などの統計を返す。
+     * @return 項目名 → 値
+     */
+	public Map<String, Object> metrics() {
+		long flushes = flushCount.get();
+
+		Map<String, Object> metrics = new LinkedHashMap<>();
+		metrics.put("queueDepth", queue.size());
+		metrics.put("enqueued", enqueuedCount.get());
+		metrics.put("dropped", droppedCount.get());
+		metrics.put("written", writtenCount.get());
+		metrics.put("failed", failedCount.get());
+		metrics.put("flushes", flushes);
+		metrics.put("lastFlushMillis", lastFlushNanos / 1_000_000.0);
+		metrics.put("maxFlushMillis", maxFlushNanos / 1_000_000.0);
+		metrics.put("avgFlushMillis", flushes == 0 ? 0.0 : totalFlushNanos.get() / 1_000_000.0 / flushes);
+		return metrics;
+	}
+
+
+	/** 書き込みスレッドの本体。件数 or 時間のどちらかが条件を満たしたら書き込む。 */
+	private void runWriter() {
+		List<QuizAnswer> batch = new ArrayList<>(batchSize);
+		long deadline = 0; // batch の先頭が入ってから flushIntervalMs 後
+
+		while (running) {
+			try {
+				long waitMs = batch.isEmpty()
+						? flushIntervalMs
+						: Math.max(1, deadline - System.currentTimeMillis());
+				QuizAnswer answer = queue.poll(waitMs, TimeUnit.MILLISECONDS);
+				if (answer != null) {
+					if (batch.isEmpty()) {
+						deadline = System.currentTimeMillis() + flushIntervalMs;
+					}
+					int from = batch.size();
+					batch.add(answer);
+					queue.drainTo(batch, batchSize - batch.size());
+					track(batch.subList(from, batch.size()));	// ランキングは DB への書き込みを待たずに反映する
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+
+			if (batch.size() >= batchSize
+					|| (!batch.isEmpty() && System.currentTimeMillis() >= deadline)) {
+				flush(batch);
+				batch.clear();
+			}
+		}
+
+		// 終了時：キューに残っている分もすべて書き出す
+		int pending = batch.size();
+		queue.drainTo(batch);
+		track(batch.subList(pending, batch.size()));
+		for (int from = 0; from < batch.size(); from += batchSize) {
+			flush(batch.subList(from, Math.min(from + batchSize, batch.size())));
+		}
+	}
+
+
+	/** キューから取り出した回答を苦手単語のランキングに反映する（失敗しても DB への書き込みは続ける）。 */
+	private void track(List<QuizAnswer> answers) {
+		for (QuizAnswer answer : answers) {
+			try {
+				weakWordTracker.onAnswer(answer);
+			} catch (RuntimeException e) {
+				log.warn("苦手単語のランキングを更新できませんでした: {}", e.getMessage());
+			}
+		}
+	}
+
+
+	/** まとめて INSERT する（JDBC のバッチ実行）。 */
+	private void flush(List<QuizAnswer> batch) {
+		long start = System.nanoTime();
+		try (SqlSession session = sqlSessionFactory.openSession(ExecutorType.BATCH, false)) {
+			QuizAnswerMapper mapper = session.getMapper(QuizAnswerMapper.class);
+			for (QuizAnswer answer : batch) {
+				mapper.insert(answer);
+			}
+			session.flushStatements();
+			session.commit();
+			writtenCount.addAndGet(batch.size());
+		} catch (RuntimeException e) {
+			failedCount.addAndGet(batch.size());
+			log.warn("クイズの回答 {} 件の書き込みに失敗しました: {}", batch.size(), e.getMessage());
+		}
+
+		long elapsed = System.nanoTime() - start;
+		flushCount.incrementAndGet();
+		totalFlushNanos.addAndGet(elapsed);
+		lastFlushNanos = elapsed;
+		if (elapsed > maxFlushNanos) {
+			maxFlushNanos = elapsed;
+		}
+	}
+
+}
@@ -0,0 +1,223 @@
+package com.example.app.service;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.app.domain.QuizQuestion;
+
+/**
+ * 4択クイズの問題を前もって作っておき、リクエスト時には取り出すだけにするサービス。
+ *
+ * - バックグラウンドのスレッド（producer）が WordService でまとめて問題を作り、リングバッファに詰めておく
+ * - Controller は take() で1問取り出すだけなので、リクエスト処理中に DB へアクセスしない
+ * - 残りが refill-threshold を下回ったら producer に補充を依頼する（定期チェックでも補充する）
+ * - バッファが空のとき（起動直後やアクセス集中時）は、その場で1問作って返す
+ * - 単語が更新・削除されたら世代番号を進めてバッファを空にする。補充中に世代が変わった場合、
+ *   作りかけの問題は古い単語で作られているかもしれないので、バッファに入れずに捨てる
+ *
+ * 設定（application.properties）:
+ *   - app.quiz.pool.enabled            : false にするとプールを使わず毎回その場で作る
+ *   - app.quiz.pool.capacity           : ためておく問題数の上限
+ *   - app.quiz.pool.refill-threshold   : 残りがこの数を下回ったら補充する
+ *   - app.quiz.pool.refill-interval-ms : 定期チェックの間隔（ミリ秒）
+ */
+@Service
+public class QuizQuestionPool {
+
+	private static final Logger log = LoggerFactory.getLogger(QuizQuestionPool.class);
+
+	/** 問題を作るためのサービス */
+	private final WordService wordService;
+
+	/** プールを使うかどうか */
+	private final boolean enabled;
+
+	/** ためておく問題数の上限 */
+	private final int capacity;
+
+	/** 残りがこの数を下回ったら補充する */
+	private final int refillThreshold;
+
+	/** 定期チェックの間隔（ミリ秒） */
+	private final long refillIntervalMs;
+
+	/** 作成済みの問題を入れておくリングバッファ */
+	private final QuizQuestionRingBuffer buffer;
+
+	/** 世代番号（単語が更新・削除されるたびに1つ進める。補充中の問題が古くなったかの判定用） */
+	private final AtomicLong generation = new AtomicLong();
+
+	/** 補充を依頼済みかどうか（依頼が何重にも積まれないようにする） */
+	private final AtomicBoolean refillRequested = new AtomicBoolean(false);
+
+	/** 問題を作るバックグラウンドスレッド */
+	private ScheduledExecutorService producer;
+
+
+    /**
+     * コンストラクタ。
+     * 設定値は application.properties から受け取る（未設定ならデフォルト値）。
+     */
+	public QuizQuestionPool(WordService wordService,
+							@Value("${app.quiz.pool.enabled:true}") boolean enabled,
+							@Value("${app.quiz.pool.capacity:256}") int capacity,
+							@Value("${app.quiz.pool.refill-threshold:64}") int refillThreshold,
+							@Value("${app.quiz.pool.refill-interval-ms:1000}") long refillIntervalMs) {
+		this.wordService = wordService;
+		this.enabled = enabled;
+		this.capacity = Math.max(1, capacity);
+		this.refillThreshold = Math.min(Math.max(0, refillThreshold), this.capacity);
+		this.refillIntervalMs = Math.max(100, refillIntervalMs);
+		this.buffer = new QuizQuestionRingBuffer(this.capacity);
+	}
+
+
+    /**
+     * producer スレッドを起動する。
+     * 最初の補充も定期チェックで行うので、起動時に DB へ接続できなくてもアプリは立ち上がる。
+     */
+	@PostConstruct
+	public void start() {
+		if (!enabled) {
+			return;
+		}
+
+		producer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "quiz-question-producer");
+			thread.setDaemon(true);
+			return thread;
+		});
+		producer.scheduleWithFixedDelay(this::refill, 0, refillIntervalMs, TimeUnit.MILLISECONDS);
+	}
+
+
+    /**
+     * アプリ終了時に producer スレッドを止める。
+     */
+	@PreDestroy
+	public void stop() {
+		if (producer != null) {
+			producer.shutdownNow();
+		}
+	}
+
+
+    /**
+     * 4択クイズを1問取り出す。
+     *
+     * @return クイズ1問（単語が1件も登録されていない場合は null）
+     */
+	public QuizQuestion take() {
+		if (!enabled) {
+			return wordService.createQuizQuestion();
+		}
+
+		QuizQuestion question = buffer.poll();
+
+		// 残りが少なくなったら補充を依頼する
+		if (buffer.size() < refillThreshold) {
+			requestRefill();
+		}
+
+		if (question == null) {
+			// バッファが空（起動直後やアクセス集中時）→ その場で作る
+			return wordService.createQuizQuestion();
+		}
+		return question;
+	}
+
+
+    /**
+     * 現在バッファにたまっている問題数を返す。
+     * @return 問題数
+     */
+	public int size() {
+		return buffer.size();
+	}
+
+
+    /**
+     * 単語が更新・削除されたら、作り置きの問題を捨てる（古い内容の問題を出さないため）。
+     * 先に世代番号を進めるので、補充中の問題もバッファには入らない。
+     * 新規登録のときは、既存の問題はそのまま使える。
+     *
+     * @param event 変更内容
+     */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onWordChanged(WordChangedEvent event) {
+		if (event.type() == WordChangedEvent.Type.CREATED) {
+			return;
+		}
+		generation.incrementAndGet();
+		clear();
+		requestRefill();
+	}
+
+
+	/** バッファを空にする。 */
+	private void clear() {
+		while (buffer.poll() != null) {
+			// 空になるまで取り出して捨てる
+		}
+	}
+
+
+	/** producer スレッドに補充を依頼する（依頼済みなら何もしない）。 */
+	private void requestRefill() {
+		if (producer != null && refillRequested.compareAndSet(false, true)) {
+			try {
+				producer.execute(this::refill);
+			} catch (RuntimeException e) {
+				// 終了処理中などで受け付けられなかった場合
+				refillRequested.set(false);
+			}
+		}
+	}
+
+
+	/** 上限までバッファに問題を詰める（producer スレッドで実行される）。 */
+	private void refill() {
+		refillRequested.set(false);
+		try {
+			while (buffer.size() < capacity) {
+				// 足りない分をまとめて作る（何問でも DB へのクエリは1回）
+				long current = generation.get();
+				int missing = Math.min(capacity - buffer.size(), WordService.MAX_QUIZ_BATCH_SIZE);
+				List<QuizQuestion> batch = wordService.createQuizQuestions(missing);
+				if (batch.isEmpty()) {
+					return; // 単語が1件もない
+				}
+				for (QuizQuestion question : batch) {
+					if (generation.get() != current) {
+						break; // 作っている間に単語が変わった → 残りは捨てて作り直す
+					}
+					if (!buffer.offer(question)) {
+						return; // 満杯
+					}
+					if (generation.get() != current) {
+						// 入れる直前に onWordChanged がバッファを空にしていた場合に備えて、もう一度空にする
+						clear();
+						break;
+					}
+				}
+			}
+		} catch (RuntimeException e) {
+			// DB に接続できないなど。次回の定期チェックで再挑戦する
+			log.warn("クイズ問題の補充に失敗しました: {}", e.getMessage());
+		}
+	}
+
+}
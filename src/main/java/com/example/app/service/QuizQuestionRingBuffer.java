@@ -0,0 +1,131 @@
+package com.example.app.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.example.app.domain.QuizQuestion;
+
+/**
+ * 作成済みのクイズ問題をためておく、固定長・ロックフリーのリングバッファ。
+ *
+ * 複数スレッドから同時に offer / poll してよい（MPMC）。
+ * 各スロットに「何周目の何番目か」を表すシーケンス番号を持たせ、
+ * head / tail の CAS だけで出し入れする（synchronized は使わない）。
+ *
+ * 容量は 2 のべき乗に切り上げる（添字計算をビットマスクで済ませるため）。
+ */
+final class QuizQuestionRingBuffer {
+
+	/** 問題を入れておくスロット */
+	private final AtomicReferenceArray<QuizQuestion> slots;
+
+	/** スロットごとのシーケンス番号 */
+	private final AtomicLongArray sequences;
+
+	/** 添字計算用のマスク（容量 - 1） */
+	private final int mask;
+
+	/** 次に取り出す位置 */
+	private final AtomicLong head = new AtomicLong();
+
+	/** 次に入れる位置 */
+	private final AtomicLong tail = new AtomicLong();
+
+
+	/**
+	 * @param requestedCapacity 希望する容量（2 のべき乗に切り上げる）
+	 */
+	QuizQuestionRingBuffer(int requestedCapacity) {
+		int capacity = requestedCapacity <= 2 ? 2 : Integer.highestOneBit(requestedCapacity - 1) << 1;
+
+		this.slots = new AtomicReferenceArray<>(capacity);
+		this.sequences = new AtomicLongArray(capacity);
+		this.mask = capacity - 1;
+
+		for (int i = 0; i < capacity; i++) {
+			sequences.set(i, i);
+		}
+	}
+
+
+	/**
+	 * 問題を1件入れる。
+	 * @param question 入れる問題
+	 * @return 入れられたら true、満杯なら false
+	 */
+	boolean offer(QuizQuestion question) {
+		long pos = tail.get();
+		for (;;) {
+			int index = (int) (pos & mask);
+			long diff = sequences.get(index) - pos;
+
+			if (diff == 0) {
+				// このスロットは空いている → tail を進められたら自分のもの
+				if (tail.compareAndSet(pos, pos + 1)) {
+					slots.set(index, question);
+					sequences.set(index, pos + 1); // 取り出し側に「入った」ことを知らせる
+					return true;
+				}
+				pos = tail.get();
+			} else if (diff < 0) {
+				// 1周前の問題がまだ取り出されていない → 満杯
+				return false;
+			} else {
+				// 他のスレッドに先を越された
+				pos = tail.get();
+			}
+		}
+	}
+
+
+	/**
+	 * 問題を1件取り出す。
+	 * @return 取り出した問題。空なら null
+	 */
+	QuizQuestion poll() {
+		long pos = head.get();
+		for (;;) {
+			int index = (int) (pos & mask);
+			long diff = sequences.get(index) - (pos + 1);
+
+			if (diff == 0) {
+				// このスロットには問題が入っている → head を進められたら自分のもの
+				if (head.compareAndSet(pos, pos + 1)) {
+					QuizQuestion question = slots.getAndSet(index, null);
+					sequences.set(index, pos + mask + 1); // 次の周回の書き込み側に明け渡す
+					return question;
+				}
+				pos = head.get();
+			} else if (diff < 0) {
+				// まだ何も入っていない → 空
+				return null;
+			} else {
+				pos = head.get();
+			}
+		}
+	}
+
+
+	/**
+	 * おおよその件数を返す（同時に出し入れされている間は目安）。
+	 * @return 入っている問題の件数
+	 */
+	int size() {
+		long size = tail.get() - head.get();
+		if (size < 0) {
+			return 0;
+		}
+		return (int) Math.min(size, capacity());
+	}
+
+
+	/**
+	 * 実際の容量（2 のべき乗）を返す。
+	 * @return 容量
+	 */
+	int capacity() {
+		return mask + 1;
+	}
+
+}
@@ -0,0 +1,105 @@
+package com.example.app.service;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.example.app.domain.Word;
+import com.example.app.mapper.WordMapper;
+
+/**
+ * word テーブルの検索用の正規化カラム（english_norm / japanese_norm）が空の行を埋めるサービス。
+ *
+ * 単語の登録・更新では WordMapper.xml の insert / update が正規化カラムも書くが、
+ * カラムを追加する前から入っていた行（以前の data.sql で入れた行など）は '' のままなので、アプリ起動完了時に埋める。
+ * 一度に読む件数を決めて、id の順に少しずつ進める（大きなテーブルでも一度に全件は読まない）。
+ *
+ * 設定（application.properties）:
+ *   - app.search.backfill.enabled    : 起動時に埋めるかどうか
+ *   - app.search.backfill.batch-size : 一度に読む件数
+ */
+@Service
+public class SearchKeyBackfill {
+
+	private static final Logger log = LoggerFactory.getLogger(SearchKeyBackfill.class);
+
+	/** word テーブルにアクセスするためのマッパー */
+	private final WordMapper wordMapper;
+
+	/** 検索結果のキャッシュを使われなくするための版番号 */
+	private final WordTableVersion wordTableVersion;
+
+	/** 起動時に埋めるかどうか */
+	private final boolean enabled;
+
+	/** 一度に読む件数 */
+	private final int batchSize;
+
+
+    /**
+     * コンストラクタ。
+     * 設定値は application.properties から受け取る（未設定ならデフォルト値）。
+     */
+	public SearchKeyBackfill(WordMapper wordMapper,
+							WordTableVersion wordTableVersion,
+							@Value("${app.search.backfill.enabled:true}") boolean enabled,
+							@Value("${app.search.backfill.batch-size:500}") int batchSize) {
+		this.wordMapper = wordMapper;
+		this.wordTableVersion = wordTableVersion;
+		this.enabled = enabled;
+		this.batchSize = Math.max(1, batchSize);
+	}
+
+
+    /**
+     * アプリの起動が終わったら、正規化カラムが空の行を埋める。
+     * DB に接続できなかった場合は何もしない（次回の起動時にまた埋める）。
+     */
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfillOnStartup() {
+		if (!enabled) {
+			return;
+		}
+		try {
+			int updated = backfill();
+			if (updated > 0) {
+				log.info("検索用の正規化カラムを {} 件埋めました", updated);
+			}
+		} catch (RuntimeException e) {
+			log.warn("検索用の正規化カラムを埋められませんでした: {}", e.getMessage());
+		}
+	}
+
+
+    /**
+     * 正規化カラムが空の行をすべて埋める。
+     * @return 更新した件数
+     */
+	public int backfill() {
+		int updated = 0;
+		long lastId = 0;
+		while (true) {
+			List<Word> words = wordMapper.findWithoutSearchKeys(lastId, batchSize);
+			for (Word word : words) {
+				updated += wordMapper.updateSearchKeys(word.getId(),
+						SearchKeyNormalizer.normalize(word.getEnglish()),
+						SearchKeyNormalizer.normalize(word.getJapanese()));
+				lastId = word.getId();
+			}
+			if (words.size() < batchSize) {
+				break;
+			}
+		}
+		if (updated > 0) {
+			// 埋める前の（正規化カラムが空の）状態で作ったキャッシュを使わないようにする
+			wordTableVersion.advance();
+		}
+		return updated;
+	}
+
+}
@@ -0,0 +1,71 @@
+package com.example.app.service;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 検索・比較用に文字列を正規化する（全アプリ共通のルール）。
+ *
+ * UserInputQuizController.normalizeForCompare（全角スペース → 半角、前後の空白を除去、小文字化）をもとに、検索用に広げたもの。
+ * ※ 入力クイズの採点は、今までどおり normalizeForCompare の狭いルールで比べる（ここは使わない）。
+ *    NFKC やカタカナ → ひらがなまでそろえると、全角の英字で入力した答えなども正解になってしまうため。
+ *   1. Unicode の NFKC 正規化：全角英数字 → 半角、半角カタカナ → 全角、全角スペース → 半角 など
+ *   2. 前後の空白を除去
+ *   3. カタカナ → ひらがな（「リンゴ」と「りんご」を同じものとして扱う）
+ *   4. 小文字化
+ *
+ * DB の english_norm / japanese_norm カラムにもこの結果を保存しておき（WordMapper.xml の bind から呼ぶ）、
+ * 検索キーワードにも同じ正規化をかけてから比べる。
+ * SQL の中で正規化しないので、検索条件はそのままカラムの値と比べるだけで済む。
+ *
+ * NFKC は1文字が何文字にも広がることがある（「㍿」→「株式会社」、U+FDFA は 18 文字）。
+ * english / japanese が 200 文字以内でも正規化すると正規化カラム（VARCHAR(200)）に入らないことがあるので、
+ * 結果は MAX_LENGTH 文字（コードポイント数。MySQL の文字数と同じ数え方）で切る。
+ * メモリ上の索引もキーワードも同じところで切るので、どの検索方式でも結果はそろう。
+ */
+public final class SearchKeyNormalizer {
+
+	/** 正規化した文字列の最大の長さ（文字数）。DB の english_norm / japanese_norm（VARCHAR(200)）に合わせる */
+	public static final int MAX_LENGTH = 200;
+
+	/** カタカナとひらがなのコードポイントの差（ア U+30A2 → あ U+3042） */
+	private static final int KATAKANA_TO_HIRAGANA = 0x60;
+
+	private SearchKeyNormalizer() {
+	}
+
+
+    /**
+     * 検索・比較用に正規化する。
+     * @param src 元の文字列（null は空文字として扱う）
+     * @return 正規化した文字列（MAX_LENGTH 文字まで）
+     */
+	public static String normalize(String src) {
+		if (src == null) {
+			return "";
+		}
+
+		String nfkc = Normalizer.normalize(src, Normalizer.Form.NFKC).strip();
+
+		StringBuilder sb = new StringBuilder(nfkc.length());
+		for (int i = 0; i < nfkc.length(); i++) {
+			char c = nfkc.charAt(i);
+			// ァ(U+30A1)〜ヴ(U+30F4) はひらがなに寄せる（「ヶ月」の「ヶ」や長音「ー」などはそのまま）
+			if (c >= 'ァ' && c <= 'ヴ') {
+				c = (char) (c - KATAKANA_TO_HIRAGANA);
+			}
+			sb.append(c);
+		}
+		return truncate(sb.toString().toLowerCase(Locale.ROOT));
+	}
+
+
+	/** MAX_LENGTH 文字（コードポイント数）を超える分を切り捨てる（サロゲートペアの途中では切らない）。 */
+	private static String truncate(String text) {
+		if (text.length() <= MAX_LENGTH || text.codePointCount(0, text.length()) <= MAX_LENGTH) {
+			return text;
+		}
+		return text.substring(0, text.offsetByCodePoints(0, MAX_LENGTH));
+	}
+
+}
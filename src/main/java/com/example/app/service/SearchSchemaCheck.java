@@ -0,0 +1,156 @@
+package com.example.app.service;
+
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import com.example.app.mapper.WordMapper;
+
+/**
+ * キーワード検索が前提にしている DB の設定を、アプリ起動時に確かめるサービス。
+ *
+ * 単語の登録・更新・検索の SQL は、検索用の正規化カラム（english_norm / japanese_norm）を使う。
+ * カラムを追加する前の DB のままだと、単語の登録や検索のたびに SQL エラーになるので、起動時に確かめる
+ * （追加する ALTER TABLE は schema.sql のコメントを参照）。
+ *
+ * 全文検索（app.search.mode=fulltext）は、FULLTEXT インデックス ft_word_text で候補を絞ってから LIKE で確認する。
+ * そのため、索引に載らない n-gram があると、LIKE 検索なら見つかる単語が見つからなくなる。
+ *
+ * - ストップワード：MySQL の既定では「in」「is」「the」などを含む n-gram は索引に載らない。
+ *   innodb_ft_enable_stopword=OFF にするか、innodb_ft_server_stopword_table に空のテーブルを指定すること
+ * - ngram_token_size：app.search.ngram-token-size と同じ値であること（違うとキーワードの長さの判定がずれる）
+ * - ft_word_text：schema.sql の CREATE TABLE では作らない（全文検索を使うときだけ ALTER TABLE で作る）ので、あることを確かめる
+ *
+ * 正規化カラムが無い場合と、全文検索の前提のどれかが満たされていない場合は、起動を失敗させる
+ * （検索結果が黙って欠けたり、画面を開くたびにエラーになったりするのを避けるため）。
+ * DB に接続できなかった場合は警告だけ出す（他の起動時処理と同じ）。
+ *
+ * ※ ストップワードの設定は、FULLTEXT インデックスを作ったときのものが使われる。
+ *    設定を変えたら ft_word_text を作り直すこと（schema.sql のコメントを参照）。
+ */
+@Service
+public class SearchSchemaCheck {
+
+	private static final Logger log = LoggerFactory.getLogger(SearchSchemaCheck.class);
+
+	/** innodb_ft_server_stopword_table の値（「db/table」）。名前は英数字・_・$ だけを許す */
+	private static final Pattern STOPWORD_TABLE = Pattern.compile("([0-9A-Za-z_$]+)/([0-9A-Za-z_$]+)");
+
+	/** word テーブルにアクセスするためのマッパー */
+	private final WordMapper wordMapper;
+
+	/** キーワード検索の方式（app.search.mode） */
+	private final String searchMode;
+
+	/** アプリ側の ngram_token_size（app.search.ngram-token-size） */
+	private final int ngramTokenSize;
+
+
+    /**
+     * コンストラクタ。
+     * 設定値は application.properties から受け取る（未設定ならデフォルト値。WordService と同じ）。
+     */
+	public SearchSchemaCheck(WordMapper wordMapper,
+							@Value("${app.search.mode:index}") String searchMode,
+							@Value("${app.search.ngram-token-size:2}") int ngramTokenSize) {
+		this.wordMapper = wordMapper;
+		this.searchMode = searchMode;
+		this.ngramTokenSize = Math.max(1, ngramTokenSize);
+	}
+
+
+    /**
+     * アプリの起動が終わったら、DB の設定を確かめる。
+     * 初期データの読み込みや索引づくりより先に動かす。
+     *
+     * @throws IllegalStateException 正規化カラムが無い場合、または全文検索の前提（索引・設定）が満たされていない場合
+     */
+	@EventListener(ApplicationReadyEvent.class)
+	@Order(Ordered.HIGHEST_PRECEDENCE)
+	public void checkOnStartup() {
+		boolean fulltext = WordService.SEARCH_MODE_FULLTEXT.equals(searchMode);
+		int searchKeyColumns;
+		int fulltextIndexColumns = 0;
+		Map<String, Object> settings = null;
+		try {
+			searchKeyColumns = wordMapper.countSearchKeyColumns();
+			if (fulltext) {
+				fulltextIndexColumns = wordMapper.countFulltextIndexColumns();
+				settings = wordMapper.findFulltextSettings();
+			}
+		} catch (RuntimeException e) {
+			log.warn("検索に使う DB の設定を確認できませんでした: {}", e.getMessage());
+			return;
+		}
+
+		if (searchKeyColumns < 2) {
+			throw new IllegalStateException("word テーブルに検索用の正規化カラム（english_norm / japanese_norm）がありません"
+					+ "（schema.sql のコメントにある ALTER TABLE を実行してください）");
+		}
+		if (fulltext && fulltextIndexColumns < 2) {
+			throw new IllegalStateException("全文検索（app.search.mode=fulltext）には word テーブルの FULLTEXT インデックス ft_word_text が必要です"
+					+ "（schema.sql のコメントにある ALTER TABLE を実行してください）");
+		}
+		if (settings != null) {
+			checkFulltext(settings);
+		}
+	}
+
+
+	/** 全文検索の前提（ストップワードなし・ngram_token_size が同じ）を確かめる。 */
+	private void checkFulltext(Map<String, Object> settings) {
+		int dbTokenSize = intOf(settings.get("ngramTokenSize"));
+		if (dbTokenSize != ngramTokenSize) {
+			throw new IllegalStateException("DB の ngram_token_size（" + dbTokenSize
+					+ "）と app.search.ngram-token-size（" + ngramTokenSize + "）が違います");
+		}
+
+		if (intOf(settings.get("enableStopword")) == 0) {
+			return;
+		}
+		Object table = settings.get("serverStopwordTable");
+		if (table == null || table.toString().isEmpty()) {
+			throw new IllegalStateException("全文検索では innodb_ft_enable_stopword=OFF にするか、"
+					+ "innodb_ft_server_stopword_table に空のテーブルを指定してください"
+					+ "（既定のストップワードを含む n-gram は索引に載らず、検索結果から漏れます）");
+		}
+		Matcher m = STOPWORD_TABLE.matcher(table.toString());
+		if (!m.matches()) {
+			log.warn("innodb_ft_server_stopword_table（{}）の中身を確認できませんでした", table);
+			return;
+		}
+		int rows = wordMapper.countStopwords("`" + m.group(1) + "`.`" + m.group(2) + "`");
+		if (rows > 0) {
+			throw new IllegalStateException("全文検索では innodb_ft_server_stopword_table（" + table
+					+ "）を空にしてください（" + rows + " 語のストップワードを含む n-gram が、検索結果から漏れます）");
+		}
+	}
+
+
+	private static int intOf(Object value) {
+		if (value instanceof Number number) {
+			return number.intValue();
+		}
+		if (value == null) {
+			return 0;
+		}
+		String text = value.toString();
+		if ("ON".equalsIgnoreCase(text)) {
+			return 1;
+		}
+		if ("OFF".equalsIgnoreCase(text)) {
+			return 0;
+		}
+		return Integer.parseInt(text);
+	}
+
+}
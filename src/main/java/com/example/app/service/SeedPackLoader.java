@@ -0,0 +1,243 @@
+package com.example.app.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.app.domain.SeedPack;
+import com.example.app.domain.WordImportResult;
+import com.example.app.mapper.SeedPackMapper;
+import com.example.app.mapper.WordMapper;
+
+/**
+ * 初期データの単語パック（resources/seed/*.csv.gz）を、アプリ起動時に word テーブルへ読み込むサービス。
+ *
+ * 以前の data.sql は巨大な INSERT 1文を spring.sql.init で流していたので、
+ * 途中で失敗すると全部やり直しになり、リモートの MySQL では時間もかかった。ここでは次のようにする。
+ *
+ * - パックは gzip で圧縮した CSV（english,japanese）。中身は WordImportService#importWordsInTransaction で取り込む
+ *   （JDBC のバッチ＋rewriteBatchedStatements=true で、複数行の INSERT にまとめて送られる）
+ * - 1パックを1つのトランザクションで読み込み、seed_pack に「ファイル名・内容の SHA-256・件数・時間」を記録する
+ *   （途中で DB のエラーが起きたパックは、単語も記録も残らないので、次回の起動時にもう一度読み込む）
+ * - ハッシュは展開後の CSV から求める（同じ CSV なら、圧縮の設定が変わっても同じパックとみなす）。
+ *   以前の版が記録した、圧縮したままのファイルのハッシュとも比べる
+ * - 記録済みで同じハッシュのパックは読み飛ばすので、何度起動しても単語が重複しない
+ * - 記録済みのパックの内容が変わっていた場合は、重複を避けるため読み込まずに警告だけ出す
+ *   （追加の単語は、新しいファイル名のパックにするか、管理画面の一括登録で入れる）
+ * - seed_pack が空なのに word に単語がある DB（data.sql で作った環境など）では、読み込まずに記録だけする
+ * - 他の起動時処理（メモリ上の索引づくりなど）より先に動かす
+ *
+ * 設定（application.properties）:
+ *   - app.seed.enabled  : 起動時に読み込むかどうか
+ *   - app.seed.location : パックの場所（Spring のリソースのパターン）
+ */
+@Service
+public class SeedPackLoader {
+
+	private static final Logger log = LoggerFactory.getLogger(SeedPackLoader.class);
+
+	/** seed_pack テーブルにアクセスするためのマッパー */
+	private final SeedPackMapper seedPackMapper;
+
+	/** word テーブルにアクセスするためのマッパー（既に単語があるかの確認用） */
+	private final WordMapper wordMapper;
+
+	/** CSV を取り込むサービス */
+	private final WordImportService wordImportService;
+
+	/** 1パック分のトランザクション */
+	private final TransactionTemplate transactionTemplate;
+
+	/** 起動時に読み込むかどうか */
+	private final boolean enabled;
+
+	/** パックの場所 */
+	private final String location;
+
+	/** 直近の起動時の読み込み結果（管理者向けの統計用） */
+	private volatile Map<String, Object> lastReport = Map.of();
+
+
+    /**
+     * コンストラクタ。
+     * 設定値は application.properties から受け取る（未設定ならデフォルト値）。
+     */
+	public SeedPackLoader(SeedPackMapper seedPackMapper,
+						WordMapper wordMapper,
+						WordImportService wordImportService,
+						PlatformTransactionManager transactionManager,
+						@Value("${app.seed.enabled:true}") boolean enabled,
+						@Value("${app.seed.location:classpath*:seed/*.csv.gz}") String location) {
+		this.seedPackMapper = seedPackMapper;
+		this.wordMapper = wordMapper;
+		this.wordImportService = wordImportService;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.enabled = enabled;
+		this.location = location;
+	}
+
+
+    /**
+     * アプリの起動が終わったら、まだ読み込んでいないパックを読み込む。
+     * DB に接続できなかった場合などは何もしない（次回の起動時にまた読み込む）。
+     */
+	@EventListener(ApplicationReadyEvent.class)
+	@Order(Ordered.HIGHEST_PRECEDENCE + 1)	// DB の設定の確認（SearchSchemaCheck）の次、索引づくりなどより先に単語を入れておく
+	public void loadOnStartup() {
+		if (!enabled) {
+			return;
+		}
+		try {
+			loadAll();
+		} catch (IOException | RuntimeException e) {
+			log.warn("初期データの単語パックを読み込めませんでした: {}", e.getMessage());
+		}
+	}
+
+
+    /**
+     * パックをファイル名の順にすべて確認し、まだ読み込んでいないものを読み込む。
+     *
+     * @return パックごとの結果（name / status / rows / millis）
+     * @throws IOException パックの一覧を取得できなかった場合
+     */
+	public List<Map<String, Object>> loadAll() throws IOException {
+		long start = System.nanoTime();
+		Resource[] resources = new PathMatchingResourcePatternResolver().getResources(location);
+		Arrays.sort(resources, Comparator.comparing(Resource::getFilename, Comparator.nullsFirst(Comparator.naturalOrder())));
+
+		// 単語はあるのに一度もパックを読み込んでいない DB は、別の方法で初期データを入れた環境とみなす
+		boolean existingData = resources.length > 0 && seedPackMapper.countAll() == 0 && wordMapper.countAll() > 0;
+
+		List<Map<String, Object>> packs = new ArrayList<>();
+		for (Resource resource : resources) {
+			packs.add(load(resource, existingData));
+		}
+
+		long totalMillis = (System.nanoTime() - start) / 1_000_000;
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put("totalMillis", totalMillis);
+		report.put("packs", packs);
+		lastReport = report;
+
+		if (!packs.isEmpty()) {
+			log.info("初期データの単語パック {} 件を確認しました（{} ms）", packs.size(), totalMillis);
+		}
+		return packs;
+	}
+
+
+    /**
+     * 直近の起動時の読み込み結果を返す（管理者向けの統計用）。
+     * @return totalMillis と、パックごとの結果
+     */
+	public Map<String, Object> stats() {
+		return lastReport;
+	}
+
+
+	/** パック1つを確認して、必要なら読み込む。 */
+	private Map<String, Object> load(Resource resource, boolean existingData) {
+		String name = resource.getFilename();
+		long start = System.nanoTime();
+		try {
+			byte[] compressed;
+			try (InputStream in = resource.getInputStream()) {
+				compressed = in.readAllBytes();
+			}
+			byte[] content;
+			try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+				content = in.readAllBytes();	// ハッシュと読み込みで2回使う
+			}
+			String hash = sha256(content);
+
+			SeedPack loaded = seedPackMapper.findByName(name);
+			if (loaded != null) {
+				// 以前の版は、圧縮したままのファイルのハッシュを記録していた
+				if (!loaded.getContentHash().equals(hash) && !loaded.getContentHash().equals(sha256(compressed))) {
+					log.warn("初期データの単語パック {} の内容が、読み込んだときから変わっています（重複を避けるため読み込みません）", name);
+					return report(name, "changed", 0, start);
+				}
+				return report(name, "skipped", 0, start);
+			}
+
+			if (existingData) {
+				seedPackMapper.insert(new SeedPack(name, hash, 0, 0, LocalDateTime.now()));
+				log.info("初期データの単語パック {} は、既に単語がある DB のため読み込まずに記録だけしました", name);
+				return report(name, "existing", 0, start);
+			}
+
+			// 単語の登録と記録を1つのトランザクションにする（DB のエラーはそのまま投げられて、両方とも取り消される）
+			WordImportResult result = transactionTemplate.execute(status -> {
+				try (InputStream in = new ByteArrayInputStream(content)) {
+					WordImportResult imported = wordImportService.importWordsInTransaction(in, csvNameOf(name));
+					seedPackMapper.insert(new SeedPack(name, hash, imported.getImportedRows(),
+							(System.nanoTime() - start) / 1_000_000, LocalDateTime.now()));
+					return imported;
+				} catch (IOException e) {
+					throw new IllegalStateException(e.getMessage(), e);
+				}
+			});
+
+			log.info("初期データの単語パック {} を読み込みました: {} 行を登録、{} 行はエラー（{} ms, {} 行/秒）",
+					name, result.getImportedRows(), result.getErrorRows(),
+					result.getElapsedMillis(), result.getRowsPerSecond());
+			return report(name, "loaded", result.getImportedRows(), start);
+
+		} catch (IOException | RuntimeException e) {
+			// 1つのトランザクションなので、このパックの単語も記録も残らない（次回の起動時にもう一度読み込む）
+			log.warn("初期データの単語パック {} を読み込めませんでした: {}", name, e.getMessage());
+			return report(name, "failed", 0, start);
+		}
+	}
+
+
+	private static Map<String, Object> report(String name, String status, long rows, long start) {
+		Map<String, Object> pack = new LinkedHashMap<>();
+		pack.put("name", name);
+		pack.put("status", status);
+		pack.put("rows", rows);
+		pack.put("millis", (System.nanoTime() - start) / 1_000_000);
+		return pack;
+	}
+
+
+	/** 「words.csv.gz」→「words.csv」（WordImportService が拡張子で区切り文字を決めるため）。 */
+	private static String csvNameOf(String name) {
+		return name != null && name.endsWith(".gz") ? name.substring(0, name.length() - 3) : name;
+	}
+
+
+	private static String sha256(byte[] content) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);	// SHA-256 はどの JVM にもある
+		}
+	}
+
+}
@@ -0,0 +1,165 @@
+package com.example.app.service;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 単語を「重複なし・ランダムな順番」で1周するための山札（セッションに保存して使う）。
+ *
+ * 周の始めに、その時点の全単語の id の最小値と最大値を覚え、その範囲の値（minId 〜 minId+span-1）を
+ * Feistel ネットワーク（seed から作る全単射）で並べ替えた順に1つずつ調べて、
+ * 現在の id 配列（WordIdSampler#ids。昇順）にある値だけを出す。
+ * 並べ替えた順列も id 配列も持たないので、山札ごとに持つのは minId / span / seed / cursor の4つの数だけ
+ * （セッション数 × 単語数のメモリを使わない）。
+ *
+ * - 1周の途中で削除された単語は、その時点で読み飛ばす（引かれない）
+ * - 1周の途中で追加された単語は、id が範囲より大きいので次の周から出る
+ * - 範囲の中の欠番（削除済みの id）も読み飛ばす。欠番が多いほど1枚引くのに調べる値が増える
+ * - 1周し終わったら、その時点の id 配列と新しい seed で次の周を始める
+ * - 持っているのは数だけなので、セッションの保存先から復元された山札も周の続きから引ける
+ * - 画面側で先読みして使わなかった id は putBack で戻せる（次に引くときに、同じ順番でもう一度出る）
+ */
+public class ShuffledDeck implements Serializable {
+
+	private static final long serialVersionUID = 3L;
+
+	/** Feistel ネットワークのラウンド数 */
+	private static final int ROUNDS = 4;
+
+	/** この周で調べる id の範囲の先頭（周の始めの時点の最小の id） */
+	private long minId;
+
+	/** この周で調べる id の範囲の長さ（周の始めの時点の 最大の id - 最小の id + 1。まだ始めていなければ 0） */
+	private int span;
+
+	/** 並べ替えの種。周ごとに作り直す */
+	private long seed;
+
+	/** この周で範囲のいくつ目まで調べたか */
+	private int cursor;
+
+
+	/**
+	 * 次に出す単語の id を返す。
+	 *
+	 * @param currentIds 現在の全単語の id（WordIdSampler#ids。昇順）
+	 * @return 単語の id。単語が1件もない場合は null
+	 */
+	public synchronized Long nextId(long[] currentIds) {
+		if (currentIds.length == 0) {
+			return null;
+		}
+
+		while (true) {
+			// 1周し終わった（またはまだ始めていない）→ 今の id 配列で新しい周を始める。
+			// 範囲の両端は配列にある id なので、新しい周では必ず1枚以上引ける
+			if (cursor >= span) {
+				minId = currentIds[0];
+				span = (int) Math.min(currentIds[currentIds.length - 1] - minId + 1, Integer.MAX_VALUE);
+				seed = ThreadLocalRandom.current().nextLong();
+				cursor = 0;
+			}
+
+			while (cursor < span) {
+				long id = idAt(cursor++);
+				if (Arrays.binarySearch(currentIds, id) >= 0) {
+					return id;
+				}
+			}
+		}
+	}
+
+
+	/**
+	 * 引いたが使わなかった id を山札に戻す（cursor を戻すので、次に引くときに同じ順番でもう一度出る）。
+	 *
+	 * 戻せるのは「最後に引いた何枚か」だけで、引いた順のまま渡すこと。
+	 * その後に別の id を引いた・周が変わった・途中の id が抜けている（削除済みの単語を読み飛ばした）など、
+	 * 最後に引いた並びと一致しない場合は何もしない（その id はこの周では出ないだけで、次の周には出る）。
+	 *
+	 * @param unusedIds  使わなかった id（引いた順）
+	 * @param currentIds 現在の全単語の id（WordIdSampler#ids。昇順）。引くときに読み飛ばした値を見分けるのに使う
+	 * @return 戻した場合は true
+	 */
+	public synchronized boolean putBack(List<Long> unusedIds, long[] currentIds) {
+		if (unusedIds.isEmpty()) {
+			return false;
+		}
+
+		// 最後に調べた値から逆にたどり、戻す id と順に照らし合わせる。
+		// 配列にない値は引くときに読み飛ばした値なので、ここでも読み飛ばす
+		int position = cursor;
+		int remaining = unusedIds.size();
+		while (remaining > 0) {
+			if (position == 0) {
+				return false;
+			}
+			Long unused = unusedIds.get(remaining - 1);
+			if (unused == null) {
+				return false;
+			}
+			long id = idAt(--position);
+			if (id == unused) {
+				remaining--;
+			} else if (Arrays.binarySearch(currentIds, id) >= 0) {
+				return false; // 戻されていない id を引いた後
+			}
+		}
+		cursor = position;
+		return true;
+	}
+
+
+	/** この周で position 番目に調べる id。 */
+	private long idAt(int position) {
+		return minId + permute(position, span, seed);
+	}
+
+
+	/**
+	 * 添字 index を、seed で決まる順列の index 番目の値に変換する。
+	 * 0 〜 size-1 の範囲で全単射になるので、index を 0 から順に進めれば重複なしで1周できる。
+	 *
+	 * @param index 0 〜 size-1
+	 * @param size  順列の長さ（1 〜 Integer.MAX_VALUE）
+	 * @param seed  並べ替えの種
+	 * @return 並べ替え後の添字
+	 */
+	static int permute(int index, int size, long seed) {
+		// size 以上の 2 のべき乗（ビット数は左右に分けるため偶数）を定義域にする。
+		// size が 2^30 を超えると 32 ビットになり int では符号が付いてしまうので、long で計算する
+		int bits = Math.max(2, 32 - Integer.numberOfLeadingZeros(size - 1));
+		if ((bits & 1) == 1) {
+			bits++;
+		}
+		int halfBits = bits / 2;
+		long halfMask = (1L << halfBits) - 1;
+
+		// 定義域は size より大きいことがあるので、範囲内に入るまで繰り返す（cycle walking）
+		long x = index;
+		do {
+			long left = x >>> halfBits;
+			long right = x & halfMask;
+			for (int round = 0; round < ROUNDS; round++) {
+				long nextLeft = right;
+				right = left ^ (roundFunction(right, seed, round) & halfMask);
+				left = nextLeft;
+			}
+			x = (left << halfBits) | right;
+		} while (x >= size);
+
+		return (int) x;
+	}
+
+
+	/** Feistel ネットワークのラウンド関数（SplitMix64 風のハッシュ）。 */
+	private static long roundFunction(long value, long seed, int round) {
+		long h = seed + (round + 1) * 0x9E3779B97F4A7C15L + value;
+		h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+		h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+		return h ^ (h >>> 31);
+	}
+
+}
@@ -0,0 +1,293 @@
+package com.example.app.service;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.app.domain.UserWordProgress;
+import com.example.app.domain.Word;
+import com.example.app.mapper.UserWordProgressMapper;
+
+/**
+ * 間隔反復（SM-2 方式）で「次に出す単語」を決めるサービス。
+ *
+ * - ユーザーごとの学習状況を、次に復習する日時（due_at）が早い順の最小ヒープでメモリに持つ
+ *   → 次の単語を決めるのはヒープの先頭を見るだけ（O(1)）、復習結果の反映は O(log n)
+ * - ヒープはログイン時（または最初に使ったとき）に user_word_progress から1回だけ読み込む
+ * - 復習結果は、その単語の1件だけを user_word_progress に書き込む（テーブル全体は読み直さない）。
+ *   メモリ上のヒープは、書き込みがコミットされてから更新する（DB とメモリの内容が食い違わないように）
+ * - そのユーザーの最後のセッションが終わったら（ログアウト・タイムアウト）メモリから捨てる
+ *
+ * 期限の来た単語がない場合は、まだ学習していない単語を山札（ShuffledDeck）から出す。
+ */
+@Service
+@Transactional(readOnly = true)
+public class SpacedRepetitionService {
+
+	/** 間隔反復モードを表す mode パラメータの値（/user/cards?mode=srs など） */
+	public static final String MODE = "srs";
+
+	/** 正解・覚えていた場合の評価（SM-2 の quality: 0〜5） */
+	public static final int QUALITY_CORRECT = 4;
+
+	/** 不正解・覚えていなかった場合の評価 */
+	public static final int QUALITY_WRONG = 1;
+
+	/** 未学習の単語を探すときに山札を引き直す回数の上限 */
+	private static final int MAX_NEW_WORD_ATTEMPTS = 5;
+
+	/** 易しさ係数の下限（SM-2） */
+	private static final double MIN_EASE_FACTOR = 1.3;
+
+	/** 学習状況テーブルへのマッパー */
+	private final UserWordProgressMapper progressMapper;
+
+	/** 単語の取得・山札から引く処理を行うサービス */
+	private final WordService wordService;
+
+	/** ユーザーID → そのユーザーの復習スケジュール */
+	private final Map<Long, UserSchedule> schedules = new ConcurrentHashMap<>();
+
+
+    /**
+     * コンストラクタ。
+     * Spring が自動で UserWordProgressMapper / WordService を注入してくれる。
+     */
+	public SpacedRepetitionService(UserWordProgressMapper progressMapper,
+									WordService wordService) {
+		this.progressMapper = progressMapper;
+		this.wordService = wordService;
+	}
+
+
+    /**
+     * ユーザーの復習スケジュールを読み込んでおく（ログイン時に呼ぶ）。
+     * @param userId ユーザーID
+     */
+	public void preload(Long userId) {
+		scheduleOf(userId);
+	}
+
+
+    /**
+     * ユーザーの復習スケジュールをメモリから捨てる（そのユーザーの最後のセッションが終わったときに呼ぶ）。
+     * @param userId ユーザーID
+     */
+	public void evict(Long userId) {
+		schedules.remove(userId);
+	}
+
+
+    /**
+     * 次に学習する単語を決める。
+     *
+     * 1. 復習の期限が来ている単語があれば、いちばん期限の早いもの
+     * 2. なければ、まだ学習していない単語（山札から引く）
+     * 3. すべて学習済みなら、次に期限が来る単語
+     *
+     * @param userId       ユーザーID
+     * @param newWordDeck  未学習の単語を引くための山札（セッションに保存しているもの）
+     * @return 次の単語（単語が1件も登録されていない場合は null）
+     */
+	public Word nextWord(Long userId, ShuffledDeck newWordDeck) {
+		UserSchedule schedule = scheduleOf(userId);
+
+		// 1. 期限の来ている単語
+		UserWordProgress due;
+		while ((due = schedule.peekDue(LocalDateTime.now())) != null) {
+			Word word = wordService.findById(due.getWordId());
+			if (word != null) {
+				return word;
+			}
+			schedule.remove(due.getWordId()); // 単語が削除されていた
+		}
+
+		// 2. 未学習の単語
+		for (int attempt = 0; attempt < MAX_NEW_WORD_ATTEMPTS; attempt++) {
+			Word word = wordService.drawFromDeck(newWordDeck);
+			if (word == null) {
+				return null; // 単語が1件もない
+			}
+			if (!schedule.contains(word.getId())) {
+				return word;
+			}
+		}
+
+		// 3. 次に期限が来る単語（見つからなければランダム）
+		UserWordProgress earliest = schedule.peek();
+		if (earliest != null) {
+			Word word = wordService.findById(earliest.getWordId());
+			if (word != null) {
+				return word;
+			}
+		}
+		return wordService.getRandomWordForQuiz();
+	}
+
+
+    /**
+     * 復習結果を反映する（SM-2）。
+     * その単語の1件だけを DB に書き込み、コミットされたらメモリ上のヒープを更新する。
+     * 存在しない単語の id が送られてきた場合は何もしない（外部キー制約で失敗させず、ヒープにも入れない）。
+     *
+     * @param userId  ユーザーID
+     * @param wordId  復習した単語の id
+     * @param quality 評価（0〜5。3 以上で「覚えていた」扱い）
+     * @return 反映したかどうか（単語が存在しない場合は false）
+     */
+	@Transactional(readOnly = false)
+	public boolean review(Long userId, Long wordId, int quality) {
+		if (wordId == null || wordService.findById(wordId) == null) {
+			return false;
+		}
+		UserSchedule schedule = scheduleOf(userId);
+
+		UserWordProgress next = nextProgress(schedule.get(wordId), userId, wordId,
+											Math.max(0, Math.min(5, quality)), LocalDateTime.now());
+		progressMapper.upsert(next);
+
+		// ロールバックされた場合はヒープに入れない
+		afterCommit(() -> schedule.put(next));
+		return true;
+	}
+
+
+	/** ユーザーのスケジュールを返す（メモリに無ければ DB から読み込む）。 */
+	private UserSchedule scheduleOf(Long userId) {
+		UserSchedule schedule = schedules.get(userId);
+		if (schedule != null) {
+			return schedule;
+		}
+
+		UserSchedule loaded = new UserSchedule();
+		List<UserWordProgress> progressList = progressMapper.findByUserId(userId);
+		for (UserWordProgress progress : progressList) {
+			loaded.put(progress);
+		}
+
+		// 同時に読み込んだ場合は先に登録された方を使う
+		UserSchedule existing = schedules.putIfAbsent(userId, loaded);
+		return existing != null ? existing : loaded;
+	}
+
+
+	/** トランザクションの中ならコミット後に、そうでなければすぐに action を実行する。 */
+	private static void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+
+
+    /**
+     * SM-2 のルールで、次の学習状況を計算する（元のオブジェクトは書き換えない）。
+     *
+     * - quality が 3 未満: 連続正解回数を 0 に戻し、1日後に復習
+     * - quality が 3 以上: 1回目は1日後、2回目は6日後、以降は「前回の間隔 × 易しさ係数」日後
+     * - 易しさ係数は quality に応じて増減する（下限 1.3）
+     */
+	static UserWordProgress nextProgress(UserWordProgress previous, Long userId, Long wordId,
+												int quality, LocalDateTime now) {
+		int repetitions = previous != null ? previous.getRepetitions() : 0;
+		int intervalDays = previous != null ? previous.getIntervalDays() : 0;
+		double easeFactor = previous != null ? previous.getEaseFactor() : 2.5;
+
+		if (quality < 3) {
+			repetitions = 0;
+			intervalDays = 1;
+		} else {
+			repetitions++;
+			if (repetitions == 1) {
+				intervalDays = 1;
+			} else if (repetitions == 2) {
+				intervalDays = 6;
+			} else {
+				intervalDays = (int) Math.round(intervalDays * easeFactor);
+			}
+		}
+
+		int miss = 5 - quality;
+		easeFactor = Math.max(MIN_EASE_FACTOR, easeFactor + (0.1 - miss * (0.08 + miss * 0.02)));
+
+		UserWordProgress next = new UserWordProgress();
+		next.setUserId(userId);
+		next.setWordId(wordId);
+		next.setRepetitions(repetitions);
+		next.setIntervalDays(intervalDays);
+		next.setEaseFactor(easeFactor);
+		next.setDueAt(now.plusDays(intervalDays));
+		next.setReviewedAt(now);
+		return next;
+	}
+
+
+    /**
+     * 1ユーザー分の復習スケジュール。
+     *
+     * 期限の早い順の最小ヒープと、単語ID → 最新の学習状況 の Map を持つ。
+     * 学習状況を更新したときは古い要素をヒープから探して消す（O(n)）代わりに、
+     * 新しい要素を追加するだけにして、古い要素は先頭に来たときに読み捨てる（遅延削除）。
+     */
+	static final class UserSchedule {
+
+		private final PriorityQueue<UserWordProgress> heap =
+				new PriorityQueue<>(Comparator.comparing(UserWordProgress::getDueAt));
+
+		private final Map<Long, UserWordProgress> latest = new HashMap<>();
+
+		/** 期限が来ていれば先頭の学習状況を返す。 */
+		synchronized UserWordProgress peekDue(LocalDateTime now) {
+			UserWordProgress head = peek();
+			return (head != null && !head.getDueAt().isAfter(now)) ? head : null;
+		}
+
+		/** 期限がいちばん早い学習状況を返す。 */
+		synchronized UserWordProgress peek() {
+			// 古くなった要素（更新・削除済み）は読み捨てる
+			while (!heap.isEmpty() && latest.get(heap.peek().getWordId()) != heap.peek()) {
+				heap.poll();
+			}
+			return heap.peek();
+		}
+
+		synchronized UserWordProgress get(Long wordId) {
+			return latest.get(wordId);
+		}
+
+		synchronized boolean contains(Long wordId) {
+			return latest.containsKey(wordId);
+		}
+
+		synchronized void put(UserWordProgress progress) {
+			latest.put(progress.getWordId(), progress);
+			heap.add(progress);
+
+			// 読み捨て待ちの要素が増えすぎたら作り直す
+			if (heap.size() > latest.size() * 2 + 16) {
+				heap.clear();
+				heap.addAll(latest.values());
+			}
+		}
+
+		synchronized void remove(Long wordId) {
+			latest.remove(wordId);
+		}
+	}
+
+}
@@ -0,0 +1,106 @@
+package com.example.app.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.servlet.http.HttpSessionAttributeListener;
+import jakarta.servlet.http.HttpSessionBindingEvent;
+
+import org.springframework.stereotype.Component;
+
+import com.example.app.domain.UserAccount;
+
+/**
+ * ユーザーの最後のセッションが終わったとき（ログアウト・タイムアウト）に、
+ * そのユーザーの復習スケジュール（SpacedRepetitionService）と
+ * 苦手単語の回数（WeakWordTracker）をメモリから捨てるリスナー。
+ *
+ * 同じユーザーが複数のブラウザ・端末でログインしている場合、1つのセッションが終わっただけで捨てると、
+ * 残りのセッションで使っている途中のデータまで捨ててしまう。
+ * そこで、セッションに "loginUser" が入った・外れた回数をユーザーごとに数えて、0 になったときだけ捨てる。
+ * （セッションが破棄されると属性もすべて外れるので、ログアウト・タイムアウトのどちらでも数が減る）
+ *
+ * 捨てる処理（WeakWordTracker は DB への書き込みを伴う）は、数を数える ConcurrentHashMap の compute の外で行う。
+ */
+@Component
+public class UserSessionCleanupListener implements HttpSessionAttributeListener {
+
+	/** ログインユーザーを入れておくセッション属性の名前 */
+	private static final String LOGIN_USER = "loginUser";
+
+	/** 復習スケジュールを持っているサービス */
+	private final SpacedRepetitionService spacedRepetitionService;
+
+	/** 苦手単語の回数を持っているサービス */
+	private final WeakWordTracker weakWordTracker;
+
+	/** ユーザーID → ログイン中のセッション数 */
+	private final Map<Long, Integer> sessionCounts = new ConcurrentHashMap<>();
+
+
+	public UserSessionCleanupListener(SpacedRepetitionService spacedRepetitionService,
+											WeakWordTracker weakWordTracker) {
+		this.spacedRepetitionService = spacedRepetitionService;
+		this.weakWordTracker = weakWordTracker;
+	}
+
+
+	@Override
+	public void attributeAdded(HttpSessionBindingEvent event) {
+		if (LOGIN_USER.equals(event.getName())) {
+			acquire(event.getValue());
+		}
+	}
+
+
+	@Override
+	public void attributeReplaced(HttpSessionBindingEvent event) {
+		// 同じセッションで別のユーザー（または同じユーザー）としてログインし直した。getValue() は前の値
+		if (LOGIN_USER.equals(event.getName())) {
+			acquire(event.getSession().getAttribute(LOGIN_USER));
+			release(event.getValue());
+		}
+	}
+
+
+	@Override
+	public void attributeRemoved(HttpSessionBindingEvent event) {
+		if (LOGIN_USER.equals(event.getName())) {
+			release(event.getValue());
+		}
+	}
+
+
+	private void acquire(Object value) {
+		if (value instanceof UserAccount user && user.getId() != null) {
+			sessionCounts.merge(user.getId(), 1, Integer::sum);
+		}
+	}
+
+
+    /**
+     * セッション数を1つ減らし、0 になったらメモリから捨てる。
+     * compute の中では「最後のセッションだったか」を決めるだけにして、捨てる処理はその後で行う
+     * （compute の中で DB に書き込むと、同じビンに入る他のユーザーのログイン・ログアウトまで待たせてしまう）。
+     * その間に同じユーザーがログインし直しても、捨てたデータは次に使うときに DB から読み込み直されるだけ。
+     * 再起動でセッションが復元された場合など、数えていないユーザーは最後のセッションとみなす。
+     */
+	private void release(Object value) {
+		if (!(value instanceof UserAccount user) || user.getId() == null) {
+			return;
+		}
+		boolean[] lastSession = new boolean[1];
+		sessionCounts.compute(user.getId(), (userId, count) -> {
+			if (count != null && count > 1) {
+				return count - 1;
+			}
+			lastSession[0] = true;
+			return null;
+		});
+		if (lastSession[0]) {
+			spacedRepetitionService.evict(user.getId());
+			weakWordTracker.evict(user.getId()); // まだ書き込んでいない回数は書き込んでから捨てる
+		}
+	}
+
+}
@@ -0,0 +1,442 @@
+package com.example.app.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.app.domain.QuizAnswer;
+import com.example.app.domain.UserWordStats;
+import com.example.app.mapper.UserWordStatsMapper;
+
+/**
+ * ユーザーごとの「苦手単語ランキング」を、回答のたびに少しずつ更新していくサービス。
+ *
+ * 回答履歴（quiz_answer）を画面表示のたびに GROUP BY すると、回答が増えるほど遅くなる。
+ * そこで、単語ごとの正解・不正解の回数をメモリ上で数えておき、回答が来たらその1件だけ更新する。
+ *
+ * - ユーザーごとに「苦手度の高い順の上位 K 件」だけを TreeSet で持つ（K は app.weak-words.size）
+ *   → 苦手単語の一覧は上位 K 件をコピーするだけ（O(K)）、回答の反映は O(log K)
+ * - 上位 K 件に入っていた単語に正解して順位が下がったときだけ、K 件の外側から入れ替え候補を探す
+ * - 回数は最初に使ったときに user_word_stats から1回だけ読み込む
+ * - 変わった回数だけを一定時間ごとにまとめて user_word_stats に書き込む（チェックポイント）
+ * - 存在しない単語（削除済み・画面から送られてきた不正な id）への回答は数えない。
+ *   それでも外部キー制約で書き込めなかった場合は、1行ずつ書き込み直して、書き込めない単語の回数は捨てる
+ *   （まとめて書き込む INSERT 1文が失敗し続けて、そのユーザーの他の回数まで書き込めなくなるのを防ぐため）
+ * - そのユーザーの最後のセッションが終わったら（ログアウト・タイムアウト）書き込んでからメモリから捨てる
+ *   （同じユーザーが複数のブラウザでログインしている間は捨てない。数えるのは UserSessionCleanupListener）
+ * - 書き込みと、捨てた後の読み込み直しはユーザーごとに順番に行う
+ *   （書き込みが終わるまではメモリに残しておき、書き終えてから捨てる。古い回数を DB から読み直して上書きしないように）
+ * - DB への書き込みは ConcurrentHashMap の compute の中では行わない（同じビンの他のユーザーまで待たせてしまうため）
+ *
+ * 設定（application.properties）:
+ *   - app.weak-words.size                   : ランキングに残す単語数（K）
+ *   - app.weak-words.checkpoint-interval-ms : 回数を DB に書き込む間隔（ミリ秒）
+ */
+@Service
+public class WeakWordTracker {
+
+	private static final Logger log = LoggerFactory.getLogger(WeakWordTracker.class);
+
+	/** 苦手単語モードを表す mode パラメータの値（/user/quiz?mode=weak） */
+	public static final String MODE = "weak";
+
+	/** 苦手な順（苦手度が高い → 不正解の回数が多い → id が小さい）に並べる */
+	private static final Comparator<UserWordStats> WEAKEST_FIRST =
+			Comparator.comparingDouble(UserWordStats::getWeakness).reversed()
+					.thenComparing(Comparator.comparingInt(UserWordStats::getWrongCount).reversed())
+					.thenComparing(UserWordStats::getWordId);
+
+	/** 回数テーブルへのマッパー */
+	private final UserWordStatsMapper statsMapper;
+
+	/** 回答された単語が存在するかの確認用 */
+	private final WordIdSampler wordIdSampler;
+
+	/** ランキングに残す単語数 */
+	private final int size;
+
+	/** 回数を DB に書き込む間隔（ミリ秒） */
+	private final long checkpointIntervalMs;
+
+	/** ユーザーID → そのユーザーの回数とランキング */
+	private final Map<Long, UserStats> users = new ConcurrentHashMap<>();
+
+	/** チェックポイントを行うバックグラウンドスレッド */
+	private ScheduledExecutorService checkpointer;
+
+
+    /**
+     * コンストラクタ。
+     * 設定値は application.properties から受け取る（未設定ならデフォルト値）。
+     */
+	public WeakWordTracker(UserWordStatsMapper statsMapper,
+						WordIdSampler wordIdSampler,
+						@Value("${app.weak-words.size:20}") int size,
+						@Value("${app.weak-words.checkpoint-interval-ms:30000}") long checkpointIntervalMs) {
+		this.statsMapper = statsMapper;
+		this.wordIdSampler = wordIdSampler;
+		this.size = Math.max(1, size);
+		this.checkpointIntervalMs = Math.max(1000, checkpointIntervalMs);
+	}
+
+
+    /**
+     * チェックポイント用のスレッドを起動する。
+     */
+	@PostConstruct
+	public void start() {
+		checkpointer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "weak-word-checkpoint");
+			thread.setDaemon(true);
+			return thread;
+		});
+		checkpointer.scheduleWithFixedDelay(this::checkpointAll,
+				checkpointIntervalMs, checkpointIntervalMs, TimeUnit.MILLISECONDS);
+	}
+
+
+    /**
+     * アプリ終了時に、まだ書き込んでいない回数を書き込んでからスレッドを止める。
+     */
+	@PreDestroy
+	public void stop() {
+		if (checkpointer != null) {
+			checkpointer.shutdownNow();
+		}
+		checkpointAll();
+	}
+
+
+    /**
+     * 回答を1件反映する（QuizAnswerRecorder の書き込みスレッドから呼ばれる）。
+     * 正誤が分からない回答（古い画面から送られてきたもの）と、存在しない単語への回答は数えない。
+     *
+     * @param answer 回答
+     */
+	public void onAnswer(QuizAnswer answer) {
+		if (answer.getUserId() == null || answer.getWordId() == null || answer.getCorrect() == null) {
+			return;
+		}
+		// 削除済みの単語（削除の前にキューに入った回答・古い画面からの回答）や、でたらめな id は数えない。
+		// 数えてしまうと、削除のイベントで取り除いた後にまた回数ができて、書き込みが外部キー制約で失敗する
+		if (!wordIdSampler.exists(answer.getWordId())) {
+			return;
+		}
+		UserStats stats = statsOf(answer.getUserId());
+		while (!stats.apply(answer.getUserId(), answer.getWordId(), answer.getCorrect(), answer.getAnsweredAt(), size)) {
+			// メモリから捨てている途中だった：evict が終わる（書き込んで捨てる、または失敗して戻す）のを待って取り直す
+			synchronized (stats.checkpointLock) {
+				// evict は checkpointLock を持ったまま書き込むので、ここで待つだけでよい
+			}
+			stats = statsOf(answer.getUserId());
+		}
+	}
+
+
+    /**
+     * 苦手な順に単語の回数を返す（最大 K 件）。
+     * @param userId ユーザーID
+     * @return 回数のコピー（苦手な順）
+     */
+	public List<UserWordStats> weakWords(Long userId) {
+		return statsOf(userId).ranking();
+	}
+
+
+    /**
+     * 苦手単語の中からランダムに1つ選ぶ（苦手単語クイズ用）。
+     * @param userId ユーザーID
+     * @return 単語ID（苦手単語がまだない場合は null）
+     */
+	public Long pickWeakWordId(Long userId) {
+		List<UserWordStats> ranking = weakWords(userId);
+		if (ranking.isEmpty()) {
+			return null;
+		}
+		return ranking.get(ThreadLocalRandom.current().nextInt(ranking.size())).getWordId();
+	}
+
+
+    /**
+     * ユーザーの回数を書き込んでからメモリから捨てる（そのユーザーの最後のセッションが終わったときに呼ぶ）。
+     *
+     * 書き込みはそのユーザーの checkpointLock の中で行い、書き終えてからメモリから取り除く
+     * （書き込みが終わるまでは、読み込み（statsOf）は DB から読み直さずにメモリ上の回数を使う。回答は書き終わるまで待たせる）。
+     * 書き込みに失敗した場合は捨てずに残しておく（次のチェックポイントでもう一度書き込む）。
+     *
+     * @param userId ユーザーID
+     */
+	public void evict(Long userId) {
+		UserStats stats = users.get(userId);
+		if (stats == null) {
+			return;
+		}
+		synchronized (stats.checkpointLock) {
+			stats.close();
+			if (checkpoint(stats)) {
+				users.remove(userId, stats);
+				return;
+			}
+			stats.reopen();
+		}
+	}
+
+
+    /**
+     * 単語が削除されたら、全ユーザーの回数とランキングからその単語を取り除く。
+     * （削除済みの単語を書き込むと外部キー制約で失敗するため）
+     * 一括削除（BULK）の場合は、消えた単語をまとめて取り除く。
+     *
+     * @param event 変更内容
+     */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onWordChanged(WordChangedEvent event) {
+		if (event.type() == WordChangedEvent.Type.DELETED && event.wordId() != null) {
+			for (UserStats stats : users.values()) {
+				stats.remove(event.wordId(), size);
+			}
+		} else if (event.type() == WordChangedEvent.Type.BULK) {
+			for (UserStats stats : users.values()) {
+				for (Long wordId : event.deletedWordIds()) {
+					stats.remove(wordId, size);
+				}
+			}
+		}
+	}
+
+
+	/** 全ユーザーの、変わった回数を書き込む。 */
+	private void checkpointAll() {
+		for (UserStats stats : users.values()) {
+			checkpoint(stats);
+		}
+	}
+
+
+    /**
+     * 1ユーザー分の、変わった回数を書き込む（失敗したら次回また書き込む）。
+     * 回数は差分ではなくその時点の値を書き込むので、同じユーザーの書き込みが前後しないよう順番に行う。
+     *
+     * @return 書き込めた（または書き込むものがなかった）かどうか
+     */
+	private boolean checkpoint(UserStats stats) {
+		synchronized (stats.checkpointLock) {
+			List<UserWordStats> dirty = stats.takeDirty();
+			if (dirty.isEmpty()) {
+				return true;
+			}
+			try {
+				statsMapper.upsertAll(dirty);
+				return true;
+			} catch (DataIntegrityViolationException e) {
+				// 削除された単語の回数が混ざっている：1行ずつ書き込み直して、書き込めない行だけ捨てる
+				return checkpointRowByRow(stats, dirty);
+			} catch (RuntimeException e) {
+				stats.markDirty(dirty);
+				log.warn("苦手単語の回数 {} 件の書き込みに失敗しました: {}", dirty.size(), e.getMessage());
+				return false;
+			}
+		}
+	}
+
+
+    /**
+     * 1行ずつ書き込む。外部キー制約などで書き込めない行は、もう一度書き込まないよう回数ごと捨てる。
+     * それ以外のエラー（DB に接続できないなど）の場合は、残りの行を次回また書き込む。
+     *
+     * @return 書き込めない行を捨てた上で、残りをすべて書き込めたかどうか
+     */
+	private boolean checkpointRowByRow(UserStats stats, List<UserWordStats> dirty) {
+		for (int i = 0; i < dirty.size(); i++) {
+			UserWordStats row = dirty.get(i);
+			try {
+				statsMapper.upsertAll(List.of(row));
+			} catch (DataIntegrityViolationException e) {
+				stats.remove(row.getWordId(), size);
+				log.warn("苦手単語の回数（ユーザーID {}・単語ID {}）は書き込めないため捨てました: {}",
+						row.getUserId(), row.getWordId(), e.getMessage());
+			} catch (RuntimeException e) {
+				List<UserWordStats> rest = dirty.subList(i, dirty.size());
+				stats.markDirty(rest);
+				log.warn("苦手単語の回数 {} 件の書き込みに失敗しました: {}", rest.size(), e.getMessage());
+				return false;
+			}
+		}
+		return true;
+	}
+
+
+	/** ユーザーの回数を返す（メモリに無ければ DB から読み込む。捨てている途中なら、まだメモリにあるものを返す）。 */
+	private UserStats statsOf(Long userId) {
+		UserStats stats = users.get(userId);
+		if (stats != null) {
+			return stats;
+		}
+		return users.computeIfAbsent(userId, this::load);
+	}
+
+
+	/** ユーザーの回数を DB から読み込む。 */
+	private UserStats load(Long userId) {
+		UserStats loaded = new UserStats();
+		loaded.load(statsMapper.findByUserId(userId), size);
+		return loaded;
+	}
+
+
+    /**
+     * 1ユーザー分の回数とランキング。
+     *
+     * 回数はそのユーザーが答えたことのある単語すべて、ランキングは苦手な順の上位 K 件だけを持つ。
+     * TreeSet は並び順のキー（回数）が変わると壊れるので、回数を変える前に必ず取り出しておく。
+     */
+	private static final class UserStats {
+
+		/** 単語ID → 回数 */
+		private final Map<Long, UserWordStats> counters = new HashMap<>();
+
+		/** 苦手な順の上位 K 件（不正解が1回以上ある単語だけ） */
+		private final TreeSet<UserWordStats> ranking = new TreeSet<>(WEAKEST_FIRST);
+
+		/** まだ DB に書き込んでいない単語ID */
+		private final Set<Long> dirty = new HashSet<>();
+
+		/** 書き込みを順番に行うためのロック（回数を読み書きするロックとは別。書き込み中も回答は反映できる） */
+		final Object checkpointLock = new Object();
+
+		/** メモリから捨てたかどうか（捨てた後の回答は反映しない） */
+		private boolean closed;
+
+		synchronized void load(List<UserWordStats> statsList, int size) {
+			for (UserWordStats stats : statsList) {
+				counters.put(stats.getWordId(), stats);
+				offer(stats, size);
+			}
+		}
+
+		/** @return 反映したかどうか（メモリから捨てた後なら false） */
+		synchronized boolean apply(Long userId, Long wordId, boolean correct, LocalDateTime answeredAt, int size) {
+			if (closed) {
+				return false;
+			}
+			UserWordStats stats = counters.computeIfAbsent(wordId,
+					id -> new UserWordStats(userId, id, 0, 0, null));
+			boolean wasRanked = ranking.remove(stats);
+
+			if (correct) {
+				stats.setCorrectCount(stats.getCorrectCount() + 1);
+			} else {
+				stats.setWrongCount(stats.getWrongCount() + 1);
+			}
+			stats.setLastAnsweredAt(answeredAt != null ? answeredAt : LocalDateTime.now());
+			dirty.add(wordId);
+
+			if (wasRanked && correct) {
+				// 順位が下がった：K 件の外側の単語の方が苦手かもしれないので、空いた枠を埋め直す
+				fill(size);
+			} else {
+				offer(stats, size);
+			}
+			return true;
+		}
+
+		synchronized void close() {
+			closed = true;
+		}
+
+		synchronized void reopen() {
+			closed = false;
+		}
+
+		synchronized void remove(Long wordId, int size) {
+			UserWordStats stats = counters.remove(wordId);
+			dirty.remove(wordId);
+			if (stats != null && ranking.remove(stats)) {
+				fill(size);
+			}
+		}
+
+		synchronized List<UserWordStats> ranking() {
+			List<UserWordStats> copies = new ArrayList<>(ranking.size());
+			for (UserWordStats stats : ranking) {
+				copies.add(copyOf(stats));
+			}
+			return copies;
+		}
+
+		synchronized List<UserWordStats> takeDirty() {
+			List<UserWordStats> copies = new ArrayList<>(dirty.size());
+			for (Long wordId : dirty) {
+				UserWordStats stats = counters.get(wordId);
+				if (stats != null) {
+					copies.add(copyOf(stats));
+				}
+			}
+			dirty.clear();
+			return copies;
+		}
+
+		synchronized void markDirty(List<UserWordStats> statsList) {
+			for (UserWordStats stats : statsList) {
+				if (counters.containsKey(stats.getWordId())) {
+					dirty.add(stats.getWordId());
+				}
+			}
+		}
+
+		/** 苦手単語ならランキングに入れ、K 件を超えたらいちばん苦手でない単語を外す。 */
+		private void offer(UserWordStats stats, int size) {
+			if (stats.getWrongCount() == 0) {
+				return;
+			}
+			ranking.add(stats);
+			if (ranking.size() > size) {
+				ranking.pollLast();
+			}
+		}
+
+		/** ランキングが K 件に満たないとき、外側でいちばん苦手な単語を入れていく（O(n)）。 */
+		private void fill(int size) {
+			while (ranking.size() < size) {
+				UserWordStats best = null;
+				for (UserWordStats stats : counters.values()) {
+					if (stats.getWrongCount() > 0 && !ranking.contains(stats)
+							&& (best == null || WEAKEST_FIRST.compare(stats, best) < 0)) {
+						best = stats;
+					}
+				}
+				if (best == null) {
+					return;
+				}
+				ranking.add(best);
+			}
+		}
+
+		private static UserWordStats copyOf(UserWordStats stats) {
+			return new UserWordStats(stats.getUserId(), stats.getWordId(),
+					stats.getCorrectCount(), stats.getWrongCount(), stats.getLastAnsweredAt());
+		}
+	}
+
+}
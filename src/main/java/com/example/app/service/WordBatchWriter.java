@@ -0,0 +1,97 @@
+package com.example.app.service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.stereotype.Service;
+
+import com.example.app.domain.Word;
+import com.example.app.mapper.WordMapper;
+
+/**
+ * 単語をまとめて書き込むときの共通処理（WordImportService の一括登録・WordBulkEditService の一括置換で使う）。
+ *
+ * - Word の入力チェック（@NotBlank・@Size）を行い、エラーのメッセージを決まった順につなげる
+ * - 複数の単語を MyBatis の ExecutorType.BATCH でまとめて INSERT / UPDATE する
+ *   （datasource の rewriteBatchedStatements=true により、INSERT は複数行の INSERT 1回にまとめて送られる）
+ *
+ * トランザクションは呼び出し側が開く（まとまりごとか、全体で1つかは呼び出し側で決める）。
+ * Spring のトランザクションの中で呼ぶので、バッチのセッションも同じ接続を使い、コミットはトランザクションを開いた側が行う。
+ */
+@Service
+public class WordBatchWriter {
+
+	/** バッチ実行用のセッションを作るためのファクトリ */
+	private final SqlSessionFactory sqlSessionFactory;
+
+	/** Word の入力チェック（@NotBlank・@Size） */
+	private final Validator validator;
+
+
+    /**
+     * コンストラクタ。
+     */
+	public WordBatchWriter(SqlSessionFactory sqlSessionFactory, Validator validator) {
+		this.sqlSessionFactory = sqlSessionFactory;
+		this.validator = validator;
+	}
+
+
+    /**
+     * Word の入力チェックを行う。
+     * @param word 確認する単語
+     * @return エラーのメッセージを項目名の順に「 / 」でつなげたもの（エラーがなければ null）
+     */
+	public String validate(Word word) {
+		Set<ConstraintViolation<Word>> violations = validator.validate(word);
+		if (violations.isEmpty()) {
+			return null;
+		}
+		return violations.stream()
+				.sorted(Comparator.comparing((ConstraintViolation<Word> v) -> v.getPropertyPath().toString())
+						.thenComparing(ConstraintViolation::getMessage))
+				.map(ConstraintViolation::getMessage)
+				.collect(Collectors.joining(" / "));
+	}
+
+
+    /**
+     * 単語をまとめて INSERT する（JDBC のバッチ実行）。
+     * @param words 登録する単語
+     */
+	public void insertAll(List<Word> words) {
+		execute(words, WordMapper::insert);
+	}
+
+
+    /**
+     * 単語をまとめて UPDATE する（JDBC のバッチ実行）。
+     * （WordMapper.update は検索用の正規化カラムも一緒に書き換える）
+     * @param words 更新する単語（id で対象を決める）
+     */
+	public void updateAll(List<Word> words) {
+		execute(words, WordMapper::update);
+	}
+
+
+	/** 1件ずつの文をバッチにためて、まとめて送る。 */
+	private void execute(List<Word> words, BiConsumer<WordMapper, Word> statement) {
+		try (SqlSession session = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+			WordMapper mapper = session.getMapper(WordMapper.class);
+			for (Word word : words) {
+				statement.accept(mapper, word);
+			}
+			session.flushStatements();
+		}
+	}
+
+}
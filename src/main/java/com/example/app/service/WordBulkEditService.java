@@ -0,0 +1,235 @@
+package com.example.app.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.app.domain.Word;
+import com.example.app.domain.WordReplaceResult;
+import com.example.app.mapper.WordMapper;
+
+/**
+ * 管理者の一括操作（選択した単語の一括削除、english / japanese の一括置換）を行うサービス。
+ *
+ * WordService の update / delete を1件ずつ呼ぶと、1件ごとにトランザクションと DB への往復が発生し、
+ * さらにメモリ上の索引が1件ごとに更新される（更新では索引ごとに SELECT も走る）。
+ * ここでは次のようにして、数千件の整理でも数秒で終わるようにする。
+ *
+ * - 削除は id を一定件数（app.bulk-edit.chunk-size）ごとに分けて、DELETE ... WHERE id IN (...) 1回で消す
+ * - 置換は対象の行を id のキーセットで少しずつ読み、書き換える行を MyBatis の ExecutorType.BATCH でまとめて UPDATE する
+ *   （入力チェックとバッチの実行は WordBatchWriter。一括登録と共通）
+ * - トランザクションはまとまりごと。途中で DB のエラーが起きても、取り消されるのはそのまとまりだけ
+ * - 最後に WordChangedEvent（BULK）を1回だけ発行し、メモリ上の索引などに全体を読み直してもらう
+ *   （削除の場合は、消えた id もイベントに載せる。WeakWordTracker がその単語の回数を捨てるため）
+ *
+ * 設定（application.properties）:
+ *   - app.bulk-edit.chunk-size       : 1回のトランザクションで削除・更新する行数
+ *   - app.bulk-edit.max-preview-rows : 置換の結果に載せる変更内容の最大件数
+ */
+@Service
+public class WordBulkEditService {
+
+	private static final Logger log = LoggerFactory.getLogger(WordBulkEditService.class);
+
+	/** 置換する項目：英単語 */
+	public static final String FIELD_ENGLISH = "english";
+
+	/** 置換する項目：日本語 */
+	public static final String FIELD_JAPANESE = "japanese";
+
+	/** word テーブルにアクセスするためのマッパー */
+	private final WordMapper wordMapper;
+
+	/** 置換後の Word の入力チェックと、バッチでの UPDATE */
+	private final WordBatchWriter wordBatchWriter;
+
+	/** まとまりごとのトランザクション */
+	private final TransactionTemplate transactionTemplate;
+
+	/** 一括操作の後に WordChangedEvent を発行するためのパブリッシャー */
+	private final ApplicationEventPublisher eventPublisher;
+
+	/** 1回のトランザクションで削除・更新する行数 */
+	private final int chunkSize;
+
+	/** 置換の結果に載せる変更内容の最大件数 */
+	private final int maxPreviewRows;
+
+
+    /**
+     * コンストラクタ。
+     * 設定値は application.properties から受け取る（未設定ならデフォルト値）。
+     */
+	public WordBulkEditService(WordMapper wordMapper,
+							WordBatchWriter wordBatchWriter,
+							PlatformTransactionManager transactionManager,
+							ApplicationEventPublisher eventPublisher,
+							@Value("${app.bulk-edit.chunk-size:500}") int chunkSize,
+							@Value("${app.bulk-edit.max-preview-rows:100}") int maxPreviewRows) {
+		this.wordMapper = wordMapper;
+		this.wordBatchWriter = wordBatchWriter;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.eventPublisher = eventPublisher;
+		this.chunkSize = Math.max(1, chunkSize);
+		this.maxPreviewRows = Math.max(0, maxPreviewRows);
+	}
+
+
+    /**
+     * 指定した id の単語をまとめて削除する。
+     *
+     * @param ids 削除したい単語の id（重複・null は無視する）
+     * @return 削除した行数
+     */
+	public int deleteWords(Collection<Long> ids) {
+		Set<Long> unique = new TreeSet<>();
+		for (Long id : ids) {
+			if (id != null) {
+				unique.add(id);
+			}
+		}
+		List<Long> sorted = new ArrayList<>(unique);
+		if (sorted.isEmpty()) {
+			return 0;
+		}
+
+		long start = System.nanoTime();
+		List<Long> deletedIds = new ArrayList<>(sorted.size());
+		int deletedRows = 0;
+		try {
+			for (int from = 0; from < sorted.size(); from += chunkSize) {
+				List<Long> chunk = sorted.subList(from, Math.min(from + chunkSize, sorted.size()));
+				Integer rows = transactionTemplate.execute(status -> wordMapper.deleteByIds(chunk));
+				deletedRows += rows == null ? 0 : rows;
+				deletedIds.addAll(chunk);
+			}
+		} finally {
+			// 1まとまりでも削除していれば、索引などに全体を読み直してもらう（途中で失敗した場合も）
+			if (!deletedIds.isEmpty()) {
+				eventPublisher.publishEvent(new WordChangedEvent(WordChangedEvent.Type.BULK, null, List.copyOf(deletedIds)));
+			}
+		}
+
+		log.info("単語の一括削除: {} 件中 {} 件を削除（{} ms）",
+				sorted.size(), deletedRows, (System.nanoTime() - start) / 1_000_000);
+		return deletedRows;
+	}
+
+
+    /**
+     * 一括置換で書き換わる行を調べる（DB は書き換えない）。
+     *
+     * @param field       FIELD_ENGLISH または FIELD_JAPANESE
+     * @param find        探す文字列（大文字・小文字も区別する）
+     * @param replacement 置き換える文字列（空文字なら find を取り除く）
+     * @return 書き換わる行数と、変更内容（先頭から一定件数）
+     * @throws IllegalArgumentException 項目または探す文字列が正しくない場合
+     */
+	public WordReplaceResult previewReplace(String field, String find, String replacement) {
+		return replace(field, find, replacement, false);
+	}
+
+
+    /**
+     * english / japanese に含まれる文字列をまとめて置き換える。
+     * 置換すると入力チェック（空・長さ）に通らなくなる行は書き換えずに数える。
+     *
+     * @param field       FIELD_ENGLISH または FIELD_JAPANESE
+     * @param find        探す文字列（大文字・小文字も区別する）
+     * @param replacement 置き換える文字列（空文字なら find を取り除く）
+     * @return 書き換えた行数と、変更内容（先頭から一定件数）
+     * @throws IllegalArgumentException 項目または探す文字列が正しくない場合
+     */
+	public WordReplaceResult applyReplace(String field, String find, String replacement) {
+		return replace(field, find, replacement, true);
+	}
+
+
+	private WordReplaceResult replace(String field, String find, String replacement, boolean apply) {
+		if (!FIELD_ENGLISH.equals(field) && !FIELD_JAPANESE.equals(field)) {
+			throw new IllegalArgumentException("unknown field: " + field);
+		}
+		if (find == null || find.isEmpty()) {
+			throw new IllegalArgumentException("find must not be empty");
+		}
+		String to = replacement == null ? "" : replacement;
+		boolean english = FIELD_ENGLISH.equals(field);
+
+		WordReplaceResult result = new WordReplaceResult();
+		result.setField(field);
+		result.setFind(find);
+		result.setReplacement(to);
+		result.setApplied(apply);
+		long start = System.nanoTime();
+
+		try {
+			long lastId = 0;
+			while (true) {
+				List<Word> candidates = wordMapper.findContaining(field, find, lastId, chunkSize);
+				if (candidates.isEmpty()) {
+					break;
+				}
+				lastId = candidates.get(candidates.size() - 1).getId();
+
+				List<Word> changed = new ArrayList<>(candidates.size());
+				for (Word word : candidates) {
+					String before = english ? word.getEnglish() : word.getJapanese();
+					String after = before.replace(find, to);
+					if (after.equals(before)) {
+						continue;
+					}
+					Word updated = english
+							? new Word(word.getId(), after, word.getJapanese())
+							: new Word(word.getId(), word.getEnglish(), after);
+					String violations = wordBatchWriter.validate(updated);
+					if (violations != null) {
+						result.setSkippedRows(result.getSkippedRows() + 1);
+					} else {
+						changed.add(updated);
+					}
+					addChange(result, new WordReplaceResult.Change(word.getId(), before, after, violations));
+				}
+
+				if (apply && !changed.isEmpty()) {
+					// まとまり1つを、1回のトランザクションの中で JDBC のバッチとして UPDATE する
+					transactionTemplate.executeWithoutResult(status -> wordBatchWriter.updateAll(changed));
+				}
+				result.setChangedRows(result.getChangedRows() + changed.size());
+			}
+		} finally {
+			result.setElapsedMillis((System.nanoTime() - start) / 1_000_000);
+
+			// 1行でも書き換えていれば、索引などに全体を読み直してもらう（途中で失敗した場合も）
+			if (apply && result.getChangedRows() > 0) {
+				eventPublisher.publishEvent(new WordChangedEvent(WordChangedEvent.Type.BULK, null));
+			}
+		}
+
+		if (apply) {
+			log.info("単語の一括置換（{}: 「{}」→「{}」）: {} 行を書き換え、{} 行は入力チェックで除外（{} ms）",
+					field, find, to, result.getChangedRows(), result.getSkippedRows(), result.getElapsedMillis());
+		}
+		return result;
+	}
+
+
+	/** 変更内容を結果に載せる（上限を超えたら載せずに、超えたことだけ記録する）。 */
+	private void addChange(WordReplaceResult result, WordReplaceResult.Change change) {
+		if (result.getChanges().size() < maxPreviewRows) {
+			result.getChanges().add(change);
+		} else {
+			result.setChangesTruncated(true);
+		}
+	}
+
+}
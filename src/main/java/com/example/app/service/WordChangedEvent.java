@@ -0,0 +1,39 @@
+package com.example.app.service;
+
+import java.util.List;
+
+/**
+ * word テーブルが書き換えられたことを知らせるイベント。
+ *
+ * WordService の create / update / delete が発行し、
+ * メモリ上に単語情報を持っているコンポーネント（WordIdSampler など）が
+ * コミット後にこのイベントを受け取って自分のデータを更新する。
+ *
+ * @param type           変更の種類
+ * @param wordId         変更された単語の id（BULK の場合は null）
+ * @param deletedWordIds BULK のうち、一括削除で消えた単語の id（それ以外は空）
+ */
+public record WordChangedEvent(Type type, Long wordId, List<Long> deletedWordIds) {
+
+    /**
+     * 1件の登録・更新・削除、または一括登録・一括置換（削除を伴わない BULK）のイベントを作る。
+     * @param type   変更の種類
+     * @param wordId 変更された単語の id（BULK の場合は null）
+     */
+	public WordChangedEvent(Type type, Long wordId) {
+		this(type, wordId, List.of());
+	}
+
+	/** 変更の種類。 */
+	public enum Type {
+		/** 新規登録 */
+		CREATED,
+		/** 更新 */
+		UPDATED,
+		/** 削除 */
+		DELETED,
+		/** 一括登録・一括削除などで多数の行が変わった（受け取った側は word テーブルから全体を読み直す） */
+		BULK
+	}
+
+}
@@ -0,0 +1,110 @@
+package com.example.app.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 単語一覧のカーソル（「ここまで表示した」という位置）を文字列にしたり、元に戻したりする。
+ *
+ * 単語一覧は、部分一致する単語（id 順）の後ろに、変化形で見つかる単語（id 順）を続けて並べる（WordService#findWordPage）。
+ * そのため、カーソルには「どちらの並びの」「どの id まで」表示したかを持たせる。
+ * 画面や API の利用者が中身に頼らないよう、URL に使える Base64 にして中身の見えない文字列（opaque cursor）として扱う。
+ *
+ * ※ 以前の形式（「w1:」＋ id）のカーソルも、部分一致の位置として読める。
+ */
+public final class WordCursor {
+
+	/** どちらの並びまで表示したか */
+	public enum Phase {
+		/** 部分一致する単語（キーワードなしの場合は全件） */
+		SUBSTRING("s"),
+		/** 変化形で見つかる単語 */
+		LEMMA("l");
+
+		private final String code;
+
+		Phase(String code) {
+			this.code = code;
+		}
+	}
+
+	/**
+	 * カーソルが指す位置。
+	 * @param phase  どちらの並びまで表示したか
+	 * @param lastId その並びで最後に表示した単語の id（先頭からの場合は 0）
+	 */
+	public record Position(Phase phase, long lastId) {
+	}
+
+	/** 先頭の位置 */
+	public static final Position START = new Position(Phase.SUBSTRING, 0L);
+
+	/** 形式が変わったときに見分けるための接頭辞 */
+	private static final String PREFIX = "w2:";
+
+	/** 以前の形式の接頭辞（部分一致の位置だけを持つ） */
+	private static final String LEGACY_PREFIX = "w1:";
+
+	private WordCursor() {
+	}
+
+
+    /**
+     * 部分一致の並び（キーワードなしの場合は全件）で最後に表示した単語の id からカーソルを作る。
+     * @param lastId 最後に表示した単語の id
+     * @return カーソル文字列
+     */
+	public static String encode(Long lastId) {
+		return encode(Phase.SUBSTRING, lastId);
+	}
+
+
+    /**
+     * 並びと、そこで最後に表示した単語の id からカーソルを作る。
+     * @param phase  どちらの並びまで表示したか
+     * @param lastId 最後に表示した単語の id
+     * @return カーソル文字列
+     */
+	public static String encode(Phase phase, Long lastId) {
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString((PREFIX + phase.code + ":" + lastId).getBytes(StandardCharsets.UTF_8));
+	}
+
+
+    /**
+     * カーソルから、表示済みの位置を取り出す。
+     * @param cursor カーソル文字列（null/空なら先頭から）
+     * @return 表示済みの位置（先頭からの場合は START）
+     * @throws IllegalArgumentException カーソルの形式が正しくない場合
+     */
+	public static Position decode(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return START;
+		}
+		try {
+			String text = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+			Phase phase;
+			String id;
+			if (text.startsWith(LEGACY_PREFIX)) {
+				phase = Phase.SUBSTRING;
+				id = text.substring(LEGACY_PREFIX.length());
+			} else if (text.startsWith(PREFIX + Phase.SUBSTRING.code + ":")) {
+				phase = Phase.SUBSTRING;
+				id = text.substring(PREFIX.length() + 2);
+			} else if (text.startsWith(PREFIX + Phase.LEMMA.code + ":")) {
+				phase = Phase.LEMMA;
+				id = text.substring(PREFIX.length() + 2);
+			} else {
+				throw new IllegalArgumentException("カーソルの形式が正しくありません");
+			}
+			long lastId = Long.parseLong(id);
+			if (lastId < 0) {
+				throw new IllegalArgumentException("カーソルの形式が正しくありません");
+			}
+			return new Position(phase, lastId);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("カーソルの形式が正しくありません", e);
+		}
+	}
+
+}
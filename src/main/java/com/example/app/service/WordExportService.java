@@ -0,0 +1,125 @@
+package com.example.app.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.app.domain.Word;
+import com.example.app.mapper.WordMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * word テーブルを CSV / NDJSON として書き出すサービス（管理者のエクスポート・バックアップ用）。
+ *
+ * findAll() は全件を List に詰めるので、件数に比例してメモリを使う。
+ * ここでは WordMapper.streamAll()（MySQL のストリーミング取得の Cursor）から1行読むたびに出力先へ書くので、
+ * 件数がいくら多くても、使うメモリは1行分＋出力のバッファだけで済む。
+ *
+ * 形式:
+ *   - csv    : english,japanese,id（1行目は見出し）。一括登録（WordImportService）でそのまま取り込める
+ *              Excel で開いても文字化けしないように、先頭に BOM を付ける
+ *   - ndjson : 1行に1単語の JSON（{"id":1,"english":"apple","japanese":"りんご"}）
+ */
+@Service
+public class WordExportService {
+
+	/** 形式：CSV */
+	public static final String FORMAT_CSV = "csv";
+
+	/** 形式：NDJSON（改行区切りの JSON） */
+	public static final String FORMAT_NDJSON = "ndjson";
+
+	/** word テーブルにアクセスするためのマッパー */
+	private final WordMapper wordMapper;
+
+	/** NDJSON の1行を作るための JSON 変換 */
+	private final ObjectMapper objectMapper;
+
+
+    /**
+     * コンストラクタ。
+     * Spring が自動で WordMapper と ObjectMapper を注入してくれる。
+     */
+	public WordExportService(WordMapper wordMapper, ObjectMapper objectMapper) {
+		this.wordMapper = wordMapper;
+		this.objectMapper = objectMapper;
+	}
+
+
+    /**
+     * 全件を指定の形式で書き出す。
+     *
+     * カーソルを読み終わるまで DB の接続を使うので、読み取り専用のトランザクションの中で実行する。
+     * out は閉じない（呼び出し側で閉じる）。
+     *
+     * @param format FORMAT_CSV または FORMAT_NDJSON
+     * @param out    書き出し先
+     * @return 書き出した件数
+     * @throws IOException 書き出しに失敗した場合（ダウンロードの途中でブラウザが切断した場合など）
+     * @throws IllegalArgumentException 形式が正しくない場合
+     */
+	@Transactional(readOnly = true)
+	public long export(String format, OutputStream out) throws IOException {
+		boolean csv = FORMAT_CSV.equals(format);
+		if (!csv && !FORMAT_NDJSON.equals(format)) {
+			throw new IllegalArgumentException("unknown export format: " + format);
+		}
+
+		Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+		if (csv) {
+			writer.write('\uFEFF');
+			writer.write("english,japanese,id\r\n");
+		}
+
+		long count = 0;
+		try (Cursor<Word> cursor = wordMapper.streamAll()) {
+			for (Word word : cursor) {
+				if (csv) {
+					writeCsvRow(writer, word);
+				} else {
+					writeJsonLine(writer, word);
+				}
+				count++;
+			}
+		}
+		writer.flush();
+		return count;
+	}
+
+
+	/** CSV の1行を書く（RFC 4180：区切り文字・引用符・改行を含む値は "..." で囲み、" は "" にする）。 */
+	private static void writeCsvRow(Writer writer, Word word) throws IOException {
+		writer.write(csvField(word.getEnglish()));
+		writer.write(',');
+		writer.write(csvField(word.getJapanese()));
+		writer.write(',');
+		writer.write(String.valueOf(word.getId()));
+		writer.write("\r\n");
+	}
+
+
+	private static String csvField(String value) {
+		if (value == null) {
+			return "";
+		}
+		if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+			return value;
+		}
+		return '"' + value.replace("\"", "\"\"") + '"';
+	}
+
+
+	/** NDJSON の1行を書く。 */
+	private void writeJsonLine(Writer writer, Word word) throws IOException {
+		writer.write(objectMapper.writeValueAsString(word));
+		writer.write('\n');
+	}
+
+}
@@ -0,0 +1,374 @@
+package com.example.app.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.app.domain.Word;
+import com.example.app.mapper.WordMapper;
+
+/**
+ * 綴りの間違い（タイプミス）を許すキーワード検索用の、english の BK-tree（メモリ上）。
+ *
+ * 「recieve」のように部分一致で1件も見つからないキーワードのとき、編集距離（レーベンシュタイン距離）が
+ * 近い english の単語を探す。SQL で同じことをするとテーブル全体について距離を計算することになるため、
+ * BK-tree を使って「距離の三角不等式から、あり得ない枝は読まない」ことで調べる単語を減らす。
+ *
+ * - 各ノードは正規化した english 1つと、その english を持つ単語 id を持つ
+ * - 子ノードは「親との距離」ごとに1つ。距離 d 以内を探すときは、親との距離が (親との距離 ± d) の子だけを読む
+ * - 枝を選ぶのに正確な距離が要るので、距離の計算は途中で打ち切らない（単語は短いので1回あたりは小さい）
+ * - 許す距離はキーワードの長さで決める（短いキーワードほど、別の単語と取り違えやすいため）
+ *     2文字以下 → 使わない / 3〜5文字 → 1 / 6文字以上 → app.search.fuzzy.max-distance（既定 2）
+ * - アプリ起動完了時に word テーブル全件から作る（失敗した場合は初回利用時に作り直す）
+ * - WordService の create / update / delete のコミット後に、その単語の分だけ更新する
+ *   （BK-tree からノードは取り除けないので、削除はノードから id を外すだけ。空のノードが増えたらメモリ上で作り直す）
+ */
+@Service
+public class WordFuzzyIndex {
+
+	private static final Logger log = LoggerFactory.getLogger(WordFuzzyIndex.class);
+
+	/** 1回の検索で返す最大件数 */
+	public static final int MAX_RESULTS = 100;
+
+	/** word テーブルにアクセスするためのマッパー */
+	private final WordMapper wordMapper;
+
+	/** 許す編集距離の上限（長いキーワードのとき） */
+	private final int maxDistance;
+
+	/** 単語 id → 正規化した english（更新・削除のときに、元のノードを探す用） */
+	private final Map<Long, String> terms = new HashMap<>();
+
+	/** BK-tree の根（単語が1件もない間は null） */
+	private Node root;
+
+	/** ノードの数と、id が1つもない（削除済みの）ノードの数 */
+	private int nodeCount;
+	private int emptyNodeCount;
+
+	/** 読み取り（検索）は並行、書き込み（登録・削除）は排他 */
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	/** 索引を作り終えたかどうか */
+	private volatile boolean built;
+
+
+    /**
+     * コンストラクタ。
+     * 設定値は application.properties から受け取る（未設定ならデフォルト値）。
+     */
+	public WordFuzzyIndex(WordMapper wordMapper,
+						@Value("${app.search.fuzzy.max-distance:2}") int maxDistance) {
+		this.wordMapper = wordMapper;
+		this.maxDistance = Math.max(1, maxDistance);
+	}
+
+
+    /**
+     * アプリの起動が終わったら索引を作る。
+     * DB に接続できなかった場合は、初回利用時にもう一度作る。
+     */
+	@EventListener(ApplicationReadyEvent.class)
+	public void buildOnStartup() {
+		try {
+			rebuild();
+		} catch (RuntimeException e) {
+			log.warn("あいまい検索の索引を作れませんでした: {}", e.getMessage());
+		}
+	}
+
+
+    /**
+     * word テーブル全件から索引を作り直す。
+     */
+	public void rebuild() {
+		List<Word> words = wordMapper.findAll();
+		lock.writeLock().lock();
+		try {
+			terms.clear();
+			for (Word word : words) {
+				terms.put(word.getId(), SearchKeyNormalizer.normalize(word.getEnglish()));
+			}
+			rebuildTree();
+			built = true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+
+    /**
+     * english がキーワードに近い（編集距離が小さい）単語の id を返す。
+     *
+     * @param keyword 正規化済みの検索キーワード（SearchKeyNormalizer.normalize）
+     * @return 距離が近い順（同じ距離なら id の昇順）の単語 id（最大 MAX_RESULTS 件。短すぎるキーワードは空）
+     */
+	public List<Long> search(String keyword) {
+		int limit = distanceLimit(keyword);
+		if (limit == 0) {
+			return new ArrayList<>();
+		}
+		ensureBuilt();
+
+		List<long[]> hits = new ArrayList<>();	// {距離, id}
+		lock.readLock().lock();
+		try {
+			if (root == null) {
+				return new ArrayList<>();
+			}
+			Deque<Node> stack = new ArrayDeque<>();
+			stack.push(root);
+			while (!stack.isEmpty()) {
+				Node node = stack.pop();
+				int distance = distance(keyword, node.term);
+				if (distance <= limit) {
+					for (int i = 0; i < node.idCount; i++) {
+						hits.add(new long[] { distance, node.ids[i] });
+					}
+				}
+				// 三角不等式：子との距離が (distance - limit) 〜 (distance + limit) の枝だけに答えがあり得る
+				for (int i = 0; i < node.childCount; i++) {
+					if (Math.abs(node.childDistances[i] - distance) <= limit) {
+						stack.push(node.children[i]);
+					}
+				}
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		hits.sort(Comparator.<long[]>comparingLong(hit -> hit[0]).thenComparingLong(hit -> hit[1]));
+		List<Long> ids = new ArrayList<>(Math.min(hits.size(), MAX_RESULTS));
+		for (int i = 0; i < hits.size() && i < MAX_RESULTS; i++) {
+			ids.add(hits.get(i)[1]);
+		}
+		return ids;
+	}
+
+
+    /**
+     * 単語の登録・更新・削除がコミットされたら、その単語の分だけ索引を更新する。
+     * 未作成の場合は何もしない（初回利用時に最新の状態から作るため）。
+     * 一括登録など（BULK）の場合は、全体を作り直す。
+     *
+     * @param event 変更内容
+     */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onWordChanged(WordChangedEvent event) {
+		if (built && event.type() == WordChangedEvent.Type.BULK) {
+			rebuild();
+			return;
+		}
+		if (!built || event.wordId() == null) {
+			return;
+		}
+
+		Word word = event.type() != WordChangedEvent.Type.DELETED
+				? wordMapper.findById(event.wordId())
+				: null;
+
+		lock.writeLock().lock();
+		try {
+			String old = terms.remove(event.wordId());
+			if (old != null) {
+				remove(old, event.wordId());
+			}
+			if (word != null) {
+				String term = SearchKeyNormalizer.normalize(word.getEnglish());
+				terms.put(word.getId(), term);
+				add(term, word.getId());
+			}
+			// 削除済みのノードが半分を超えたら、残っている単語だけで作り直す（探索で読むノードを減らす）
+			if (emptyNodeCount > nodeCount / 2) {
+				rebuildTree();
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+
+	/** 未作成なら作る。 */
+	private void ensureBuilt() {
+		if (!built) {
+			synchronized (this) {
+				if (!built) {
+					rebuild();
+				}
+			}
+		}
+	}
+
+
+	/** キーワードの長さから、許す編集距離を決める（0 なら使わない）。 */
+	private int distanceLimit(String keyword) {
+		int length = keyword == null ? 0 : keyword.codePointCount(0, keyword.length());
+		if (length <= 2) {
+			return 0;
+		}
+		return length <= 5 ? 1 : maxDistance;
+	}
+
+
+	/** terms から木を作り直す（書き込みロック中に呼ぶ）。 */
+	private void rebuildTree() {
+		root = null;
+		nodeCount = 0;
+		emptyNodeCount = 0;
+		for (Map.Entry<Long, String> entry : terms.entrySet()) {
+			add(entry.getValue(), entry.getKey());
+		}
+	}
+
+
+	/** term のノードに id を加える（無ければノードを作る。書き込みロック中に呼ぶ）。 */
+	private void add(String term, long id) {
+		if (term.isEmpty()) {
+			return;
+		}
+		if (root == null) {
+			root = new Node(term);
+			nodeCount++;
+			root.addId(id);
+			return;
+		}
+		Node node = root;
+		while (true) {
+			int distance = distance(term, node.term);
+			if (distance == 0) {
+				if (node.idCount == 0) {
+					emptyNodeCount--;
+				}
+				node.addId(id);
+				return;
+			}
+			Node child = node.child(distance);
+			if (child == null) {
+				child = new Node(term);
+				nodeCount++;
+				child.addId(id);
+				node.addChild(distance, child);
+				return;
+			}
+			node = child;
+		}
+	}
+
+
+	/** term のノードから id を外す（ノード自体は残す。書き込みロック中に呼ぶ）。 */
+	private void remove(String term, long id) {
+		Node node = root;
+		while (node != null) {
+			int distance = distance(term, node.term);
+			if (distance == 0) {
+				if (node.removeId(id) && node.idCount == 0) {
+					emptyNodeCount++;
+				}
+				return;
+			}
+			node = node.child(distance);
+		}
+	}
+
+
+    /**
+     * レーベンシュタイン距離（挿入・削除・置換を1回ずつ数える）。
+     */
+	static int distance(String a, String b) {
+		int n = a.length();
+		int m = b.length();
+		int[] previous = new int[m + 1];
+		int[] current = new int[m + 1];
+		for (int j = 0; j <= m; j++) {
+			previous[j] = j;
+		}
+		for (int i = 1; i <= n; i++) {
+			current[0] = i;
+			char ca = a.charAt(i - 1);
+			for (int j = 1; j <= m; j++) {
+				int cost = ca == b.charAt(j - 1) ? 0 : 1;
+				current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+			}
+			int[] swap = previous;
+			previous = current;
+			current = swap;
+		}
+		return previous[m];
+	}
+
+
+    /**
+     * BK-tree の1ノード。子は「このノードとの距離」ごとに1つまで（件数が少ないので配列で持つ）。
+     */
+	private static final class Node {
+
+		final String term;
+
+		long[] ids = new long[1];
+		int idCount;
+
+		int[] childDistances = new int[0];
+		Node[] children = new Node[0];
+		int childCount;
+
+		Node(String term) {
+			this.term = term;
+		}
+
+		Node child(int distance) {
+			for (int i = 0; i < childCount; i++) {
+				if (childDistances[i] == distance) {
+					return children[i];
+				}
+			}
+			return null;
+		}
+
+		void addChild(int distance, Node child) {
+			if (childCount == children.length) {
+				int capacity = Math.max(2, childCount * 2);
+				childDistances = Arrays.copyOf(childDistances, capacity);
+				children = Arrays.copyOf(children, capacity);
+			}
+			childDistances[childCount] = distance;
+			children[childCount] = child;
+			childCount++;
+		}
+
+		void addId(long id) {
+			if (idCount == ids.length) {
+				ids = Arrays.copyOf(ids, idCount * 2);
+			}
+			ids[idCount++] = id;
+		}
+
+		/** @return 外したかどうか */
+		boolean removeId(long id) {
+			for (int i = 0; i < idCount; i++) {
+				if (ids[i] == id) {
+					System.arraycopy(ids, i + 1, ids, i, idCount - i - 1);
+					idCount--;
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+}
@@ -0,0 +1,231 @@
+package com.example.app.service;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.app.mapper.WordMapper;
+
+/**
+ * クイズ・単語カード用に「ランダムな単語 id」を選ぶサービス。
+ *
+ * ORDER BY RAND() は毎回 word テーブル全体を読み込んで並べ替えるため、
+ * 単語数が増えるほど遅くなる。
+ * そこで、全単語の id だけを long[] としてメモリに持っておき、
+ * 配列の添字をランダムに1つ選ぶ（O(1)）→ 主キーで findById する、という流れにする。
+ *
+ * - 配列は初回利用時に DB から読み込む（起動時に DB へ接続しなくてよいように遅延ロード）
+ * - WordService の create / update / delete のコミット後に WordChangedEvent を受け取り、配列を差し替える
+ * - 読む側はロック不要（volatile の配列参照を1回読むだけ）
+ *
+ * ※ 他のアプリインスタンスで追加された単語は、このインスタンスの再起動まで配列に入らない。
+ *    削除済み id を引いた場合は、呼び出し側（WordService）で取り直す。
+ */
+@Service
+public class WordIdSampler {
+
+	/** word テーブルにアクセスするためのマッパー。 */
+	private final WordMapper wordMapper;
+
+	/** 全単語の id（昇順）。null の間は未ロード。差し替え時は配列ごと新しくする（コピーオンライト）。 */
+	private volatile long[] ids;
+
+
+    /**
+     * コンストラクタ。
+     * Spring が自動で WordMapper を注入してくれる。
+     */
+	public WordIdSampler(WordMapper wordMapper) {
+		this.wordMapper = wordMapper;
+	}
+
+
+    /**
+     * 登録済みの単語からランダムに1つ id を選ぶ。
+     *
+     * @return ランダムに選ばれた id。単語が1件もない場合は null
+     */
+	public Long pickRandomId() {
+		long[] current = loadedIds();
+		if (current.length == 0) {
+			return null;
+		}
+		return current[ThreadLocalRandom.current().nextInt(current.length)];
+	}
+
+
+    /**
+     * 登録済みの単語から、重複なしでランダムに複数の id を選ぶ。
+     *
+     * @param count 欲しい件数（単語数より多い場合は全件）
+     * @return ランダムに選ばれた id の配列（順番もランダム）
+     */
+	public long[] pickRandomIds(int count) {
+		long[] current = loadedIds();
+		int n = Math.min(Math.max(count, 0), current.length);
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+
+		if (n * 4 >= current.length) {
+			// 全体に対して件数が多い → 配列をコピーして先頭 n 件だけシャッフル（Fisher-Yates）
+			long[] copy = current.clone();
+			for (int i = 0; i < n; i++) {
+				int j = i + random.nextInt(copy.length - i);
+				long tmp = copy[i];
+				copy[i] = copy[j];
+				copy[j] = tmp;
+			}
+			return Arrays.copyOf(copy, n);
+		}
+
+		// 全体に対して件数が少ない → 重複した添字だけ引き直す
+		long[] picked = new long[n];
+		Set<Integer> usedIndexes = new HashSet<>();
+		int filled = 0;
+		while (filled < n) {
+			int index = random.nextInt(current.length);
+			if (usedIndexes.add(index)) {
+				picked[filled++] = current[index];
+			}
+		}
+		return picked;
+	}
+
+
+    /**
+     * 現在の単語数（id 配列の長さ）を返す。
+     * @return 単語数
+     */
+	public int size() {
+		return loadedIds().length;
+	}
+
+
+    /**
+     * 現在の全単語の id 配列（昇順）を返す（ShuffledDeck が1周分の対象として使う）。
+     * 単語が変わると配列ごと差し替えるので、返した配列の中身は変わらない。呼び出し側でも書き換えないこと。
+     *
+     * @return 全単語の id（昇順）
+     */
+	public long[] ids() {
+		return loadedIds();
+	}
+
+
+    /**
+     * その id の単語が登録されているかどうかを返す。
+     * id 配列を二分探索し、配列に無い場合だけ DB でも確かめる（他のインスタンスで追加された単語のため）。
+     *
+     * @param id 単語の id
+     * @return 登録されていれば true
+     */
+	public boolean exists(Long id) {
+		if (id == null) {
+			return false;
+		}
+		return Arrays.binarySearch(loadedIds(), id) >= 0 || wordMapper.findById(id) != null;
+	}
+
+
+    /**
+     * 単語の登録・更新・削除がコミットされたら、id 配列を更新する。
+     * 未ロードの場合は何もしない（次回の利用時に最新の状態を DB から読むため）。
+     *
+     * @param event 変更内容
+     */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onWordChanged(WordChangedEvent event) {
+		switch (event.type()) {
+			case CREATED -> add(event.wordId());
+			case DELETED -> remove(event.wordId());
+			case UPDATED -> {
+				// 更新では id の集合は変わらないので、配列はそのまま使える
+			}
+			case BULK -> {
+				// 一括登録などで多数の id が変わったので、読み込み済みなら丸ごと読み直す
+				if (ids != null) {
+					reload();
+				}
+			}
+		}
+	}
+
+
+    /**
+     * id 配列を DB から読み直す。
+     */
+	public synchronized void reload() {
+		List<Long> idList = wordMapper.findAllIds();
+
+		long[] loaded = new long[idList.size()];
+		for (int i = 0; i < loaded.length; i++) {
+			loaded[i] = idList.get(i);
+		}
+		// findAllIds は ORDER BY id 済みだが、二分探索の前提なので念のため並べ替えておく
+		Arrays.sort(loaded);
+
+		ids = loaded;
+	}
+
+
+	/** 未ロードなら DB から読み込み、現在の配列を返す。 */
+	private long[] loadedIds() {
+		long[] current = ids;
+		if (current == null) {
+			synchronized (this) {
+				if (ids == null) {
+					reload();
+				}
+				current = ids;
+			}
+		}
+		return current;
+	}
+
+
+	/** id を1件追加した新しい配列に差し替える。 */
+	private synchronized void add(Long id) {
+		long[] current = ids;
+		if (current == null || id == null) {
+			return;
+		}
+
+		int pos = Arrays.binarySearch(current, id);
+		if (pos >= 0) {
+			return; // すでに入っている
+		}
+
+		int insertAt = -(pos + 1);
+		long[] next = new long[current.length + 1];
+		System.arraycopy(current, 0, next, 0, insertAt);
+		next[insertAt] = id;
+		System.arraycopy(current, insertAt, next, insertAt + 1, current.length - insertAt);
+
+		ids = next;
+	}
+
+
+	/** id を1件取り除いた新しい配列に差し替える。 */
+	private synchronized void remove(Long id) {
+		long[] current = ids;
+		if (current == null || id == null) {
+			return;
+		}
+
+		int pos = Arrays.binarySearch(current, id);
+		if (pos < 0) {
+			return; // もともと入っていない
+		}
+
+		long[] next = new long[current.length - 1];
+		System.arraycopy(current, 0, next, 0, pos);
+		System.arraycopy(current, pos + 1, next, pos, current.length - pos - 1);
+
+		ids = next;
+	}
+
+}
@@ -0,0 +1,241 @@
+package com.example.app.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.app.domain.Word;
+import com.example.app.domain.WordImportResult;
+
+/**
+ * CSV / TSV ファイルから単語をまとめて登録するサービス（管理者の一括登録用）。
+ *
+ * 1行ずつ WordService.create を呼ぶと、1件ごとにトランザクションと DB への往復が発生する。
+ * ここでは次のようにして、数万行でも短時間で登録できるようにする。
+ *
+ * - ファイルは DelimitedRowReader で1行ずつ読む（ファイル全体をメモリに載せない）
+ * - 各行は Word の Bean Validation（@NotBlank・@Size）で確認し、エラーの行は飛ばして理由を記録する
+ * - 正しい行は一定件数（app.import.chunk-size）ごとに、MyBatis の ExecutorType.BATCH でまとめて INSERT する
+ *   （入力チェックとバッチの実行は WordBatchWriter。一括置換と共通）
+ * - トランザクションはまとまりごと。途中で DB のエラーが起きても、取り消されるのはそのまとまりだけ
+ *   （初期データのパックのように全体を1つのトランザクションで登録したい場合は importWordsInTransaction を使う）
+ * - 最後に WordChangedEvent（BULK）を1回だけ発行し、メモリ上の索引などに全体を読み直してもらう
+ *   （1行ごとにイベントを出すと、索引の更新で行数分の SELECT が走ってしまうため）
+ *
+ * ファイルの形式:
+ *   - 1列目が英単語、2列目が日本語（3列目以降は無視する）。文字コードは UTF-8（BOM 付きでもよい）
+ *   - 1行目が「english」で始まる場合は見出し行として読み飛ばす
+ *
+ * 設定（application.properties）:
+ *   - app.import.chunk-size          : 1回のトランザクションで登録する行数
+ *   - app.import.max-reported-errors : 結果に載せるエラーの最大件数
+ */
+@Service
+public class WordImportService {
+
+	private static final Logger log = LoggerFactory.getLogger(WordImportService.class);
+
+	/** 入力チェックとバッチでの INSERT */
+	private final WordBatchWriter wordBatchWriter;
+
+	/** まとまりごとのトランザクション */
+	private final TransactionTemplate transactionTemplate;
+
+	/** 取り込み後に WordChangedEvent を発行するためのパブリッシャー */
+	private final ApplicationEventPublisher eventPublisher;
+
+	/** 1回のトランザクションで登録する行数 */
+	private final int chunkSize;
+
+	/** 結果に載せるエラーの最大件数 */
+	private final int maxReportedErrors;
+
+
+    /**
+     * コンストラクタ。
+     * 設定値は application.properties から受け取る（未設定ならデフォルト値）。
+     */
+	public WordImportService(WordBatchWriter wordBatchWriter,
+							PlatformTransactionManager transactionManager,
+							ApplicationEventPublisher eventPublisher,
+							@Value("${app.import.chunk-size:1000}") int chunkSize,
+							@Value("${app.import.max-reported-errors:100}") int maxReportedErrors) {
+		this.wordBatchWriter = wordBatchWriter;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.eventPublisher = eventPublisher;
+		this.chunkSize = Math.max(1, chunkSize);
+		this.maxReportedErrors = Math.max(0, maxReportedErrors);
+	}
+
+
+    /**
+     * CSV / TSV を読み込んで単語を登録する。
+     *
+     * @param in       ファイルの中身
+     * @param filename ファイル名（拡張子が .tsv / .txt ならタブ区切り、それ以外はカンマ区切りとして読む）
+     * @return 件数・速度・エラーの行
+     * @throws IOException ファイルの読み込みに失敗した場合（それまでに登録したまとまりは取り消さない）
+     */
+	public WordImportResult importWords(InputStream in, String filename) throws IOException {
+		return importWords(in, filename, false);
+	}
+
+
+    /**
+     * CSV / TSV を読み込んで、呼び出し元のトランザクションの中で単語を登録する（SeedPackLoader 用）。
+     *
+     * importWords と違い、まとまりごとのトランザクションは作らず、DB のエラーは飛ばさずにそのまま投げる。
+     * 呼び出し元は、失敗したらファイル全体（と一緒に書いた記録）を取り消せる。
+     * 入力チェックに通らない行は、importWords と同じくエラーとして数えて飛ばす。
+     *
+     * @param in       ファイルの中身
+     * @param filename ファイル名（拡張子が .tsv / .txt ならタブ区切り、それ以外はカンマ区切りとして読む）
+     * @return 件数・速度・エラーの行
+     * @throws IOException ファイルの読み込みに失敗した場合
+     * @throws org.springframework.transaction.IllegalTransactionStateException トランザクションの外で呼んだ場合
+     */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public WordImportResult importWordsInTransaction(InputStream in, String filename) throws IOException {
+		return importWords(in, filename, true);
+	}
+
+
+	/** 読み込みの本体。inCallerTransaction が true なら、呼び出し元のトランザクションの中で登録する。 */
+	private WordImportResult importWords(InputStream in, String filename, boolean inCallerTransaction) throws IOException {
+		WordImportResult result = new WordImportResult();
+		long start = System.nanoTime();
+
+		List<Word> chunk = new ArrayList<>(chunkSize);
+		long chunkFirstLine = 0;
+		try (DelimitedRowReader reader = new DelimitedRowReader(
+				new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)), delimiterOf(filename))) {
+
+			boolean firstRow = true;
+			List<String> fields;
+			while ((fields = reader.next()) != null) {
+				long lineNumber = reader.rowLineNumber();
+				if (isBlank(fields)) {
+					continue;
+				}
+				if (firstRow) {
+					firstRow = false;
+					if (fields.get(0).strip().toLowerCase(Locale.ROOT).startsWith("english")) {
+						continue;	// 見出し行
+					}
+				}
+
+				result.setTotalRows(result.getTotalRows() + 1);
+				if (fields.size() < 2) {
+					addError(result, lineNumber, "英単語と日本語の2列が必要です");
+					continue;
+				}
+
+				Word word = new Word(null, fields.get(0).strip(), fields.get(1).strip());
+				String violations = wordBatchWriter.validate(word);
+				if (violations != null) {
+					addError(result, lineNumber, violations);
+					continue;
+				}
+
+				if (chunk.isEmpty()) {
+					chunkFirstLine = lineNumber;
+				}
+				chunk.add(word);
+				if (chunk.size() >= chunkSize) {
+					insertChunk(chunk, chunkFirstLine, lineNumber, result, inCallerTransaction);
+					chunk.clear();
+				}
+			}
+			if (!chunk.isEmpty()) {
+				insertChunk(chunk, chunkFirstLine, reader.rowLineNumber(), result, inCallerTransaction);
+			}
+		} finally {
+			result.setElapsedMillis((System.nanoTime() - start) / 1_000_000);
+
+			// 1件でも登録していれば、索引などに全体を読み直してもらう（途中で失敗した場合も）
+			// （呼び出し元のトランザクションの中なら、コミットされたときだけ届く）
+			if (result.getImportedRows() > 0) {
+				eventPublisher.publishEvent(new WordChangedEvent(WordChangedEvent.Type.BULK, null));
+			}
+		}
+
+		log.info("単語の一括登録: {} 行中 {} 行を登録、{} 行はエラー（{} ms, {} 行/秒）",
+				result.getTotalRows(), result.getImportedRows(), result.getErrorRows(),
+				result.getElapsedMillis(), result.getRowsPerSecond());
+		return result;
+	}
+
+
+    /**
+     * まとまり1つを、1回のトランザクションの中で JDBC のバッチとして INSERT する。
+     * 失敗した場合はそのまとまりだけ取り消して、エラーとして記録する。
+     * inCallerTransaction が true なら、呼び出し元のトランザクションの中で INSERT し、失敗はそのまま投げる。
+     */
+	private void insertChunk(List<Word> chunk, long firstLine, long lastLine, WordImportResult result,
+							boolean inCallerTransaction) {
+		if (inCallerTransaction) {
+			wordBatchWriter.insertAll(chunk);
+			result.setImportedRows(result.getImportedRows() + chunk.size());
+			return;
+		}
+		try {
+			transactionTemplate.executeWithoutResult(status -> wordBatchWriter.insertAll(chunk));
+			result.setImportedRows(result.getImportedRows() + chunk.size());
+		} catch (RuntimeException e) {
+			result.setErrorRows(result.getErrorRows() + chunk.size());
+			addReportedError(result, firstLine, firstLine + "〜" + lastLine + " 行目の " + chunk.size()
+					+ " 件を登録できませんでした（この範囲はまとめて取り消しました）: " + e.getMessage());
+			log.warn("単語の一括登録で {}〜{} 行目の書き込みに失敗しました: {}", firstLine, lastLine, e.getMessage());
+		}
+	}
+
+
+	/** エラーの行を1件数えて、結果に載せる。 */
+	private void addError(WordImportResult result, long lineNumber, String message) {
+		result.setErrorRows(result.getErrorRows() + 1);
+		addReportedError(result, lineNumber, message);
+	}
+
+
+	/** エラーの内容を結果に載せる（上限を超えたら載せずに、超えたことだけ記録する）。 */
+	private void addReportedError(WordImportResult result, long lineNumber, String message) {
+		if (result.getErrors().size() < maxReportedErrors) {
+			result.getErrors().add(new WordImportResult.RowError(lineNumber, message));
+		} else {
+			result.setErrorsTruncated(true);
+		}
+	}
+
+
+	/** ファイル名の拡張子から区切り文字を決める。 */
+	private static char delimiterOf(String filename) {
+		String lower = filename == null ? "" : filename.toLowerCase(Locale.ROOT);
+		return (lower.endsWith(".tsv") || lower.endsWith(".txt")) ? '\t' : ',';
+	}
+
+
+	private static boolean isBlank(List<String> fields) {
+		for (String field : fields) {
+			if (!field.isBlank()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
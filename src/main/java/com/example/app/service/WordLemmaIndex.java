@@ -0,0 +1,419 @@
+package com.example.app.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.app.domain.Word;
+import com.example.app.mapper.WordMapper;
+
+/**
+ * 英単語の変化形（ran → run、children → child、studies → study など）から単語を探す、メモリ上の索引。
+ *
+ * word.english には原形で登録されているので、変化形で検索すると部分一致では見つからない。
+ * かといって検索のたびに変化形の候補ごとに LIKE を足すと、その分だけテーブルを読み直すことになる。
+ * そこで、単語ごとに「あり得る変化形」をあらかじめ作っておき、変化形 → 単語 id の HashMap を持つ。
+ * 検索はキーワードで HashMap を1回引くだけ。
+ *
+ * - 規則変化（-s / -es / -ies / -ed / -ied / -ing、語末の e を取る形）はここで作る
+ * - 比較級・最上級（-er / -est）は、lemma/english-adjectives.txt に載せた形容詞にだけ作る
+ *   （どの語にも付けると、manner → man、corner → corn、offer → off のように別の単語の変化形と取り違える）
+ * - 子音字を重ねる形（stopped, running）も規則では作らない（letter → let、butter → but になるため）。
+ *   不規則変化と同じく lemma/english-inflections.tsv（変化形<TAB>原形）から読み込む
+ * - 「look up」のような複数語の english は、先頭の語だけを変化させる（looked up, looking up ...）
+ * - アプリ起動完了時に word テーブル全件から作る（失敗した場合は初回利用時に作り直す）
+ * - WordService の create / update / delete のコミット後に、その単語の分だけ更新する
+ */
+@Service
+public class WordLemmaIndex {
+
+	private static final Logger log = LoggerFactory.getLogger(WordLemmaIndex.class);
+
+	/** 不規則変化の表（クラスパス上の場所） */
+	static final String INFLECTIONS_RESOURCE = "lemma/english-inflections.tsv";
+
+	/** 比較級・最上級を作る形容詞の一覧（クラスパス上の場所） */
+	static final String ADJECTIVES_RESOURCE = "lemma/english-adjectives.txt";
+
+	/** word テーブルにアクセスするためのマッパー */
+	private final WordMapper wordMapper;
+
+	/** 原形 → 不規則な変化形 */
+	private final Map<String, List<String>> irregularForms;
+
+	/** 比較級・最上級を作る形容詞 */
+	private final Set<String> adjectives;
+
+	/** 変化形 → その変化形を持つ単語 id */
+	private final Map<String, Set<Long>> byForm = new HashMap<>();
+
+	/** 単語 id → 正規化した english / japanese（取り除くときと、部分一致との重複を除くときに使う） */
+	private final Map<Long, String[]> texts = new HashMap<>();
+
+	/** 読み取り（検索）は並行、書き込み（登録・削除）は排他 */
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	/** 索引を作り終えたかどうか */
+	private volatile boolean built;
+
+
+    /**
+     * コンストラクタ。
+     * Spring が自動で WordMapper を注入してくれる。不規則変化の表と形容詞の一覧はここで読み込む。
+     */
+	public WordLemmaIndex(WordMapper wordMapper) {
+		this.wordMapper = wordMapper;
+		this.irregularForms = loadIrregularForms();
+		this.adjectives = loadAdjectives();
+	}
+
+
+    /**
+     * アプリの起動が終わったら索引を作る。
+     * DB に接続できなかった場合は、初回利用時にもう一度作る。
+     */
+	@EventListener(ApplicationReadyEvent.class)
+	public void buildOnStartup() {
+		try {
+			rebuild();
+		} catch (RuntimeException e) {
+			log.warn("変化形検索の索引を作れませんでした: {}", e.getMessage());
+		}
+	}
+
+
+    /**
+     * word テーブル全件から索引を作り直す。
+     */
+	public void rebuild() {
+		List<Word> words = wordMapper.findAll();
+		lock.writeLock().lock();
+		try {
+			byForm.clear();
+			texts.clear();
+			for (Word word : words) {
+				put(word);
+			}
+			built = true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+
+    /**
+     * キーワードを変化形として持つ単語の id を返す。
+     * english / japanese にキーワードがそのまま含まれる単語（部分一致でも見つかるもの）は除く。
+     *
+     * @param keyword 正規化済みの検索キーワード（SearchKeyNormalizer.normalize）
+     * @return 単語 id（昇順。無ければ空）
+     */
+	public List<Long> search(String keyword) {
+		if (keyword == null || keyword.isEmpty()) {
+			return new ArrayList<>();
+		}
+		ensureBuilt();
+
+		lock.readLock().lock();
+		try {
+			Set<Long> ids = byForm.get(keyword);
+			if (ids == null) {
+				return new ArrayList<>();
+			}
+			List<Long> result = new ArrayList<>(ids.size());
+			for (Long id : ids) {
+				String[] text = texts.get(id);
+				if (text != null && !text[0].contains(keyword) && !text[1].contains(keyword)) {
+					result.add(id);
+				}
+			}
+			return result;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+
+    /**
+     * 単語の登録・更新・削除がコミットされたら、その単語の分だけ索引を更新する。
+     * 未作成の場合は何もしない（初回利用時に最新の状態から作るため）。
+     * 一括登録など（BULK）の場合は、全体を作り直す。
+     *
+     * @param event 変更内容
+     */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onWordChanged(WordChangedEvent event) {
+		if (built && event.type() == WordChangedEvent.Type.BULK) {
+			rebuild();
+			return;
+		}
+		if (!built || event.wordId() == null) {
+			return;
+		}
+
+		Word word = event.type() != WordChangedEvent.Type.DELETED
+				? wordMapper.findById(event.wordId())
+				: null;
+
+		lock.writeLock().lock();
+		try {
+			remove(event.wordId());
+			if (word != null) {
+				put(word);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+
+	/** 未作成なら作る。 */
+	private void ensureBuilt() {
+		if (!built) {
+			synchronized (this) {
+				if (!built) {
+					rebuild();
+				}
+			}
+		}
+	}
+
+
+	/** 単語を索引に登録する（書き込みロック中に呼ぶ）。 */
+	private void put(Word word) {
+		String english = SearchKeyNormalizer.normalize(word.getEnglish());
+		texts.put(word.getId(), new String[] { english, SearchKeyNormalizer.normalize(word.getJapanese()) });
+		for (String form : formsOf(english)) {
+			byForm.computeIfAbsent(form, k -> new TreeSet<>()).add(word.getId());
+		}
+	}
+
+
+	/** 単語を索引から取り除く（書き込みロック中に呼ぶ）。 */
+	private void remove(Long wordId) {
+		String[] text = texts.remove(wordId);
+		if (text == null) {
+			return;
+		}
+		for (String form : formsOf(text[0])) {
+			Set<Long> ids = byForm.get(form);
+			if (ids != null) {
+				ids.remove(wordId);
+				if (ids.isEmpty()) {
+					byForm.remove(form);
+				}
+			}
+		}
+	}
+
+
+    /**
+     * 正規化した english の変化形をすべて返す（原形そのものは含めない）。
+     * 複数語の場合は先頭の語だけを変化させ、残りはそのまま付ける。
+     */
+	private Set<String> formsOf(String english) {
+		int space = english.indexOf(' ');
+		String head = space < 0 ? english : english.substring(0, space);
+		String rest = space < 0 ? "" : english.substring(space);
+		Set<String> forms = new LinkedHashSet<>();
+		if (!isWord(head)) {
+			return forms;
+		}
+
+		for (String form : irregularForms.getOrDefault(head, List.of())) {
+			forms.add(form + rest);
+		}
+		for (String form : regularForms(head)) {
+			forms.add(form + rest);
+		}
+		if (adjectives.contains(head)) {
+			for (String form : comparativeForms(head)) {
+				forms.add(form + rest);
+			}
+		}
+		forms.remove(english);
+		return forms;
+	}
+
+
+    /**
+     * 規則変化の形を作る（名詞の複数形・三単現、過去形・過去分詞、-ing）。
+     * 子音字を重ねる形と、比較級・最上級は作らない（どの語に当てはまるかを綴りだけでは決められないため）。
+     */
+	static Set<String> regularForms(String word) {
+		Set<String> forms = new LinkedHashSet<>();
+		int n = word.length();
+		if (n < 2) {
+			return forms;
+		}
+		char last = word.charAt(n - 1);
+		char beforeLast = word.charAt(n - 2);
+		boolean consonantY = last == 'y' && !isVowel(beforeLast);
+
+		// -s / -es / -ies
+		if (consonantY) {
+			forms.add(word.substring(0, n - 1) + "ies");
+		} else if (word.endsWith("s") || word.endsWith("x") || word.endsWith("z")
+				|| word.endsWith("ch") || word.endsWith("sh")) {
+			forms.add(word + "es");
+		} else {
+			forms.add(word + "s");
+			if (last == 'o') {
+				forms.add(word + "es");
+			}
+		}
+
+		// -ed
+		forms.add(withSuffix(word, "ed"));
+
+		// -ing
+		if (word.endsWith("ie")) {
+			forms.add(word.substring(0, n - 2) + "ying");
+		} else if (last == 'e' && beforeLast != 'e') {
+			forms.add(word.substring(0, n - 1) + "ing");
+		} else {
+			forms.add(word + "ing");
+		}
+		return forms;
+	}
+
+
+    /**
+     * 形容詞の比較級・最上級を作る（lemma/english-adjectives.txt に載せた語にだけ使う）。
+     * 子音＋短母音＋子音で終わる語は、最後の子音字を重ねる（big → bigger, biggest）。
+     */
+	static Set<String> comparativeForms(String adjective) {
+		Set<String> forms = new LinkedHashSet<>();
+		if (adjective.length() < 2) {
+			return forms;
+		}
+		for (String suffix : new String[] { "er", "est" }) {
+			if (endsWithShortSyllable(adjective)) {
+				forms.add(adjective + adjective.charAt(adjective.length() - 1) + suffix);
+			} else {
+				forms.add(withSuffix(adjective, suffix));
+			}
+		}
+		return forms;
+	}
+
+
+	/** e で始まる語尾を付ける（語末の e は重ねない、子音＋y は i に変える）。 */
+	private static String withSuffix(String word, String suffix) {
+		int n = word.length();
+		char last = word.charAt(n - 1);
+		if (last == 'e') {
+			return word + suffix.substring(1);
+		}
+		if (last == 'y' && !isVowel(word.charAt(n - 2))) {
+			return word.substring(0, n - 1) + "i" + suffix;
+		}
+		return word + suffix;
+	}
+
+
+	/** 子音＋短母音＋子音で終わる（big → bigger のように最後の子音字を重ねる）かどうか。 */
+	private static boolean endsWithShortSyllable(String word) {
+		int n = word.length();
+		if (n < 3) {
+			return false;
+		}
+		char last = word.charAt(n - 1);
+		return !isVowel(last) && last != 'w' && last != 'x' && last != 'y'
+				&& isVowel(word.charAt(n - 2)) && !isVowel(word.charAt(n - 3));
+	}
+
+
+	private static boolean isVowel(char c) {
+		return c == 'a' || c == 'e' || c == 'i' || c == 'o' || c == 'u';
+	}
+
+
+	/** 英小文字だけでできた1語かどうか（変化形を作る・探す対象）。 */
+	private static boolean isWord(String text) {
+		if (text.isEmpty()) {
+			return false;
+		}
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c < 'a' || c > 'z') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+
+	/** 不規則変化の表を読み込む（原形 → 変化形）。 */
+	private static Map<String, List<String>> loadIrregularForms() {
+		Map<String, List<String>> forms = new HashMap<>();
+		InputStream in = WordLemmaIndex.class.getClassLoader().getResourceAsStream(INFLECTIONS_RESOURCE);
+		if (in == null) {
+			log.warn("不規則変化の表 {} が見つかりません（規則変化だけで探します）", INFLECTIONS_RESOURCE);
+			return forms;
+		}
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.isBlank() || line.startsWith("#")) {
+					continue;
+				}
+				String[] columns = line.split("\t");
+				if (columns.length < 2) {
+					continue;
+				}
+				String form = SearchKeyNormalizer.normalize(columns[0]);
+				String lemma = SearchKeyNormalizer.normalize(columns[1]);
+				forms.computeIfAbsent(lemma, k -> new ArrayList<>()).add(form);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return forms;
+	}
+
+
+
+	/** 比較級・最上級を作る形容詞の一覧を読み込む。 */
+	private static Set<String> loadAdjectives() {
+		Set<String> adjectives = new HashSet<>();
+		InputStream in = WordLemmaIndex.class.getClassLoader().getResourceAsStream(ADJECTIVES_RESOURCE);
+		if (in == null) {
+			log.warn("形容詞の一覧 {} が見つかりません（比較級・最上級では探しません）", ADJECTIVES_RESOURCE);
+			return adjectives;
+		}
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.isBlank() || line.startsWith("#")) {
+					continue;
+				}
+				adjectives.add(SearchKeyNormalizer.normalize(line));
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return adjectives;
+	}
+
+}
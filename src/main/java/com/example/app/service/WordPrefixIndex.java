@@ -0,0 +1,284 @@
+package com.example.app.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.app.domain.Word;
+import com.example.app.mapper.WordMapper;
+
+/**
+ * 検索ボックスの入力補完（前方一致）用の、メモリ上のソート済み配列の索引。
+ *
+ * english / japanese をそれぞれ正規化した文字列の昇順に並べた配列を持ち、
+ * 入力された文字列の位置を二分探索で見つけて、そこから前方一致する間だけ順に読む。
+ * 1文字入力するたびに呼ばれても MySQL にはアクセスしない（O(log n + 件数)）。
+ *
+ * - 配列は丸ごと作り直した「スナップショット」を volatile で差し替える（読む側はロック不要）
+ * - アプリ起動完了時に word テーブル全件から作る（失敗した場合は初回利用時に作り直す）
+ * - WordService の create / update / delete のコミット後に、その単語の分だけ差し替える
+ */
+@Service
+public class WordPrefixIndex {
+
+	private static final Logger log = LoggerFactory.getLogger(WordPrefixIndex.class);
+
+	/** 1回に返す候補の最大件数 */
+	public static final int MAX_SUGGESTIONS = 20;
+
+	/** word テーブルにアクセスするためのマッパー */
+	private final WordMapper wordMapper;
+
+	/** 現在の索引（null の間は未作成） */
+	private volatile Snapshot snapshot;
+
+
+    /**
+     * コンストラクタ。
+     * Spring が自動で WordMapper を注入してくれる。
+     */
+	public WordPrefixIndex(WordMapper wordMapper) {
+		this.wordMapper = wordMapper;
+	}
+
+
+    /**
+     * アプリの起動が終わったら索引を作る。
+     * DB に接続できなかった場合は、初回利用時にもう一度作る。
+     */
+	@EventListener(ApplicationReadyEvent.class)
+	public void buildOnStartup() {
+		try {
+			rebuild();
+		} catch (RuntimeException e) {
+			log.warn("入力補完の索引を作れませんでした: {}", e.getMessage());
+		}
+	}
+
+
+    /**
+     * word テーブル全件から索引を作り直す。
+     */
+	public synchronized void rebuild() {
+		Map<Long, Word> words = new HashMap<>();
+		for (Word word : wordMapper.findAll()) {
+			words.put(word.getId(), word);
+		}
+		snapshot = new Snapshot(words);
+	}
+
+
+    /**
+     * english または japanese が prefix で始まる単語を返す。
+     *
+     * english で前方一致したものを先に、続けて japanese で前方一致したものを、それぞれ辞書順に返す。
+     *
+     * @param prefix 入力途中の文字列（前後の空白は無視する）
+     * @param limit  返す件数（1〜MAX_SUGGESTIONS に丸める）
+     * @return 前方一致した単語（重複なし）
+     */
+	public List<Word> suggest(String prefix, int limit) {
+		String normalized = normalize(prefix);
+		if (normalized.isEmpty()) {
+			return new ArrayList<>();
+		}
+		int max = Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+
+		Snapshot current = loadedSnapshot();
+		Set<Long> ids = new LinkedHashSet<>();
+		current.english.collect(normalized, max, ids);
+		current.japanese.collect(normalized, max, ids);
+
+		List<Word> suggestions = new ArrayList<>(ids.size());
+		for (Long id : ids) {
+			suggestions.add(current.words.get(id));
+		}
+		return suggestions;
+	}
+
+
+    /**
+     * 単語の登録・更新・削除がコミットされたら、その単語の分だけ索引を差し替える。
+     * 未作成の場合は何もしない（初回利用時に最新の状態から作るため）。
+     * 一括登録など（BULK）の場合は、全体を作り直す。
+     *
+     * @param event 変更内容
+     */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onWordChanged(WordChangedEvent event) {
+		if (snapshot != null && event.type() == WordChangedEvent.Type.BULK) {
+			rebuild();
+			return;
+		}
+		if (snapshot == null || event.wordId() == null) {
+			return;
+		}
+
+		// DB から読み直すのもロックの中で行う。外で読むと、同じ単語の更新が続いたときに
+		// 先に読んだ古い内容が後から反映されて、新しい内容を上書きしてしまうことがある
+		synchronized (this) {
+			Word word = event.type() != WordChangedEvent.Type.DELETED
+					? wordMapper.findById(event.wordId())
+					: null;
+			snapshot = snapshot.with(event.wordId(), word);
+		}
+	}
+
+
+	/** 未作成なら作ってから返す。 */
+	private Snapshot loadedSnapshot() {
+		Snapshot current = snapshot;
+		if (current == null) {
+			synchronized (this) {
+				if (snapshot == null) {
+					rebuild();
+				}
+				current = snapshot;
+			}
+		}
+		return current;
+	}
+
+
+	/** 比較用に正規化する（キーワード検索と同じルール。全角半角・カタカナ/ひらがな・大文字小文字をそろえる）。 */
+	private static String normalize(String src) {
+		return SearchKeyNormalizer.normalize(src);
+	}
+
+
+    /**
+     * ある時点の索引全体。作った後は変更しない（変更するときは新しく作って差し替える）。
+     */
+	private static final class Snapshot {
+
+		/** id → 単語（候補として返す用） */
+		final Map<Long, Word> words;
+
+		/** english の昇順配列 */
+		final SortedKeys english;
+
+		/** japanese の昇順配列 */
+		final SortedKeys japanese;
+
+		Snapshot(Map<Long, Word> words) {
+			this(words, SortedKeys.of(words, Word::getEnglish), SortedKeys.of(words, Word::getJapanese));
+		}
+
+		private Snapshot(Map<Long, Word> words, SortedKeys english, SortedKeys japanese) {
+			this.words = words;
+			this.english = english;
+			this.japanese = japanese;
+		}
+
+		/** 1単語だけ差し替えた新しい索引を返す（word が null なら削除）。O(n) のコピー。 */
+		Snapshot with(Long id, Word word) {
+			Map<Long, Word> nextWords = new HashMap<>(words);
+			Word old = nextWords.remove(id);
+			SortedKeys nextEnglish = english;
+			SortedKeys nextJapanese = japanese;
+			if (old != null) {
+				nextEnglish = nextEnglish.without(normalize(old.getEnglish()), id);
+				nextJapanese = nextJapanese.without(normalize(old.getJapanese()), id);
+			}
+			if (word != null) {
+				nextWords.put(id, word);
+				nextEnglish = nextEnglish.with(normalize(word.getEnglish()), id);
+				nextJapanese = nextJapanese.with(normalize(word.getJapanese()), id);
+			}
+			return new Snapshot(nextWords, nextEnglish, nextJapanese);
+		}
+	}
+
+
+    /**
+     * 正規化した文字列の昇順に並べた (文字列, id) の配列。同じ文字列の場合は id の昇順。
+     */
+	private static final class SortedKeys {
+
+		final String[] keys;
+		final long[] ids;
+
+		SortedKeys(String[] keys, long[] ids) {
+			this.keys = keys;
+			this.ids = ids;
+		}
+
+		static SortedKeys of(Map<Long, Word> words, Function<Word, String> field) {
+			List<Word> sorted = new ArrayList<>(words.values());
+			sorted.sort(Comparator.comparing((Word word) -> normalize(field.apply(word)))
+					.thenComparing(Word::getId));
+			String[] keys = new String[sorted.size()];
+			long[] ids = new long[sorted.size()];
+			for (int i = 0; i < sorted.size(); i++) {
+				keys[i] = normalize(field.apply(sorted.get(i)));
+				ids[i] = sorted.get(i).getId();
+			}
+			return new SortedKeys(keys, ids);
+		}
+
+		/** prefix で始まるものを先頭から max 件まで ids に追加する。 */
+		void collect(String prefix, int max, Set<Long> result) {
+			for (int i = lowerBound(prefix, Long.MIN_VALUE);
+					i < keys.length && result.size() < max && keys[i].startsWith(prefix); i++) {
+				result.add(ids[i]);
+			}
+		}
+
+		/** (key, id) を挿入した新しい配列を返す。 */
+		SortedKeys with(String key, long id) {
+			int pos = lowerBound(key, id);
+			String[] nextKeys = new String[keys.length + 1];
+			long[] nextIds = new long[ids.length + 1];
+			System.arraycopy(keys, 0, nextKeys, 0, pos);
+			System.arraycopy(ids, 0, nextIds, 0, pos);
+			nextKeys[pos] = key;
+			nextIds[pos] = id;
+			System.arraycopy(keys, pos, nextKeys, pos + 1, keys.length - pos);
+			System.arraycopy(ids, pos, nextIds, pos + 1, ids.length - pos);
+			return new SortedKeys(nextKeys, nextIds);
+		}
+
+		/** (key, id) を取り除いた新しい配列を返す（無ければそのまま）。 */
+		SortedKeys without(String key, long id) {
+			int pos = lowerBound(key, id);
+			if (pos >= keys.length || !keys[pos].equals(key) || ids[pos] != id) {
+				return this;
+			}
+			String[] nextKeys = Arrays.copyOf(keys, keys.length - 1);
+			long[] nextIds = Arrays.copyOf(ids, ids.length - 1);
+			System.arraycopy(keys, pos + 1, nextKeys, pos, keys.length - pos - 1);
+			System.arraycopy(ids, pos + 1, nextIds, pos, ids.length - pos - 1);
+			return new SortedKeys(nextKeys, nextIds);
+		}
+
+		/** (key, id) 以上になる最初の位置（二分探索）。 */
+		private int lowerBound(String key, long id) {
+			int low = 0;
+			int high = keys.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				int cmp = keys[mid].compareTo(key);
+				if (cmp < 0 || (cmp == 0 && ids[mid] < id)) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+	}
+
+}
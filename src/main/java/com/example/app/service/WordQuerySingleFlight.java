@@ -0,0 +1,118 @@
+package com.example.app.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 同じ内容の単語検索が同時に来たときに、DB への問い合わせを1回にまとめる（シングルフライト）。
+ *
+ * クラス全員が同時に /user/words を開いたり、同じ単語を検索したりすると、
+ * まったく同じ件数・ページの問い合わせが並行して何十回も DB に飛ぶ。
+ * ここでは「いま実行中の問い合わせ」だけを覚えておき、同じ内容の問い合わせが来たら
+ * 新しく実行せずに、実行中のものの結果を待って同じ結果を返す。
+ *
+ * - 実行が終わったら（成功・失敗どちらでも）すぐに忘れる。結果を後から使い回すことはしない（それは WordSearchCache の役目）
+ * - キーに word テーブルの版番号（WordTableVersion）を含めるので、単語が変わった後に来た問い合わせが
+ *   変わる前から実行中の問い合わせに相乗りすることはない
+ * - 失敗した場合は、待っていた全員に同じ例外を投げる
+ * - まとめた回数は stats() で確認できる（/admin/metrics）
+ *
+ * ※ WordSearchCache が有効な場合は、その内側で呼ばれる。Caffeine の Cache#get(key, fn) は、
+ *    同じキーの読み込みが実行中なら終わるまで待たせるので、同じ内容の問い合わせはここに来る前にまとめられる
+ *    （キーも同じ「種類・版番号・正規化したキーワード・ページ・件数」）。
+ *    そのため、キャッシュが有効なときの coalesced はほぼ 0 になる。
+ *    この仕組みが効くのは app.search.cache.enabled=false のとき。
+ */
+@Component
+public class WordQuerySingleFlight {
+
+	/** word テーブルの版番号 */
+	private final WordTableVersion wordTableVersion;
+
+	/** 実行中の問い合わせ（キー → 結果を待つための Future） */
+	private final Map<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+	/** 実際に実行した回数 */
+	private final LongAdder executions = new LongAdder();
+
+	/** 実行中の問い合わせに相乗りした（まとめた）回数 */
+	private final LongAdder coalesced = new LongAdder();
+
+
+    /**
+     * コンストラクタ。
+     * Spring が自動で WordTableVersion を注入してくれる。
+     */
+	public WordQuerySingleFlight(WordTableVersion wordTableVersion) {
+		this.wordTableVersion = wordTableVersion;
+	}
+
+
+    /**
+     * 同じ内容の問い合わせが実行中ならその結果を待って返し、なければ loader を実行する。
+     *
+     * @param kind    問い合わせの種類（"count"・"page" など。種類が違えば別のキーになる）
+     * @param keyword 検索キーワード（正規化して同じになるものは同じキーとして扱う）
+     * @param page    ページ番号（使わない場合は 0）
+     * @param size    1ページの件数（使わない場合は 0）
+     * @param loader  問い合わせの処理
+     * @return 結果（相乗りした呼び出し元どうしで同じオブジェクトを共有するので、変更しないこと）
+     */
+	@SuppressWarnings("unchecked")
+	public <T> T execute(String kind, String keyword, int page, int size, Supplier<T> loader) {
+		Key key = new Key(kind, wordTableVersion.current(), SearchKeyNormalizer.normalize(keyword), page, size);
+
+		CompletableFuture<Object> mine = new CompletableFuture<>();
+		CompletableFuture<Object> running = inFlight.putIfAbsent(key, mine);
+		if (running != null) {
+			coalesced.increment();
+			try {
+				return (T) running.join();
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof RuntimeException cause) {
+					throw cause;
+				}
+				throw e;
+			}
+		}
+
+		executions.increment();
+		try {
+			T result = loader.get();
+			mine.complete(result);
+			return result;
+		} catch (RuntimeException | Error e) {
+			mine.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, mine);
+		}
+	}
+
+
+    /**
+     * 統計を返す（/admin/metrics 用）。
+     * キャッシュが有効なときは、まとめた回数（coalesced）はほぼ 0 になる（クラスのコメントを参照）。
+     * @return 実行した回数・まとめた回数・いま実行中の件数
+     */
+	public Map<String, Object> stats() {
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("executions", executions.sum());
+		stats.put("coalesced", coalesced.sum());
+		stats.put("inFlight", inFlight.size());
+		return stats;
+	}
+
+
+	/** 実行中の問い合わせを探すためのキー。 */
+	private record Key(String kind, long version, String keyword, int page, int size) {
+	}
+
+}
@@ -0,0 +1,111 @@
+package com.example.app.service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * 単語一覧の検索結果（件数・ページ）のキャッシュ。
+ *
+ * /user/words では同じキーワード・同じページが何度も検索されるが、
+ * 単語が変わるのは管理者が登録・編集・削除したときだけなので、結果をメモリに置いておく。
+ *
+ * - Caffeine（W-TinyLFU）で件数の上限と有効期限を持つ。よく使われる検索ほど残りやすい
+ * - キーは「種類・word テーブルの版番号（WordTableVersion）・正規化したキーワード・ページ・件数」
+ *   → 単語が変わると版番号が進むので、古い結果は使われなくなる
+ * - ヒット・ミス・追い出しの件数は stats() で確認できる（/admin/metrics）
+ *
+ * 設定（application.properties）:
+ *   - app.search.cache.enabled      : false にするとキャッシュしない
+ *   - app.search.cache.maximum-size : キャッシュする結果の件数の上限
+ *   - app.search.cache.ttl-seconds  : 結果を置いておく最大時間（秒）
+ */
+@Component
+public class WordSearchCache {
+
+	/** word テーブルの版番号 */
+	private final WordTableVersion wordTableVersion;
+
+	/** キャッシュを使うかどうか */
+	private final boolean enabled;
+
+	/** 検索結果のキャッシュ */
+	private final Cache<Key, Object> cache;
+
+
+    /**
+     * コンストラクタ。
+     * 設定値は application.properties から受け取る（未設定ならデフォルト値）。
+     */
+	public WordSearchCache(WordTableVersion wordTableVersion,
+						@Value("${app.search.cache.enabled:true}") boolean enabled,
+						@Value("${app.search.cache.maximum-size:1000}") long maximumSize,
+						@Value("${app.search.cache.ttl-seconds:300}") long ttlSeconds) {
+		this.wordTableVersion = wordTableVersion;
+		this.enabled = enabled;
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(Math.max(1, maximumSize))
+				.expireAfterWrite(Duration.ofSeconds(Math.max(1, ttlSeconds)))
+				.recordStats()
+				.build();
+	}
+
+
+    /**
+     * キャッシュにあればそれを返し、なければ loader で求めてキャッシュする。
+     *
+     * @param kind    結果の種類（"count"・"page" など。種類が違えば別のキーになる）
+     * @param keyword 検索キーワード（前後の空白・大文字小文字の違いは同じキーとして扱う）
+     * @param page    ページ番号（使わない場合は 0）
+     * @param size    1ページの件数（使わない場合は 0）
+     * @param loader  キャッシュに無いときに結果を求める処理
+     * @return 検索結果
+     */
+	@SuppressWarnings("unchecked")
+	public <T> T get(String kind, String keyword, int page, int size, Supplier<T> loader) {
+		if (!enabled) {
+			return loader.get();
+		}
+		Key key = new Key(kind, wordTableVersion.current(), normalize(keyword), page, size);
+		return (T) cache.get(key, k -> loader.get());
+	}
+
+
+    /**
+     * ヒット・ミス・追い出しの件数などを返す。
+     * @return 項目名 → 値
+     */
+	public Map<String, Object> stats() {
+		CacheStats stats = cache.stats();
+
+		Map<String, Object> metrics = new LinkedHashMap<>();
+		metrics.put("enabled", enabled);
+		metrics.put("size", cache.estimatedSize());
+		metrics.put("hits", stats.hitCount());
+		metrics.put("misses", stats.missCount());
+		metrics.put("hitRate", stats.hitRate());
+		metrics.put("evictions", stats.evictionCount());
+		metrics.put("tableVersion", wordTableVersion.current());
+		return metrics;
+	}
+
+
+	/** キーワードを正規化する（検索と同じルールなので、正規化して同じになるキーワードは同じ結果になる）。 */
+	private static String normalize(String keyword) {
+		return SearchKeyNormalizer.normalize(keyword);
+	}
+
+
+	/** キャッシュのキー。 */
+	private record Key(String kind, long version, String keyword, int page, int size) {
+	}
+
+}
@@ -0,0 +1,360 @@
+package com.example.app.service;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.app.domain.Word;
+import com.example.app.mapper.WordMapper;
+
+/**
+ * 単語一覧のキーワード検索（部分一致）用の、メモリ上の転置インデックス。
+ *
+ * LIKE '%kw%' は DB のインデックスが使えないため、検索のたびに word テーブル全体を読む
+ * （件数の COUNT とページ取得で2回）。
+ * そこで、english / japanese の文字 2-gram ごとに「その 2-gram を含む単語 id」の一覧（int の配列）を持っておき、
+ * キーワードの 2-gram の一覧どうしの共通部分 → 本当に部分一致するかの確認、の順で絞り込む。
+ * 検索にかかる時間はテーブル全体の件数ではなく、一覧の長さ（≒ヒット件数）で決まる。日本語でも同じように使える。
+ *
+ * - 1文字のキーワード用に、文字 1-gram の一覧も持つ
+ * - english / japanese もキーワードも SearchKeyNormalizer で正規化してから比べる（DB の english_norm / japanese_norm の LIKE と同じ結果）
+ * - アプリ起動完了時に word テーブル全件から作る（失敗した場合は初回利用時に作り直す）
+ * - 作り直すときは、新しい索引をロックの外で作ってから差し替える（DB から読む間も検索は止まらない）
+ * - WordService の create / update / delete のコミット後に、その単語の分だけ更新する
+ * - id が int に収まらない単語があるときは使わない（呼び出し側で LIKE 検索に戻す）
+ */
+@Service
+public class WordSearchIndex {
+
+	private static final Logger log = LoggerFactory.getLogger(WordSearchIndex.class);
+
+	/** word テーブルにアクセスするためのマッパー */
+	private final WordMapper wordMapper;
+
+	/** 索引の中身（lock で守る。作り直すときは丸ごと差し替える） */
+	private Tables tables = new Tables();
+
+	/** 読み取り（検索）は並行、書き込み（登録・削除・差し替え）は排他 */
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	/** 索引を作り終えたかどうか */
+	private volatile boolean built;
+
+
+    /**
+     * コンストラクタ。
+     * Spring が自動で WordMapper を注入してくれる。
+     */
+	public WordSearchIndex(WordMapper wordMapper) {
+		this.wordMapper = wordMapper;
+	}
+
+
+    /**
+     * アプリの起動が終わったら索引を作る。
+     * DB に接続できなかった場合は、初回利用時にもう一度作る。
+     */
+	@EventListener(ApplicationReadyEvent.class)
+	public void buildOnStartup() {
+		try {
+			rebuild();
+		} catch (RuntimeException e) {
+			log.warn("キーワード検索の索引を作れませんでした: {}", e.getMessage());
+		}
+	}
+
+
+    /**
+     * word テーブル全件から索引を作り直す。
+     *
+     * 全件の読み込みと新しい索引づくりはロックの外で行い、書き込みロックは差し替えの間だけ取る。
+     * 作り直しの間に届いた単語ごとの更新（onWordChanged）は、同じモニタ（this）で差し替えの後まで待たせる
+     * （古い索引に反映してから差し替えて、更新が消えるのを防ぐ）。
+     */
+	public synchronized void rebuild() {
+		Tables next = new Tables();
+		for (Word word : wordMapper.findAll()) {
+			next.put(word);
+		}
+
+		lock.writeLock().lock();
+		try {
+			tables = next;
+			built = true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+
+    /**
+     * english または japanese にキーワードを含む単語の id を返す。
+     *
+     * @param keyword 検索キーワード（前後の空白は呼び出し側で取り除いておく）
+     * @return 該当する単語の id（昇順）。索引が使えない場合は null
+     */
+	public int[] search(String keyword) {
+		ensureBuilt();
+
+		String normalized = normalize(keyword);
+		if (normalized.isEmpty()) {
+			return null;
+		}
+
+		lock.readLock().lock();
+		try {
+			Tables current = tables;
+			if (current.overflow) {
+				return null;
+			}
+
+			// キーワードの gram それぞれの一覧を集める（1つでも無ければ 0 件）
+			boolean single = normalized.length() == 1;
+			Set<Integer> keys = single ? unigramKeys(normalized) : bigramKeys(normalized);
+			Map<Integer, PostingList> source = single ? current.unigrams : current.bigrams;
+			PostingList[] lists = new PostingList[keys.size()];
+			int n = 0;
+			for (Integer key : keys) {
+				PostingList list = source.get(key);
+				if (list == null || list.size == 0) {
+					return new int[0];
+				}
+				lists[n++] = list;
+			}
+
+			// 短い一覧から順に共通部分をとる（候補はどんどん減っていく）
+			Arrays.sort(lists, Comparator.comparingInt((PostingList list) -> list.size));
+			int[] candidates = Arrays.copyOf(lists[0].ids, lists[0].size);
+			int count = candidates.length;
+			for (int i = 1; i < lists.length && count > 0; i++) {
+				count = lists[i].retainAll(candidates, count);
+			}
+
+			// 2-gram がすべて含まれていても、並び順が違うことがあるので部分一致を確認する
+			int matched = 0;
+			for (int i = 0; i < count; i++) {
+				String[] text = current.texts.get(candidates[i]);
+				if (text != null && (text[0].contains(normalized) || text[1].contains(normalized))) {
+					candidates[matched++] = candidates[i];
+				}
+			}
+			return Arrays.copyOf(candidates, matched);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+
+    /**
+     * 単語の登録・更新・削除がコミットされたら、その単語の分だけ索引を更新する。
+     * 未作成の場合は何もしない（初回利用時に最新の状態から作るため）。
+     * 一括登録など（BULK）の場合は、全体を作り直す。
+     *
+     * @param event 変更内容
+     */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onWordChanged(WordChangedEvent event) {
+		if (built && event.type() == WordChangedEvent.Type.BULK) {
+			rebuild();
+			return;
+		}
+		if (!built || event.wordId() == null) {
+			return;
+		}
+
+		Word word = event.type() != WordChangedEvent.Type.DELETED
+				? wordMapper.findById(event.wordId())
+				: null;
+
+		synchronized (this) {
+			lock.writeLock().lock();
+			try {
+				tables.remove(event.wordId());
+				if (word != null) {
+					tables.put(word);
+				}
+			} finally {
+				lock.writeLock().unlock();
+			}
+		}
+	}
+
+
+	/** 未作成なら作る。 */
+	private void ensureBuilt() {
+		if (!built) {
+			synchronized (this) {
+				if (!built) {
+					rebuild();
+				}
+			}
+		}
+	}
+
+
+	/** english / japanese の gram の集合（重複なし）。 */
+	private static Set<Integer> indexKeys(String english, String japanese, boolean unigram) {
+		Set<Integer> keys = unigram ? unigramKeys(english) : bigramKeys(english);
+		keys.addAll(unigram ? unigramKeys(japanese) : bigramKeys(japanese));
+		return keys;
+	}
+
+
+	/** 文字列の 2-gram（2文字を int 1つに詰めたもの）の集合。 */
+	private static Set<Integer> bigramKeys(String text) {
+		Set<Integer> keys = new LinkedHashSet<>();
+		for (int i = 0; i + 1 < text.length(); i++) {
+			keys.add((text.charAt(i) << 16) | text.charAt(i + 1));
+		}
+		return keys;
+	}
+
+
+	/** 文字列の 1-gram の集合。 */
+	private static Set<Integer> unigramKeys(String text) {
+		Set<Integer> keys = new LinkedHashSet<>();
+		for (int i = 0; i < text.length(); i++) {
+			keys.add((int) text.charAt(i));
+		}
+		return keys;
+	}
+
+
+	/** 検索用に正規化する（DB の正規化カラムと同じルール。空白や記号も LIKE と同じく1文字として扱う）。 */
+	private static String normalize(String src) {
+		return SearchKeyNormalizer.normalize(src);
+	}
+
+
+    /**
+     * 索引の中身（2-gram・1-gram の一覧と、部分一致の確認用の文字列）。
+     * rebuild ではロックの外で新しく作り、できあがってから差し替える。
+     */
+	private static final class Tables {
+
+		/** 文字 2-gram（2文字を int 1つに詰めたもの）→ その 2-gram を含む単語 id */
+		final Map<Integer, PostingList> bigrams = new HashMap<>();
+
+		/** 文字 1-gram → その文字を含む単語 id */
+		final Map<Integer, PostingList> unigrams = new HashMap<>();
+
+		/** 単語 id → 正規化した english / japanese（部分一致の確認用） */
+		final Map<Integer, String[]> texts = new HashMap<>();
+
+		/** int に収まらない id があったかどうか（あれば索引は使わない） */
+		boolean overflow;
+
+		/** 単語を登録する（公開済みの索引なら書き込みロック中に呼ぶ）。 */
+		void put(Word word) {
+			if (word.getId() == null || word.getId() > Integer.MAX_VALUE) {
+				overflow = true;
+				return;
+			}
+			int id = word.getId().intValue();
+			String english = normalize(word.getEnglish());
+			String japanese = normalize(word.getJapanese());
+			texts.put(id, new String[] { english, japanese });
+
+			for (Integer key : indexKeys(english, japanese, false)) {
+				bigrams.computeIfAbsent(key, k -> new PostingList()).add(id);
+			}
+			for (Integer key : indexKeys(english, japanese, true)) {
+				unigrams.computeIfAbsent(key, k -> new PostingList()).add(id);
+			}
+		}
+
+		/** 単語を取り除く（書き込みロック中に呼ぶ）。 */
+		void remove(Long wordId) {
+			if (wordId > Integer.MAX_VALUE) {
+				return;
+			}
+			int id = wordId.intValue();
+			String[] text = texts.remove(id);
+			if (text == null) {
+				return;
+			}
+			removeFrom(bigrams, indexKeys(text[0], text[1], false), id);
+			removeFrom(unigrams, indexKeys(text[0], text[1], true), id);
+		}
+
+		private static void removeFrom(Map<Integer, PostingList> index, Set<Integer> keys, int id) {
+			for (Integer key : keys) {
+				PostingList list = index.get(key);
+				if (list != null) {
+					list.remove(id);
+					if (list.size == 0) {
+						index.remove(key);
+					}
+				}
+			}
+		}
+	}
+
+
+    /**
+     * 1つの gram を含む単語 id の一覧（昇順の int 配列）。
+     * 単語の id は増えていくので、追加はほとんどの場合末尾に付け足すだけで済む。
+     */
+	private static final class PostingList {
+
+		int[] ids = new int[4];
+		int size;
+
+		void add(int id) {
+			int pos = Arrays.binarySearch(ids, 0, size, id);
+			if (pos >= 0) {
+				return;
+			}
+			pos = -pos - 1;
+			if (size == ids.length) {
+				ids = Arrays.copyOf(ids, size * 2);
+			}
+			System.arraycopy(ids, pos, ids, pos + 1, size - pos);
+			ids[pos] = id;
+			size++;
+		}
+
+		void remove(int id) {
+			int pos = Arrays.binarySearch(ids, 0, size, id);
+			if (pos < 0) {
+				return;
+			}
+			System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+			size--;
+		}
+
+		/**
+		 * candidates の先頭 count 件のうち、この一覧にも含まれるものだけを前に詰める。
+		 * candidates も昇順なので、探し始める位置を前回見つけた位置から進めていく。
+		 *
+		 * @return 残った件数
+		 */
+		int retainAll(int[] candidates, int count) {
+			int kept = 0;
+			int from = 0;
+			for (int i = 0; i < count && from < size; i++) {
+				int pos = Arrays.binarySearch(ids, from, size, candidates[i]);
+				if (pos >= 0) {
+					candidates[kept++] = candidates[i];
+					from = pos + 1;
+				} else {
+					from = -pos - 1;
+				}
+			}
+			return kept;
+		}
+	}
+
+}
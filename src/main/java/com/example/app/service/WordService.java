@@ -1,11 +1,25 @@
 package com.example.app.service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.app.domain.QuizQuestion;
 import com.example.app.domain.Word;
+import com.example.app.domain.WordPage;
+import com.example.app.domain.WordPageRow;
+import com.example.app.domain.WordSlice;
 import com.example.app.mapper.WordMapper;
 
 /**
@@ -19,26 +33,121 @@ import com.example.app.mapper.WordMapper;
 @Transactional(readOnly = true) // このクラスの public メソッドは全部「読取専用トランザクション」で動かすという「デフォルト設定」になります。書き込みメソッドは「例外扱い」にしたい。
 public class WordService {
 	
+	/** 4択クイズの誤答候補の件数 */
+	public static final int WRONG_ANSWER_COUNT = 3;
+	
+	/** 1回のリクエストでまとめて作れるクイズの最大問題数 */
+	public static final int MAX_QUIZ_BATCH_SIZE = 50;
+	
+	/** キーワード検索の方式：メモリ上の転置インデックス（WordSearchIndex）を使う */
+	public static final String SEARCH_MODE_INDEX = "index";
+	
+	/** キーワード検索の方式：DB の LIKE '%kw%' で探す */
+	public static final String SEARCH_MODE_LIKE = "like";
+	
+	/** キーワード検索の方式：DB の FULLTEXT インデックス（ngram パーサー）で探す */
+	public static final String SEARCH_MODE_FULLTEXT = "fulltext";
+	
+	/** カーソル方式の一覧で、1回に取得できる最大件数 */
+	public static final int MAX_SLICE_SIZE = 100;
+	
 	/** word テーブルにアクセスするためのマッパー。コンストラクタインジェクションで受け取る。 */
 	private final WordMapper wordMapper;
 	
+	/** クイズ用のランダムな id をメモリ上の配列から選ぶサービス。 */
+	private final WordIdSampler wordIdSampler;
+	
+	/** 綴りが似ている単語から誤答候補を探す索引。 */
+	private final DistractorIndex distractorIndex;
+	
+	/** キーワード検索用の転置インデックス。 */
+	private final WordSearchIndex wordSearchIndex;
+	
+	/** 英単語の変化形（ran → run など）から単語を探す索引。 */
+	private final WordLemmaIndex wordLemmaIndex;
+	
+	/** 綴りの間違いを許すあいまい検索用の索引。 */
+	private final WordFuzzyIndex wordFuzzyIndex;
+	
+	/** 検索結果（件数・ページ）のキャッシュ。 */
+	private final WordSearchCache wordSearchCache;
+	
+	/** 同じ内容の検索が同時に来たときに、問い合わせを1回にまとめる。 */
+	private final WordQuerySingleFlight singleFlight;
+	
+	/** word テーブル全件のスナップショット（スナップショットモードのときだけ使う）。 */
+	private final WordSnapshotHolder wordSnapshotHolder;
+	
+	/** 単語の登録・更新・削除を WordChangedEvent として通知するためのパブリッシャー。 */
+	private final ApplicationEventPublisher eventPublisher;
+	
+	/** キーワード検索の方式（app.search.mode: index / like / fulltext） */
+	private final String searchMode;
+	
+	/** MySQL の ngram_token_size（これより短いキーワードは全文検索では探せない） */
+	private final int ngramTokenSize;
+	
+	/** 部分一致で見つからないとき、あいまい検索に切り替えるかどうか（app.search.fuzzy.enabled） */
+	private final boolean fuzzySearch;
+	
+	/** 変化形でも検索するかどうか（app.search.lemma.enabled） */
+	private final boolean lemmaSearch;
+	
 	
     /**
      * コンストラクタ。
-     * Spring が自動で WordMapper を注入してくれる。
+     * Spring が自動で WordMapper などを注入してくれる。
+     * 検索の方式は application.properties の app.search.mode で切り替える（未設定なら index）。
+     * fulltext の場合は、app.search.ngram-token-size に DB の ngram_token_size と同じ値を設定する。
+     * app.search.lemma.enabled が true なら、キーワードを変化形として持つ単語（ran → run など）も返す。
+     * app.search.fuzzy.enabled が true なら、部分一致で1件も見つからないときに綴りが近い単語を返す。
+     * app.word-snapshot.enabled が true なら、id での取得・全件・ページ・クイズ用の単語をメモリ上のスナップショットから返す。
      */
-	public WordService(WordMapper wordMapper) {
+	public WordService(WordMapper wordMapper,
+						WordIdSampler wordIdSampler,
+						DistractorIndex distractorIndex,
+						WordSearchIndex wordSearchIndex,
+						WordLemmaIndex wordLemmaIndex,
+						WordFuzzyIndex wordFuzzyIndex,
+						WordSearchCache wordSearchCache,
+						WordQuerySingleFlight singleFlight,
+						WordSnapshotHolder wordSnapshotHolder,
+						ApplicationEventPublisher eventPublisher,
+						@Value("${app.search.mode:index}") String searchMode,
+						@Value("${app.search.ngram-token-size:2}") int ngramTokenSize,
+						@Value("${app.search.fuzzy.enabled:true}") boolean fuzzySearch,
+						@Value("${app.search.lemma.enabled:true}") boolean lemmaSearch) {
 		this.wordMapper = wordMapper;
+		this.wordIdSampler = wordIdSampler;
+		this.distractorIndex = distractorIndex;
+		this.wordSearchIndex = wordSearchIndex;
+		this.wordLemmaIndex = wordLemmaIndex;
+		this.wordFuzzyIndex = wordFuzzyIndex;
+		this.wordSearchCache = wordSearchCache;
+		this.singleFlight = singleFlight;
+		this.wordSnapshotHolder = wordSnapshotHolder;
+		this.eventPublisher = eventPublisher;
+		this.searchMode = searchMode;
+		this.ngramTokenSize = Math.max(1, ngramTokenSize);
+		this.fuzzySearch = fuzzySearch;
+		this.lemmaSearch = lemmaSearch;
 	}
 
 	
     /**
      * word テーブルの全件を取得する。
      * 管理者画面やテスト用に利用する想定。
+     * スナップショットモードではメモリ上のスナップショットから返す（以下の読み取りメソッドも同じ）。
+     * その場合は DB の接続も使わないので、トランザクションは呼び出し側にあれば参加するだけにする（SUPPORTS）。
      *
      * @return すべての単語リスト
      */
+	@Transactional(propagation = Propagation.SUPPORTS)
 	public List<Word> findAll(){
+		WordSnapshot snapshot = wordSnapshotHolder.current();
+		if (snapshot != null) {
+			return snapshot.findAll();
+		}
 		return wordMapper.findAll(); // Mapper に処理を委譲するだけの薄いメソッド
 	}
 	
@@ -49,18 +158,66 @@ public class WordService {
      * @param id 取得したいレコードの主キー
      * @return 該当する Word。存在しない場合は null を返す想定。
      */
+	@Transactional(propagation = Propagation.SUPPORTS)
 	public Word findById(Long id) {
+		WordSnapshot snapshot = wordSnapshotHolder.current();
+		if (snapshot != null) {
+			return snapshot.find(id);
+		}
 		return wordMapper.findById(id);
 	}
 	
 	
 	
 	
+    /**
+     * 複数の id でまとめて取得する（1回の IN クエリ）。
+     * @param ids 取得したい単語の id のリスト
+     * @return 該当する Word のリスト（ids と同じ順。存在しない id は含まれない）
+     */
+	@Transactional(propagation = Propagation.SUPPORTS)
+	public List<Word> findByIds(List<Long> ids) {
+		if (ids.isEmpty()) {
+			return new ArrayList<>();
+		}
+		WordSnapshot snapshot = wordSnapshotHolder.current();
+		if (snapshot != null) {
+			List<Word> words = new ArrayList<>(ids.size());
+			for (Long id : ids) {
+				Word word = snapshot.find(id);
+				if (word != null) {
+					words.add(word);
+				}
+			}
+			return words;
+		}
+		Map<Long, Word> byId = new HashMap<>();
+		for (Word word : wordMapper.findByIds(ids)) {
+			byId.put(word.getId(), word);
+		}
+		List<Word> words = new ArrayList<>(ids.size());
+		for (Long id : ids) {
+			Word word = byId.get(id);
+			if (word != null) {
+				words.add(word);
+			}
+		}
+		return words;
+	}
+	
+	
+	
+	
     /**
      * 全レコード件数を取得する（ページネーション用）。
      * @return word テーブルの全件数
      */
+	@Transactional(propagation = Propagation.SUPPORTS)
 	public int countAll() {
+		WordSnapshot snapshot = wordSnapshotHolder.current();
+		if (snapshot != null) {
+			return snapshot.size();
+		}
 		return wordMapper.countAll();
 	}
 	
@@ -71,6 +228,7 @@ public class WordService {
      * @param size 1ページあたりの件数
      * @return 指定ページに表示する Word のリスト
      */
+	@Transactional(propagation = Propagation.SUPPORTS)
 	public List<Word> findPage(int page, int size){
 		
 		
@@ -82,6 +240,11 @@ public class WordService {
 		// 先頭から何件スキップするかを計算 (0, size, 2*size, ...)ページネーション何ページ目か
 		int offset = (page - 1) * size;
 		
+		WordSnapshot snapshot = wordSnapshotHolder.current();
+		if (snapshot != null) {
+			return snapshot.page(offset, size);
+		}
+		
 		// Mapper に offset/limit 指定で取得を依頼
 		return wordMapper.findPage(offset, size);
 		
@@ -93,29 +256,79 @@ public class WordService {
     /**
      * 検索キーワード付きでの件数を取得する。
      * keyword が null/空白のみ の場合は全件数を返す。
+     * キーワードを変化形として持つ単語（WordLemmaIndex）も数に含める。
+     * 部分一致で1件も見つからない場合は、あいまい検索（WordFuzzyIndex）でヒットした件数を返す。
+     * 結果は WordSearchCache にキャッシュする（単語が変わるまで同じ検索は DB にアクセスしない）。
+     * キャッシュに当たったときや、実行中の同じ問い合わせを待つ間に DB の接続を持たないよう、
+     * トランザクションは呼び出し側にあれば参加するだけにする（SUPPORTS。findPageByKeyword・findWordPage も同じ）。
      */
+	@Transactional(propagation = Propagation.SUPPORTS)
 	public int countByKeyword(String keyword) {
+		return query("count", keyword, 0, 0, () -> countByKeywordFromSource(keyword));
+	}
+	
+	
+	/** 検索キーワード付きでの件数を、索引または DB から求める（キャッシュなし）。 */
+	private int countByKeywordFromSource(String keyword) {
 		
 		// null や 空白だけ → 条件なし（全件）
 		if(keyword == null || keyword.isBlank()) {
 			return wordMapper.countAll();
 		}
 		
-		// 前後の空白をカットしたうえで検索に使う
-		String trimmed = keyword.trim();
-		return wordMapper.countByKeyword(trimmed);
+		// 正規化（前後の空白・全角半角・カタカナ/ひらがな・大文字小文字をそろえる）したうえで検索に使う
+		String normalized = SearchKeyNormalizer.normalize(keyword);
+		
+		int count = countExact(normalized);
+		return count > 0 ? count : fuzzyIds(normalized).size();
+		
+	}
+	
+	
+    /**
+     * 正規化済みのキーワードで見つかる件数（部分一致する単語 ＋ 変化形で見つかる単語）。
+     * 変化形の方はメモリ上の HashMap を引くだけなので、SQL は増えない。
+     */
+	private int countExact(String normalized) {
+		return countSubstring(normalized) + lemmaIds(normalized).size();
+	}
+	
+	
+	/** 正規化済みのキーワードに部分一致する件数を、索引または DB から求める。 */
+	private int countSubstring(String normalized) {
+		
+		// 転置インデックスが使えるなら、ヒットした id の件数を返すだけ（DB にアクセスしない）
+		int[] ids = searchIds(normalized);
+		if (ids != null) {
+			return ids.length;
+		}
 		
+		// 全文検索が使えるなら FULLTEXT インデックスで探す
+		if (useFulltext(normalized)) {
+			return wordMapper.countByFulltext(fulltextPhrase(normalized), normalized);
+		}
+		return wordMapper.countByKeyword(normalized);
 	}
 	
     /**
      * 検索キーワード付きで、指定ページのデータを取得する。
+     * 部分一致する単語を先に、続けてキーワードを変化形として持つ単語（WordLemmaIndex）を返す。
+     * 部分一致で1件も見つからない場合は、あいまい検索（WordFuzzyIndex）の結果を綴りが近い順に返す。
      *
      * @param keyword 検索キーワード（null/空は条件なし）
      * @param page    1 始まりのページ番号
      * @param size    1ページあたりの件数
-     * @return 該当ページの Word 一覧
+     * @return 該当ページの Word 一覧（キャッシュと共有するため変更不可）
      */
+	@Transactional(propagation = Propagation.SUPPORTS)
 	public List<Word> findPageByKeyword(String keyword, int page, int size){
+		return query("page", keyword, page, size,
+				() -> List.copyOf(findPageByKeywordFromSource(keyword, page, size)));
+	}
+	
+	
+	/** 検索キーワード付きで、指定ページのデータを索引または DB から求める（キャッシュなし）。 */
+	private List<Word> findPageByKeywordFromSource(String keyword, int page, int size){
 	
 		
 		// クエリ文字の脆弱性対策
@@ -133,13 +346,275 @@ public class WordService {
 			return wordMapper.findPage(offset, size);
 		}
 		
-		String trimmed = keyword.trim();
-		return wordMapper.findPageByKeyword(trimmed, offset, size);
+		String normalized = SearchKeyNormalizer.normalize(keyword);
+		
+		List<Word> words = findExactPage(normalized, offset, size);
+		
+		// 1件も見つからない（ページ範囲外ではなく、そもそも0件）ならあいまい検索に切り替える
+		if (words.isEmpty() && (offset == 0 || countExact(normalized) == 0)) {
+			List<Long> fuzzyIds = fuzzyIds(normalized);
+			return findByIds(fuzzyIds.subList(Math.min(offset, fuzzyIds.size()),
+					Math.min(offset + size, fuzzyIds.size())));
+		}
+		return words;
 		
 		
 	}
 	
 	
+    /**
+     * 正規化済みのキーワードで見つかる単語のページ分。
+     * 部分一致する単語（id 順）を先に並べ、その後ろに変化形で見つかる単語（id 順）を続けたものとして切り出す。
+     * （キーワードそのものを含む単語の方が、探している単語である見込みが高いため）
+     */
+	private List<Word> findExactPage(String normalized, int offset, int size) {
+		List<Long> lemmaIds = lemmaIds(normalized);
+		if (lemmaIds.isEmpty()) {
+			return findSubstringPage(normalized, offset, size);
+		}
+		
+		int substringCount = countSubstring(normalized);
+		List<Word> words = new ArrayList<>(size);
+		if (offset < substringCount) {
+			words.addAll(findSubstringPage(normalized, offset, Math.min(size, substringCount - offset)));
+		}
+		int from = Math.min(Math.max(0, offset - substringCount), lemmaIds.size());
+		int to = Math.min(from + (size - words.size()), lemmaIds.size());
+		if (from < to) {
+			words.addAll(findByIds(lemmaIds.subList(from, to)));
+		}
+		return words;
+	}
+	
+	
+	/** 正規化済みのキーワードに部分一致する単語のページ分を、索引または DB から求める。 */
+	private List<Word> findSubstringPage(String normalized, int offset, int size) {
+		
+		// 転置インデックスが使えるなら、ヒットした id からページ分だけ切り出して主キーで取得する
+		int[] ids = searchIds(normalized);
+		if (ids != null) {
+			List<Long> pageIds = new ArrayList<>(size);
+			for (int i = offset; i < ids.length && i < offset + size; i++) {
+				pageIds.add((long) ids[i]);
+			}
+			return findByIds(pageIds);
+		}
+		
+		// 全文検索が使えるなら FULLTEXT インデックスで探す
+		if (useFulltext(normalized)) {
+			return wordMapper.findPageByFulltext(fulltextPhrase(normalized), normalized, offset, size);
+		}
+		return wordMapper.findPageByKeyword(normalized, offset, size);
+	}
+	
+	
+	
+	
+	
+	
+	
+    /**
+     * 検索キーワード付きで、指定ページのデータと件数をまとめて取得する（単語一覧画面用）。
+     *
+     * countByKeyword ＋ findPageByKeyword だと DB への問い合わせが2回になり、LIKE の条件も2回評価される。
+     * ここでは COUNT(*) OVER() で件数をページの行に載せて、1回の問い合わせで両方を取る。
+     * （転置インデックスが使える場合は、件数はメモリ上で分かるので主キーでページ分を取るだけ）
+     *
+     * - ページ番号が 1 未満なら 1 に、総ページ数より大きければ最終ページに補正する
+     *   （範囲外を指定された場合だけ、件数を数え直すためにもう1回問い合わせる）
+     * - 部分一致する単語を先に、続けてキーワードを変化形として持つ単語（WordLemmaIndex）を返す
+     * - 部分一致で1件も見つからない場合は、あいまい検索（WordFuzzyIndex）の結果を綴りが近い順に返す（fuzzy = true）
+     *
+     * @param keyword 検索キーワード（null/空は条件なし）
+     * @param page    1 始まりのページ番号
+     * @param size    1ページあたりの件数
+     * @return 単語・全件数・補正後のページ番号・総ページ数（キャッシュと共有するため単語のリストは変更不可）
+     */
+	@Transactional(propagation = Propagation.SUPPORTS)
+	public WordPage findWordPage(String keyword, int page, int size) {
+		// キーワードなしで、スナップショットがあれば DB にアクセスせずに切り出す
+		// （キャッシュを通さないので、スナップショットの差し替えと同時に新しい内容が見える）
+		WordSnapshot snapshot = (keyword == null || keyword.isBlank()) ? wordSnapshotHolder.current() : null;
+		if (snapshot != null) {
+			int totalPages = totalPages(snapshot.size(), size);
+			int current = Math.min(Math.max(1, page), totalPages);
+			return new WordPage(List.copyOf(snapshot.page((current - 1) * size, size)),
+					snapshot.size(), current, totalPages, false);
+		}
+		return query("wordPage", keyword, page, size,
+				() -> findWordPageFromSource(keyword, page, size));
+	}
+	
+	
+    /**
+     * 検索結果をキャッシュから返す。キャッシュに無ければ、同じ内容で実行中の問い合わせに相乗りするか、
+     * なければ loader で求める（同時に来た同じ検索は、DB への問い合わせが1回で済む）。
+     * ※ キャッシュが有効なら、同じキーの同時の読み込みは Caffeine の get がまとめるので、
+     *    シングルフライトで相乗りするのは、キャッシュを無効にしている場合がほとんど。
+     */
+	private <T> T query(String kind, String keyword, int page, int size, Supplier<T> loader) {
+		return wordSearchCache.get(kind, keyword, page, size,
+				() -> singleFlight.execute(kind, keyword, page, size, loader));
+	}
+	
+	
+	/** 単語一覧の1ページ分を索引または DB から求める（キャッシュなし）。 */
+	private WordPage findWordPageFromSource(String keyword, int page, int size) {
+		int current = Math.max(1, page);
+		String normalized = (keyword == null || keyword.isBlank()) ? null : SearchKeyNormalizer.normalize(keyword);
+		
+		// 変化形で見つかる単語があるときは、件数とページを別々に求めて並べる（部分一致が先、変化形が後）
+		if (normalized != null && !lemmaIds(normalized).isEmpty()) {
+			int totalCount = countExact(normalized);
+			int totalPages = totalPages(totalCount, size);
+			current = Math.min(current, totalPages);
+			List<Word> words = findExactPage(normalized, (current - 1) * size, size);
+			return new WordPage(List.copyOf(words), totalCount, current, totalPages, false);
+		}
+		
+		// 転置インデックスが使えるなら、件数はヒットした id の数
+		int[] ids = normalized != null ? searchIds(normalized) : null;
+		if (ids != null && ids.length == 0) {
+			// 部分一致が0件なら、綴りが近い単語を探す
+			return fuzzyPage(normalized, current, size);
+		}
+		if (ids != null) {
+			int totalPages = totalPages(ids.length, size);
+			current = Math.min(current, totalPages);
+			List<Long> pageIds = new ArrayList<>(size);
+			for (int i = (current - 1) * size; i < ids.length && pageIds.size() < size; i++) {
+				pageIds.add((long) ids[i]);
+			}
+			return new WordPage(List.copyOf(findByIds(pageIds)), ids.length, current, totalPages, false);
+		}
+		
+		List<WordPageRow> rows = findPageWithTotal(normalized, (current - 1) * size, size);
+		if (rows.isEmpty() && current > 1) {
+			// 範囲外のページ：件数を数え直して最終ページを取り直す
+			current = totalPages(normalized != null ? countExact(normalized) : wordMapper.countAll(), size);
+			rows = findPageWithTotal(normalized, (current - 1) * size, size);
+		}
+		
+		int totalCount = rows.isEmpty() ? 0 : rows.get(0).getTotalCount();
+		if (totalCount == 0 && normalized != null) {
+			return fuzzyPage(normalized, current, size);
+		}
+		List<Word> words = new ArrayList<>(rows.size());
+		for (WordPageRow row : rows) {
+			words.add(row.getWord());
+		}
+		return new WordPage(List.copyOf(words), totalCount, current, totalPages(totalCount, size), false);
+	}
+	
+	
+	/** あいまい検索の結果から1ページ分を作る（ヒットが無ければ 0 件のページ）。 */
+	private WordPage fuzzyPage(String normalized, int page, int size) {
+		List<Long> ids = fuzzyIds(normalized);
+		int totalPages = totalPages(ids.size(), size);
+		int current = Math.min(page, totalPages);
+		int from = Math.min((current - 1) * size, ids.size());
+		List<Word> words = findByIds(ids.subList(from, Math.min(from + size, ids.size())));
+		return new WordPage(List.copyOf(words), ids.size(), current, totalPages, !ids.isEmpty());
+	}
+	
+	
+	
+    /**
+     * カーソル方式（キーセット）で、単語一覧の続きを取得する（無限スクロール用）。
+     *
+     * OFFSET ではなく「前回最後に表示した id より後」を主キーで探すので、
+     * どれだけ先まで読み進めても1回の取得にかかる時間は変わらない。
+     *
+     * 並び順は findWordPage と同じ（部分一致する単語が id 順で先、変化形で見つかる単語が id 順で後）。
+     * 部分一致を読み終えたら、同じ呼び出しの中で変化形の単語に続ける。
+     * あいまい検索の結果は綴りが近い順でキーセットにできないので、ここでは返さない（ページ送りのみ）。
+     *
+     * @param keyword 検索キーワード（null/空は条件なし）
+     * @param cursor  前回の nextCursor、または cursorAfter で作ったカーソル（null/空なら先頭から）
+     * @param size    取得件数（1〜MAX_SLICE_SIZE に丸める）
+     * @return 単語と、続きを取得するためのカーソル
+     * @throws IllegalArgumentException カーソルの形式が正しくない場合
+     */
+	public WordSlice findSlice(String keyword, String cursor, int size) {
+		WordCursor.Position position = WordCursor.decode(cursor);
+		int limit = Math.max(1, Math.min(size, MAX_SLICE_SIZE));
+		String normalized = (keyword == null || keyword.isBlank()) ? null : SearchKeyNormalizer.normalize(keyword);
+		
+		// 1件多く取得して、続きがあるかどうかを判定する
+		List<Word> words = new ArrayList<>(limit + 1);
+		if (position.phase() == WordCursor.Phase.SUBSTRING) {
+			words.addAll(findSubstringSliceAfter(normalized, position.lastId(), limit + 1));
+		}
+		int substringCount = words.size();
+		
+		// 部分一致を読み終えたら、変化形で見つかる単語（id の昇順）を続ける
+		if (words.size() <= limit && normalized != null) {
+			long after = position.phase() == WordCursor.Phase.LEMMA ? position.lastId() : 0L;
+			List<Long> sliceIds = new ArrayList<>();
+			for (Long id : lemmaIds(normalized)) {
+				if (id > after && words.size() + sliceIds.size() <= limit) {
+					sliceIds.add(id);
+				}
+			}
+			if (!sliceIds.isEmpty()) {
+				words.addAll(findByIds(sliceIds));
+			}
+		}
+		
+		String nextCursor = null;
+		if (words.size() > limit) {
+			words = new ArrayList<>(words.subList(0, limit));
+			nextCursor = WordCursor.encode(
+					limit <= substringCount ? WordCursor.Phase.SUBSTRING : WordCursor.Phase.LEMMA,
+					words.get(limit - 1).getId());
+		}
+		return new WordSlice(words, nextCursor);
+	}
+	
+	
+	/** 部分一致する単語（キーワードなしなら全件）のうち、lastId より後のものを id の昇順で count 件まで。 */
+	private List<Word> findSubstringSliceAfter(String normalized, long lastId, int count) {
+		int[] ids = normalized != null ? searchIds(normalized) : null;
+		WordSnapshot snapshot = wordSnapshotHolder.current();
+		if (ids != null) {
+			// 転置インデックスのヒット（id の昇順）から lastId の次の位置を二分探索して切り出す
+			int from = Arrays.binarySearch(ids, (int) Math.min(lastId, Integer.MAX_VALUE));
+			from = from >= 0 ? from + 1 : -from - 1;
+			List<Long> sliceIds = new ArrayList<>(count);
+			for (int i = from; i < ids.length && sliceIds.size() < count; i++) {
+				sliceIds.add((long) ids[i]);
+			}
+			return findByIds(sliceIds);
+		} else if (normalized == null && snapshot != null) {
+			return snapshot.sliceAfter(lastId, count);	// スナップショットモードなら DB にアクセスしない
+		} else if (normalized != null && useFulltext(normalized)) {
+			return wordMapper.findSliceAfterByFulltext(fulltextPhrase(normalized), normalized, lastId, count);
+		}
+		return wordMapper.findSliceAfter(lastId, normalized, count);
+	}
+	
+	
+    /**
+     * findWordPage で表示したページの続きを、findSlice で読むためのカーソルを作る。
+     * ページの最後の単語が部分一致・変化形のどちらの並びのものかを見て、同じ並びの位置にする。
+     *
+     * @param keyword  findWordPage に渡した検索キーワード
+     * @param wordPage findWordPage の結果
+     * @return カーソル（最終ページ・0件・あいまい検索の結果なら null）
+     */
+	@Transactional(propagation = Propagation.SUPPORTS)
+	public String cursorAfter(String keyword, WordPage wordPage) {
+		List<Word> words = wordPage.getWords();
+		if (wordPage.isFuzzy() || words.isEmpty() || wordPage.getCurrentPage() >= wordPage.getTotalPages()) {
+			return null;
+		}
+		Long lastId = words.get(words.size() - 1).getId();
+		String normalized = (keyword == null || keyword.isBlank()) ? null : SearchKeyNormalizer.normalize(keyword);
+		boolean lemma = normalized != null && lemmaIds(normalized).contains(lastId);	// 変化形の id は部分一致の id と重ならない
+		return WordCursor.encode(lemma ? WordCursor.Phase.LEMMA : WordCursor.Phase.SUBSTRING, lastId);
+	}
+	
+	
 	
 	
 	
@@ -151,7 +626,10 @@ public class WordService {
      */
 	@Transactional(readOnly = false) // 新規登録なのでクラスの readOnly=true を上書きして、書き込みトランザクションにする
     public void create(Word word) {
-		wordMapper.insert(word);	// Mapper に INSERT を依頼するだけの薄いメソッド
+		wordMapper.insert(word);	// Mapper に INSERT を依頼する
+		
+		// コミット後にメモリ上の id 配列などを更新してもらう（insert で採番された id が入っている）
+		eventPublisher.publishEvent(new WordChangedEvent(WordChangedEvent.Type.CREATED, word.getId()));
 	}
 	
 	
@@ -162,7 +640,9 @@ public class WordService {
      */
 	@Transactional(readOnly = false)	// 更新処理なので書き込みトランザクションにする
 	public void update(Word word) {
-		wordMapper.update(word);	// Mapper に UPDATE を依頼するだけの薄いサービスメソッド
+		wordMapper.update(word);	// Mapper に UPDATE を依頼する
+		
+		eventPublisher.publishEvent(new WordChangedEvent(WordChangedEvent.Type.UPDATED, word.getId()));
 	}
 	
 	
@@ -173,7 +653,9 @@ public class WordService {
      */
 	@Transactional(readOnly = false) // 削除は書き込み系なので readOnly=false にする
 	public void delete(Long id) {
-		wordMapper.deleteById(id);	// Mapper に削除処理を依頼するだけの薄いサービスメソッド
+		wordMapper.deleteById(id);	// Mapper に削除処理を依頼する
+		
+		eventPublisher.publishEvent(new WordChangedEvent(WordChangedEvent.Type.DELETED, id));
 	}
 	
 	
@@ -187,9 +669,24 @@ public class WordService {
      * クイズ用: ランダムに1件の単語を取得する。
      * Controller からはこのメソッドを呼ぶだけでよい。
      *
-     * @return ランダムに選ばれた Word 1件
+     * ORDER BY RAND() で全件を並べ替える代わりに、
+     * WordIdSampler がメモリ上の id 配列からランダムに選んだ id を主キーで取得する。
+     * （単語数が増えても、1回の主キー検索だけで済む）
+     *
+     * @return ランダムに選ばれた Word 1件（単語が1件もない場合は null）
      */
+	@Transactional(propagation = Propagation.SUPPORTS)
 	public Word getRandomWordForQuiz() {
+		
+		Long id = wordIdSampler.pickRandomId();
+		if (id != null) {
+			Word word = findById(id);	// スナップショットモードなら DB にアクセスしない
+			if (word != null) {
+				return word;
+			}
+		}
+		
+		// 配列が空、または他のインスタンスで削除済みの id を引いた場合は従来のクエリで取り直す
 		return wordMapper.selectRandomWord();
 	}
 
@@ -205,5 +702,278 @@ public class WordService {
 		return wordMapper.selectRandomWrongAnswers(correctWordId, worngCount);
 	}
 
+	
+    /**
+     * クイズ用: 4択クイズを1問作る。
+     *
+     * - 問題の単語と誤答候補の id を WordIdSampler で選び、1回の IN 検索でまとめて取得
+     *   （ORDER BY RAND() は使わない。どの単語も同じ確率で選ばれる）
+     * - 正解の日本語＋誤答候補3件を混ぜてシャッフル
+     *
+     * QuizQuestionPool が空のときに、その場で1問作るために呼ばれる。
+     *
+     * @return クイズ1問（単語が1件も登録されていない場合は null）
+     */
+	public QuizQuestion createQuizQuestion() {
+		
+		// 問題の単語と誤答候補を1回のクエリでまとめて取得する（同じ訳の単語を引いても足りるよう、少し多めに取る）
+		List<Word> words = findWordsByIds(wordIdSampler.pickRandomIds(WRONG_ANSWER_COUNT + 3));
+		if (words.isEmpty()) {
+			return null;
+		}
+		Collections.shuffle(words); // IN の結果は id 順で返ってくるので、順番をランダムに戻す
+		
+		// 1件目が問題。残りから重複しない日本語を誤答候補にする
+		return buildQuizQuestion(words.get(0), words);
+	}
+	
+	
+    /**
+     * クイズ用: 指定した単語を問題にして、4択クイズを1問作る。
+     * 誤答候補は WordIdSampler で選んだ id を1回の IN 検索でまとめて取得する（ORDER BY RAND() は使わない）。
+     *
+     * @param questionWord 問題にする単語（null の場合は null を返す）
+     * @return クイズ1問
+     */
+	public QuizQuestion createQuizQuestion(Word questionWord) {
+		if (questionWord == null) {
+			return null;
+		}
+		
+		// 綴りの似ている誤答候補が3件そろえば、DB にアクセスせずに作れる
+		List<String> similar = distractorIndex.findDistractors(questionWord, WRONG_ANSWER_COUNT);
+		if (similar.size() >= WRONG_ANSWER_COUNT) {
+			return buildQuizQuestion(questionWord, similar, List.of(questionWord));
+		}
+		
+		// 足りない分はランダムな単語で補う（問題の単語や同じ訳の単語を引いても足りるよう、少し多めに取る）
+		List<Word> candidates = findWordsByIds(wordIdSampler.pickRandomIds(WRONG_ANSWER_COUNT + 2));
+		if (candidates.isEmpty()) {
+			candidates.add(questionWord);
+		}
+		
+		return buildQuizQuestion(questionWord, similar, candidates);
+	}
+	
+	
+    /**
+     * 山札（セッションごとの ShuffledDeck）から次の単語を1枚引く。
+     * 1周するまで同じ単語は出てこない。
+     *
+     * @param deck セッションに保存している山札
+     * @return 次の単語（単語が1件も登録されていない場合は null）
+     */
+	@Transactional(propagation = Propagation.SUPPORTS)
+	public Word drawFromDeck(ShuffledDeck deck) {
+		
+		// 引いた id が周の途中で削除されていた場合に備えて、数回まで引き直す
+		for (int attempt = 0; attempt < 3; attempt++) {
+			Long id = deck.nextId(wordIdSampler.ids());
+			if (id == null) {
+				return null; // 単語が1件もない
+			}
+			
+			Word word = findById(id);
+			if (word != null) {
+				return word;
+			}
+		}
+		
+		return getRandomWordForQuiz();
+	}
+	
+	
+    /**
+     * 山札（セッションごとの ShuffledDeck）から次の count 枚をまとめて引く。
+     * 枚数に関係なく、DB へのクエリは1回（WHERE id IN (...)）だけ。
+     *
+     * @param deck  セッションに保存している山札
+     * @param count 引きたい枚数（最大 MAX_QUIZ_BATCH_SIZE）
+     * @return 引いた順の単語リスト（削除済みの単語は含まれないので count より少ないことがある）
+     */
+	@Transactional(propagation = Propagation.SUPPORTS)
+	public List<Word> drawFromDeck(ShuffledDeck deck, int count) {
+		int drawCount = Math.min(Math.max(count, 0), MAX_QUIZ_BATCH_SIZE);
+		
+		// 先に山札から id だけを引いておく
+		List<Long> ids = new ArrayList<>(drawCount);
+		for (int i = 0; i < drawCount; i++) {
+			Long id = deck.nextId(wordIdSampler.ids());
+			if (id == null) {
+				break; // 単語が1件もない
+			}
+			ids.add(id);
+		}
+		if (ids.isEmpty()) {
+			return new ArrayList<>();
+		}
+		
+		// まとめて取得して、引いた順に並べる（スナップショットモードなら DB にアクセスしない）
+		return findByIds(ids);
+	}
+	
+	
+    /**
+     * 引いたが使わなかった id を山札（セッションごとの ShuffledDeck）に戻す。
+     * 最後に引いた並びと一致しない場合は何もしない（ShuffledDeck#putBack）。
+     *
+     * @param deck      セッションに保存している山札
+     * @param unusedIds 使わなかった id（引いた順）
+     * @return 戻した場合は true
+     */
+	public boolean returnToDeck(ShuffledDeck deck, List<Long> unusedIds) {
+		return deck.putBack(unusedIds, wordIdSampler.ids());
+	}
+	
+	
+    /**
+     * クイズ用: 4択クイズを複数問まとめて作る。
+     *
+     * 問題用と誤答候補用の id を WordIdSampler でまとめて選び、
+     * 1回のクエリ（WHERE id IN (...)）で取得した単語の中から問題と誤答候補を組み立てる。
+     * そのため、問題数に関係なく DB へのクエリは1回だけ。
+     *
+     * 誤答候補は正解と同じ日本語・他の選択肢と同じ日本語を除外する。
+     *
+     * @param count 欲しい問題数（最大 MAX_QUIZ_BATCH_SIZE）
+     * @return クイズのリスト（単語が少ない場合は count より少なくなる）
+     */
+	public List<QuizQuestion> createQuizQuestions(int count) {
+		int questionCount = Math.min(Math.max(count, 0), MAX_QUIZ_BATCH_SIZE);
+		
+		// 問題1問につき「正解1件＋誤答候補3件」分の単語をまとめて取得する
+		List<Word> words = findWordsByIds(wordIdSampler.pickRandomIds(questionCount * (WRONG_ANSWER_COUNT + 1)));
+		Collections.shuffle(words);
+		
+		List<QuizQuestion> questions = new ArrayList<>();
+		for (int i = 0; i < questionCount && i < words.size(); i++) {
+			questions.add(buildQuizQuestion(words.get(i), words));
+		}
+		return questions;
+	}
+	
+	
+	/** 件数付きでページ分の行を取得する（全文検索が使えるならそちらで）。 */
+	private List<WordPageRow> findPageWithTotal(String keyword, int offset, int size) {
+		if (keyword != null && useFulltext(keyword)) {
+			return wordMapper.findPageByFulltextWithTotal(fulltextPhrase(keyword), keyword, offset, size);
+		}
+		return wordMapper.findPageWithTotal(keyword, offset, size);
+	}
+	
+	
+	/** 総ページ数（切り上げ割り算。0件のときは 1 ページとして扱う）。 */
+	private static int totalPages(int totalCount, int size) {
+		return totalCount == 0 ? 1 : (totalCount + size - 1) / size;
+	}
+	
+	
+	/** 変化形で見つかる単語の id（部分一致でも見つかるものは除く）。無効にしている場合は空。 */
+	private List<Long> lemmaIds(String normalized) {
+		if (!lemmaSearch) {
+			return new ArrayList<>();
+		}
+		return wordLemmaIndex.search(normalized);
+	}
+	
+	
+	/** あいまい検索でヒットした単語の id（綴りが近い順）。無効にしている場合は空。 */
+	private List<Long> fuzzyIds(String normalized) {
+		if (!fuzzySearch) {
+			return new ArrayList<>();
+		}
+		return wordFuzzyIndex.search(normalized);
+	}
+	
+	
+	/** 転置インデックスでキーワード検索する（index モード以外、または索引が使えない場合は null）。 */
+	private int[] searchIds(String keyword) {
+		if (!SEARCH_MODE_INDEX.equals(searchMode)) {
+			return null;
+		}
+		return wordSearchIndex.search(keyword);
+	}
+	
+	
+    /**
+     * 全文検索を使うかどうか。
+     * fulltext モードで、キーワードが ngram_token_size 以上の長さ（空白・" を除く）のときだけ使う。
+     * 短いキーワードは n-gram が作れず索引で探せないので、LIKE 検索に戻す。
+     */
+	private boolean useFulltext(String keyword) {
+		if (!SEARCH_MODE_FULLTEXT.equals(searchMode)) {
+			return false;
+		}
+		String phraseText = keyword.replace("\"", "");
+		for (String token : phraseText.split("\\s+")) {
+			if (token.codePointCount(0, token.length()) < ngramTokenSize) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	
+	/** BOOLEAN MODE のフレーズ検索用に "kw" の形にする（" は演算子になるので取り除く）。 */
+	private static String fulltextPhrase(String keyword) {
+		return "\"" + keyword.replace("\"", "") + "\"";
+	}
+	
+	
+	/** id の配列から Word をまとめて取得する（空、またはスナップショットモードなら DB にアクセスしない）。 */
+	private List<Word> findWordsByIds(long[] ids) {
+		if (ids.length == 0) {
+			return new ArrayList<>();
+		}
+		List<Long> idList = new ArrayList<>(ids.length);
+		for (long id : ids) {
+			idList.add(id);
+		}
+		return new ArrayList<>(findByIds(idList));
+	}
+	
+	
+	/** 誤答候補を選び、4択クイズ1問を組み立てる（綴りの似ている単語は DistractorIndex で探す）。 */
+	private QuizQuestion buildQuizQuestion(Word questionWord, List<Word> candidates) {
+		return buildQuizQuestion(questionWord,
+								distractorIndex.findDistractors(questionWord, WRONG_ANSWER_COUNT),
+								candidates);
+	}
+	
+	
+    /**
+     * 誤答候補を選び、4択クイズ1問を組み立てる。
+     * 綴りの似ている単語の日本語を優先し、足りない分を候補の単語リストから補う。
+     *
+     * @param questionWord 問題の単語
+     * @param similar      DistractorIndex で見つけた、綴りの似ている単語の日本語
+     * @param candidates   補充用の単語リスト
+     */
+	private QuizQuestion buildQuizQuestion(Word questionWord, List<String> similar, List<Word> candidates) {
+		String correctJapanese = questionWord.getJapanese();
+		
+		List<String> choices = new ArrayList<>();
+		choices.add(correctJapanese);
+		
+		// 綴りの似ている単語の日本語（正解と同じ訳は索引側で除外済み）
+		for (String japanese : similar) {
+			if (!choices.contains(japanese)) {
+				choices.add(japanese);
+			}
+		}
+		
+		// 足りない分は、候補リストのランダムな位置から順に見て、重複しない日本語を誤答候補にする
+		int start = ThreadLocalRandom.current().nextInt(candidates.size());
+		for (int k = 0; k < candidates.size() && choices.size() <= WRONG_ANSWER_COUNT; k++) {
+			String japanese = candidates.get((start + k) % candidates.size()).getJapanese();
+			if (!choices.contains(japanese)) { // 正解自身・同じ訳の単語・既に選んだ候補は除外
+				choices.add(japanese);
+			}
+		}
+		
+		Collections.shuffle(choices);
+		return new QuizQuestion(questionWord, choices, correctJapanese);
+	}
+
 
 }
@@ -0,0 +1,181 @@
+package com.example.app.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.example.app.domain.Word;
+
+/**
+ * word テーブル全件の、ある時点の写し（読み取り専用）。
+ *
+ * 単語は id の昇順に配列で持ち、一度作ったら中身を変えない。
+ * 単語が変わったときは、WordSnapshotHolder が新しいスナップショットを作って差し替える（コピーオンライト）。
+ * そのため、読む側はロックなしで、いつでも矛盾のない状態を見られる。
+ *
+ * Word は書き換えられるクラスなので、外に返すときはコピーを返す（中の配列は誰にも書き換えさせない）。
+ */
+public final class WordSnapshot {
+
+	/** 版番号（差し替えるたびに増える） */
+	private final long version;
+
+	/** 単語の id（昇順。words と同じ並び） */
+	private final long[] ids;
+
+	/** 単語（id の昇順） */
+	private final Word[] words;
+
+
+    /**
+     * コンストラクタ。
+     * @param version 版番号
+     * @param words   単語（id の昇順に並んでいること。配列はそのまま持つので、呼び出し側で書き換えない）
+     */
+	WordSnapshot(long version, Word[] words) {
+		this.version = version;
+		this.words = words;
+		this.ids = new long[words.length];
+		for (int i = 0; i < words.length; i++) {
+			ids[i] = words[i].getId();
+		}
+	}
+
+
+    /**
+     * 単語の一覧から、id の昇順のスナップショットを作る。
+     * @param version 版番号
+     * @param words   単語（並び順は問わない）
+     * @return スナップショット
+     */
+	static WordSnapshot of(long version, List<Word> words) {
+		Word[] array = new Word[words.size()];
+		for (int i = 0; i < array.length; i++) {
+			array[i] = copyOf(words.get(i));
+		}
+		Arrays.sort(array, (a, b) -> Long.compare(a.getId(), b.getId()));
+		return new WordSnapshot(version, array);
+	}
+
+
+    /**
+     * 版番号を返す。
+     * @return 版番号
+     */
+	public long version() {
+		return version;
+	}
+
+
+    /**
+     * 単語の数を返す。
+     * @return 単語の数
+     */
+	public int size() {
+		return words.length;
+	}
+
+
+    /**
+     * id で1件探す。
+     * @param id 単語の id
+     * @return 単語のコピー（無ければ null）
+     */
+	public Word find(Long id) {
+		if (id == null) {
+			return null;
+		}
+		int pos = Arrays.binarySearch(ids, id);
+		return pos < 0 ? null : copyOf(words[pos]);
+	}
+
+
+    /**
+     * 全件を id の昇順で返す。
+     * @return 単語のコピーのリスト
+     */
+	public List<Word> findAll() {
+		return range(0, words.length);
+	}
+
+
+    /**
+     * id の昇順で offset 件目から limit 件を返す（ページネーション用）。
+     * @param offset 先頭から飛ばす件数
+     * @param limit  取得件数
+     * @return 単語のコピーのリスト
+     */
+	public List<Word> page(int offset, int limit) {
+		int from = Math.min(Math.max(offset, 0), words.length);
+		return range(from, (int) Math.min((long) from + Math.max(limit, 0), words.length));
+	}
+
+
+    /**
+     * lastId より後の単語を、id の昇順で limit 件返す（カーソル方式の一覧用）。
+     * @param lastId この id より後から（最初は 0）
+     * @param limit  取得件数
+     * @return 単語のコピーのリスト
+     */
+	public List<Word> sliceAfter(long lastId, int limit) {
+		int from = Arrays.binarySearch(ids, lastId);
+		from = from >= 0 ? from + 1 : -from - 1;
+		return range(from, (int) Math.min((long) from + Math.max(limit, 0), words.length));
+	}
+
+
+    /**
+     * 単語を1件追加した（同じ id があれば置き換えた）新しいスナップショットを作る。
+     * @param version 新しい版番号
+     * @param word    追加・置き換える単語
+     * @return 新しいスナップショット（このスナップショットは変わらない）
+     */
+	WordSnapshot withWord(long version, Word word) {
+		int pos = Arrays.binarySearch(ids, word.getId());
+		Word[] next;
+		if (pos >= 0) {
+			next = words.clone();
+			next[pos] = copyOf(word);
+		} else {
+			int insertAt = -pos - 1;
+			next = new Word[words.length + 1];
+			System.arraycopy(words, 0, next, 0, insertAt);
+			next[insertAt] = copyOf(word);
+			System.arraycopy(words, insertAt, next, insertAt + 1, words.length - insertAt);
+		}
+		return new WordSnapshot(version, next);
+	}
+
+
+    /**
+     * 単語を1件取り除いた新しいスナップショットを作る。
+     * @param version 新しい版番号
+     * @param id      取り除く単語の id
+     * @return 新しいスナップショット（もともと無い id なら、版番号だけ変えたもの）
+     */
+	WordSnapshot withoutWord(long version, Long id) {
+		int pos = Arrays.binarySearch(ids, id);
+		if (pos < 0) {
+			return new WordSnapshot(version, words);
+		}
+		Word[] next = new Word[words.length - 1];
+		System.arraycopy(words, 0, next, 0, pos);
+		System.arraycopy(words, pos + 1, next, pos, words.length - pos - 1);
+		return new WordSnapshot(version, next);
+	}
+
+
+	private List<Word> range(int from, int to) {
+		List<Word> result = new ArrayList<>(Math.max(to - from, 0));
+		for (int i = from; i < to; i++) {
+			result.add(copyOf(words[i]));
+		}
+		return result;
+	}
+
+
+	private static Word copyOf(Word word) {
+		return new Word(word.getId(), word.getEnglish(), word.getJapanese());
+	}
+
+}
@@ -0,0 +1,179 @@
+package com.example.app.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.app.domain.Word;
+import com.example.app.mapper.WordMapper;
+
+/**
+ * word テーブル全件のスナップショット（WordSnapshot）を持つサービス（スナップショットモード）。
+ *
+ * 単語が変わるのは管理者が登録・更新・削除したときだけなのに、WordService の読み取り
+ * （findById・findAll・ページ・クイズ用のランダムな単語）は毎回 MySQL に問い合わせていた。
+ * スナップショットモードでは、全件をメモリ上の配列に持っておき、そこから返す。
+ *
+ * - app.word-snapshot.enabled が true のときだけ使う（既定は false。使わない場合は今まで通り DB から読む）
+ * - アプリ起動完了時に word テーブル全件から作る
+ * - 単語が app.word-snapshot.max-words より多い場合は、メモリを使いすぎないよう自動で使わなくなる
+ *   （一括登録・一括削除（BULK）のあとに数え直し、減っていれば使い始める）
+ * - WordService の create / update / delete のコミット後に、変わった1件だけを反映した新しいスナップショットを作り、
+ *   参照ごと差し替える（コピーオンライト）。読む側はロックなしで volatile の参照を1回読むだけ
+ * - 差し替えるたびに版番号（version）を1つ進める。他のコンポーネントはこの番号で「単語が変わったか」を判定できる
+ *
+ * ※ 他のアプリインスタンスで変わった単語は、このインスタンスの再起動まで反映されない（WordIdSampler と同じ）。
+ */
+@Service
+public class WordSnapshotHolder {
+
+	private static final Logger log = LoggerFactory.getLogger(WordSnapshotHolder.class);
+
+	/** word テーブルにアクセスするためのマッパー */
+	private final WordMapper wordMapper;
+
+	/** スナップショットモードを使うかどうか */
+	private final boolean enabled;
+
+	/** これより単語が多い場合は使わない */
+	private final int maxWords;
+
+	/** 版番号（差し替えるたびに1つ進める。減ることはない） */
+	private final AtomicLong version = new AtomicLong();
+
+	/** 現在のスナップショット。null の間は使わない（無効・未作成・単語が多すぎる） */
+	private volatile WordSnapshot snapshot;
+
+
+    /**
+     * コンストラクタ。
+     * 設定値は application.properties から受け取る（未設定ならデフォルト値）。
+     */
+	public WordSnapshotHolder(WordMapper wordMapper,
+							@Value("${app.word-snapshot.enabled:false}") boolean enabled,
+							@Value("${app.word-snapshot.max-words:100000}") int maxWords) {
+		this.wordMapper = wordMapper;
+		this.enabled = enabled;
+		this.maxWords = Math.max(0, maxWords);
+	}
+
+
+    /**
+     * アプリの起動が終わったらスナップショットを作る。
+     * DB に接続できなかった場合は作らない（その間は WordService が DB から読む）。
+     */
+	@EventListener(ApplicationReadyEvent.class)
+	public void buildOnStartup() {
+		if (!enabled) {
+			return;
+		}
+		try {
+			reload();
+		} catch (RuntimeException e) {
+			log.warn("単語のスナップショットを作れませんでした: {}", e.getMessage());
+		}
+	}
+
+
+    /**
+     * word テーブル全件からスナップショットを作り直す。
+     * 単語が多すぎる場合は、スナップショットを捨てて使わなくする。
+     */
+	public synchronized void reload() {
+		if (!enabled) {
+			return;
+		}
+		int count = wordMapper.countAll();
+		if (count > maxWords) {
+			log.info("単語が {} 件あり、上限の {} 件を超えているため、スナップショットを使いません", count, maxWords);
+			snapshot = null;
+			version.incrementAndGet();
+			return;
+		}
+		snapshot = WordSnapshot.of(version.incrementAndGet(), wordMapper.findAll());
+	}
+
+
+    /**
+     * 現在のスナップショットを返す。
+     * @return スナップショット（無効・未作成・単語が多すぎる場合は null。その場合は DB から読むこと）
+     */
+	public WordSnapshot current() {
+		return snapshot;
+	}
+
+
+    /**
+     * 現在の版番号を返す。スナップショットを差し替える（または使わなくする）たびに増える。
+     * @return 版番号
+     */
+	public long version() {
+		return version.get();
+	}
+
+
+    /**
+     * 単語の登録・更新・削除がコミットされたら、その1件だけを反映したスナップショットに差し替える。
+     * 一括登録など（BULK）の場合は、全体を作り直す（単語の数も数え直す）。
+     *
+     * @param event 変更内容
+     */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onWordChanged(WordChangedEvent event) {
+		if (!enabled) {
+			return;
+		}
+		if (event.type() == WordChangedEvent.Type.BULK) {
+			reload();
+			return;
+		}
+		if (snapshot == null || event.wordId() == null) {
+			return;
+		}
+
+		// DB から読み直すのもロックの中で行う（WordPrefixIndex と同じ）。外で読むと、同じ単語の更新が続いたときに
+		// 先に読んだ古い内容が後から反映されて、新しい内容を上書きしてしまうことがある
+		synchronized (this) {
+			WordSnapshot current = snapshot;
+			if (current == null) {
+				return;
+			}
+			Word word = event.type() != WordChangedEvent.Type.DELETED
+					? wordMapper.findById(event.wordId())
+					: null;
+			WordSnapshot next = word != null
+					? current.withWord(version.incrementAndGet(), word)
+					: current.withoutWord(version.incrementAndGet(), event.wordId());
+			if (next.size() > maxWords) {
+				log.info("単語が上限の {} 件を超えたため、スナップショットを使わなくなりました", maxWords);
+				next = null;
+			}
+			snapshot = next;
+		}
+	}
+
+
+    /**
+     * 統計を返す（管理者向け）。
+     * @return enabled / active / size / version / maxWords
+     */
+	public Map<String, Object> stats() {
+		WordSnapshot current = snapshot;
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("enabled", enabled);
+		stats.put("active", current != null);
+		stats.put("size", current != null ? current.size() : 0);
+		stats.put("version", version.get());
+		stats.put("maxWords", maxWords);
+		return stats;
+	}
+
+}
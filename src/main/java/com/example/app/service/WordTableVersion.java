@@ -0,0 +1,50 @@
+package com.example.app.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * word テーブルの「版番号」。
+ *
+ * WordService の create / update / delete がコミットされるたびに1つ進める。
+ * キャッシュのキーにこの番号を含めておけば、単語が変わった時点で古いキャッシュは使われなくなる
+ * （古いエントリは一つずつ消さなくても、サイズ上限・有効期限で自然に追い出される）。
+ */
+@Component
+public class WordTableVersion {
+
+	/** 現在の版番号 */
+	private final AtomicLong version = new AtomicLong();
+
+
+    /**
+     * 現在の版番号を返す。
+     * @return 版番号
+     */
+	public long current() {
+		return version.get();
+	}
+
+
+    /**
+     * 単語の登録・更新・削除がコミットされたら版番号を進める。
+     * （コミット前に進めると、コミット前の古い結果が新しい版番号でキャッシュされてしまうため）
+     *
+     * @param event 変更内容
+     */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onWordChanged(WordChangedEvent event) {
+		advance();
+	}
+
+
+    /**
+     * 版番号を進める（イベントを伴わずに word テーブルを書き換えたとき用）。
+     */
+	public void advance() {
+		version.incrementAndGet();
+	}
+
+}
@@ -1,2503 +0,0 @@
--- 初期データ（単語）
--- ※ user_account / admin_account は BCrypt ハッシュが必要になるため、ここでは投入しません
-
-INSERT INTO `word` (`english`, `japanese`) VALUES
-('a (an)', '１つの、１人の'),
-('a.m.', '午前'),
-('ability', '能力'),
-('able', '～することができる'),
-('about', '～について、約、だいたい'),
-('above', '～の上に(へ)'),
-('abroad', '外国へ（に、で）'),
-('absent', '～を欠席する'),
-('academic', '学問の、学問的な'),
-('accept', '受け入れる'),
-('access', '接近方法'),
-('accident', '事故'),
-('according', '～によれば'),
-('achieve', '達成する'),
-('achievement', '達成、やり遂げること'),
-('across', '～を横切って'),
-('act', '行動する、演じる'),
-('action', '行動、動き'),
-('active', '活発な'),
-('activity', '活動'),
-('actor', '俳優'),
-('actually', '実際に、実は'),
-('add', '付け加える'),
-('addition', 'つけ加えること'),
-('address', 'あて名、住所'),
-('adult', '大人、成人'),
-('advantage', '有利な立場、利点'),
-('adventure', '冒険'),
-('advice', '忠告、助言、アドバイス'),
-('affect', '影響を及ぼす'),
-('afraid', '恐れて、こわがって'),
-('Africa', 'アフリカ'),
-('African', 'アフリカ(人)の'),
-('after', '～のあとに'),
-('afternoon', '午後'),
-('again', 'もう一度、二度と'),
-('against', '～に対して、～に反対して'),
-('age', '年齢、時代'),
-('ago', '～前に'),
-('agree', '賛成する、同意する'),
-('agriculture', '農業'),
-('ah', 'ああ、まあ'),
-('AI', '人工知能'),
-('air', '空気、大気'),
-('air conditioner', 'エアコン'),
-('airplane', '飛行機'),
-('airport', '空港'),
-('alarm', '警報'),
-('alarm clock', '目覚まし時計'),
-('album', 'アルバム'),
-('alive', '生きて'),
-('all', 'すべて、まったく、すっかり'),
-('allow', '許す'),
-('almost', 'ほとんど'),
-('alone', '１人で、ただ～だけで'),
-('along', '（道・川など）に沿って'),
-('aloud', '声に出して'),
-('alphabet', 'アルファベット'),
-('already', 'すでに、もう'),
-('also', '～もまた、さらに'),
-('although', '～だけれど'),
-('always', 'いつも、常に'),
-('am', '～である、（～に）いる、ある'),
-('amazing', '驚くべき、目を見張らせる'),
-('ambassador', '大使'),
-('ambulance', '救急車'),
-('America', 'アメリカ合衆国'),
-('American', 'アメリカ(人)の'),
-('among', '～の間に（で、の）、～の中のひとりで'),
-('amount', '量、額、総計'),
-('amusement park', '遊園地'),
-('ancient', '古代の'),
-('and', '～と、そして～'),
-('angel', '天使'),
-('angry', '怒った、怒って'),
-('animal', '動物'),
-('animation', '動画、アニメーション'),
-('anime', '（日本の）アニメ'),
-('ankle', '足首'),
-('anniversary', '記念日、～周年'),
-('announce', '発表する'),
-('announcement', '発表、アナウンス'),
-('another', 'もう一つ（の）、別（の）'),
-('answer', '答え（る）'),
-('ant', 'アリ'),
-('any', 'いくつかの～、何人かの～'),
-('anymore', 'もう～（でない）'),
-('anyone', '誰でも'),
-('anything', '何でも'),
-('anytime', 'いつでも'),
-('anyway', 'とにかく'),
-('anywhere', 'どこにでも'),
-('apart', '離れて'),
-('apartment', 'アパート、マンション'),
-('apologize', '謝る'),
-('app', 'アプリ、アプリケーション'),
-('appear', '現れる'),
-('apple', 'リンゴ'),
-('apply', '当てはめる、当てはまる'),
-('appreciate', '感謝する'),
-('approach', '近づく'),
-('April', '４月'),
-('apron', 'エプロン'),
-('aquarium', '水族館'),
-('Arabic', 'アラブの、アラブ人（の）、アラブ語（の）'),
-('archery', 'アーチェリー'),
-('architect', '建築家'),
-('are', '～である、（～に）いる、ある'),
-('area', '地域、地方'),
-('argument', '議論、口論'),
-('arm', '腕'),
-('around', '～のまわりに（まわって）、～ごろ'),
-('arrest', '逮捕する'),
-('arrival', '到着'),
-('arrive', '到着する'),
-('art', '美術'),
-('article', '（新聞や雑誌の）記事'),
-('artist', '芸術家'),
-('as', '～するとき、～なので、～するように'),
-('Asia', 'アジア'),
-('Asian', 'アジアの、アジア人（の）'),
-('ask', 'たずねる、求める'),
-('asleep', '眠って'),
-('assembly', '集会'),
-('assistant', '店員、助手'),
-('astronaut', '宇宙飛行士'),
-('at', '～に、～で'),
-('athlete', '運動選手、アスリート'),
-('atomic', '原子（力）の'),
-('atomic bomb', '原子爆弾'),
-('attach', '付ける'),
-('attack', '攻撃する'),
-('attend', '出席する、参加する'),
-('attention', '注意、注目'),
-('attract', '（注意、興味など）を引きつける'),
-('attraction', '魅力あるもの、アトラクション'),
-('attractive', '魅力的な、人を引きつける'),
-('audience', '聴衆、観客'),
-('August', '８月'),
-('aunt', 'おば'),
-('Australia', 'オーストラリア'),
-('Australian', 'オーストラリアの、オーストラリア人（の）'),
-('author', '作者、作家'),
-('autumn', '秋'),
-('available', '利用できる'),
-('average', '平均（の）'),
-('avocado', 'アボカド'),
-('award', '賞、賞品'),
-('away', '離れて、遠くに'),
-('awesome', 'すごい、すばらしい、最高の'),
-('baby', '赤ちゃん'),
-('back', '後ろへ、帰って、後ろ、背中'),
-('backpack', 'リュックサック、バックパック'),
-('bacon', 'ベーコン'),
-('bad', '悪い'),
-('badminton', 'バドミントン'),
-('bag', 'かばん、袋'),
-('bake', '（オーブンで）焼く'),
-('bakery', 'パン屋'),
-('balance', '釣り合い、バランス'),
-('balcony', 'バルコニー、ベランダ'),
-('ball', 'ボール、球'),
-('balloon', '風船'),
-('ballpoint pen', 'ボールペン'),
-('bamboo', '竹'),
-('ban', '禁止する'),
-('banana', 'バナナ'),
-('band', 'バンド、楽団'),
-('bank', '銀行'),
-('barbecue', 'バーベキュー'),
-('barber', '理髪師'),
-('barrier', '壁、障壁、柵'),
-('baseball', '野球'),
-('basic', '基本的な'),
-('basically', '基本的に'),
-('basket', 'かご、バスケット'),
-('basketball', 'バスケットボール'),
-('bat', '（野球などの）バット'),
-('bath', '入浴、ふろ'),
-('bathroom', '浴室、トイレ'),
-('bathtub', 'バスタブ、浴槽'),
-('battery', '電池、バッテリー'),
-('bay', '湾、入り江'),
-('be', '～である、（～に）いる、ある、～になる'),
-('beach', '浜、浜辺'),
-('beak', 'くちばし'),
-('bean', '豆'),
-('bear', 'クマ'),
-('beat', '打ち負かす、打つ、たたく'),
-('beautiful', '美しい、きれいな'),
-('beautifully', '美しく'),
-('beauty', '美しさ'),
-('because', '（なぜなら）～だから'),
-('become', '～になる'),
-('bed', 'ベッド、寝床'),
-('bedroom', '寝室'),
-('bee', 'ハチ'),
-('beef', '牛肉'),
-('been', 'beの過去分詞'),
-('before', '～の、今まで、以前に'),
-('begin', '始まる、始める'),
-('beginner', '初心者'),
-('beginning', '始まり'),
-('behave', '振る舞う'),
-('behavior', 'ふるまい'),
-('behind', '～の後ろに（の）'),
-('Beijing', '北京'),
-('believe', '信じる、～と思う'),
-('bell', '鈴、鐘'),
-('belong', '所属する'),
-('below', '下の（に、を）'),
-('belt', 'ベルト'),
-('bench', 'ベンチ、長いす'),
-('Berlin', 'ベルリン'),
-('beside', '～のそばに'),
-('besides', 'さらに、そのうえ'),
-('best', '一番よいもの、最善の努力'),
-('better', 'もっとよい（く）、もっと上手い'),
-('between', '（２つの）間に（で）'),
-('beyond', '～の向こうに（へ・で・の）'),
-('bicycle', '自転車（bikeとも言う）'),
-('big', '大きな、大きい'),
-('bike', '自転車（bicycleの略）'),
-('bill', '請求書'),
-('billion', '（名）10億　（形）10億の'),
-('bird', '鳥'),
-('birthday', '誕生日'),
-('bit', '少し、少量、ちょっと'),
-('bite', '噛む'),
-('bitter', '苦い'),
-('black', '黒（の）'),
-('blackboard', '黒板'),
-('blank', '空白、空所、何も書かれていない'),
-('blanket', '毛布'),
-('bleed', '出血する'),
-('blind', '目の不自由な'),
-('block', 'かたまり、ブロック、区画'),
-('blog', 'ブログ'),
-('blond', 'ブロンドの、金髪の'),
-('bloom', '（花が）咲く'),
-('blossom', '（特に果樹の）花'),
-('blow', '（風が）吹く'),
-('blue', '青（の）'),
-('board', '乗り込む、板、台'),
-('boarding', '搭乗'),
-('boat', 'ボート、小舟'),
-('body', '体、肉体'),
-('boil', 'ゆでる、沸騰させる'),
-('bomb', '爆弾'),
-('bone', '骨'),
-('book', '本、書物'),
-('bookcase', '本棚、本箱'),
-('bookstore', '書店'),
-('boot', '長ぐつ、ブーツ'),
-('border', '国境'),
-('bored', '退屈した'),
-('boring', '退屈な'),
-('born', '生まれる'),
-('borrow', '借りる'),
-('both', '両方、両方とも'),
-('bottle', 'ボトル、びん'),
-('bottom', '底、最下部'),
-('bowl', 'どんぶり、ボウル'),
-('box', '箱'),
-('boxing', 'ボクシング'),
-('boy', '男の子、少年'),
-('boyfriend', 'ボーイフレンド'),
-('brain', '脳、頭脳'),
-('brass band', 'ブラスバンド、吹奏楽'),
-('brave', '勇敢な'),
-('Brazil', 'ブラジル'),
-('bread', 'パン'),
-('break', '壊す、休憩、中断'),
-('breakfast', '朝食'),
-('breath', '息、呼吸'),
-('breathe', '呼吸する、息をする'),
-('bridge', '橋'),
-('bright', '明るい、ぴかぴか'),
-('bring', '持ってくる'),
-('British', 'イギリスの、イギリス人（の）'),
-('broadcasting', '放送'),
-('broaden', '広げる'),
-('broccoli', 'ブロッコリー'),
-('bronze', 'ブロンズ（の）、銅（の）'),
-('brother', '（男の）兄弟、兄、弟'),
-('brown', '茶色（の）'),
-('brush', 'みがく、ブラシ、筆'),
-('bucket', 'バケツ'),
-('build', '～を建てる、造る'),
-('building', '建物'),
-('burn', '燃える、燃やす'),
-('bury', '埋める、埋葬する'),
-('bus', 'バス'),
-('bus stop', 'バス停'),
-('bush', '低木、茂み'),
-('business', '商売、事業'),
-('busy', '忙しい'),
-('but', 'しかし、でも'),
-('butter', 'バター'),
-('butterfly', 'チョウ'),
-('button', 'ボタン'),
-('buy', '買う'),
-('by', '～によって、～までに、～のそばに'),
-('bye', 'さようなら、バイバイ'),
-('cabbage', 'キャベツ'),
-('café', 'カフェ、喫茶店'),
-('cafeteria', 'カフェテリア、食堂'),
-('cage', 'かご、おり'),
-('cake', 'ケーキ'),
-('calendar', 'カレンダー、暦'),
-('call', '呼ぶ、電話をかける'),
-('calligraphy', '書道'),
-('calm', '穏やかな、静かな'),
-('camera', 'カメラ'),
-('camp', 'キャンプ'),
-('campaign', '運動、キャンペーン'),
-('can', '～することができる、缶'),
-('Canada', 'カナダ'),
-('cancel', '～を取り消す、中止する'),
-('cancer', '（病気の）がん'),
-('candle', 'ろうそく'),
-('candy', 'キャンディ'),
-('canoe', 'カヌー'),
-('cap', '（ふちのない）帽子、（びんの）ふた'),
-('capital', '首都'),
-('capital letter', '大文字'),
-('captain', 'キャプテン'),
-('car', '車、乗用車'),
-('card', 'カード'),
-('cardboard', '段ボール'),
-('care', '世話（する）、注意（する）'),
-('career', '職業、経歴'),
-('careful', '注意深い、慎重な'),
-('carefully', '注意深く'),
-('carpenter', '大工'),
-('carpet', 'じゅうたん、カーペット'),
-('carrot', 'ニンジン'),
-('carry', '持っている、持ち歩く、運ぶ'),
-('cartoon', '漫画'),
-('cartoonist', '漫画家'),
-('case', 'ケース、箱、場合'),
-('castle', '城'),
-('cat', 'ネコ'),
-('catch', '捕まえる'),
-('cause', '～を引き起こす、～の原因となる'),
-('ceiling', '天井'),
-('celebrate', '祝う'),
-('cellphone', '携帯電話'),
-('cent', 'セント（通貨単位）'),
-('center', '中心、真ん中'),
-('centimeter', 'センチメートル'),
-('central', '中央の'),
-('century', '世紀、１００年'),
-('ceremony', '式、式典'),
-('certainly', '確かに、承知しました、もちろん'),
-('chain', 'くさり'),
-('chair', 'いす'),
-('chalk', 'チョーク'),
-('challenge', '挑戦（する）'),
-('champion', '優勝者、チャンピオン'),
-('championship', '選手権（大会）'),
-('chance', '機会、チャンス'),
-('change', '変わる、変える、つり銭'),
-('character', '登場人物、性格、特色'),
-('charge', '充電する'),
-('charity', '慈善、チャリティー'),
-('chart', '図表'),
-('chat', 'おしゃべりをする、おしゃべり'),
-('cheap', '安価な、安い'),
-('check', '照合する、確認する'),
-('cheek', 'ほほ'),
-('cheer', '元気づける、声援する'),
-('cheerful', '明るい、陽気な'),
-('cheerfully', '明るく、元気よく'),
-('cheese', 'チーズ'),
-('chef', '（熟練した）コック、料理長'),
-('chemical', '化学物質、化学の'),
-('cherry', 'サクラの木、サクランボ'),
-('cherry blossom', 'サクラの花'),
-('cherry tree', 'サクラの木'),
-('chess', 'チェス'),
-('chest', '胸'),
-('chew', '（繰り返し）かむ'),
-('chicken', '鶏肉'),
-('child', '子ども'),
-('childhood', '子どもの頃'),
-('chilly', '寒くて身ぶるいするような'),
-('chimpanzee', 'チンパンジー'),
-('chin', 'あご'),
-('China', '中国'),
-('Chinese', '中国の、中国人（の）、中国語（の）'),
-('chip', '（野菜などの）薄切り'),
-('chocolate', 'チョコレート'),
-('choice', '選ぶこと、選択'),
-('choose', '選ぶ'),
-('chopstick', '箸'),
-('chorus', '合唱団（部）'),
-('chorus contest', '合唱コンクール'),
-('Christmas', 'クリスマス'),
-('Christmas card', 'クリスマスカード'),
-('church', '教会'),
-('circle', '円'),
-('city', '市'),
-('city hall', '市役所'),
-('civil servant', '公務員'),
-('clap', '（手を）たたく'),
-('clarinet', 'クラリネット'),
-('class', '授業、クラス'),
-('classic', '古典的な'),
-('classical', '古典主義の、クラシックの'),
-('classmate', 'クラスメイト、級友'),
-('classroom', '教室'),
-('clean', '掃除する、きれいな'),
-('clean-up', '掃除'),
-('clear', '片付ける、晴れた'),
-('clearly', 'はっきりと'),
-('clerk', '店員'),
-('clever', '利口な'),
-('climate', '気候'),
-('climb', '登る'),
-('climber', '登山者'),
-('clinic', '診療所'),
-('clock', '時計'),
-('close', '閉じる、近い、接近した、親しい'),
-('closed', '閉じた、閉じている、閉店の'),
-('closet', '押し入れ、クローゼット'),
-('cloth', '布'),
-('clothes', '衣服、服'),
-('cloud', '雲'),
-('cloudy', 'くもりの、くもった'),
-('club', 'クラブ、部'),
-('club activity', '部活動'),
-('coach', 'コーチ'),
-('coast', '海岸'),
-('coat', '（衣類の）コート'),
-('coffee', 'コーヒー'),
-('coin', '硬貨'),
-('cola', 'コーラ'),
-('cold', '寒い、冷たい、風邪'),
-('collect', '集める、収集する'),
-('collection', '収集'),
-('college', '（単科）大学'),
-('color', '色'),
-('colorful', '色とりどりの'),
-('comb', 'くし'),
-('combine', '結合する、いっしょにする（なる）'),
-('come', '来る'),
-('comedian', '喜劇役者、コメディアン'),
-('comedy', '喜劇'),
-('comfortable', '心地よい、快適な'),
-('comic', '漫画（の）'),
-('comic book', '漫画本'),
-('comment', '意見、コメント'),
-('common', 'ふつうの、よくある'),
-('communicate', '意思を伝達する'),
-('communication', 'コミュニケーション、意思の疎通'),
-('community', '地域社会、コミュニティー'),
-('company', '会社'),
-('compare', '比較する、比べる'),
-('compasses', 'コンパス'),
-('complain', '不平を言う'),
-('computer', 'コンピューター'),
-('concert', '演奏会、コンサート'),
-('conclusion', '結論'),
-('condition', '状況、状態'),
-('confidence', '自信'),
-('confident', '自信を持った'),
-('confused', '混乱した'),
-('congratulation', 'おめでとう'),
-('connect', 'つなぐ、つながる'),
-('connection', '接続、つながり、関係'),
-('consider', 'よく考える'),
-('contact', '連絡を取る'),
-('contain', '含む、入れている'),
-('content', '内容'),
-('contest', 'コンテスト、コンクール'),
-('continent', '大陸'),
-('continue', '続ける、続く'),
-('control', '制御'),
-('convenience', '便利、都合'),
-('convenience store', 'コンビニエンスストア'),
-('convenient', '便利な、都合のいい'),
-('conversation', '会話'),
-('cook', '調理する、料理人'),
-('cookie', 'クッキー'),
-('cooking', '料理（すること）'),
-('cool', '涼しい、すてきな'),
-('cooperation', '協力'),
-('copy', 'まねる、写しとる'),
-('corn', 'トウモロコシ'),
-('corner', 'かど'),
-('correct', '正す、直す'),
-('cost', '（費用などが）かかる'),
-('costume', '衣装'),
-('cotton', '木綿'),
-('couch', 'ソファー、長椅子'),
-('cough', 'せき'),
-('could', '～してくださいませんか'),
-('count', '数える'),
-('country', '国'),
-('countryside', '田舎'),
-('couple', '一組、夫婦、カップル'),
-('courage', '勇気'),
-('course', '進路'),
-('court', '（テニスなどの）コート'),
-('cousin', 'いとこ'),
-('cover', '～を覆う'),
-('cow', '雌牛（特に乳牛）'),
-('craft', '工作'),
-('crane', 'ツル'),
-('crash', '衝突する'),
-('crayon', 'クレヨン'),
-('cream', 'クリーム'),
-('create', '創作する、作り出す'),
-('creative', '創造力のある'),
-('creature', '生き物'),
-('cricket', 'クリケット'),
-('cross', '（～を）渡る'),
-('crossing', '交差点、横断歩道'),
-('crowd', '群衆、人ごみ'),
-('crowded', '混雑した、満員の'),
-('cry', '叫ぶ、泣く'),
-('cucumber', 'キュウリ'),
-('cultural', '文化の、文化的な'),
-('culture', '習慣、文化'),
-('cup', '茶わん'),
-('curious', '好奇心の強い'),
-('curry', 'カレー料理'),
-('curtain', 'カーテン'),
-('cushion', 'クッション'),
-('custom', '風習、習慣'),
-('customer', '客、顧客'),
-('cut', '切る'),
-('cute', 'かわいらしい、かわいい'),
-('cycling', 'サイクリング'),
-('dad', 'パパ、お父さん'),
-('daily', '毎日の、日常の'),
-('dam', 'ダム'),
-('damage', '～に損害を与える'),
-('dance', '踊る、踊り'),
-('dancer', '踊る人、ダンサー'),
-('dancing', '踊ること'),
-('danger', '危険'),
-('dangerous', '危険な'),
-('dark', '（光がなくて）暗い'),
-('darkness', '暗さ、暗やみ'),
-('data', 'データ、資料'),
-('date', '日付、月日'),
-('daughter', '娘'),
-('day', '１日、（ある特定の）日、日中'),
-('dead', '死んだ'),
-('deal', '扱う'),
-('dear', '親愛なる～'),
-('death', '死、死亡'),
-('debate', '討論（する）'),
-('December', '１２月'),
-('decide', '決心する'),
-('decision', '決断'),
-('decorate', '飾る、装飾する'),
-('decoration', '装飾、デコレーション'),
-('decrease', '減る、減少する'),
-('deep', '深い、奥の'),
-('deeply', '深く'),
-('deer', 'シカ'),
-('degree', '（温度・角などの）度'),
-('degree Celsius', '摂氏'),
-('delicious', 'おいしい'),
-('deliver', '配達する'),
-('delivery', '配達'),
-('demonstration', 'デモ'),
-('dentist', '歯医者'),
-('department store', 'デパート'),
-('departure', '出発'),
-('depend', '～による、～次第である'),
-('depressed', '落胆した、元気がない'),
-('describe', '描写する、特徴を述べる'),
-('desert', '砂漠'),
-('design', 'デザイン（する）、図案（を作る）、（～を）設計（する）'),
-('designer', 'デザイナー、設計者'),
-('desk', '机'),
-('dessert', 'デザート'),
-('destroy', '破壊する、こわす'),
-('detail', '細部、詳細'),
-('develop', '発展させる、発展する'),
-('developed', '発達した'),
-('developing', '発展途上の'),
-('device', '装置、機器'),
-('diamond', 'ダイヤモンド'),
-('diary', '日記'),
-('dictionary', '辞書、事典'),
-('did', 'doの過去形'),
-('die', '死ぬ'),
-('difference', '違い、違うこと'),
-('different', '違った、いろいろな'),
-('differently', '（～と）異なって'),
-('difficult', '難しい、困難な'),
-('difficulty', '難しさ、困難、苦労'),
-('dining room', '食堂、ダイニングルーム'),
-('dinner', 'ディナー、夕食'),
-('dinosaur', '恐竜'),
-('direction', '方角、方向'),
-('directly', '直接に'),
-('director', '（映画、劇などの）監督'),
-('dirty', '汚い、汚れた'),
-('disability', '（病気などによる）障害'),
-('disagree', '意見が合わない'),
-('disappear', '見えなくなる、消える'),
-('disappointed', 'がっかりした'),
-('disaster', '災害'),
-('discount', '割引'),
-('discover', '見つける、見いだす'),
-('discovery', '発見'),
-('discuss', '話し合う、討議する'),
-('discussion', '議論、討論'),
-('disease', '病気'),
-('dish', '皿、料理'),
-('dislike', 'きらう'),
-('display', '展示'),
-('distance', '距離、遠い場所'),
-('dive', '飛び込む、急降下する'),
-('divide', '分ける'),
-('do', '～する、行動する、～は～しますか、～は～しない'),
-('doctor', '医師、博士'),
-('does', '主語が３人称単数形の時のdoの現在形'),
-('dog', 'イヌ'),
-('doll', '人形'),
-('dollar', 'ドル'),
-('dolphin', 'イルカ'),
-('dome', 'ドーム'),
-('donut', 'ドーナツ'),
-('door', 'ドア'),
-('dot', '点'),
-('doubt', '（動）疑う  （名）疑い、疑念'),
-('down', '下へ（に）、（道などに）沿って'),
-('download', 'ダウンロードする'),
-('downtown', '（町の）中心街（で）'),
-('Dr.', '～先生、～博士'),
-('drama', 'ドラマ、劇'),
-('draw', '（線を）引く、（絵を）かく'),
-('drawer', '引き出し'),
-('dream', '夢（を見る）'),
-('dress', '衣装、ドレス'),
-('dressed', '服を着た'),
-('dribble', 'ドリブルをする'),
-('dried', '乾燥した'),
-('drill', '訓練'),
-('drink', '飲む、飲み物'),
-('drive', '運転する'),
-('driver', '運転手'),
-('drone', 'ドローン（無人航空機）'),
-('drop', '落とす、落ちる、しずく'),
-('drugstore', 'ドラッグストア、薬局'),
-('drum', '太鼓、ドラム'),
-('dry', '（動）乾かす、（形）乾いた'),
-('duck', 'カモ、アヒル'),
-('due', '～のために、～のせいで'),
-('during', '～の間（のいつか）'),
-('dust', 'ほこりを払う、ほこり、ちり'),
-('duty', '義務、職務'),
-('dying', '瀕死の状態の、死にかかっている'),
-('each', 'それぞれ（の）、各（の）～'),
-('ear', '耳'),
-('early', '（時間的に）早い（く）'),
-('earth', '地球'),
-('earthquake', '地震'),
-('easily', '簡単に、容易に'),
-('east', '東（の、へ）、東方'),
-('eastern', '東の'),
-('easy', 'やさしい、簡単な'),
-('easygoing', 'のんきな、おおらかな'),
-('eat', '食べる、食事をする'),
-('eco-friendly', '環境にやさしい'),
-('economy', '経済'),
-('ecosystem', '生態系'),
-('edge', 'へり、端'),
-('education', '教育'),
-('effect', '影響'),
-('effective', '効果的な、有効な'),
-('effort', '努力'),
-('egg', '卵'),
-('eggplant', 'ナス'),
-('eight', '８（の）'),
-('eighteen', '１８（の）'),
-('eighteenth', '１８番目（の）'),
-('eighth', '８番目（の）'),
-('eighty', '８０（の）'),
-('either', 'どちらか、～もまた～ない'),
-('elbow', 'ひじ'),
-('elderly', '年配の'),
-('electricity', '電気'),
-('electronic', '電子の'),
-('elementary', '初歩の、初等の'),
-('elementary school', '小学校'),
-('elephant', 'ゾウ'),
-('elevator', 'エレベーター'),
-('eleven', '１１（の）'),
-('eleventh', '１１番目（の）'),
-('else', '他に（の）、その他（の）'),
-('e(-)mail', '電子メール、Eメール'),
-('embarrassed', '恥ずかしい、気まずい'),
-('emergency', '緊急事態、非常時'),
-('empty', '空の'),
-('encourage', '勇気づける、励ます'),
-('end', '終わる、、最後、端'),
-('endangered', '絶滅寸前の'),
-('enemy', '敵'),
-('energy', 'エネルギー'),
-('engine', 'エンジン'),
-('engineer', '技師、エンジニア'),
-('England', 'イングランド'),
-('English', '英語（の）、イギリスの、イギリス人（の）'),
-('enjoy', '楽しむ、～は楽しい（と思う）'),
-('enough', '十分な、ちょうどいい数（量）の'),
-('enter', '入る'),
-('entertainment', '娯楽'),
-('entrance', '入り口、玄関、入学'),
-('envelope', '封筒'),
-('environment', '環境'),
-('environmental', '環境の'),
-('erase', '～を消す'),
-('eraser', '消しゴム'),
-('escalator', 'エスカレーター'),
-('escape', '逃げる'),
-('especially', '特に'),
-('essay', '小論文、作文、エッセイ'),
-('etc.', '～など'),
-('EU', '欧州連合'),
-('Europe', 'ヨーロッパ'),
-('European', 'ヨーロッパの人、ヨーロッパの'),
-('evacuation', '避難'),
-('eve', '前夜、前日'),
-('even', '～でさえ、～でも'),
-('evening', '夕方、晩'),
-('event', '出来事、事件、行事'),
-('ever', '今までに、かつて'),
-('every', 'すべての、毎～'),
-('everybody', 'みんな'),
-('everyday', '毎日の、日常の'),
-('everyone', 'みんな'),
-('everything', 'すべてのこと（もの）'),
-('everywhere', 'いたるところ、どこでも'),
-('exactly', '正確に、ちょうど'),
-('exam', '試験'),
-('example', '例、実例'),
-('excellent', '非常に優れた、優秀な'),
-('exchange', '交換'),
-('excited', '興奮した'),
-('exciting', 'わくわくするような'),
-('excuse', '許す'),
-('exercise', '運動、練習問題'),
-('exit', '出口'),
-('expect', '予期する、期待する'),
-('expensive', '（値段が）高い'),
-('experience', '経験'),
-('experiment', '実験'),
-('expert', '専門家、エキスパート'),
-('explain', '説明する'),
-('explanation', '説明'),
-('explore', '探検する'),
-('express', '表現する、言い表す、急行、速達'),
-('expression', '表現'),
-('eye', '目'),
-('eyebrow', 'まゆ、まゆ毛'),
-('eyelid', 'まぶた'),
-('face', '顔、表情、立ち向かう、直面する'),
-('facial', '顔の'),
-('facility', '施設、設備'),
-('fact', '事実、現実'),
-('factory', '工場'),
-('fail', '失敗する、（学科・試験に）落ちる'),
-('failure', '失敗'),
-('fair', '公平な'),
-('fairy', '妖精'),
-('fall', '落ちる、秋、滝'),
-('familiar', 'よく知られた、なじみのある'),
-('family', '家族'),
-('famous', '有名な'),
-('fan', '（スポーツなどの）ファン、扇'),
-('fantastic', 'すばらしい、すてきな'),
-('far', '（距離が）遠くに、遠く（い）'),
-('farewell', '別れ'),
-('farm', '農場'),
-('farmer', '農場主、農業をする人'),
-('farming', '農業'),
-('fashion', '流行、はやり'),
-('fast', '（速度が）速く（い）'),
-('fast food', 'ファストフード'),
-('fat', '太った'),
-('father', '父、父親'),
-('favorite', 'お気に入りの（もの）、大好きな（もの）'),
-('feather', '羽、羽毛'),
-('feature', '特徴、特長、特質'),
-('February', '２月'),
-('fee', '料金、入場料'),
-('feed', '食物を与える'),
-('feel', '感じる、気分が～である'),
-('feeling', '感情、気持ち'),
-('female', '女性の'),
-('fence', '囲い、さく、へい'),
-('ferry', 'フェリー'),
-('festival', 'お祭り、祭日、～祭、祭典'),
-('fever', '（病気の）熱'),
-('few', '少数の～、少しの～'),
-('fiction', '小説、フィクション'),
-('field', '野原、畑、牧草地、実地'),
-('field trip', '遠足、校外学習'),
-('fifteen', '１５（の）'),
-('fifteenth', '１５番目（の）'),
-('fifth', '５番目（の）'),
-('fifty', '５０（の）'),
-('fight', '戦う、戦い'),
-('file', 'ファイル、書類ケース'),
-('fill', 'いっぱいにする、いっぱいになる'),
-('film', '映画'),
-('final', '最後の、最終の'),
-('finally', '最後に、ついに'),
-('find', '見つける、見いだす'),
-('fine', '元気な、調子の良い'),
-('finger', '手の指'),
-('finish', '終わらせる、終わる'),
-('fire', '火、火事'),
-('fire station', '消防署'),
-('firefighter', '消防士'),
-('firework', '花火'),
-('first', '１番目（の）、第１に、最初に'),
-('fish', '魚つりをする、魚'),
-('fisherman', '漁師'),
-('fishing', 'つり'),
-('fit', '（サイズ・形が）合う'),
-('fitting room', '試着室'),
-('five', '５（の）'),
-('flag', '旗'),
-('flashlight', '懐中電灯'),
-('flavor', '味、風味'),
-('flight', '飛行、飛行機の便'),
-('flight attendant', '客室乗務員'),
-('flood', '洪水'),
-('floor', '床、階'),
-('florist', '花屋（の主人）'),
-('flour', '小麦粉'),
-('flower', '花'),
-('flower arrangement', '華道'),
-('fluently', '流ちょうに'),
-('flute', 'フルート、横笛'),
-('fly', '飛ぶ'),
-('focus', '集中する、中心'),
-('fog', '霧、もや'),
-('fold', '折る'),
-('follow', '（～に）ついて行く、（～に）従う'),
-('following', '次の'),
-('food', '食べもの'),
-('foolish', '愚かな'),
-('foot', '足'),
-('football', 'アメリカンフットボール'),
-('for', '～のために、～にとって、～の理由で、～の間'),
-('forecast', '予報'),
-('forehead', '額'),
-('foreign', '外国の'),
-('foreigner', '外国人'),
-('forest', '森'),
-('forever', '永久に、絶えず'),
-('forget', '忘れる'),
-('forgive', '許す'),
-('fork', 'フォーク'),
-('fortunately', '幸運にも'),
-('forty', '４０（の）'),
-('forward', '前へ'),
-('fountain', '噴水'),
-('four', '４（の）'),
-('fourteen', '１４（の）'),
-('fourteenth', '１４番目の'),
-('fourth', '４番目（の）'),
-('fox', 'キツネ'),
-('France', 'フランス'),
-('free', '自由な、ひまな、無料の'),
-('freedom', '自由'),
-('freely', '自由に'),
-('French', 'フランスの、フランス人（の）、フランス語（の）'),
-('French fries', 'フライドポテト'),
-('fresh', '新鮮な'),
-('Friday', '金曜日'),
-('fridge', '冷蔵庫'),
-('fried', '油であげた（いためた）'),
-('friend', '友人、友達'),
-('friendly', '友好的な、人なつっこい'),
-('friendship', '友情、親交'),
-('frog', 'カエル'),
-('from', '～から、～出身で'),
-('front', '前（の）、前部（の）'),
-('fruit', '果物、フルーツ'),
-('frustrated', 'ストレスのたまった'),
-('full', '満ちた、いっぱいの 、満腹の'),
-('fun', 'おもしろい（こと）、楽しさ'),
-('funny', 'おもしろい'),
-('furniture', '家具'),
-('future', '未来（の）、将来（の）'),
-('game', '試合、競技大会'),
-('gap', 'すき間、へだたり'),
-('garage', 'ガレージ、車庫'),
-('garbage', '生ごみ、くず'),
-('garden', '畑、庭'),
-('garlic', 'ニンニク'),
-('gas', 'ガス、ガソリン'),
-('gas station', 'ガソリンスタンド'),
-('gate', '門'),
-('gather', '集まる、集める'),
-('gender', '性、性別'),
-('generally', '一般に'),
-('generation', '世代'),
-('gentle', '思いやりのある、優しい'),
-('gentleman', '紳士、男性'),
-('German', 'ドイツの、ドイツ人（の）、ドイツ語（の）'),
-('Germany', 'ドイツ'),
-('gesture', '身ぶり、ジェスチャー'),
-('get', '手に入れる、（～に）なる'),
-('giant', '巨大な、飛躍的な'),
-('gift', '贈り物'),
-('ginger', 'ショウガ'),
-('giraffe', 'キリン'),
-('girl', '女の子、少女'),
-('girlfriend', 'ガールフレンド'),
-('give', '与える、あげる'),
-('glad', 'うれしい、喜んで'),
-('glass', '（ガラスの）コップ'),
-('glasses', '眼鏡（複数形で使う）'),
-('global', '地球の、地球規模の'),
-('global warming', '地球温暖化'),
-('globe', '地球、球体'),
-('glove', '手袋'),
-('glue', 'のり、接着剤'),
-('go', '行く'),
-('goal', '目標'),
-('God', '神'),
-('gold', '金（の）'),
-('goldfish', '金魚'),
-('golf', 'ゴルフ'),
-('good', 'よい、 ～が得意な'),
-('goodbye', 'さようなら'),
-('goods', '商品、品物'),
-('gorilla', 'ゴリラ'),
-('government', '政府'),
-('grade', '学年'),
-('grader', '～年生'),
-('gradually', 'だんだんと、徐々に'),
-('graduate', '卒業する'),
-('graduation', '卒業'),
-('gram', 'グラム'),
-('grandchild', '孫'),
-('granddaughter', '女の孫'),
-('grandfather', 'おじいさん'),
-('grandmother', 'おばあさん'),
-('grandparent', '祖父、祖母'),
-('grandson', '孫息子、男の孫'),
-('grape', 'ブドウ'),
-('graph', 'グラフ'),
-('grass', '草、芝生'),
-('gray', '灰色（の）'),
-('great', 'すてきな、すばらしい'),
-('greatly', '大いに'),
-('green', '緑（の）'),
-('green onion', 'ネギ'),
-('green pepper', 'ピーマン'),
-('greet', 'あいさつをする'),
-('greeting', 'あいさつ'),
-('grill', '焼く'),
-('ground', '地面、地上、運動場'),
-('group', 'グループ、集団'),
-('grow', '成長する、～を栽培する'),
-('guess', '推測する'),
-('guest', '客'),
-('guide', '案内する、案内人'),
-('guidebook', '案内書'),
-('guitar', 'ギター'),
-('gum', 'ガム'),
-('gun', '銃、鉄砲'),
-('gym', '体育館'),
-('gymnastics', '体操'),
-('habit', '習慣、くせ'),
-('hair', '髪の毛'),
-('haircut', '散髪'),
-('hairstyle', '髪型、ヘアスタイル'),
-('half', '半分（の）'),
-('hall', 'ホール、会館'),
-('Halloween', 'ハロウィーン'),
-('hallway', '廊下'),
-('ham', 'ハム'),
-('hamburger', 'ハンバーガー'),
-('hand', '手'),
-('handball', 'ハンドボール'),
-('handkerchief', 'ハンカチ'),
-('handle', '扱う、処理する'),
-('handmade', '手づくりの'),
-('handout', '配布印刷物、ビラ'),
-('handsome', '顔立ちが美しい、ハンサムな'),
-('hang', 'つるす'),
-('happen', '起こる、生じる'),
-('happiness', '幸福'),
-('happy', '幸せな、うれしい'),
-('hard', '困難な、かたい、熱心に'),
-('harm', '害を与える'),
-('harmony', '調和、ハーモニー'),
-('harvest', '収穫'),
-('has', '～しなければならない'),
-('hat', '（ふちのある）帽子'),
-('hate', '～するのが嫌いだ、～したくはない'),
-('have', '持っている、食べる、～したことがある'),
-('Hawaii', 'ハワイ'),
-('he', '彼は、彼が'),
-('head', '頭（首から上の部分）'),
-('headache', '頭痛'),
-('headphone', 'ヘッドホン'),
-('health', '健康、健康状態'),
-('healthy', '健康によい'),
-('hear', '聞こえる、聞く'),
-('heart', '心、気持ち、心臓'),
-('heat', '熱（する）'),
-('heater', '暖房器具'),
-('heaven', '天国'),
-('heavy', '重い'),
-('hello', 'やあ、こんにちは'),
-('helmet', 'ヘルメット'),
-('help', '手伝う、助ける'),
-('helpful', '役に立つ、助けになる'),
-('her', '彼女の、彼女を'),
-('here', 'ここ'),
-('heritage', '（文化的な）遺産'),
-('hero', 'ヒーロー、英雄'),
-('hers', '彼女のもの'),
-('herself', '彼女自身を（に）'),
-('hey', 'ねえ、おや、やあ'),
-('hi', 'こんにちは'),
-('hide', '隠す、隠れる'),
-('high', '（高さ、値段、程度などが）高い'),
-('high school', '高校'),
-('hike', 'ハイキング（をする）'),
-('hiking', 'ハイキング'),
-('hill', '丘'),
-('him', '彼を、彼に'),
-('himself', '彼自身を（に）'),
-('hint', 'ヒント、有益な助言、てがかり'),
-('hip-hop', 'ヒップホップ'),
-('his', '彼の、彼のもの'),
-('historical', '歴史の、歴史的な'),
-('history', '歴史'),
-('hit', '打つ、当たる'),
-('hobby', '趣味、道楽'),
-('hockey', 'ホッケー'),
-('hold', '持つ、握る、開く、開催する'),
-('hole', '穴'),
-('holiday', '祝日、祭日、休日'),
-('home', '家、うちへ（に）、故郷へ（に）'),
-('home economics', '家庭科'),
-('homeroom', 'ホームルーム'),
-('homesick', '家を恋しがる'),
-('homestay', '家庭滞在'),
-('hometown', '生まれ育った町（市）'),
-('homework', '宿題'),
-('honest', '正直な'),
-('honesty', '正直、誠実さ'),
-('honey', 'はちみつ'),
-('Hong Kong', '香港'),
-('hope', '希望（する）、望む'),
-('hopeless', '絶望した'),
-('horizon', '地平線'),
-('horror', '恐怖、恐ろしさ'),
-('horse', 'ウマ'),
-('hospital', '病院'),
-('host', '主催者、（客をもてなす）主人'),
-('host family', 'ホストファミリー'),
-('hot', '暑い、熱い'),
-('hot spring', '温泉'),
-('hotel', 'ホテル'),
-('hour', '１時間、６０分'),
-('house', '家、住宅'),
-('housework', '家事'),
-('how', 'どれぐらい'),
-('however', 'しかしながら、だが'),
-('hug', '抱擁'),
-('huge', '巨大な'),
-('human', '人間（の）'),
-('human being', '人間（全体）、人類'),
-('humid', '湿気の多い、じめじめした'),
-('humor', 'おかしさ、ユーモア'),
-('hundred', '１００（の）'),
-('hungry', '空腹の、飢えた'),
-('hunt', '捜す、狩る、狩りをする'),
-('hunting', '狩り'),
-('hurry', '急ぐ、急いで行く'),
-('hurt', '傷つける'),
-('husband', '夫'),
-('I', '私は、私が（文の主語に使う）'),
-('ice', '氷'),
-('ice cream', 'アイスクリーム'),
-('idea', '考え、アイデア'),
-('ideal', '理想的な'),
-('if', 'もし（～する）ならば'),
-('ill', '病気の'),
-('illegal', '違法の'),
-('image', '像、画像、イメージ'),
-('imagination', '想像、想像力'),
-('imagine', '想像する'),
-('immediately', 'すぐに、ただちに'),
-('impact', '衝撃'),
-('importance', '重要性、大切さ'),
-('important', '重要な、重大な'),
-('impossible', '不可能な'),
-('impressed', '感心して、感動して'),
-('improve', 'よりよくする、改良する'),
-('in', 'の中に、（期間）～のうちに、～の点で'),
-('include', '含む、含める'),
-('including', '～を含めて'),
-('increase', '増える、増加する'),
-('India', 'インド'),
-('Indian', 'インドの、インド人（の）'),
-('Indonesia', 'インドネシア'),
-('indoor', '室内の'),
-('indoors', '屋内で（へ）'),
-('industry', '工業'),
-('influence', '影響（を与える）'),
-('information', '情報'),
-('injure', '傷つける、けがをさせる'),
-('injured', 'けがをした'),
-('ink', 'インク'),
-('inside', '～の中に（で）'),
-('instant', 'すぐの、即時の'),
-('instead', '代わりに'),
-('instruction', '指示、命令、指図'),
-('instrument', '楽器'),
-('interest', '興味をかきたてる、興味'),
-('interested', '～に興味を持っている'),
-('interesting', 'おもしろい、興味深い'),
-('international', '国際的な'),
-('Internet', 'インターネット'),
-('interpreter', '通訳者'),
-('intersection', '交差点'),
-('interview', 'インタビュー（する）、面接（する）'),
-('interviewer', 'インタビューする人、面接官、インタビュアー'),
-('into', '～の中へ'),
-('introduce', '～を紹介する'),
-('invent', '発明する'),
-('invention', '発明、発明品'),
-('inventor', '発明家'),
-('invite', '招待する'),
-('iron', 'アイロン'),
-('is', '～である、（～に）いる、ある'),
-('island', '島'),
-('issue', '問題（点）、争点'),
-('it', 'それ（は、が）、それ（を、に）'),
-('Italian', 'イタリアの、イタリア人（の）、イタリア語（の）'),
-('Italy', 'イタリア'),
-('its', 'その、それの'),
-('itself', 'それ自身を（に）'),
-('jacket', '上着、ジャケット'),
-('jail', '刑務所'),
-('jam', 'ジャム'),
-('January', '１月'),
-('Japan', '日本'),
-('Japanese', '日本の、日本人（の）、日本語（の）'),
-('jazz', 'ジャズ'),
-('jeans', 'ジーンズ（複数形で使う）'),
-('jet', 'ジェット機'),
-('jewel', '宝石'),
-('Jewish', 'ユダヤ人の'),
-('job', '職業、仕事'),
-('jog', 'ゆっくり走る、ジョギングする'),
-('join', '～に加わる、参加する'),
-('joke', '冗談、しゃれ'),
-('journalist', 'ジャーナリスト'),
-('journey', '旅行'),
-('joy', '喜び'),
-('J-pop', '日本のポップス（の）'),
-('judge', '判断する'),
-('juice', '（果物、肉などの）液'),
-('July', '７月'),
-('jump', '跳ぶ'),
-('June', '６月'),
-('jungle', '密林'),
-('junior', '下位の、年下の'),
-('junior high school', '中学校'),
-('just', 'ちょうど、まさに'),
-('kangaroo', 'カンガルー'),
-('keep', '保存する、保つ'),
-('keeper', '飼育係'),
-('Kenya', 'ケニア'),
-('ketchup', 'ケチャップ'),
-('kettle', 'やかん'),
-('key', 'かぎ、キー'),
-('keyword', 'キーワード'),
-('kick', '蹴る'),
-('kid', '子ども'),
-('kill', '殺す'),
-('kilogram', 'キログラム'),
-('kilometer', 'キロメートル'),
-('kind', '親切な、種類'),
-('kindergarten', '幼稚園'),
-('kindly', '親切に'),
-('kindness', '親切、思いやり、優しさ、親切な行為'),
-('king', '王'),
-('kitchen', '台所、調理場'),
-('kite', '凧'),
-('kiwi', 'キウイ'),
-('knee', '膝'),
-('knife', 'ナイフ'),
-('knit', '編む'),
-('knock', 'ノックする、たたく'),
-('know', '知っている、知る'),
-('knowledge', '知識'),
-('koala', 'コアラ'),
-('Korea', '韓国・朝鮮'),
-('Korean', '韓国・朝鮮の'),
-('lack', '不足'),
-('lady', '女性、婦人'),
-('lake', '湖'),
-('lamp', '明かり、ランプ、電気スタンド'),
-('land', '上陸する、土地、国'),
-('language', '言語、言葉'),
-('lantern', 'ちょうちん'),
-('large', '（広くて）大きい、（数、量が）多い'),
-('last', '続く、最後の'),
-('late', '遅い（く）、遅れた（て）'),
-('later', '後で、のちほど、～後'),
-('latest', '最新の'),
-('laugh', '（声を出して）笑う'),
-('laughter', '笑い'),
-('laundry', '洗濯（物）'),
-('law', '法律'),
-('lawyer', '弁護士'),
-('lazy', '怠惰な、なまけている'),
-('lead', '導く、案内する'),
-('leader', '指導者、リーダー'),
-('leaf', '葉'),
-('learn', '学ぶ、覚える、知る'),
-('least', '最も少ない、最小'),
-('leave', '去る、出発する、置いていく'),
-('left', '左（へ）、左の方に'),
-('leg', '（人・動物などの）あし、すね'),
-('lemon', 'レモン'),
-('lemonade', 'レモネード'),
-('lend', '～を貸す'),
-('less', 'もっと少ない'),
-('lesson', '授業、レッスン'),
-('let', '～させる'),
-('let''s', '～しましょう'),
-('letter', '文字、手紙'),
-('lettuce', 'レタス'),
-('level', '水平（面）、水位、レベル'),
-('librarian', '司書、図書館員'),
-('library', '図書館、図書室'),
-('license', '許可、免許'),
-('lie', '横たわる、横になる'),
-('life', '生活、一生、命'),
-('lifestyle', '生活様式'),
-('lift', '持ち上げる'),
-('light', '光、軽い'),
-('light bulb', '電球'),
-('like', '～が好きである、～のような、～に似た'),
-('limit', '制限（する）'),
-('line', '線、（電車の）路線、電話線、列'),
-('lion', 'ライオン'),
-('lip', 'くちびる'),
-('list', '名簿、リスト'),
-('listen', '（じっと）聞く、耳を傾ける'),
-('listener', '聞き手'),
-('liter', 'リットル'),
-('little', '小さい、かわいらしい、幼い'),
-('live', '住んでいる、生きている'),
-('living', '生活、生きている'),
-('living room', '居間、リビングルーム'),
-('local', '地元の'),
-('lock', 'かぎを掛ける'),
-('locker', 'ロッカー'),
-('London', 'ロンドン'),
-('lonely', 'ひとりぼっちの、さびしい'),
-('long', '長い（く）'),
-('look', '見る、～に見える'),
-('lose', '失う、なくす'),
-('loss', '失うこと、喪失'),
-('lot', 'たくさん、とても'),
-('loud', '（声が）大きい'),
-('loudly', '大声で'),
-('love', '愛（する）、～が大好きである'),
-('lovely', 'すてきな、美しい'),
-('low', '低い'),
-('luck', '幸運、運'),
-('luckily', '幸運にも'),
-('lucky', '運のよい、幸運な'),
-('luggage', '手荷物'),
-('lunch', '昼食、弁当'),
-('lunch break', '昼休み'),
-('lunchbox', '弁当箱'),
-('machine', '機械'),
-('magazine', '雑誌'),
-('magic', '魔法、ふしぎな力'),
-('magnet', '磁石'),
-('mailbox', '郵便ポスト、郵便受け'),
-('main', '主な、主要な'),
-('major', '（比べて）大きな、主要な、重要な'),
-('make', '作る、～を…にする'),
-('maker', '制作者'),
-('Malaysia', 'マレーシア'),
-('male', '雄（の）、男性（の）'),
-('man', '（大人の）男性、男（の人）'),
-('manager', '経営者、園長'),
-('mango', 'マンゴー'),
-('manner', '行儀、マナー'),
-('many', '多く（の）、たくさん（の）'),
-('map', '地図'),
-('marathon', 'マラソン'),
-('March', '３月'),
-('march', 'ずんずん歩く、行進'),
-('mark', '印、マーク'),
-('marker', 'マーカーペン、マジックペン'),
-('market', '市、市場'),
-('married', '結婚している'),
-('marry', '結婚する'),
-('martial arts', '武道、武術'),
-('mascot', 'マスコット'),
-('mask', 'お面、マスク'),
-('master', '主人'),
-('match', '試合'),
-('material', '材料、原料'),
-('math', '数学'),
-('matter', '事柄、困ったこと'),
-('May', '５月'),
-('may', '～してもよい、～かもしれない、たぶん～だろう'),
-('maybe', 'たぶん、もしかすると'),
-('mayonnaise', 'マヨネーズ'),
-('mayor', '市（町、村）長'),
-('me', '私を、私に'),
-('meal', '食事'),
-('mean', '意味する、～の意味である'),
-('meaning', '意味'),
-('meat', '肉'),
-('mechanical pencil', 'シャープペンシル'),
-('medal', 'メダル'),
-('media', 'マスメディア、媒体'),
-('medical', '医学の'),
-('medicine', '薬、医薬'),
-('medium', '中間（の）'),
-('meet', '会う、出会う'),
-('meeting', '集まり、会議'),
-('melody', 'メロディー、旋律'),
-('melon', 'メロン'),
-('melt', 'とける'),
-('member', '会員、メンバー'),
-('memorial', '記念の、追悼の'),
-('memory', '思い出、記憶'),
-('menu', '献立表、メニュー'),
-('merit', '長所、よい点'),
-('message', '伝えたいこと、メッセージ、伝言'),
-('meter', 'メートル'),
-('method', '方法、方式'),
-('Mexico', 'メキシコ'),
-('microwave oven', '電子レンジ'),
-('mid', '中間の'),
-('middle', '真ん中、中間'),
-('midnight', '夜の１２時'),
-('might', 'mayの過去形'),
-('mild', 'おだやかな'),
-('mile', 'マイル'),
-('milk', '牛乳、ミルク'),
-('million', '１００万（の）'),
-('mind', '心'),
-('mine', '私のもの'),
-('mineral water', 'ミネラルウォーター'),
-('minute', '（時間の）分、ちょっとの間'),
-('mirror', '鏡'),
-('miss', '（機会などを）逃す'),
-('mission', '使節、使命、任務'),
-('mistake', '誤り、間違い'),
-('misunderstand', '誤解する'),
-('mix', '混ぜる'),
-('mobile phone', '携帯電話'),
-('model', '模型'),
-('modern', '現代の、現代の'),
-('mom', 'ママ、お母さん'),
-('moment', '瞬間'),
-('Monday', '月曜日'),
-('money', 'お金'),
-('monkey', 'サル'),
-('monster', '怪物'),
-('month', '月、ひと月（間）'),
-('monument', '記念碑'),
-('moon', '（天体の）月'),
-('moral education', '（教科の）道徳'),
-('more', 'もっと～'),
-('moreover', 'さらに、そのうえ'),
-('morning', '朝、午前'),
-('most', '最も～、たいてい'),
-('mother', '母、母親'),
-('mountain', '山'),
-('mouse', 'ネズミ'),
-('mouth', '口'),
-('move', '動く、移動する'),
-('movement', '動き、（社会的）運動'),
-('movie', '映画'),
-('movie theater', '映画館'),
-('Mr.', '（男性への敬称） ～さん、～先生'),
-('Mrs.', '（既婚女性への敬称）～婦人、～さん、～先生'),
-('Ms.', '（女性への敬称） ～さん、～先生'),
-('Mt.', '～山（山の名の前につける）'),
-('much', '多量の、たくさんの'),
-('mug', 'マグカップ'),
-('museum', '博物館、美術館'),
-('mushroom', 'キノコ、マッシュルーム'),
-('music', '音楽'),
-('musical', 'ミュージカル、音楽の'),
-('musician', '音楽家'),
-('must', 'しなければならない、～にちがいない'),
-('mustard', 'からし、マスタード'),
-('my', '私の'),
-('myself', '私自身'),
-('mysterious', '神秘的な'),
-('mystery', '謎'),
-('nail', 'つめ'),
-('name', '名前（を付ける）'),
-('nap', '昼寝、仮眠'),
-('narrow', '（幅が）狭い'),
-('nation', '国家'),
-('national', '国家の、国立の'),
-('national holiday', '国民の祝日'),
-('native', 'その土地に生まれ育った'),
-('natural', '自然の'),
-('nature', '自然'),
-('near', '～の近くに（の）'),
-('nearby', '近くの（に、で）'),
-('necessary', '必要な'),
-('neck', '首'),
-('necklace', 'ネックレス、首飾り'),
-('need', '～を必要とする'),
-('needle', '針'),
-('negative', '否定的な'),
-('neighbor', '近所の人、隣人'),
-('neighborhood', '近隣（の人々）'),
-('neither', '～もまた～ない'),
-('nephew', 'おい'),
-('nervous', '神経質な、緊張して'),
-('nest', '巣'),
-('net', '網、ネット'),
-('never', '決して～ない、まだ一度も～ない'),
-('new', '新しい'),
-('New Year', '新年'),
-('New Year''s Day', '元日'),
-('New Year''s Eve', '大みそか'),
-('New York', 'ニューヨーク'),
-('New Zealand', 'ニュージランド'),
-('news', '報道、ニュース'),
-('newspaper', '新聞'),
-('next', '次の（に）、となりの（に）'),
-('nice', 'すてきな、すばらしい'),
-('niece', 'めい'),
-('night', '夜、晩'),
-('nine', '９（の）'),
-('nineteen', '１９（の）'),
-('nineteenth', '１９番目（の）'),
-('ninety', '９０（の）'),
-('ninth', '９番目（の）'),
-('no', 'いいえ、何も～ない'),
-('Nobel Prize', 'ノーベル賞'),
-('nobody', 'だれも～ない'),
-('nod', 'うなずく'),
-('noise', '物音、騒音'),
-('noisy', 'さわがしい、うるさい'),
-('noodle', '麺'),
-('noon', '正午、昼の１２時'),
-('normal', '普通の'),
-('north', '北（の、へ）、北方'),
-('northern', '北の、北部地方の'),
-('nose', '鼻'),
-('not', '～でない、～しない'),
-('note', 'メモ、手帳'),
-('notebook', 'ノート、手帳'),
-('nothing', '何も～ない'),
-('notice', '気付く'),
-('novel', '小説'),
-('November', '１１月'),
-('now', '今（は）、現在（は）'),
-('nowadays', '今日では'),
-('nuclear', '核の、原子力の'),
-('number', '数、（電話）番号'),
-('nurse', '看護師、保健の先生'),
-('nursery', '保育園'),
-('nut', '木の実'),
-('obey', '従う'),
-('object', '物、物体'),
-('observe', '観察する'),
-('occupation', '職業'),
-('ocean', '大洋、海'),
-('o''clock', '～時'),
-('October', '１０月'),
-('octopus', 'タコ'),
-('of', '～の、～について、（同格）A of B'),
-('off', '（場所を）離れて、（物を）離して'),
-('offer', '提供する、申し出る'),
-('office', '事務所'),
-('officer', '係員、役人'),
-('official', '係官、公式の'),
-('often', 'しばしば、たびたび'),
-('oh', 'おお、まあ、おや、あら'),
-('oil', '油、石油'),
-('OK', 'よろしい'),
-('old', '古い、～歳で'),
-('Olympics', '国際競技会'),
-('omelet', 'オムレツ'),
-('on', '～に、～の上に、～で、～に面して、～について、身につけて'),
-('once', '～したからには、１回、かつて'),
-('one', '１つ（の）、人、それ'),
-('onion', 'タマネギ'),
-('online', 'オンラインの（で）'),
-('only', 'たった、～だけ'),
-('onto', '～の上に'),
-('open', '開く、あける'),
-('operation', '手術'),
-('opinion', '意見、考え'),
-('opportunity', '機会、好機'),
-('or', 'または、あるいは'),
-('orange', 'オレンジ'),
-('orchestra', 'オーケストラ'),
-('order', '注文する、命じる、順序'),
-('ordinary', 'ふつうの'),
-('organization', '組織、団体'),
-('origin', '起源、はじまり'),
-('original', '独自の'),
-('originally', 'もともとは、本来は'),
-('other', '他の（もの）'),
-('ouch', '痛いっ'),
-('our', '私たちの、われわれの'),
-('ours', '私たちのもの'),
-('ourselves', '私たちを（に）'),
-('out', '外へ（で）、外を'),
-('outdoor', '野外の、屋外の'),
-('outdoors', '屋外で（へ）'),
-('outside', '外へ（で）'),
-('oven', 'オーブン'),
-('over', '越えて、渡って、～以上で、～の一面に'),
-('overseas', '海外へ（で）、外国へ（で）'),
-('own', '自分(自身)の'),
-('owner', '持ち主、飼い主'),
-('Pacific', '太平洋の'),
-('pack', '１パック、１箱'),
-('package', '包み'),
-('page', '（本、新聞などの）面、欄、ページ'),
-('pain', '痛み'),
-('paint', '（絵の具で）かく、いろどる'),
-('painter', '画家'),
-('painting', '（絵の具で）かくこと、絵'),
-('pair', '１組、１対'),
-('pajamas', 'パジャマ（複数形で使う）'),
-('pale', '顔色の悪い'),
-('palm', '手のひら'),
-('pancake', 'パンケーキ'),
-('panda', 'パンダ'),
-('pants', 'ズボン（複数形）'),
-('paper', '紙'),
-('parade', 'パレード、行列'),
-('paragraph', '段落、パラグラフ'),
-('Paralympics', 'パラリンピック'),
-('pardon', 'もう一度言ってください'),
-('parent', '親'),
-('Paris', 'パリ'),
-('park', '公園、遊園地'),
-('parking lot', '駐車場'),
-('part', '部分、役割、役目'),
-('particular', '特定の'),
-('partner', '仲間、パートナー'),
-('party', 'パーティ、（社交の）会'),
-('pass', '渡す、通り過ぎる'),
-('passage', '（文章などの）一節、一部'),
-('passenger', '乗客'),
-('passion', '熱中（しているもの）、情熱'),
-('passport', '旅券、パスポート'),
-('past', '過去（の）'),
-('patient', '患者、我慢強い'),
-('pause', '間、休止'),
-('pay', '支払う'),
-('P.E. (PE)', '体育'),
-('peace', '平和'),
-('peaceful', '平和な、おだやかな'),
-('peach', 'モモ'),
-('pen', 'ペン'),
-('pencil', '鉛筆'),
-('penguin', 'ペンギン'),
-('people', '人々、国民'),
-('pepper', 'コショウ'),
-('percent', 'パーセント'),
-('perfect', '完全な、申し分ない'),
-('perform', '演じる、演奏する'),
-('performance', '上演、演奏、演技'),
-('performer', '演技者'),
-('perhaps', 'たぶん、おそらく'),
-('period', '期間、時代、時間'),
-('permission', '許し、許可'),
-('person', '人'),
-('personal', '個人的な、個人の'),
-('personal computer', 'パソコン'),
-('pet', 'ペット'),
-('pharmacist', '薬剤師'),
-('Philippines', 'フィリピン'),
-('phone', '電話'),
-('phone call', '電話をかける'),
-('phone number', '電話番号'),
-('photo', '写真'),
-('photograph', '写真を撮る'),
-('photographer', '写真家、カメラマン'),
-('phrase', '言葉遣い、表現'),
-('physical', '身体の'),
-('pianist', 'ピアニスト'),
-('piano', 'ピアノ'),
-('pick', '取り上げる、拾い上げる'),
-('picnic', 'ピクニック、行楽'),
-('picture', '写真、絵'),
-('pie', 'パイ'),
-('piece', '断片、破片'),
-('pig', 'ブタ'),
-('pillow', '枕'),
-('pilot', '（飛行機の）操縦士'),
-('pin', 'ピン、留め針'),
-('pineapple', 'パイナップル'),
-('pink', 'ピンク色（の）'),
-('pizza', 'ピザ'),
-('place', '場所、所'),
-('plan', '計画、案、考え'),
-('plane', '飛行機'),
-('planet', '惑星'),
-('plant', '植物'),
-('plastic', 'プラスチック（の)、ビニール（の）'),
-('plastic bag', 'ビニール袋'),
-('plate', '皿、取り皿'),
-('platform', 'プラットフォーム'),
-('play', '（ゲームなどを）する、遊ぶ、果たす'),
-('player', '（運動）選手、（楽器の）演奏者'),
-('playground', '運動場'),
-('pleasant', '楽しい、心地よい'),
-('please', 'どうぞ、すみませんが'),
-('pleased', '喜んで'),
-('pleasure', '楽しみ、喜び'),
-('p.m.', '午後'),
-('pocket', 'ポケット'),
-('poem', '（一編の）詩'),
-('poet', '詩人'),
-('poetry', '（集合的に）詩'),
-('point', '点、大切な点、指し示す'),
-('poison', '毒'),
-('pole', '棒、さお'),
-('police', '警察、警察官たち'),
-('police station', '警察署'),
-('polite', 'ていねいな、礼儀正しい'),
-('politician', '政治家'),
-('pollute', '汚染する'),
-('pollution', '汚染'),
-('pond', '池'),
-('pool', 'プール'),
-('poor', '貧しい、へたな'),
-('pop', 'ポップス、大衆向きの'),
-('popcorn', 'ポップコーン'),
-('popular', '人気のある、流行の'),
-('population', '人口'),
-('pork', '豚肉'),
-('port', '港'),
-('positive', '積極的な、肯定的な、前向きな'),
-('possible', '可能な、実行できる'),
-('post', '郵便'),
-('post office', '郵便局'),
-('postbox', '郵便ポスト'),
-('postcard', '郵便はがき、絵はがき'),
-('poster', 'ポスター'),
-('pot', 'つぼ、なべ'),
-('potato', 'ジャガイモ'),
-('power', '力、エネルギー'),
-('powerful', '力強い、迫力のある'),
-('practice', '練習（する）'),
-('pray', '祈る、祈願する'),
-('precious', '貴重な、大切な'),
-('prefecture', '県'),
-('prefer', '（～のほうを）好む'),
-('prepare', '準備をする'),
-('present', '贈り物、プレゼント'),
-('presentation', '発表、プレゼンテーション'),
-('president', '会長、大統領'),
-('pressure', '圧力'),
-('pretty', 'かわいい、きれいな、かなり'),
-('price', '価格、値段'),
-('pride', '誇り'),
-('prince', '王子'),
-('princess', '王女、皇太子妃'),
-('principal', '校長'),
-('print', '印刷（する）'),
-('prize', '賞、ほうび、賞品'),
-('probably', 'おそらく、たぶん'),
-('problem', '問題、課題'),
-('process', '過程、プロセス'),
-('produce', '～を生ずる、生産する'),
-('product', '製品、生産物'),
-('professional', '専門の、プロの'),
-('professor', '教授'),
-('program', '番組、計画'),
-('programmer', 'プログラマー'),
-('progress', '進歩（する）、発達（する）'),
-('project', '計画、企画'),
-('promise', '約束（する）'),
-('pronounce', '発音する'),
-('protect', '保護する、守る'),
-('proud', '～を誇りに思う'),
-('provide', '供給する、与える'),
-('public', '公の、公共の'),
-('publish', '出版する'),
-('pudding', 'プリン'),
-('pull', '引く'),
-('pumpkin', 'カボチャ'),
-('puppy', '子犬'),
-('purple', '紫色（の）'),
-('purpose', '目的、つもり'),
-('purse', '財布'),
-('push', '押す'),
-('put', '置く、つける'),
-('puzzle', 'パズル'),
-('pyramid', 'ピラミッド'),
-('quality', '品質'),
-('quantity', '量'),
-('queen', '女王'),
-('question', '質問、問題'),
-('quick', 'すばやい、速い'),
-('quickly', 'すばやく、速く'),
-('quiet', '静かな、おとなしい'),
-('quietly', '静かに、黙って'),
-('quit', 'やめる'),
-('quite', 'とても、本当に'),
-('quiz', 'テスト、クイズ'),
-('rabbit', 'ウサギ'),
-('race', '競争、レース'),
-('racket', 'ラケット'),
-('radio', 'ラジオ'),
-('railroad', '鉄道、線路'),
-('rain', '雨（が降る）'),
-('rain forest', '熱帯雨林'),
-('rainbow', '虹'),
-('raincoat', 'レインコート'),
-('rainwater', '雨水'),
-('rainy', '雨降りの、雨の多い'),
-('raise', 'あげる'),
-('rapidly', '速く、急速に'),
-('rare', 'まれな、生焼けの'),
-('raw', '生の'),
-('reach', '着く、到着する'),
-('read', '読む、読書する'),
-('reading', '読むこと、読書'),
-('ready', '準備ができて'),
-('real', '本当の、本物の'),
-('reality', '現実'),
-('realize', '実感する、理解する'),
-('really', '本当に、実際に、ほんと、へえー'),
-('reason', '理由、わけ'),
-('receive', '受け取る、もらう'),
-('recently', '近ごろ、最近'),
-('recipe', '作り方'),
-('recognize', 'わかる、認める'),
-('recommend', '勧める'),
-('record', '録音する、記録する'),
-('recover', '回復する'),
-('rectangle', '長方形'),
-('recycle', '再生する、再利用する'),
-('recycling', 'リサイクル'),
-('red', '赤（の）'),
-('red pepper', 'トウガラシ'),
-('reduce', '減らす、減少させる'),
-('refuse', '拒否する、断る'),
-('regular', '規則的な、定期的な'),
-('relate', '関連づける'),
-('relationship', '関係'),
-('relax', 'くつろぐ'),
-('relaxed', '（人が）くつろいだ'),
-('relay', 'リレー競走'),
-('release', '放出する、発売する'),
-('remain', '（動）残る  （名）残り、遺跡'),
-('remember', '覚えている、思い出す'),
-('remind', '思い出させる'),
-('remove', '取り除く、取り外す'),
-('rent', '有料で借りる'),
-('rental', 'レンタルの、賃貸しの'),
-('repair', '修理する、直す'),
-('repeat', '繰り返して言う'),
-('reply', '返答（する）'),
-('report', '報告（する）、報告書'),
-('reporter', '新聞記者、ニュースレポーター'),
-('request', '（動）求める、要望する　（名）依頼、要望'),
-('rescue', '救い出す、救出する'),
-('research', '研究（する）、調査（する）'),
-('researcher', '研究者、調査員'),
-('resident', '住民、居住者'),
-('respect', '尊敬（する）、尊重（する）'),
-('response', '反応、返答'),
-('responsible', '責任感のある、責任がある'),
-('rest', '横になる、休憩'),
-('restaurant', 'レストラン'),
-('restroom', '洗面所、トイレ'),
-('result', '結果'),
-('return', '帰る、戻る'),
-('reuse', '再利用する'),
-('review', '復習する'),
-('rhythm', 'リズム'),
-('rice', '米、ごはん'),
-('rice ball', 'おにぎり'),
-('rice cake', 'もち'),
-('rich', '豊かな、金持ちの'),
-('ride', '乗る、乗って行く'),
-('right', '右側、正しい、権利'),
-('ring', '鳴る、指輪'),
-('rise', '上昇、増加'),
-('risk', '危険、恐れ'),
-('river', '川'),
-('road', '道路、道'),
-('roast', '焼く、あぶる'),
-('robot', 'ロボット'),
-('rock', '（音楽の）ロック、岩石'),
-('rocket', 'ロケット'),
-('role', '役、役割'),
-('roll', '巻いたもの'),
-('roller coaster', 'ジェットコースター'),
-('romantic', 'ロマンチックな'),
-('Rome', 'ローマ'),
-('roof', '屋根'),
-('room', '部屋、室'),
-('root', '根、根源'),
-('rope', '綱、ロープ'),
-('rose', 'バラ'),
-('rough', '荒れた、ざらざらした'),
-('round', '丸い（もの）、円形（の）'),
-('route', '道、ルート'),
-('row', '列、（劇場などの）座席の列'),
-('rude', '無礼な、失礼な'),
-('rug', '敷物、ラグ'),
-('rugby', 'ラグビー'),
-('rule', '規則、ルール'),
-('ruler', 'ものさし、定規'),
-('run', '走る、走って行く'),
-('runner', '走る人'),
-('Russia', 'ロシア'),
-('sacred', '神聖な'),
-('sad', '悲しい'),
-('sadness', '悲しさ'),
-('safe', '安全な'),
-('safely', '安全に'),
-('safety', '安全'),
-('sail', '航行する、船旅をする'),
-('salad', 'サラダ'),
-('sale', '安売り、バーゲンセール'),
-('sales clerk', '店員'),
-('salt', '塩、食塩'),
-('salty', '塩辛い'),
-('same', '同じ（もの）'),
-('sandwich', 'サンドイッチ'),
-('satisfied', '満足した'),
-('satisfy', '満たす、充足させる、満足させる'),
-('Saturday', '土曜日'),
-('sauce', '（料理の）ソース'),
-('sausage', 'ソーセージ'),
-('save', '助ける、節約する'),
-('say', '言う、～と書いてある'),
-('scared', 'おびえた、こわがって'),
-('scarf', 'スカーフ、マフラー'),
-('scary', '恐ろしい、こわい'),
-('scene', '場面、舞台'),
-('schedule', '予定（表）'),
-('school', '学校'),
-('school festival', '文化祭'),
-('school lunch', '給食'),
-('school trip', '修学旅行'),
-('science', '理科、自然科学'),
-('scientific', '科学の、科学的な'),
-('scientist', '科学者'),
-('scissors', 'はさみ'),
-('scold', 'しかる'),
-('score', '得点（する）'),
-('screen', '画面、スクリーン'),
-('scuba diving', 'スキューバダイビング'),
-('sea', '海'),
-('seafood', 'シーフード、海産物'),
-('search', 'さがす、調べる'),
-('season', '季節'),
-('seat', '席、すわる物（所）'),
-('seaweed', '海藻、のり'),
-('second', '２番目、秒'),
-('secret', '秘密'),
-('section', '部分、区域'),
-('see', '見る、見える、会う、わかる'),
-('seed', '（植物の）種'),
-('seem', '～のように見える、思われる'),
-('select', '選ぶ、選択する'),
-('selection', '選ぶこと、選択'),
-('selfish', 'わがままな'),
-('sell', '売る、売っている'),
-('send', '送る'),
-('senior', '年上の、上級の'),
-('sense', '感覚、センス'),
-('sentence', '文'),
-('separate', '引き離す、分ける'),
-('September', '９月'),
-('serious', '重大な、（病状などが）重い'),
-('serve', '（食事・飲み物）を出す'),
-('service', 'サービス、公共事業'),
-('sesame', 'ゴマ'),
-('set', '一式、設置する'),
-('seven', '７(の)'),
-('seventeen', '１７(の)'),
-('seventeenth', '１７番目（の）'),
-('seventh', '７番目(の)'),
-('seventy', '７０(の)'),
-('several', 'いくつかの、いく人かの'),
-('shade', 'ブラインド'),
-('shadow', '影'),
-('shake', '振る、ゆさぶる'),
-('shall', '～するでしょう'),
-('shampoo', 'シャンプー'),
-('shape', '形、姿'),
-('share', 'いっしょに使う、共有する'),
-('sharp', '鋭い、ちょうど'),
-('shaved ice', 'かき氷'),
-('she', '彼女は、彼女が'),
-('sheep', 'ヒツジ'),
-('sheet', '用紙'),
-('shelf', '棚'),
-('shelter', '避難所、保護'),
-('shine', '光る、輝く'),
-('ship', '船'),
-('shirt', 'ワイシャツ、シャツ'),
-('shock', '衝撃を与える'),
-('shocked', 'ショックを受けた'),
-('shocking', '衝撃的な、ぞっとする'),
-('shoe', 'くつ'),
-('shoot', '撃つ、射る'),
-('shop', '小売店、店'),
-('shopping', '買い物'),
-('shopping mall', 'ショッピングモール'),
-('short', '短い、背が低い'),
-('should', '～すべきである、～したほうがいい'),
-('shoulder', '肩'),
-('shout', '叫ぶ、大声で言う'),
-('show', '見せる、示す'),
-('shower', 'シャワー'),
-('shrine', '神社、神宮、聖堂'),
-('shut', '閉める'),
-('shy', '恥ずかしがり屋の、内気な'),
-('sick', '病気の、病気で'),
-('side', '横、わき、側面'),
-('sightseeing', '観光'),
-('sign', '標識、看板'),
-('sign language', '手話'),
-('silence', '静けさ、沈黙'),
-('silent', '静かな、沈黙の'),
-('silly', 'ばかばかしい、ばかな'),
-('silver', '銀（の）'),
-('similar', '似た'),
-('simple', '簡単な、わかりやすい'),
-('since', '～から（ずっと）、～以来（ずっと）'),
-('sincerely', '心から、（手紙の結び文句として）敬具'),
-('sing', '歌う'),
-('Singapore', 'シンガポール'),
-('singer', '歌う人、歌手'),
-('single', 'たった１つの'),
-('sink', '沈む、洗面台'),
-('sir', '（男性に対する改まった呼びかけのことば）'),
-('sister', '姉妹、姉、妹'),
-('sit', '座る、座っている'),
-('site', '場所、遺跡'),
-('situation', '状況、状態'),
-('six', '６（の）'),
-('sixteen', '１６（の）'),
-('sixteenth', '１６番目（の）'),
-('sixth', '６番目（の）'),
-('sixty', '６０（の）'),
-('size', '大きさ、サイズ'),
-('skate', 'スケートですべる、スケートをする'),
-('ski', 'スキーをする'),
-('skiing', 'スキー'),
-('skill', '技術、技能'),
-('skin', '皮膚、肌'),
-('skirt', 'スカート'),
-('sky', '空'),
-('sleep', '眠る、睡眠'),
-('sleepy', '眠い、眠そうな'),
-('sleeve', 'そで'),
-('slipper', 'スリッパ、部屋履き'),
-('slow', '遅い、ゆっくりした'),
-('slowly', 'ゆっくりと'),
-('small', '小さい'),
-('smart', '利口な、かしこい'),
-('smartphone', 'スマートフォン'),
-('smell', 'におい（がする）'),
-('smile', 'ほほえむ'),
-('smoke', '煙'),
-('snack', '軽食、おやつ'),
-('snake', 'ヘビ'),
-('sneaker', 'スニーカー'),
-('snow', '雪（がふる）'),
-('snowboarding', 'スノーボード'),
-('snowman', '雪だるま'),
-('snowy', '雪の降る、雪の多い'),
-('so', 'とても、そのように、だから、それで'),
-('soap', 'せっけん'),
-('soccer', 'サッカー'),
-('social', '社会の、社会的な'),
-('social media', 'ソーシャル・メディア'),
-('social studies', '社会科'),
-('society', '社会'),
-('sock', '靴下'),
-('soda', 'ソーダ水'),
-('sofa', 'ソファー'),
-('soft', 'やわらかい'),
-('softball', 'ソフトボール'),
-('softly', '優しく、穏やかに、静かに'),
-('soil', '土壌、土'),
-('solar', '太陽の'),
-('soldier', '兵士、軍人'),
-('solution', '解決策'),
-('solve', '解決する'),
-('some', 'いくつか（の）、いくらか（の）'),
-('somebody', '誰か、ある人'),
-('someday', 'いつか、そのうち'),
-('somehow', '何らかの形で、何とかして、どうにかして'),
-('someone', 'だれか'),
-('something', '何か'),
-('sometime', 'いつか'),
-('sometimes', 'ときどき'),
-('somewhere', 'どこかに、どこかへ、どこかで'),
-('son', '息子'),
-('song', '歌'),
-('soon', 'すぐに、まもなく'),
-('sore', '痛い'),
-('sore throat', 'のどの痛み'),
-('sorry', 'すまなく思って、残念に思って'),
-('sound', '～に聞こえる、音'),
-('soup', 'スープ'),
-('sour', '酸っぱい、酸味のきいた'),
-('south', '南（の、へ）、南方'),
-('South Africa', '南アフリカ共和国'),
-('southern', '南の'),
-('souvenir', 'みやげ'),
-('soy sauce', 'しょうゆ'),
-('soybean', '大豆'),
-('space', '空間、宇宙'),
-('spaghetti', 'スパゲッティ'),
-('Spain', 'スペイン'),
-('Spanish', 'スペインの'),
-('speak', '話す'),
-('speaker', '話す人'),
-('special', '特別な'),
-('species', '（生物学上の）種（複数形）'),
-('specific', '特定の、具体的な'),
-('speech', '演説、スピーチ'),
-('speed', 'スピード、速度'),
-('spell', '（～の語）をつづる'),
-('spend', '（時間を）過ごす、費やす'),
-('spice', '香辛料、スパイス'),
-('spicy', '辛い、香辛料のきいた'),
-('spider', 'クモ'),
-('spirit', '心、精神、気力、勇気'),
-('splash', 'はねる、水しぶき'),
-('spoon', 'スプーン'),
-('sport', 'スポーツ'),
-('sports day', '運動会、体育の日'),
-('spot', '場所、地点'),
-('spread', '広げる、広がる'),
-('spring', '春'),
-('square', '正方形'),
-('squirrel', 'リス'),
-('stadium', '競技場'),
-('staff', '職員、スタッフ'),
-('stage', '舞台、ステージ'),
-('stairs', '階段（複数形で使う）'),
-('stamp', '切手'),
-('stand', '立つ、（物などを置く）台'),
-('standard', '基準'),
-('stapler', 'ホッチキス'),
-('star', '星'),
-('start', '始める、始まる'),
-('station', '駅、･･･署（所、局）'),
-('stationery', '文房具、事務用品'),
-('statue', '像、彫像'),
-('stay', '滞在（する）、とどまる'),
-('steak', 'ステーキ'),
-('steal', '盗む'),
-('steam', '蒸気'),
-('step', '段階、踏み出す'),
-('stew', 'シチュー'),
-('stick', 'くっつく、棒状のもの、杖'),
-('sticky', 'ねばねばする、べとべとする、くっつく'),
-('still', 'まだ、今でも'),
-('stomach', '胃、腹'),
-('stomachache', '胃痛、腹痛'),
-('stone', '石'),
-('stop', 'やめる、停止'),
-('store', '店'),
-('storm', '嵐'),
-('story', '物語、話'),
-('stove', 'ガスレンジ、レンジ'),
-('straight', 'まっすぐに'),
-('strange', '奇妙な'),
-('straw', '（飲み物用の）ストロー'),
-('strawberry', 'イチゴ'),
-('stream', '流す、小川'),
-('street', '通り、道'),
-('stress', '（精神的）ストレス'),
-('stretch', '（手足などを）伸ばす'),
-('strict', '厳しい、厳格な'),
-('strong', '強い'),
-('strongly', '強く'),
-('student', '生徒'),
-('student council', '生徒会'),
-('study', '勉強（する）、研究（する）'),
-('stupid', 'ばかな、愚かな'),
-('style', 'スタイル、型'),
-('stylist', 'スタイリスト、美容師'),
-('subject', '教科、（メールなどの）話題'),
-('subway', '（アメリカの）地下鉄'),
-('succeed', '成功する'),
-('success', '成功'),
-('successful', '成功した'),
-('such', 'このような、そのような'),
-('suddenly', '急に、突然'),
-('suffer', '苦しむ'),
-('sugar', '砂糖'),
-('suggest', '提案する'),
-('suit', 'スーツ'),
-('suitcase', 'スーツケース'),
-('summary', '要約、まとめ'),
-('summer', '夏'),
-('sumo wrestler', '力士'),
-('sun', '太陽'),
-('Sunday', '日曜日'),
-('sunflower', 'ひまわり'),
-('sunglasses', 'サングラス'),
-('sunny', '晴れた'),
-('sunrise', '日の出、朝焼け'),
-('sunset', '日の入り'),
-('sunshine', '日光'),
-('supermarket', 'スーパー'),
-('support', '支持（する）、支援（する）'),
-('sure', 'もちろん'),
-('surf', '波乗りする'),
-('surprise', '驚かす、びっくりさせる'),
-('surprised', '驚いて'),
-('surprising', '驚くべき、すばらしい'),
-('surprisingly', '驚いたことに、意外にも'),
-('surround', '囲む、取り巻く'),
-('survey', '調査'),
-('survive', '生き残る'),
-('survivor', '生存者'),
-('sweat', '汗'),
-('sweater', 'セーター'),
-('sweet', '甘いもの、心地よい'),
-('sweet potato', 'サツマイモ'),
-('swim', '泳ぐ'),
-('swimmer', '水泳選手'),
-('swimming', '水泳、泳ぐこと'),
-('switch', 'スイッチ'),
-('Sydney', 'シドニー'),
-('symbol', 'しるし'),
-('system', '方式、体系的方法'),
-('table', 'テーブル'),
-('table tennis', '卓球'),
-('tablet', 'タブレット'),
-('tag', '札'),
-('tail', 'しっぽ'),
-('Taiwan', '台湾'),
-('take', '取る、持っていく、連れて行く、乗る'),
-('tale', '物語'),
-('talent', '才能'),
-('talk', '話す'),
-('tall', '背が高い'),
-('tank', 'タンク、水槽'),
-('tape', '粘着テープ'),
-('task', '仕事、任務、課題'),
-('taste', '～な味がする、味、味覚'),
-('tasty', 'おいしい、風味のきいた、味加減のよい'),
-('tax', '税、税金'),
-('taxi', 'タクシー'),
-('tea', '茶、紅茶'),
-('tea ceremony', '茶道'),
-('teach', '教える'),
-('teacher', '先生、教師'),
-('team', 'チーム'),
-('teammate', 'チームメイト'),
-('teamwork', 'チームワーク'),
-('tear', '涙'),
-('technology', '科学技術'),
-('teenager', '10代の少年・少女'),
-('telephone', '電話'),
-('tell', '言う､教える'),
-('temperature', '温度、気温'),
-('temple', '寺'),
-('ten', '１０（の）'),
-('tennis', 'テニス'),
-('tent', 'テント'),
-('tenth', '１０番目（の）'),
-('term', '学期'),
-('terrible', '恐ろしい、ひどい'),
-('test', '試験、テスト'),
-('text', '本文、テキスト'),
-('textbook', '教科書'),
-('Thailand', 'タイ'),
-('than', '～よりも'),
-('thank', '感謝（する）、ありがとう'),
-('that', 'それ（あれ）、～する（ところの）'),
-('the', 'その、あの'),
-('theater', '劇場'),
-('their', '彼（彼女）らの、それらの'),
-('theirs', '彼（彼女）らのもの、それらのもの'),
-('them', '彼（彼女）を（に）、それらを（に）'),
-('themselves', '彼（彼女）ら自身'),
-('then', 'それでは、それから、その時'),
-('there', 'そこに（で）'),
-('these', 'これら（の）'),
-('they', '彼（彼女）は（が）'),
-('thick', '厚い、太い、濃い'),
-('thin', 'やせた、（紙などが）薄い'),
-('thing', '物、事'),
-('think', '（～と）考える、（～だと）思う'),
-('thinking', '考え、思考'),
-('third', '３番目（の）'),
-('thirsty', 'のどがかわいた'),
-('thirteen', '１３（の）'),
-('thirteenth', '１３番目（の）'),
-('thirtieth', '３０番目（の）'),
-('thirty', '３０（の）'),
-('this', 'これ、この'),
-('those', 'それら（の）、あれら（の）'),
-('though', '～だけれども'),
-('thousand', '１，０００（の）'),
-('three', '３（の）'),
-('throat', 'のど'),
-('through', '～を通って、～を通して'),
-('throw', '投げる'),
-('Thursday', '木曜日'),
-('ticket', '切符、チケット'),
-('tie', 'ネクタイ'),
-('tiger', 'トラ'),
-('tight', '堅い（く）'),
-('till', '～まで'),
-('time', '時刻、回（数）、度'),
-('tiny', 'とても小さい'),
-('tired', '疲れて'),
-('tissue', 'ティッシュペーパー'),
-('title', 'タイトル、題名'),
-('to', '（行き先）～へ、（相手・対象）～に'),
-('toast', 'こんがり焼く、トーストする'),
-('today', '今日'),
-('toe', '足の指、爪先'),
-('together', 'いっしょに'),
-('toilet', 'トイレ、化粧室'),
-('tomato', 'トマト'),
-('tomorrow', '明日（は）'),
-('ton', 'トン'),
-('tongue', '舌'),
-('tonight', '今夜（は）'),
-('too', '（～も）また、（～）すぎる'),
-('tool', '手段、道具'),
-('tooth', '歯'),
-('toothache', '歯痛'),
-('toothbrush', '歯ブラシ'),
-('top', '一番上の部分（の）、頂上（の）'),
-('topic', '話題、テーマ、トピック'),
-('total', '総計、合計'),
-('touch', '触れる、接触'),
-('tough', 'たくましい、丈夫な、困難な、難しい'),
-('tour', '旅行、ツアー'),
-('tourist', '観光客、旅行者'),
-('tournament', '勝ち抜き戦、トーナメント'),
-('toward', '～の方へ、～に向かって'),
-('towel', '手拭い、タオル'),
-('tower', '塔、タワー'),
-('town', '町'),
-('toy', 'おもちゃ'),
-('track', '線路 、走路、トラック'),
-('track and field', '陸上競技'),
-('trade', '貿易、取引'),
-('tradition', '伝統'),
-('traditional', '伝統的な'),
-('traffic', '交通量'),
-('traffic light', '交通信号'),
-('tragic', '悲惨な、痛ましい'),
-('train', '電車'),
-('trainer', '調教師'),
-('training', '訓練'),
-('translate', '翻訳する、訳す'),
-('translation', '翻訳'),
-('translator', '翻訳者、翻訳機'),
-('trash', 'ごみ'),
-('travel', '旅行（する）'),
-('traveler', '旅行者'),
-('treasure', '重要なもの、宝物'),
-('treat', '扱う'),
-('tree', '木'),
-('triangle', '三角形'),
-('triathlon', 'トライアスロン'),
-('trick', 'いたずら、芸当、トリック'),
-('trip', '旅行'),
-('trouble', '面倒、困難、悩み'),
-('truck', 'トラック、貨物自動車'),
-('true', '本当の、真実の'),
-('truly', '本当に'),
-('trumpet', 'トランペット'),
-('trust', '信頼する、信用する'),
-('truth', '真実、事実'),
-('try', '試す、やってみる'),
-('T-shirt', 'Tシャツ'),
-('tube', 'チューブ'),
-('Tuesday', '火曜日'),
-('tuna', 'マグロ'),
-('tunnel', 'トンネル'),
-('Turkey', 'トルコ'),
-('turn', '曲がる､回る、順番'),
-('turtle', 'カメ'),
-('TV', 'テレビ'),
-('twelfth', '１２番目（の）'),
-('twelve', '１２（の）'),
-('twentieth', '２０番目（の）'),
-('twenty', '２０（の）'),
-('twice', '２度、２回、２倍(に)'),
-('twin', '双子'),
-('two', '２つ（の）'),
-('type', '種類、タイプ'),
-('typhoon', '台風'),
-('uh', 'あー、えー'),
-('um', 'うーん、えー、あー'),
-('umbrella', '傘'),
-('unbelievable', '信じられない、驚くべき'),
-('uncle', 'おじ（父母の兄弟）'),
-('uncomfortable', '心地よくない'),
-('under', '～の下に（で）'),
-('underground', '（イギリスの）地下鉄'),
-('understand', '理解する'),
-('understanding', '理解、知識'),
-('underwear', '下着'),
-('unfair', '不公平な、不正な'),
-('unfortunately', '不幸にも、運悪く、あいにく、残念ながら'),
-('unicycle', '一輪車'),
-('uniform', '制服、ユニフォーム'),
-('unique', '特有の、独特の'),
-('United Kingdom', 'イギリス'),
-('United Nations', '国際連合'),
-('United States', 'アメリカ合衆国'),
-('university', '（総合）大学'),
-('unlucky', '運が悪い'),
-('until', '～（する）まで'),
-('unusual', 'ふつうでない、めずらしい'),
-('up', '上へ'),
-('upset', '取り乱した、腹を立てた'),
-('upstairs', '二階へ（に）、階上へ（に）'),
-('us', '私たちを（に）'),
-('use', '使う'),
-('used', '使い古した、中古の'),
-('useful', '役に立つ'),
-('user', '使用者、利用者'),
-('usual', 'いつもの、ふつうの'),
-('usually', 'ふつう、たいてい'),
-('vacation', '休暇、休み'),
-('vacuum cleaner', '掃除機'),
-('valuable', '高価な、貴重な'),
-('van', '小型トラック、ワゴン車、バン'),
-('variety', '変化に富むこと'),
-('various', 'いろいろな、さまざまな'),
-('vase', '花びん'),
-('vegetable', '野菜'),
-('vending machine', '自動販売機'),
-('very', 'とても、非常に'),
-('vet', '獣医（veterinarianの略）'),
-('victim', '犠牲者'),
-('victory', '勝利、優勝'),
-('video', 'ビデオ'),
-('video game', 'テレビゲーム'),
-('Vietnam', 'ベトナム'),
-('view', '眺め、風景、考え'),
-('village', '村、村落'),
-('vinegar', '酢'),
-('violence', '暴力'),
-('violin', 'バイオリン'),
-('visa', 'ビザ、査証'),
-('visit', '訪問（する）'),
-('visitor', '訪問者、訪問客'),
-('vocabulary', '語彙'),
-('voice', '声'),
-('volleyball', 'バレーボール'),
-('volunteer', '自分から進んでやる人'),
-('wait', '待つ'),
-('waiter', '接客係、ウェイター'),
-('wake', '起きる、起こす'),
-('walk', '歩く（こと）､散歩'),
-('wall', '壁、塀'),
-('wallet', '財布'),
-('want', '～がほしい'),
-('war', '戦争、戦い'),
-('warm', '暖かい'),
-('was', '～であった'),
-('wash', '洗う'),
-('washing machine', '洗たく機'),
-('Washington, D.C.', 'ワシントンD.C.'),
-('waste', 'むだ、浪費'),
-('watch', '見る、腕時計'),
-('water', '水'),
-('watermelon', 'スイカ'),
-('wave', '手を振る、波'),
-('way', '道、方法'),
-('we', '私たちは（が）'),
-('weak', '弱い、かすかな'),
-('wear', '身に付けている'),
-('weather', '天気'),
-('website', 'ウェブサイト'),
-('wedding', '結婚式'),
-('Wednesday', '水曜日'),
-('week', '週'),
-('weekday', '平日'),
-('weekend', '週末'),
-('weight', '重さ、体重、おもり'),
-('weightlifting', 'ウェイトリフティング'),
-('welcome', 'ようこそ'),
-('well', 'うまい、上手に、え～と'),
-('were', '～であった、（～に）いた、あった'),
-('west', '西（の、へ）、西方'),
-('western', '西の、（大文字で）西洋の'),
-('wet', 'ぬれた、ぬれている'),
-('whale', 'クジラ'),
-('what', '何､何の､どんな'),
-('wheel', '車輪'),
-('wheelchair', '車いす'),
-('when', 'いつ、～するとき'),
-('where', 'どこに（へ）'),
-('which', 'どちら（の）、どれ（どの）'),
-('while', '（～する）間に'),
-('white', '白（の）'),
-('whiteboard', 'ホワイトボード'),
-('who', 'だれ\n～する'),
-('whole', '全体の、すべての'),
-('whose', 'だれの'),
-('why', 'なぜ'),
-('wide', '幅の広い、幅が～ある'),
-('wife', '妻'),
-('Wi-Fi', 'ワイファイ'),
-('wild', '野生の'),
-('will', '～でしょう'),
-('win', '勝つ'),
-('wind', '風'),
-('window', '窓'),
-('windy', '風の強い'),
-('wing', '翼'),
-('winner', '勝った人、勝利者'),
-('winter', '冬'),
-('wipe', 'ふく、ぬぐう'),
-('wisdom', '賢明さ、知恵'),
-('wish', '願う、願い'),
-('with', '～といっしょに、～を使って'),
-('within', '～以内で'),
-('without', '～なしで'),
-('woman', '（大人の）女性'),
-('wonder', '～かなあと思う'),
-('wonderful', 'すばらしい、とてもすてきな'),
-('wood', '木、木材'),
-('wooden', '木でできた、木製の'),
-('word', 'ことば、単語'),
-('work', '働く、勉強する'),
-('workbook', 'ワークブック'),
-('worker', '労働者'),
-('world', '世界'),
-('World Heritage (Site)', '世界遺産'),
-('worldwide', '世界中で（に）'),
-('worried', '心配した、不安な'),
-('worry', '心配する'),
-('worse', 'もっと悪い'),
-('worst', '最も悪い'),
-('would', '～したい'),
-('wow', 'うわー！わあ！'),
-('wrap', '包む、包装する'),
-('wrestling', 'レスリング'),
-('wrist', '手首'),
-('write', '書く'),
-('writer', '作家、著者'),
-('writing', '書くこと、書かれた文字、筆跡'),
-('wrong', '悪い、調子が悪い、間違っている'),
-('yacht', 'ヨット'),
-('yard', '庭、中庭、裏庭'),
-('yawn', 'あくびをする'),
-('yeah', 'ああ、うん、そう'),
-('year', '年、１年'),
-('yellow', '黄色（の）'),
-('yen', '円'),
-('yes', 'はい、そうです'),
-('yesterday', '昨日（は）'),
-('yet', 'まだ～（しない）。もう～したか'),
-('yogurt', 'ヨーグルト'),
-('you', 'あなた、あなたたち'),
-('young', '若い、幼い'),
-('your', 'あなたの、あなたたちの'),
-('yours', 'あなたのもの、あなたたちのもの'),
-('yourself', 'あなた自身を（で、に、が）'),
-('yummy', 'おいしい'),
-('zebra', 'シマウマ'),
-('zero', '０、ゼロ（の）'),
-('zoo', '動物園');
-  
-  
\ No newline at end of file
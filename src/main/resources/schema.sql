@@ -28,5 +28,79 @@ CREATE TABLE IF NOT EXISTS `word` (
   `id` BIGINT NOT NULL AUTO_INCREMENT,
   `english` VARCHAR(200) NOT NULL,
   `japanese` VARCHAR(200) NOT NULL,
-  PRIMARY KEY (`id`)
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
\ No newline at end of file
+  `english_norm` VARCHAR(200) NOT NULL DEFAULT '' COMMENT '検索用に正規化した english（SearchKeyNormalizer。200 文字で切る）',
+  `japanese_norm` VARCHAR(200) NOT NULL DEFAULT '' COMMENT '検索用に正規化した japanese（SearchKeyNormalizer。200 文字で切る）',
+  PRIMARY KEY (`id`),
+  -- SearchKeyBackfill が正規化カラムの空の行（english_norm = ''）を探す用。
+  -- キーワード検索の LIKE '%kw%' は先頭が % なので、この索引は使えない（全件を読む。速くするなら app.search.mode の index / fulltext）
+  KEY `idx_word_english_norm` (`english_norm`)
+  -- 全文検索用の FULLTEXT インデックス ft_word_text はここでは作らない（使う場合だけ、下のコメントの ALTER TABLE で作る）
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+-- 既に word テーブルがある環境では、次を1回だけ実行する
+-- （正規化カラムの値は、起動時に SearchKeyBackfill が空の行を埋める）
+-- ALTER TABLE `word`
+--   ADD COLUMN `english_norm` VARCHAR(200) NOT NULL DEFAULT '' AFTER `japanese`,
+--   ADD COLUMN `japanese_norm` VARCHAR(200) NOT NULL DEFAULT '' AFTER `english_norm`,
+--   ADD KEY `idx_word_english_norm` (`english_norm`);
+-- ※ 正規化カラムが無いままだと、起動時に SearchSchemaCheck がエラーにする
+-- 全文検索（app.search.mode=fulltext）を使う場合は、新しく作った環境でも次を1回だけ実行する（古い ft_word_text があれば先に DROP INDEX する）
+-- （index / like では使わないので作らない。単語の登録・更新のたびに索引の更新がかかるため）
+-- ※ ft_word_text が無いまま全文検索にすると、起動時に SearchSchemaCheck がエラーにする
+-- ※ ft_word_text を作る前に、ストップワードを使わない設定にしておくこと（索引を作ったときの設定が使われる）。
+--    my.cnf で innodb_ft_enable_stopword=OFF（または空のテーブルを innodb_ft_server_stopword_table に指定）、
+--    ngram_token_size は app.search.ngram-token-size と同じ値にする（起動時に SearchSchemaCheck が確認する）
+-- ALTER TABLE `word` ADD FULLTEXT KEY `ft_word_text` (`english_norm`, `japanese_norm`) WITH PARSER ngram;
+
+-- 間隔反復（SM-2）の学習状況：ユーザー × 単語ごとに「次に復習する日時」などを持つ
+CREATE TABLE IF NOT EXISTS `user_word_progress` (
+  `user_id` BIGINT NOT NULL COMMENT 'ユーザーID',
+  `word_id` BIGINT NOT NULL COMMENT '単語ID',
+  `repetitions` INT NOT NULL DEFAULT 0 COMMENT '連続で正解した回数',
+  `interval_days` INT NOT NULL DEFAULT 0 COMMENT '前回の復習間隔（日）',
+  `ease_factor` DOUBLE NOT NULL DEFAULT 2.5 COMMENT '易しさ係数（SM-2 の EF）',
+  `due_at` DATETIME NOT NULL COMMENT '次に復習する日時',
+  `reviewed_at` DATETIME NOT NULL COMMENT '最後に復習した日時',
+  PRIMARY KEY (`user_id`, `word_id`),
+  KEY `idx_progress_user_due` (`user_id`, `due_at`),
+  CONSTRAINT `fk_progress_user` FOREIGN KEY (`user_id`) REFERENCES `user_account` (`id`) ON DELETE CASCADE,
+  CONSTRAINT `fk_progress_word` FOREIGN KEY (`word_id`) REFERENCES `word` (`id`) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci COMMENT='単語ごとの学習状況（間隔反復）';
+
+
+-- クイズの回答履歴：4択クイズ・スペリングの回答を1件ずつ記録する（QuizAnswerRecorder がまとめて書き込む）
+CREATE TABLE IF NOT EXISTS `quiz_answer` (
+  `id` BIGINT NOT NULL AUTO_INCREMENT,
+  `user_id` BIGINT NOT NULL COMMENT 'ユーザーID',
+  `word_id` BIGINT NOT NULL COMMENT '出題した単語ID',
+  `quiz_type` VARCHAR(20) NOT NULL COMMENT 'クイズの種類（choice: 4択 / input: スペリング）',
+  `answer` VARCHAR(200) NULL COMMENT 'ユーザーの回答',
+  `correct` TINYINT(1) NULL COMMENT '正解なら 1、不正解なら 0',
+  `answered_at` DATETIME NOT NULL COMMENT '回答日時',
+  PRIMARY KEY (`id`),
+  KEY `idx_answer_user_time` (`user_id`, `answered_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci COMMENT='クイズの回答履歴';
+
+
+-- 苦手単語：ユーザー × 単語ごとの正解・不正解の回数（WeakWordTracker がメモリ上で数え、定期的に書き込む）
+CREATE TABLE IF NOT EXISTS `user_word_stats` (
+  `user_id` BIGINT NOT NULL COMMENT 'ユーザーID',
+  `word_id` BIGINT NOT NULL COMMENT '単語ID',
+  `correct_count` INT NOT NULL DEFAULT 0 COMMENT '正解した回数',
+  `wrong_count` INT NOT NULL DEFAULT 0 COMMENT '不正解だった回数',
+  `last_answered_at` DATETIME NOT NULL COMMENT '最後に回答した日時',
+  PRIMARY KEY (`user_id`, `word_id`),
+  CONSTRAINT `fk_stats_user` FOREIGN KEY (`user_id`) REFERENCES `user_account` (`id`) ON DELETE CASCADE,
+  CONSTRAINT `fk_stats_word` FOREIGN KEY (`word_id`) REFERENCES `word` (`id`) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci COMMENT='単語ごとの正解・不正解の回数';
+
+
+-- 初期データの単語パック：読み込み済みのパック（resources/seed/*.csv.gz）を記録する（SeedPackLoader が起動時に使う）
+CREATE TABLE IF NOT EXISTS `seed_pack` (
+  `name` VARCHAR(200) NOT NULL COMMENT 'パックのファイル名',
+  `content_hash` CHAR(64) NOT NULL COMMENT '展開後の CSV の SHA-256（16進数）',
+  `row_count` BIGINT NOT NULL DEFAULT 0 COMMENT '登録した単語の数',
+  `elapsed_millis` BIGINT NOT NULL DEFAULT 0 COMMENT '読み込みにかかった時間（ミリ秒）',
+  `loaded_at` DATETIME NOT NULL COMMENT '読み込んだ日時',
+  PRIMARY KEY (`name`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci COMMENT='読み込み済みの初期データの単語パック';
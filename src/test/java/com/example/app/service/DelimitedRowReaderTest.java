@@ -0,0 +1,89 @@
+package com.example.app.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * DelimitedRowReader（CSV / TSV の1行ずつの読み込み）のテスト。
+ */
+class DelimitedRowReaderTest {
+
+	@Test
+	void splitsPlainRowsWithLfAndCrlf() throws IOException {
+		assertEquals(List.of(List.of("english", "japanese"), List.of("apple", "りんご"), List.of("cat", "猫")),
+				readAll("english,japanese\r\napple,りんご\ncat,猫", ','));
+	}
+
+
+	@Test
+	void keepsDelimitersNewlinesAndEscapedQuotesInsideQuotes() throws IOException {
+		assertEquals(List.of(List.of("a,b", "say \"hi\""), List.of("line1\r\nline2", "x")),
+				readAll("\"a,b\",\"say \"\"hi\"\"\"\r\n\"line1\r\nline2\",x\r\n", ','));
+	}
+
+
+	@Test
+	void skipsTheLeadingBomOnly() throws IOException {
+		assertEquals(List.of(List.of("apple", "りんご")), readAll("\uFEFFapple,りんご\r\n", ','));
+		assertEquals(List.of(List.of("\uFEFFapple")), readAll("\uFEFF\uFEFFapple", ','));
+	}
+
+
+	@Test
+	void handlesEmptyFieldsAndTrailingNewline() throws IOException {
+		assertEquals(List.of(List.of("", "b", ""), List.of("")), readAll(",b,\r\n\r\n", ','));
+		assertEquals(List.of(), readAll("", ','));
+		assertEquals(List.of(), readAll("\uFEFF", ','));
+	}
+
+
+	@Test
+	void usesTheGivenDelimiter() throws IOException {
+		assertEquals(List.of(List.of("a,b", "c")), readAll("a,b\tc\n", '\t'));
+	}
+
+
+	@Test
+	void treatsQuotesInTheMiddleOfAFieldAsText() throws IOException {
+		assertEquals(List.of(List.of("5\" disk", "x")), readAll("5\" disk,x", ','));
+	}
+
+
+	@Test
+	void returnsTheRestWhenAQuoteIsNeverClosed() throws IOException {
+		assertEquals(List.of(List.of("a", "b\nc")), readAll("a,\"b\nc", ','));
+	}
+
+
+	@Test
+	void reportsTheFirstLineNumberOfEachRow() throws IOException {
+		try (DelimitedRowReader reader = new DelimitedRowReader(new StringReader("a,b\r\n\"c\r\nd\",e\r\nf,g\r\n"), ',')) {
+			reader.next();
+			assertEquals(1, reader.rowLineNumber());
+			reader.next();
+			assertEquals(2, reader.rowLineNumber());
+			reader.next();
+			assertEquals(4, reader.rowLineNumber());
+			assertNull(reader.next());
+		}
+	}
+
+
+	private static List<List<String>> readAll(String text, char delimiter) throws IOException {
+		List<List<String>> rows = new ArrayList<>();
+		try (DelimitedRowReader reader = new DelimitedRowReader(new StringReader(text), delimiter)) {
+			List<String> row;
+			while ((row = reader.next()) != null) {
+				rows.add(row);
+			}
+		}
+		return rows;
+	}
+
+}
@@ -0,0 +1,100 @@
+package com.example.app.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.app.domain.Word;
+import com.example.app.mapper.WordMapper;
+
+/**
+ * DistractorIndex（MinHash + LSH で似ている単語を探す索引）のテスト。
+ */
+class DistractorIndexTest {
+
+	private WordMapper wordMapper;
+
+	private DistractorIndex index;
+
+
+	@BeforeEach
+	void setUp() {
+		wordMapper = mock(WordMapper.class);
+		when(wordMapper.findAll()).thenReturn(List.of(
+				new Word(1L, "affect", "影響する"),
+				new Word(2L, "effect", "効果"),
+				new Word(3L, "affection", "愛情"),
+				new Word(4L, "zebra", "シマウマ"),
+				new Word(5L, "infect", "感染させる"),
+				new Word(6L, "effects", "効果")));
+		index = new DistractorIndex(wordMapper);
+		index.rebuild();
+	}
+
+
+	@Test
+	void findsWordsWithSimilarSpelling() {
+		List<String> distractors = index.findDistractors(new Word(1L, "affect", "影響する"), 3);
+		assertTrue(distractors.contains("愛情"), distractors.toString());
+		assertTrue(distractors.contains("効果"), distractors.toString());
+		assertFalse(distractors.contains("シマウマ"), distractors.toString());
+	}
+
+
+	@Test
+	void ranksTheMostSimilarWordFirst() {
+		// effects と effect は 2-gram が1つ違うだけ
+		assertEquals("効果", index.findDistractors(new Word(6L, "effects", "効果（複数）"), 1).get(0));
+	}
+
+
+	@Test
+	void excludesTheCorrectAnswerAndDuplicateMeanings() {
+		List<String> distractors = index.findDistractors(new Word(2L, "effect", "効果"), 3);
+		assertFalse(distractors.contains("効果"), distractors.toString());
+		assertEquals(distractors.size(), distractors.stream().distinct().count());
+	}
+
+
+	@Test
+	void returnsFewerWhenNothingIsSimilar() {
+		assertEquals(List.of(), index.findDistractors(new Word(4L, "zebra", "シマウマ"), 3));
+	}
+
+
+	@Test
+	void doesNotGroupWordsWhoseTextIsOnlySymbols() {
+		when(wordMapper.findAll()).thenReturn(List.of(
+				new Word(1L, "!!", "～"),
+				new Word(2L, "??", "…"),
+				new Word(3L, "--", "・")));
+		index.rebuild();
+		assertEquals(List.of(), index.findDistractors(new Word(1L, "!!", "～"), 3));
+	}
+
+
+	@Test
+	void rebuildReplacesTheWholeIndex() {
+		when(wordMapper.findAll()).thenReturn(List.of(
+				new Word(1L, "affect", "影響する"),
+				new Word(7L, "affects", "影響する（三単現）")));
+		index.rebuild();
+		assertEquals(List.of("影響する（三単現）"), index.findDistractors(new Word(1L, "affect", "影響する"), 3));
+	}
+
+
+	@Test
+	void appliesSingleWordChanges() {
+		index.onWordChanged(new WordChangedEvent(WordChangedEvent.Type.DELETED, 3L));
+		assertFalse(index.findDistractors(new Word(1L, "affect", "影響する"), 3).contains("愛情"));
+
+		when(wordMapper.findById(4L)).thenReturn(new Word(4L, "affectation", "気取り"));
+		index.onWordChanged(new WordChangedEvent(WordChangedEvent.Type.UPDATED, 4L));
+		assertTrue(index.findDistractors(new Word(1L, "affect", "影響する"), 3).contains("気取り"));
+	}
+
+}
@@ -0,0 +1,66 @@
+package com.example.app.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.example.app.domain.Word;
+import com.example.app.mapper.WordMapper;
+
+/**
+ * キーワード検索の LIKE 方式と全文検索（FULLTEXT・ngram パーサー）方式を、同じ DB で突き合わせるテスト。
+ *
+ * ローカルの MySQL（ft_word_text を作成済みで、単語が入っているもの）が必要なので、
+ * -Dsearch.backend.check=true を付けたときだけ実行する。
+ *   例）./mvnw test -Dtest=FulltextSearchConsistencyTest -Dsearch.backend.check=true
+ *
+ * 「in」「is」「the」のように MySQL の既定のストップワードを含むキーワードも確かめる
+ * （ストップワードが有効なまま索引を作ると、ここで件数が合わなくなる）。
+ */
+@SpringBootTest(properties = {
+		"app.search.mode=fulltext",
+		"spring.main.web-application-type=none" })
+@EnabledIfSystemProperty(named = "search.backend.check", matches = "true")
+class FulltextSearchConsistencyTest {
+
+	/** 1ページ目として比べる件数 */
+	private static final int PAGE_SIZE = 10;
+
+	@Autowired
+	private WordMapper wordMapper;
+
+	@Autowired
+	private SearchSchemaCheck searchSchemaCheck;
+
+
+	@Test
+	void dbSettingsSupportFulltextSearch() {
+		assertDoesNotThrow(() -> searchSchemaCheck.checkOnStartup());
+	}
+
+
+	@ParameterizedTest
+	@ValueSource(strings = { "ab", "tion", "in", "is", "the", "りんご", "する" })
+	void fulltextReturnsSameWordsAsLike(String keyword) {
+		// マッパーには正規化済みのキーワードを渡す（WordService と同じ）
+		String normalized = SearchKeyNormalizer.normalize(keyword);
+		String phrase = "\"" + normalized.replace("\"", "") + "\"";
+
+		int likeCount = wordMapper.countByKeyword(normalized);
+		List<Word> likePage = wordMapper.findPageByKeyword(normalized, 0, PAGE_SIZE);
+
+		int fulltextCount = wordMapper.countByFulltext(phrase, normalized);
+		List<Word> fulltextPage = wordMapper.findPageByFulltext(phrase, normalized, 0, PAGE_SIZE);
+
+		assertEquals(likeCount, fulltextCount, "件数: " + keyword);
+		assertEquals(likePage, fulltextPage, "1ページ目: " + keyword);
+	}
+
+}
@@ -0,0 +1,124 @@
+package com.example.app.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.app.domain.Word;
+import com.example.app.mapper.WordMapper;
+
+/**
+ * 4択クイズ1問分の単語を取るクエリの所要時間を比べるベンチマーク。
+ *
+ * ローカルの MySQL（単語が入っているもの）が必要なので、-Dquiz.benchmark=true を付けたときだけ実行する。
+ *   例）./mvnw test -Dtest=QuizQueryBenchmarkTest -Dquiz.benchmark=true
+ *
+ * 比較する方法（どちらも SQL の実行だけを計る。id の選択などは計測の前に済ませる）:
+ *   - order-by-rand : selectRandomWord ＋ selectRandomWrongAnswers（ORDER BY RAND() を2回）
+ *   - id-sampler    : WordIdSampler で選んだ id を findByIds（WHERE id IN (...)）で1回に取る（WordService#createQuizQuestion）
+ *
+ * それぞれの EXPLAIN もログに出す（ORDER BY RAND() は全件を読んで並べ替え、IN は主キーを引くだけになる）。
+ */
+@SpringBootTest(properties = "spring.main.web-application-type=none")
+@EnabledIfSystemProperty(named = "quiz.benchmark", matches = "true")
+class QuizQueryBenchmarkTest {
+
+	private static final Logger log = LoggerFactory.getLogger(QuizQueryBenchmarkTest.class);
+
+	/** 計測前に捨てる回数（JIT・コネクションプールのウォームアップ） */
+	private static final int WARMUP = 20;
+
+	/** 計測する回数 */
+	private static final int ITERATIONS = 200;
+
+	/** 1問分に取る単語数（WordService#createQuizQuestion と同じ） */
+	private static final int WORDS_PER_QUESTION = WordService.WRONG_ANSWER_COUNT + 3;
+
+	@Autowired
+	private WordMapper wordMapper;
+
+	@Autowired
+	private WordIdSampler wordIdSampler;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+
+	@Test
+	void compareQuizQueries() {
+		assertTrue(wordIdSampler.size() > WORDS_PER_QUESTION, "単語が少なすぎます");
+		log.info("quiz query benchmark: word count = {}, iterations = {}", wordIdSampler.size(), ITERATIONS);
+
+		// id-sampler で使う id は、計測の前にまとめて選んでおく
+		List<List<Long>> idLists = new ArrayList<>();
+		for (int i = 0; i < WARMUP + ITERATIONS; i++) {
+			idLists.add(Arrays.stream(wordIdSampler.pickRandomIds(WORDS_PER_QUESTION)).boxed().toList());
+		}
+
+		measure("order-by-rand", i -> {
+			Word word = wordMapper.selectRandomWord();
+			wordMapper.selectRandomWrongAnswers(word.getId(), WordService.WRONG_ANSWER_COUNT);
+		});
+		measure("id-sampler", i -> {
+			List<Word> words = wordMapper.findByIds(idLists.get(i));
+			assertEquals(WORDS_PER_QUESTION, words.size());
+		});
+
+		explain("order-by-rand",
+				"SELECT id, english, japanese FROM word ORDER BY RAND() LIMIT 1");
+		explain("order-by-rand",
+				"SELECT japanese FROM word WHERE id != " + idLists.get(0).get(0) + " ORDER BY RAND() LIMIT " + WordService.WRONG_ANSWER_COUNT);
+		explain("id-sampler",
+				"SELECT id, english, japanese FROM word WHERE id IN ("
+						+ idLists.get(0).stream().map(String::valueOf).collect(Collectors.joining(",")) + ") ORDER BY id");
+	}
+
+
+	/** 1つの方法を繰り返し実行して、平均・中央値・95パーセンタイルをログに出す。 */
+	private void measure(String name, IntConsumer task) {
+		for (int i = 0; i < WARMUP; i++) {
+			task.accept(i);
+		}
+
+		long[] nanos = new long[ITERATIONS];
+		for (int i = 0; i < ITERATIONS; i++) {
+			long start = System.nanoTime();
+			task.accept(WARMUP + i);
+			nanos[i] = System.nanoTime() - start;
+		}
+		Arrays.sort(nanos);
+
+		double avgMs = Arrays.stream(nanos).average().orElse(0) / 1_000_000.0;
+		double p50Ms = nanos[nanos.length / 2] / 1_000_000.0;
+		double p95Ms = nanos[(int) (nanos.length * 0.95)] / 1_000_000.0;
+
+		log.info("{}: avg = {} ms, p50 = {} ms, p95 = {} ms",
+				name,
+				String.format("%.3f", avgMs),
+				String.format("%.3f", p50Ms),
+				String.format("%.3f", p95Ms));
+	}
+
+
+	/** クエリの実行計画をログに出す。 */
+	private void explain(String name, String sql) {
+		for (Map<String, Object> row : jdbcTemplate.queryForList("EXPLAIN " + sql)) {
+			log.info("{} EXPLAIN: type = {}, key = {}, rows = {}, Extra = {}",
+					name, row.get("type"), row.get("key"), row.get("rows"), row.get("Extra"));
+		}
+	}
+
+}
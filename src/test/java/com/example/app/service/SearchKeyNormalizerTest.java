@@ -0,0 +1,46 @@
+package com.example.app.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * SearchKeyNormalizer（検索用の正規化）のテスト。
+ */
+class SearchKeyNormalizerTest {
+
+	@Test
+	void normalizesWidthKanaAndCase() {
+		assertEquals("apple pie", SearchKeyNormalizer.normalize("　ＡＰＰＬＥ Pie "));
+		assertEquals("りんご", SearchKeyNormalizer.normalize("ﾘﾝｺﾞ"));
+		assertEquals("", SearchKeyNormalizer.normalize(null));
+	}
+
+
+	@Test
+	void keepsExpandedTextWithinTheColumnLength() {
+		// 「㍿」は NFKC で「株式会社」（4文字）になる → 200 文字の単語が 800 文字に広がる
+		String normalized = SearchKeyNormalizer.normalize("㍿".repeat(200));
+		assertEquals(SearchKeyNormalizer.MAX_LENGTH, normalized.length());
+		assertTrue(normalized.startsWith("株式会社株式会社"));
+
+		// U+FDFA は NFKC で 18 文字になる
+		String ligature = SearchKeyNormalizer.normalize("ﷺ");
+		assertEquals(18, ligature.length());
+		assertEquals(SearchKeyNormalizer.MAX_LENGTH, SearchKeyNormalizer.normalize("ﷺ".repeat(12)).length());
+	}
+
+
+	@Test
+	void countsCharactersLikeMySqlAndDoesNotSplitSurrogatePairs() {
+		String text = "a".repeat(199) + "😀😀";
+		String normalized = SearchKeyNormalizer.normalize(text);
+		assertEquals("a".repeat(199) + "😀", normalized);
+		assertEquals(SearchKeyNormalizer.MAX_LENGTH, normalized.codePointCount(0, normalized.length()));
+
+		// ちょうど 200 文字（サロゲートペアを含むので char の数は 200 を超える）なら切らない
+		String fits = "a".repeat(198) + "😀😀";
+		assertEquals(fits, SearchKeyNormalizer.normalize(fits));
+	}
+
+}
@@ -0,0 +1,103 @@
+package com.example.app.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.app.mapper.WordMapper;
+
+class SearchSchemaCheckTest {
+
+	private WordMapper wordMapper;
+
+	@BeforeEach
+	void setUp() {
+		wordMapper = mock(WordMapper.class);
+		when(wordMapper.countSearchKeyColumns()).thenReturn(2);
+		when(wordMapper.countFulltextIndexColumns()).thenReturn(2);
+	}
+
+	private void settings(Object enableStopword, String stopwordTable, Object ngramTokenSize) {
+		Map<String, Object> settings = new HashMap<>();
+		settings.put("enableStopword", enableStopword);
+		settings.put("serverStopwordTable", stopwordTable);
+		settings.put("ngramTokenSize", ngramTokenSize);
+		when(wordMapper.findFulltextSettings()).thenReturn(settings);
+	}
+
+
+	@Test
+	void otherModesAreNotChecked() {
+		settings(1L, null, 2L);
+		assertDoesNotThrow(() -> new SearchSchemaCheck(wordMapper, "index", 2).checkOnStartup());
+	}
+
+	@Test
+	void missingSearchKeyColumnsFailStartup() {
+		when(wordMapper.countSearchKeyColumns()).thenReturn(0);
+		SearchSchemaCheck check = new SearchSchemaCheck(wordMapper, "index", 2);
+		assertThrows(IllegalStateException.class, check::checkOnStartup);
+	}
+
+	@Test
+	void otherModesDoNotNeedTheFulltextIndex() {
+		when(wordMapper.countFulltextIndexColumns()).thenReturn(0);
+		assertDoesNotThrow(() -> new SearchSchemaCheck(wordMapper, "index", 2).checkOnStartup());
+		verify(wordMapper, never()).countFulltextIndexColumns();
+	}
+
+	@Test
+	void missingFulltextIndexFailsStartup() {
+		settings(0L, null, 2L);
+		when(wordMapper.countFulltextIndexColumns()).thenReturn(0);
+		SearchSchemaCheck check = new SearchSchemaCheck(wordMapper, "fulltext", 2);
+		assertThrows(IllegalStateException.class, check::checkOnStartup);
+	}
+
+	@Test
+	void stopwordsDisabledIsAccepted() {
+		settings(0L, null, 2L);
+		assertDoesNotThrow(() -> new SearchSchemaCheck(wordMapper, "fulltext", 2).checkOnStartup());
+	}
+
+	@Test
+	void defaultStopwordsFailStartup() {
+		settings(1L, null, 2L);
+		SearchSchemaCheck check = new SearchSchemaCheck(wordMapper, "fulltext", 2);
+		assertThrows(IllegalStateException.class, check::checkOnStartup);
+	}
+
+	@Test
+	void emptyServerStopwordTableIsAccepted() {
+		settings(1L, "en_quiz/no_stopwords", 2L);
+		when(wordMapper.countStopwords("`en_quiz`.`no_stopwords`")).thenReturn(0);
+		assertDoesNotThrow(() -> new SearchSchemaCheck(wordMapper, "fulltext", 2).checkOnStartup());
+	}
+
+	@Test
+	void nonEmptyServerStopwordTableFailsStartup() {
+		settings("ON", "en_quiz/stopwords", 2L);
+		when(wordMapper.countStopwords("`en_quiz`.`stopwords`")).thenReturn(3);
+		SearchSchemaCheck check = new SearchSchemaCheck(wordMapper, "fulltext", 2);
+		assertThrows(IllegalStateException.class, check::checkOnStartup);
+	}
+
+	@Test
+	void ngramTokenSizeMismatchFailsStartup() {
+		settings(0L, null, 3L);
+		SearchSchemaCheck check = new SearchSchemaCheck(wordMapper, "fulltext", 2);
+		assertThrows(IllegalStateException.class, check::checkOnStartup);
+	}
+
+	@Test
+	void unreachableDbOnlyWarns() {
+		when(wordMapper.countSearchKeyColumns()).thenThrow(new RuntimeException("connection refused"));
+		assertDoesNotThrow(() -> new SearchSchemaCheck(wordMapper, "fulltext", 2).checkOnStartup());
+	}
+
+}
@@ -0,0 +1,178 @@
+package com.example.app.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * ShuffledDeck（Feistel ネットワークで並べ替える山札）のテスト。
+ */
+class ShuffledDeckTest {
+
+	@Test
+	void permuteIsABijectionForEverySize() {
+		for (int size = 1; size <= 300; size++) {
+			for (long seed : new long[] { 0L, 1L, -7L, 0x123456789ABCDEFL }) {
+				boolean[] seen = new boolean[size];
+				for (int i = 0; i < size; i++) {
+					int value = ShuffledDeck.permute(i, size, seed);
+					assertTrue(value >= 0 && value < size, "size=" + size + " value=" + value);
+					assertFalse(seen[value], "size=" + size + " duplicate=" + value);
+					seen[value] = true;
+				}
+			}
+		}
+	}
+
+
+	@Test
+	void permuteDependsOnTheSeed() {
+		int same = 0;
+		for (int i = 0; i < 1000; i++) {
+			if (ShuffledDeck.permute(i, 1000, 1L) == ShuffledDeck.permute(i, 1000, 2L)) {
+				same++;
+			}
+		}
+		assertTrue(same < 50, "same=" + same);
+	}
+
+
+	@Test
+	void permuteStaysInRangeAbove2To30() {
+		// 2^30 を超えると定義域が 32 ビットになる（int で計算すると負の値が返っていた）
+		for (int size : new int[] { (1 << 30) + 1, Integer.MAX_VALUE }) {
+			Set<Integer> values = new HashSet<>();
+			for (int i = 0; i < 2000; i++) {
+				int value = ShuffledDeck.permute(i, size, 42L);
+				assertTrue(value >= 0 && value < size, "size=" + size + " value=" + value);
+				values.add(value);
+			}
+			assertEquals(2000, values.size());
+		}
+	}
+
+
+	@Test
+	void drawsEveryIdOncePerCycle() {
+		long[] ids = { 10, 20, 30, 40, 50, 60, 70 };
+		ShuffledDeck deck = new ShuffledDeck();
+		for (int cycle = 0; cycle < 3; cycle++) {
+			Set<Long> drawn = new HashSet<>();
+			for (int i = 0; i < ids.length; i++) {
+				assertTrue(drawn.add(deck.nextId(ids)));
+			}
+			assertEquals(Set.of(10L, 20L, 30L, 40L, 50L, 60L, 70L), drawn);
+		}
+	}
+
+
+	@Test
+	void skipsDeletedIdsAndDrawsAddedIdsFromTheNextCycle() {
+		long[] before = { 1, 2, 3, 4, 5 };
+		long[] after = { 2, 3, 4, 5, 6, 7 };	// 1 を削除、6 と 7 を追加
+		ShuffledDeck deck = new ShuffledDeck();
+
+		Set<Long> firstCycle = new HashSet<>();
+		firstCycle.add(deck.nextId(before));
+		firstCycle.add(deck.nextId(before));
+
+		// 周の残りは、まだ出ていない id のうち削除されていないものだけ（6 と 7 は出ない）
+		Set<Long> rest = new HashSet<>(Set.of(2L, 3L, 4L, 5L));
+		rest.removeAll(firstCycle);
+		Set<Long> drawn = new HashSet<>();
+		for (int i = 0; i < rest.size(); i++) {
+			assertTrue(drawn.add(deck.nextId(after)));
+		}
+		assertEquals(rest, drawn);
+
+		// 次の周からは新しい id 配列で引く
+		Set<Long> secondCycle = new HashSet<>();
+		for (int i = 0; i < after.length; i++) {
+			secondCycle.add(deck.nextId(after));
+		}
+		assertEquals(Set.of(2L, 3L, 4L, 5L, 6L, 7L), secondCycle);
+	}
+
+
+	@Test
+	void skipsGapsBetweenIds() {
+		long[] ids = { 3, 8, 9, 40, 1000 };	// 欠番だらけ
+		ShuffledDeck deck = new ShuffledDeck();
+		for (int cycle = 0; cycle < 3; cycle++) {
+			Set<Long> drawn = new HashSet<>();
+			for (int i = 0; i < ids.length; i++) {
+				assertTrue(drawn.add(deck.nextId(ids)));
+			}
+			assertEquals(Set.of(3L, 8L, 9L, 40L, 1000L), drawn);
+		}
+	}
+
+
+	@Test
+	void putBackRedrawsTheUnusedIdsInTheSameOrder() {
+		long[] ids = { 10, 20, 30, 40, 50, 60, 70 };
+		ShuffledDeck deck = new ShuffledDeck();
+		deck.nextId(ids);
+		List<Long> prefetched = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			prefetched.add(deck.nextId(ids));
+		}
+
+		// 先読みした4枚のうち、1枚だけ使って残りを戻す
+		List<Long> unused = prefetched.subList(1, 4);
+		assertTrue(deck.putBack(unused, ids));
+		for (Long id : unused) {
+			assertEquals(id, deck.nextId(ids));
+		}
+	}
+
+
+	@Test
+	void putBackIgnoresIdsThatAreNotTheLastDrawn() {
+		long[] ids = { 10, 20, 30, 40, 50, 60, 70 };
+		ShuffledDeck deck = new ShuffledDeck();
+		Long first = deck.nextId(ids);
+		Long second = deck.nextId(ids);
+		Long third = deck.nextId(ids);
+
+		assertFalse(deck.putBack(List.of(first, second), ids));	// 後に third を引いている
+		assertFalse(deck.putBack(List.of(first, third), ids));	// 途中が抜けている
+		assertFalse(new ShuffledDeck().putBack(List.of(first), ids));	// まだ引いていない
+
+		// 戻していないので、続きから引く
+		Set<Long> rest = new HashSet<>();
+		for (int i = 0; i < 4; i++) {
+			rest.add(deck.nextId(ids));
+		}
+		assertFalse(rest.contains(first) || rest.contains(second) || rest.contains(third));
+	}
+
+
+	@Test
+	void putBackWorksAcrossGapsBetweenIds() {
+		long[] ids = { 2, 7, 8, 30, 31, 90 };
+		ShuffledDeck deck = new ShuffledDeck();
+		List<Long> prefetched = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			prefetched.add(deck.nextId(ids));
+		}
+
+		List<Long> unused = prefetched.subList(2, 4);
+		assertTrue(deck.putBack(unused, ids));
+		for (Long id : unused) {
+			assertEquals(id, deck.nextId(ids));
+		}
+	}
+
+
+	@Test
+	void returnsNullWithoutWords() {
+		assertNull(new ShuffledDeck().nextId(new long[0]));
+	}
+
+}
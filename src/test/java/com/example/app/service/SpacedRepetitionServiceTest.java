@@ -0,0 +1,125 @@
+package com.example.app.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.app.domain.UserWordProgress;
+
+/**
+ * SpacedRepetitionService の SM-2 の計算と、復習スケジュール（最小ヒープ）のテスト。
+ */
+class SpacedRepetitionServiceTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2025, 4, 1, 9, 0);
+
+
+	@Test
+	void firstCorrectReviewsUseOneAndSixDays() {
+		UserWordProgress first = SpacedRepetitionService.nextProgress(null, 1L, 10L, 4, NOW);
+		assertEquals(1, first.getRepetitions());
+		assertEquals(1, first.getIntervalDays());
+		assertEquals(2.5, first.getEaseFactor(), 1e-9);		// quality 4 では変わらない
+		assertEquals(NOW.plusDays(1), first.getDueAt());
+		assertEquals(NOW, first.getReviewedAt());
+
+		UserWordProgress second = SpacedRepetitionService.nextProgress(first, 1L, 10L, 4, NOW);
+		assertEquals(2, second.getRepetitions());
+		assertEquals(6, second.getIntervalDays());
+
+		UserWordProgress third = SpacedRepetitionService.nextProgress(second, 1L, 10L, 4, NOW);
+		assertEquals(3, third.getRepetitions());
+		assertEquals(15, third.getIntervalDays());				// round(6 × 2.5)
+		assertEquals(NOW.plusDays(15), third.getDueAt());
+	}
+
+
+	@Test
+	void easeFactorFollowsQuality() {
+		assertEquals(2.6, SpacedRepetitionService.nextProgress(null, 1L, 10L, 5, NOW).getEaseFactor(), 1e-9);
+		assertEquals(2.36, SpacedRepetitionService.nextProgress(null, 1L, 10L, 3, NOW).getEaseFactor(), 1e-9);
+		assertEquals(1.96, SpacedRepetitionService.nextProgress(null, 1L, 10L, 1, NOW).getEaseFactor(), 1e-9);
+	}
+
+
+	@Test
+	void wrongAnswerResetsRepetitionsAndKeepsTheEaseFactorAboveTheMinimum() {
+		UserWordProgress progress = null;
+		for (int i = 0; i < 3; i++) {
+			progress = SpacedRepetitionService.nextProgress(progress, 1L, 10L, 5, NOW);
+		}
+		for (int i = 0; i < 10; i++) {
+			progress = SpacedRepetitionService.nextProgress(progress, 1L, 10L, 0, NOW);
+		}
+		assertEquals(0, progress.getRepetitions());
+		assertEquals(1, progress.getIntervalDays());
+		assertEquals(1.3, progress.getEaseFactor(), 1e-9);
+	}
+
+
+	@Test
+	void doesNotModifyThePreviousProgress() {
+		UserWordProgress first = SpacedRepetitionService.nextProgress(null, 1L, 10L, 4, NOW);
+		SpacedRepetitionService.nextProgress(first, 1L, 10L, 1, NOW);
+		assertEquals(1, first.getRepetitions());
+		assertEquals(NOW.plusDays(1), first.getDueAt());
+	}
+
+
+	@Test
+	void scheduleReturnsTheEarliestDueWord() {
+		SpacedRepetitionService.UserSchedule schedule = new SpacedRepetitionService.UserSchedule();
+		schedule.put(progress(1L, NOW.plusDays(3)));
+		schedule.put(progress(2L, NOW.minusHours(1)));
+		schedule.put(progress(3L, NOW.minusDays(2)));
+
+		assertEquals(3L, schedule.peekDue(NOW).getWordId());
+		assertEquals(3L, schedule.peek().getWordId());
+		assertTrue(schedule.contains(1L));
+		assertFalse(schedule.contains(4L));
+	}
+
+
+	@Test
+	void scheduleSkipsOutdatedAndRemovedEntries() {
+		SpacedRepetitionService.UserSchedule schedule = new SpacedRepetitionService.UserSchedule();
+		schedule.put(progress(1L, NOW.minusDays(1)));
+		schedule.put(progress(2L, NOW.minusHours(1)));
+
+		// 1 を復習して期限が先に延びた：古い要素は読み捨てられる
+		UserWordProgress updated = progress(1L, NOW.plusDays(6));
+		schedule.put(updated);
+		assertEquals(2L, schedule.peekDue(NOW).getWordId());
+
+		schedule.remove(2L);
+		assertNull(schedule.peekDue(NOW));
+		assertSame(updated, schedule.peek());
+		assertSame(updated, schedule.get(1L));
+	}
+
+
+	@Test
+	void scheduleStaysConsistentAfterManyUpdates() {
+		SpacedRepetitionService.UserSchedule schedule = new SpacedRepetitionService.UserSchedule();
+		for (int round = 0; round < 50; round++) {
+			for (long wordId = 1; wordId <= 5; wordId++) {
+				schedule.put(progress(wordId, NOW.plusHours(round * 10 + (6 - wordId))));
+			}
+		}
+		// 最後の回では id 5 の期限がいちばん早い
+		assertEquals(5L, schedule.peek().getWordId());
+		assertEquals(NOW.plusHours(491), schedule.peek().getDueAt());
+	}
+
+
+	private static UserWordProgress progress(Long wordId, LocalDateTime dueAt) {
+		UserWordProgress progress = new UserWordProgress();
+		progress.setUserId(1L);
+		progress.setWordId(wordId);
+		progress.setDueAt(dueAt);
+		return progress;
+	}
+
+}
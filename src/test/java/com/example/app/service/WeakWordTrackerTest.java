@@ -0,0 +1,150 @@
+package com.example.app.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.example.app.domain.QuizAnswer;
+import com.example.app.domain.UserWordStats;
+import com.example.app.mapper.UserWordStatsMapper;
+import com.example.app.mapper.WordMapper;
+
+/**
+ * WeakWordTracker（苦手単語の回数とランキング）のテスト。
+ */
+class WeakWordTrackerTest {
+
+	private static final Long USER_ID = 1L;
+
+	private WordMapper wordMapper;
+
+	private FakeStatsMapper statsMapper;
+
+	private WeakWordTracker tracker;
+
+
+	@BeforeEach
+	void setUp() {
+		wordMapper = mock(WordMapper.class);
+		when(wordMapper.findAllIds()).thenReturn(List.of(10L, 20L, 30L));
+		statsMapper = new FakeStatsMapper(Set.of(10L, 20L, 30L));
+		tracker = new WeakWordTracker(statsMapper, new WordIdSampler(wordMapper), 20, 60_000);
+	}
+
+
+	@Test
+	void ranksWordsByWeakness() {
+		answer(10L, false);
+		answer(20L, false);
+		answer(20L, false);
+		answer(30L, true);
+		assertEquals(List.of(20L, 10L), wordIds(tracker.weakWords(USER_ID)));
+	}
+
+
+	@Test
+	void ignoresAnswersForWordsThatDoNotExist() {
+		answer(99L, false);	// でたらめな id（DB にも無い）
+		assertEquals(List.of(), wordIds(tracker.weakWords(USER_ID)));
+
+		tracker.evict(USER_ID);
+		assertEquals(0, statsMapper.calls);
+	}
+
+
+	@Test
+	void dropsRowsRejectedByTheForeignKeyAndSavesTheRest() {
+		answer(10L, false);
+		answer(20L, false);
+		statsMapper.existingWordIds.remove(20L);	// 他のインスタンスで削除された（このインスタンスには通知が来ない）
+
+		tracker.evict(USER_ID);
+		assertEquals(Set.of(10L), statsMapper.saved.keySet());
+
+		// 書き込めなかった行はもう書き込まないので、捨てた後は保存済みの回数だけが読み込まれる
+		int calls = statsMapper.calls;
+		tracker.evict(USER_ID);
+		assertEquals(calls, statsMapper.calls);
+		assertEquals(List.of(10L), wordIds(tracker.weakWords(USER_ID)));
+	}
+
+
+	@Test
+	void keepsStatsInMemoryWhenEvictCannotWrite() {
+		answer(10L, false);
+		statsMapper.down = true;	// DB に接続できない
+
+		tracker.evict(USER_ID);
+		answer(20L, false);	// 捨てずに残っているので、そのまま反映できる
+		assertEquals(List.of(10L, 20L), wordIds(tracker.weakWords(USER_ID)));
+
+		statsMapper.down = false;
+		tracker.evict(USER_ID);
+		assertEquals(Set.of(10L, 20L), statsMapper.saved.keySet());
+	}
+
+
+	private void answer(Long wordId, boolean correct) {
+		tracker.onAnswer(new QuizAnswer(null, USER_ID, wordId, QuizAnswer.TYPE_CHOICE, "", correct, LocalDateTime.now()));
+	}
+
+
+	private static List<Long> wordIds(List<UserWordStats> statsList) {
+		List<Long> ids = new ArrayList<>();
+		for (UserWordStats stats : statsList) {
+			ids.add(stats.getWordId());
+		}
+		return ids;
+	}
+
+
+	/** user_word_stats の代わり。word に無い単語の行が1つでもあれば、INSERT 1文ごと失敗する（外部キー制約）。 */
+	private static final class FakeStatsMapper implements UserWordStatsMapper {
+
+		final Set<Long> existingWordIds;
+
+		final Map<Long, UserWordStats> saved = new LinkedHashMap<>();
+
+		int calls;
+
+		boolean down;
+
+		FakeStatsMapper(Set<Long> existingWordIds) {
+			this.existingWordIds = new HashSet<>(existingWordIds);
+		}
+
+		@Override
+		public List<UserWordStats> findByUserId(Long userId) {
+			return new ArrayList<>(saved.values());
+		}
+
+		@Override
+		public int upsertAll(List<UserWordStats> statsList) {
+			calls++;
+			if (down) {
+				throw new IllegalStateException("connection refused");
+			}
+			for (UserWordStats stats : statsList) {
+				if (!existingWordIds.contains(stats.getWordId())) {
+					throw new DataIntegrityViolationException("foreign key: word_id " + stats.getWordId());
+				}
+			}
+			for (UserWordStats stats : statsList) {
+				saved.put(stats.getWordId(), stats);
+			}
+			return statsList.size();
+		}
+	}
+
+}
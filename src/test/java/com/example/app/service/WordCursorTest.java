@@ -0,0 +1,44 @@
+package com.example.app.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+class WordCursorTest {
+
+	@Test
+	void blankCursorStartsFromTheBeginning() {
+		assertEquals(WordCursor.START, WordCursor.decode(null));
+		assertEquals(WordCursor.START, WordCursor.decode(" "));
+	}
+
+	@Test
+	void encodedPositionIsDecodedWithItsPhase() {
+		assertEquals(new WordCursor.Position(WordCursor.Phase.SUBSTRING, 42L),
+				WordCursor.decode(WordCursor.encode(42L)));
+		assertEquals(new WordCursor.Position(WordCursor.Phase.LEMMA, 7L),
+				WordCursor.decode(WordCursor.encode(WordCursor.Phase.LEMMA, 7L)));
+	}
+
+	@Test
+	void legacyCursorIsReadAsSubstringPosition() {
+		String legacy = Base64.getUrlEncoder().withoutPadding()
+				.encodeToString("w1:15".getBytes(StandardCharsets.UTF_8));
+		assertEquals(new WordCursor.Position(WordCursor.Phase.SUBSTRING, 15L), WordCursor.decode(legacy));
+	}
+
+	@Test
+	void malformedCursorIsRejected() {
+		assertThrows(IllegalArgumentException.class, () -> WordCursor.decode("not a cursor"));
+		String unknown = Base64.getUrlEncoder().withoutPadding()
+				.encodeToString("w2:x:1".getBytes(StandardCharsets.UTF_8));
+		assertThrows(IllegalArgumentException.class, () -> WordCursor.decode(unknown));
+		String negative = Base64.getUrlEncoder().withoutPadding()
+				.encodeToString("w2:s:-1".getBytes(StandardCharsets.UTF_8));
+		assertThrows(IllegalArgumentException.class, () -> WordCursor.decode(negative));
+	}
+
+}
@@ -0,0 +1,133 @@
+package com.example.app.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.app.domain.Word;
+import com.example.app.mapper.WordMapper;
+
+/**
+ * WordFuzzyIndex（タイプミスを許す検索用の BK-tree）のテスト。
+ */
+class WordFuzzyIndexTest {
+
+	private WordMapper wordMapper;
+
+	private WordFuzzyIndex index;
+
+
+	@BeforeEach
+	void setUp() {
+		wordMapper = mock(WordMapper.class);
+		when(wordMapper.findAll()).thenReturn(List.of(
+				new Word(1L, "receive", "受け取る"),
+				new Word(2L, "believe", "信じる"),
+				new Word(3L, "cat", "猫"),
+				new Word(4L, "cart", "カート"),
+				new Word(5L, "relieve", "和らげる"),
+				new Word(6L, "Receive", "受け取る（重複）")));
+		index = new WordFuzzyIndex(wordMapper, 2);
+		index.rebuild();
+	}
+
+
+	@Test
+	void computesLevenshteinDistance() {
+		assertEquals(0, WordFuzzyIndex.distance("word", "word"));
+		assertEquals(3, WordFuzzyIndex.distance("kitten", "sitting"));
+		assertEquals(2, WordFuzzyIndex.distance("recieve", "receive"));
+		assertEquals(4, WordFuzzyIndex.distance("", "abcd"));
+	}
+
+
+	@Test
+	void findsNearWordsOrderedByDistanceThenId() {
+		// recieve → relieve(1)、receive・believe・Receive(2)
+		assertEquals(List.of(5L, 1L, 2L, 6L), index.search("recieve"));
+		// receeve → receive・Receive(1)、relieve(2)、believe は 3 なので入らない
+		assertEquals(List.of(1L, 6L, 5L), index.search("receeve"));
+	}
+
+
+	@Test
+	void limitsTheDistanceByKeywordLength() {
+		assertEquals(List.of(), index.search("ct"));		// 2文字以下は使わない
+		assertEquals(List.of(3L), index.search("cut"));		// 3〜5文字は距離 1 まで（cart は 2）
+		assertEquals(List.of(4L), index.search("curt"));	// cart は 1、cat は 2
+	}
+
+
+	@Test
+	void removesAndReaddsWords() {
+		index.onWordChanged(new WordChangedEvent(WordChangedEvent.Type.DELETED, 1L));
+		assertEquals(List.of(5L, 2L, 6L), index.search("recieve"));
+
+		when(wordMapper.findById(5L)).thenReturn(new Word(5L, "remove", "取り除く"));
+		index.onWordChanged(new WordChangedEvent(WordChangedEvent.Type.UPDATED, 5L));
+		assertEquals(List.of(2L, 6L), index.search("recieve"));
+		assertEquals(List.of(5L), index.search("removve"));
+
+		when(wordMapper.findById(1L)).thenReturn(new Word(1L, "receive", "受け取る"));
+		index.onWordChanged(new WordChangedEvent(WordChangedEvent.Type.CREATED, 1L));
+		assertEquals(List.of(1L, 2L, 6L), index.search("recieve"));
+	}
+
+
+	@Test
+	void matchesABruteForceScanAfterManyRemovals() {
+		Random random = new Random(42);
+		List<Word> words = new ArrayList<>();
+		for (long id = 1; id <= 400; id++) {
+			words.add(new Word(id, randomWord(random), "訳"));
+		}
+		when(wordMapper.findAll()).thenReturn(words);
+		index.rebuild();
+
+		// 半分以上を削除して、空のノードの作り直しも通す
+		List<Word> alive = new ArrayList<>(words);
+		for (long id = 1; id <= 400; id += 3) {
+			index.onWordChanged(new WordChangedEvent(WordChangedEvent.Type.DELETED, id));
+			index.onWordChanged(new WordChangedEvent(WordChangedEvent.Type.DELETED, id + 1));
+			long removed = id;
+			alive.removeIf(word -> word.getId() == removed || word.getId() == removed + 1);
+		}
+
+		for (int i = 0; i < 50; i++) {
+			String keyword = randomWord(random);
+			int limit = keyword.length() <= 5 ? 1 : 2;
+			List<Word> expected = new ArrayList<>();
+			for (Word word : alive) {
+				if (WordFuzzyIndex.distance(keyword, word.getEnglish()) <= limit) {
+					expected.add(word);
+				}
+			}
+			expected.sort(Comparator.comparingInt((Word word) -> WordFuzzyIndex.distance(keyword, word.getEnglish()))
+					.thenComparing(Word::getId));
+			List<Long> expectedIds = new ArrayList<>();
+			for (Word word : expected) {
+				expectedIds.add(word.getId());
+			}
+			assertEquals(expectedIds, index.search(keyword), keyword);
+		}
+	}
+
+
+	/** a〜e だけの短い単語（距離の近い単語がたくさんできるように）。 */
+	private static String randomWord(Random random) {
+		int length = 3 + random.nextInt(5);
+		StringBuilder sb = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			sb.append((char) ('a' + random.nextInt(5)));
+		}
+		return sb.toString();
+	}
+
+}
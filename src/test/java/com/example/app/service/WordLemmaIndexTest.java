@@ -0,0 +1,102 @@
+package com.example.app.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.app.domain.Word;
+import com.example.app.mapper.WordMapper;
+
+/**
+ * WordLemmaIndex（英単語の変化形の索引）のテスト。
+ */
+class WordLemmaIndexTest {
+
+	private WordLemmaIndex index;
+
+
+	@BeforeEach
+	void setUp() {
+		WordMapper wordMapper = mock(WordMapper.class);
+		when(wordMapper.findAll()).thenReturn(List.of(
+				new Word(1L, "man", "男性"),
+				new Word(2L, "but", "しかし"),
+				new Word(3L, "let", "させる"),
+				new Word(4L, "off", "離れて"),
+				new Word(5L, "corn", "とうもろこし"),
+				new Word(6L, "cent", "セント"),
+				new Word(7L, "run", "走る"),
+				new Word(8L, "stop", "止まる"),
+				new Word(9L, "big", "大きい"),
+				new Word(10L, "happy", "幸せな"),
+				new Word(11L, "study", "勉強する"),
+				new Word(12L, "child", "子ども"),
+				new Word(13L, "look up", "調べる"),
+				new Word(14L, "visit", "訪れる")));
+		index = new WordLemmaIndex(wordMapper);
+		index.rebuild();
+	}
+
+
+	@Test
+	void doesNotConfuseUnrelatedWordsWithComparativesOrDoubledForms() {
+		for (String keyword : List.of("manner", "butter", "letter", "offer", "corner", "center", "visitted", "visitter")) {
+			assertEquals(List.of(), index.search(keyword), keyword);
+		}
+	}
+
+
+	@Test
+	void findsRegularForms() {
+		assertEquals(List.of(11L), index.search("studies"));
+		assertEquals(List.of(11L), index.search("studied"));
+		assertEquals(List.of(11L), index.search("studying"));
+		assertEquals(List.of(14L), index.search("visited"));
+		assertEquals(List.of(13L), index.search("looked up"));
+	}
+
+
+	@Test
+	void findsDoubledAndIrregularFormsFromTheTable() {
+		assertEquals(List.of(7L), index.search("running"));
+		assertEquals(List.of(7L), index.search("ran"));
+		assertEquals(List.of(8L), index.search("stopped"));
+		assertEquals(List.of(8L), index.search("stopping"));
+		assertEquals(List.of(12L), index.search("children"));
+	}
+
+
+	@Test
+	void findsComparativesOnlyForListedAdjectives() {
+		assertEquals(List.of(9L), index.search("bigger"));
+		assertEquals(List.of(9L), index.search("biggest"));
+		assertEquals(List.of(10L), index.search("happier"));
+		assertEquals(List.of(), index.search("stopper"));
+	}
+
+
+	@Test
+	void regularFormsNeitherDoubleConsonantsNorAddComparatives() {
+		assertFalse(WordLemmaIndex.regularForms("man").contains("manner"));
+		assertFalse(WordLemmaIndex.regularForms("let").contains("letter"));
+		assertFalse(WordLemmaIndex.regularForms("off").contains("offer"));
+		assertFalse(WordLemmaIndex.regularForms("stop").contains("stopped"));
+		assertTrue(WordLemmaIndex.regularForms("make").contains("making"));
+		assertTrue(WordLemmaIndex.regularForms("lie").contains("lying"));
+		assertTrue(WordLemmaIndex.regularForms("box").contains("boxes"));
+	}
+
+
+	@Test
+	void comparativeFormsDoubleShortSyllables() {
+		assertEquals(List.of("bigger", "biggest"), List.copyOf(WordLemmaIndex.comparativeForms("big")));
+		assertEquals(List.of("larger", "largest"), List.copyOf(WordLemmaIndex.comparativeForms("large")));
+		assertEquals(List.of("happier", "happiest"), List.copyOf(WordLemmaIndex.comparativeForms("happy")));
+		assertEquals(List.of("faster", "fastest"), List.copyOf(WordLemmaIndex.comparativeForms("fast")));
+	}
+
+}
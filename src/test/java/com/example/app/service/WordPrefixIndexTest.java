@@ -0,0 +1,131 @@
+package com.example.app.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.app.domain.Word;
+import com.example.app.mapper.WordMapper;
+
+/**
+ * WordPrefixIndex（入力補完用のソート済み配列）のテスト。
+ */
+class WordPrefixIndexTest {
+
+	private WordMapper wordMapper;
+
+	private WordPrefixIndex index;
+
+
+	@BeforeEach
+	void setUp() {
+		wordMapper = mock(WordMapper.class);
+		when(wordMapper.findAll()).thenReturn(List.of(
+				new Word(1L, "apply", "申し込む"),
+				new Word(2L, "Apple", "りんご"),
+				new Word(3L, "ape", "類人猿"),
+				new Word(4L, "apple", "りんごの木"),
+				new Word(5L, "banana", "バナナ")));
+		index = new WordPrefixIndex(wordMapper);
+		index.rebuild();
+	}
+
+
+	@Test
+	void suggestsInNormalizedOrderThenById() {
+		assertEquals(List.of(3L, 2L, 4L, 1L), ids(index.suggest("ap", 10)));
+		assertEquals(List.of(2L, 4L), ids(index.suggest("APPLE", 10)));
+		assertEquals(List.of(), ids(index.suggest("apz", 10)));
+		assertEquals(List.of(), ids(index.suggest("  ", 10)));
+	}
+
+
+	@Test
+	void suggestsEnglishMatchesBeforeJapaneseMatches() {
+		when(wordMapper.findById(6L)).thenReturn(new Word(6L, "cider", "Apple サイダー"));
+		index.onWordChanged(new WordChangedEvent(WordChangedEvent.Type.CREATED, 6L));
+		assertEquals(List.of(2L, 4L, 6L), ids(index.suggest("apple", 10)));
+		assertEquals(List.of(2L, 4L), ids(index.suggest("りんご", 10)));
+	}
+
+
+	@Test
+	void respectsTheLimit() {
+		assertEquals(List.of(3L, 2L), ids(index.suggest("ap", 2)));
+		assertEquals(List.of(3L), ids(index.suggest("ap", 0)));
+	}
+
+
+	@Test
+	void insertsAndRemovesSingleWordsAmongEqualKeys() {
+		// 「apple」が3件並ぶ（id 2, 4, 7）。真ん中に入れて、真ん中を消す
+		when(wordMapper.findById(7L)).thenReturn(new Word(7L, "apple", "林檎"));
+		index.onWordChanged(new WordChangedEvent(WordChangedEvent.Type.CREATED, 7L));
+		assertEquals(List.of(2L, 4L, 7L), ids(index.suggest("apple", 10)));
+
+		index.onWordChanged(new WordChangedEvent(WordChangedEvent.Type.DELETED, 4L));
+		assertEquals(List.of(2L, 7L), ids(index.suggest("apple", 10)));
+
+		// 存在しない id の削除は何も変えない
+		index.onWordChanged(new WordChangedEvent(WordChangedEvent.Type.DELETED, 99L));
+		assertEquals(List.of(3L, 2L, 7L, 1L), ids(index.suggest("ap", 10)));
+	}
+
+
+	@Test
+	void movesUpdatedWordsToTheirNewPosition() {
+		when(wordMapper.findById(3L)).thenReturn(new Word(3L, "banal", "陳腐な"));
+		index.onWordChanged(new WordChangedEvent(WordChangedEvent.Type.UPDATED, 3L));
+		assertEquals(List.of(2L, 4L, 1L), ids(index.suggest("ap", 10)));
+		assertEquals(List.of(3L, 5L), ids(index.suggest("ban", 10)));
+		assertEquals("banal", index.suggest("banal", 10).get(0).getEnglish());
+	}
+
+
+	@Test
+	void concurrentUpdatesOfOneWordApplyTheLatestRead() throws Exception {
+		// 1回目の読み直し（古い内容）が終わるまで、2回目の読み直し（新しい内容）を待たせる
+		CountDownLatch firstReadStarted = new CountDownLatch(1);
+		CountDownLatch releaseFirstRead = new CountDownLatch(1);
+		when(wordMapper.findById(3L))
+				.thenAnswer(invocation -> {
+					firstReadStarted.countDown();
+					releaseFirstRead.await(5, TimeUnit.SECONDS);
+					return new Word(3L, "apex", "頂点");
+				})
+				.thenReturn(new Word(3L, "banal", "陳腐な"));
+
+		Thread first = new Thread(() -> index.onWordChanged(new WordChangedEvent(WordChangedEvent.Type.UPDATED, 3L)));
+		first.start();
+		assertTrue(firstReadStarted.await(5, TimeUnit.SECONDS));
+		Thread second = new Thread(() -> index.onWordChanged(new WordChangedEvent(WordChangedEvent.Type.UPDATED, 3L)));
+		second.start();
+
+		// 2回目は1回目が反映し終わるまで DB を読まない
+		Thread.sleep(100);
+		verify(wordMapper, times(1)).findById(3L);
+
+		releaseFirstRead.countDown();
+		first.join(5000);
+		second.join(5000);
+		assertEquals("banal", index.suggest("banal", 10).get(0).getEnglish());
+		assertEquals(List.of(), ids(index.suggest("apex", 10)));
+	}
+
+
+	private static List<Long> ids(List<Word> words) {
+		List<Long> ids = new ArrayList<>();
+		for (Word word : words) {
+			ids.add(word.getId());
+		}
+		return ids;
+	}
+
+}
@@ -0,0 +1,115 @@
+package com.example.app.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.app.domain.Word;
+import com.example.app.mapper.WordMapper;
+
+/**
+ * WordSearchIndex（キーワード検索用の n-gram 転置インデックス）のテスト。
+ */
+class WordSearchIndexTest {
+
+	private WordMapper wordMapper;
+
+	private WordSearchIndex index;
+
+
+	@BeforeEach
+	void setUp() {
+		wordMapper = mock(WordMapper.class);
+		when(wordMapper.findAll()).thenReturn(List.of(
+				new Word(1L, "apple", "りんご"),
+				new Word(2L, "pineapple", "パイナップル"),
+				new Word(3L, "ab bc", "記号"),
+				new Word(4L, "abc", "エービーシー"),
+				new Word(5L, "Orange", "オレンジ")));
+		index = new WordSearchIndex(wordMapper);
+		index.rebuild();
+	}
+
+
+	@Test
+	void findsSubstringMatchesInIdOrder() {
+		assertArrayEquals(new int[] { 1, 2 }, index.search("apple"));
+		assertArrayEquals(new int[] { 2 }, index.search("pine"));
+		assertArrayEquals(new int[0], index.search("grape"));
+	}
+
+
+	@Test
+	void verifiesCandidatesThatContainEveryBigramButNotTheKeyword() {
+		// 「ab bc」は ab と bc の両方の 2-gram を含むが、「abc」を部分文字列としては含まない
+		assertArrayEquals(new int[] { 4 }, index.search("abc"));
+	}
+
+
+	@Test
+	void usesUnigramsForSingleCharacterKeywords() {
+		assertArrayEquals(new int[] { 3, 4 }, index.search("c"));
+		assertArrayEquals(new int[] { 1 }, index.search("ご"));
+	}
+
+
+	@Test
+	void normalizesCaseWidthAndKana() {
+		assertArrayEquals(new int[] { 5 }, index.search("ORANGE"));
+		assertArrayEquals(new int[] { 5 }, index.search("ｏｒａｎｇｅ"));
+		assertArrayEquals(new int[] { 1 }, index.search("リンゴ"));
+		assertArrayEquals(new int[] { 2 }, index.search("ぱいなっぷる"));
+	}
+
+
+	@Test
+	void appliesSingleWordChanges() {
+		when(wordMapper.findById(1L)).thenReturn(new Word(1L, "grape", "ぶどう"));
+		index.onWordChanged(new WordChangedEvent(WordChangedEvent.Type.UPDATED, 1L));
+		assertArrayEquals(new int[] { 2 }, index.search("apple"));
+		assertArrayEquals(new int[] { 1 }, index.search("grape"));
+
+		index.onWordChanged(new WordChangedEvent(WordChangedEvent.Type.DELETED, 2L));
+		assertArrayEquals(new int[0], index.search("apple"));
+		assertArrayEquals(new int[] { 3, 4 }, index.search("ab"));
+	}
+
+
+	@Test
+	void returnsNullWhenAnIdDoesNotFitInInt() {
+		when(wordMapper.findAll()).thenReturn(List.of(new Word(Integer.MAX_VALUE + 1L, "apple", "りんご")));
+		index.rebuild();
+		assertNull(index.search("apple"));
+	}
+
+
+	@Test
+	void searchesTheCurrentIndexWhileRebuildReadsTheTable() throws Exception {
+		CountDownLatch readStarted = new CountDownLatch(1);
+		CountDownLatch releaseRead = new CountDownLatch(1);
+		when(wordMapper.findAll()).thenAnswer(invocation -> {
+			readStarted.countDown();
+			releaseRead.await(5, TimeUnit.SECONDS);
+			return List.of(new Word(6L, "grape", "ぶどう"));
+		});
+
+		Thread rebuilding = new Thread(index::rebuild);
+		rebuilding.start();
+		assertTrue(readStarted.await(5, TimeUnit.SECONDS));
+
+		// 全件を読んでいる間も、今までの索引で検索できる（書き込みロックで待たされない）
+		assertArrayEquals(new int[] { 1, 2 }, index.search("apple"));
+
+		releaseRead.countDown();
+		rebuilding.join(5000);
+		assertArrayEquals(new int[0], index.search("apple"));
+		assertArrayEquals(new int[] { 6 }, index.search("grape"));
+	}
+
+}